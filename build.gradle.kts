@@ -29,6 +29,7 @@ import io.spine.dependency.lib.Guava
 import io.spine.dependency.lib.Protobuf
 import io.spine.dependency.local.Logging
 import io.spine.dependency.test.JUnit
+import io.spine.dependency.test.Jmh
 import io.spine.dependency.test.Kotest
 import io.spine.dependency.test.Truth
 import io.spine.gradle.checkstyle.CheckStyleConfig
@@ -55,6 +56,7 @@ plugins {
     `gradle-doctor`
     `project-report`
     `dokka-setup`
+    jmh
 }
 apply(plugin = "io.spine.descriptor-set-file")
 apply(plugin = "io.spine.generated-sources")
@@ -91,6 +93,11 @@ dependencies {
             api(it)
         }
     implementation(Logging.lib)
+    compileOnly(JUnit.Platform.launcher)?.because(
+        "The launcher is provided by the build tools, and it loads `ShardingFilter` and" +
+                " `LaneFilter` only if a project registers them. Other extensions" +
+                " do not need the launcher."
+    )
 
     @Suppress("DEPRECATION")
     run {
@@ -100,6 +107,7 @@ dependencies {
     }
 
     testImplementation(JUnit.Jupiter.engine)
+    testImplementation(JUnit.Platform.launcher)
     testImplementation(Logging.testLib)
     testImplementation(Logging.stdContext)?.because(
         "We need logging context support in logging tests."
@@ -121,6 +129,15 @@ spinePublishing {
     }
 }
 
+jmh {
+    jmhVersion = Jmh.version
+    resultFormat = "JSON"
+    // Run a subset of benchmarks via `-Pjmh.includes=<regex>`.
+    findProperty("jmh.includes")?.let {
+        includes = listOf(it.toString())
+    }
+}
+
 protobuf {
     protoc {
         artifact = Protobuf.compiler
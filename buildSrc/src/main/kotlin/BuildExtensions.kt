@@ -35,6 +35,7 @@ import io.spine.dependency.local.Compiler
 import io.spine.dependency.local.CoreJvmCompiler
 import io.spine.dependency.local.McJava
 import io.spine.dependency.local.ProtoTap
+import io.spine.dependency.test.Jmh
 import io.spine.dependency.test.Kotest
 import io.spine.dependency.test.Kover
 import io.spine.gradle.repo.standardToSpineSdk
@@ -155,6 +156,9 @@ val PluginDependenciesSpec.prototap: PluginDependencySpec
 val PluginDependenciesSpec.`gradle-doctor`: PluginDependencySpec
     get() = id(GradleDoctor.pluginId).version(GradleDoctor.version)
 
+val PluginDependenciesSpec.jmh: PluginDependencySpec
+    get() = id(Jmh.GradlePlugin.id).version(Jmh.GradlePlugin.version)
+
 val PluginDependenciesSpec.kotest: PluginDependencySpec
     get() = Kotest.let {
         return id(it.gradlePluginId).version(it.version)
@@ -0,0 +1,107 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing;
+
+import com.google.protobuf.Api;
+import com.google.protobuf.FieldMask;
+import com.google.protobuf.Method;
+import com.google.protobuf.SourceContext;
+import com.google.protobuf.Timestamp;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.util.concurrent.TimeUnit;
+
+import static io.spine.testing.Assertions.assertMatchesMask;
+
+/**
+ * Measures the cost of {@link Assertions#assertMatchesMask(com.google.protobuf.Message,
+ * FieldMask) assertMatchesMask()} for a flat message and for a message with nested
+ * and repeated fields.
+ *
+ * <p>Both messages match their masks, since the successful assertion is the common case.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class AssertionsBenchmark {
+
+    private final Timestamp timestamp = Timestamp.newBuilder()
+            .setSeconds(42)
+            .build();
+    private final FieldMask timestampMask = FieldMask.newBuilder()
+            .addPaths("seconds")
+            .build();
+
+    private final Api api = Api.newBuilder()
+            .setName("io.spine.testing.Benchmark")
+            .setSourceContext(SourceContext.newBuilder()
+                                      .setFileName("benchmark.proto"))
+            .addMethods(Method.newBuilder()
+                                .setName("Run"))
+            .addMethods(Method.newBuilder()
+                                .setName("Stop"))
+            .build();
+    private final FieldMask apiMask = FieldMask.newBuilder()
+            .addPaths("name")
+            .addPaths("source_context.file_name")
+            .addPaths("methods")
+            .build();
+
+    @Benchmark
+    public void flatMessage() {
+        assertMatchesMask(timestamp, timestampMask);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void flatMessageConcurrently() {
+        assertMatchesMask(timestamp, timestampMask);
+    }
+
+    @Benchmark
+    public void nestedMessage() {
+        assertMatchesMask(api, apiMask);
+    }
+
+    @Benchmark
+    @Threads(4)
+    public void nestedMessageConcurrently() {
+        assertMatchesMask(api, apiMask);
+    }
+}
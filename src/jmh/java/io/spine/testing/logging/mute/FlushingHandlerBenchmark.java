@@ -0,0 +1,105 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.logging.mute;
+
+import io.spine.testing.logging.MemoizingStream;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OperationsPerInvocation;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Threads;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.util.concurrent.TimeUnit;
+import java.util.logging.Level;
+import java.util.logging.LogRecord;
+import java.util.logging.SimpleFormatter;
+
+/**
+ * Measures the cost of {@link FlushingHandler#publish(LogRecord)} writing
+ * to a {@link MemoizingStream}, which is how muted logs are collected.
+ *
+ * <p>The handler is shared by all the benchmark threads, the same way it is shared by
+ * the threads logging via a muted logger. Therefore, the multithreaded benchmark reveals
+ * the contention on the handler.
+ *
+ * <p>The stream is reset after each batch of records to keep its footprint constant.
+ */
+@State(Scope.Benchmark)
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Warmup(iterations = 3, time = 1)
+@Measurement(iterations = 5, time = 1)
+@Fork(1)
+public class FlushingHandlerBenchmark {
+
+    private static final int BATCH = 100;
+
+    private final MemoizingStream stream = new MemoizingStream();
+    private final FlushingHandler handler =
+            new FlushingHandler(stream, new SimpleFormatter());
+    private final LogRecord record = new LogRecord(Level.INFO, "A muted record.");
+
+    @Setup
+    public void configureHandler() {
+        handler.setLevel(Level.ALL);
+    }
+
+    @TearDown
+    public void closeHandler() {
+        handler.close();
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    public void publish(Blackhole blackhole) {
+        publishBatch(blackhole);
+    }
+
+    @Benchmark
+    @OperationsPerInvocation(BATCH)
+    @Threads(4)
+    public void publishConcurrently(Blackhole blackhole) {
+        publishBatch(blackhole);
+    }
+
+    private void publishBatch(Blackhole blackhole) {
+        for (var i = 0; i < BATCH; i++) {
+            handler.publish(record);
+        }
+        blackhole.consume(stream.size());
+        stream.reset();
+    }
+}
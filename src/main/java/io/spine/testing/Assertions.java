@@ -27,25 +27,32 @@
 package io.spine.testing;
 
 import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
-import com.google.protobuf.Descriptors.FieldDescriptor;
 import com.google.protobuf.FieldMask;
 import com.google.protobuf.Message;
+import io.spine.testing.perf.ThreadAllocation;
 import org.junit.jupiter.api.function.Executable;
 
-import java.lang.reflect.Constructor;
+import java.lang.ref.ReferenceQueue;
+import java.lang.ref.WeakReference;
 import java.lang.reflect.Modifier;
-import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.ImmutableList.toImmutableList;
-import static com.google.common.truth.Truth.assertThat;
 import static io.spine.testing.Testing.callConstructor;
 import static java.lang.Math.abs;
 import static java.lang.String.format;
-import static org.junit.jupiter.api.Assertions.assertEquals;
-import static org.junit.jupiter.api.Assertions.assertFalse;
+import static java.lang.System.lineSeparator;
+import static java.util.stream.Collectors.joining;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * Convenience assertions accompanying {@link org.junit.jupiter.api.Assertions},
@@ -53,6 +60,12 @@ import static org.junit.jupiter.api.Assertions.assertThrows;
  */
 public final class Assertions {
 
+    /** The default number of warm-up runs when measuring allocations. */
+    private static final int DEFAULT_ALLOCATION_WARM_UP = 100;
+
+    /** The default number of measured runs when measuring allocations. */
+    private static final int DEFAULT_ALLOCATION_REPEAT = 10;
+
     /** Prevents instantiation of this utility class. */
     private Assertions() {
     }
@@ -130,14 +143,9 @@ public final class Assertions {
      */
     public static boolean hasPrivateParameterlessCtor(Class<?> targetClass) {
         checkNotNull(targetClass);
-        Constructor<?> constructor;
-        try {
-            constructor = targetClass.getDeclaredConstructor();
-        } catch (NoSuchMethodException ignored) {
-            return false;
-        }
-
-        if (!Modifier.isPrivate(constructor.getModifiers())) {
+        var constructor = ClassMetadata.of(targetClass)
+                                       .parameterlessConstructor();
+        if (constructor == null || !Modifier.isPrivate(constructor.getModifiers())) {
             return false;
         }
 
@@ -178,6 +186,16 @@ public final class Assertions {
      * will never match against a user, since if a repeated field is a part of the mask,
      * it should always be the last part of its path.
      *
+     * <p>Nested paths of singular message fields are matched against the nested messages
+     * in the same way. E.g., for a mask
+     * <pre>
+     *     mask {
+     *         paths: best_friend.name
+     *     }
+     * </pre>
+     * the mask matches if a user has the {@code best_friend} field set, and
+     * the {@code name} is the only field set in the friend.
+     *
      * @param message
      *         the message to assert
      * @param fieldMask
@@ -188,34 +206,283 @@ public final class Assertions {
     public static void assertMatchesMask(Message message, FieldMask fieldMask) {
         checkNotNull(message);
         checkNotNull(fieldMask);
-        List<String> paths = fieldMask.getPathsList();
-
-        var fields = message.getDescriptorForType().getFields();
-
-        List<String> fieldNames =
-                fields.stream()
-                      .map(FieldDescriptor::getName)
-                      .collect(toImmutableList());
-
-        // Assert that the passed field mask contains the field of this message type.
-        assertThat(fieldNames).containsAtLeastElementsIn(paths);
-
-        for (var field : fields) {
-            var maskHasSuchField = paths.contains(field.getName());
-            if (field.isRepeated()) {
-                if (maskHasSuchField) {
-                    var repeatedFieldValue = (List<?>) message.getField(field);
-                    var repeatsAtLeastOnce = repeatedFieldValue.isEmpty();
-                    assertFalse(repeatsAtLeastOnce,
-                                format("Field `%s` wasn't found in the specified message.",
-                                       field.getName()));
-                }
-            } else {
-                assertEquals(message.hasField(field), maskHasSuchField,
-                             format("Mismatch found between field `%s` in the " +
-                                            "specified message and the mask.",
-                                    field.getName()));
-            }
+        var mismatches = MaskMatcher.of(message.getDescriptorForType(), fieldMask)
+                                    .mismatches(message);
+        if (!mismatches.isEmpty()) {
+            fail(mismatches.stream()
+                           .map(MaskMatcher.Mismatch::describe)
+                           .collect(joining(lineSeparator())));
+        }
+    }
+
+    /**
+     * Asserts that all the passed messages {@linkplain #assertMatchesMask(Message, FieldMask)
+     * match} the given field mask.
+     *
+     * <p>The mask is compiled once, and the messages are checked in parallel. Unlike calling
+     * {@link #assertMatchesMask(Message, FieldMask) assertMatchesMask()} in a loop, all the
+     * messages are checked. The failure message reports the number of mismatching messages
+     * for each field along with the indexes of the first of them, and the first
+     * mismatching message itself.
+     *
+     * @param messages
+     *         the messages to assert
+     * @param fieldMask
+     *         the mask to match against each message
+     * @throws AssertionError
+     *         if any of the messages does not match the mask
+     */
+    public static void assertAllMatchMask(Iterable<? extends Message> messages,
+                                          FieldMask fieldMask) {
+        checkNotNull(messages);
+        checkNotNull(fieldMask);
+        checkAllMatchMask(ImmutableList.copyOf(messages), fieldMask);
+    }
+
+    /**
+     * Asserts that all the messages of the passed stream
+     * {@linkplain #assertMatchesMask(Message, FieldMask) match} the given field mask.
+     *
+     * <p>The messages are collected into a list before the check, which is performed
+     * as described in {@link #assertAllMatchMask(Iterable, FieldMask)}.
+     *
+     * @param messages
+     *         the messages to assert
+     * @param fieldMask
+     *         the mask to match against each message
+     * @throws AssertionError
+     *         if any of the messages does not match the mask
+     */
+    public static void assertAllMatchMask(Stream<? extends Message> messages,
+                                          FieldMask fieldMask) {
+        checkNotNull(messages);
+        checkNotNull(fieldMask);
+        checkAllMatchMask(messages.collect(toImmutableList()), fieldMask);
+    }
+
+    private static void checkAllMatchMask(ImmutableList<? extends Message> messages,
+                                          FieldMask fieldMask) {
+        var report = MaskReport.of(messages, fieldMask);
+        if (report.isEmpty()) {
+            return;
+        }
+        var index = report.firstMismatching();
+        fail(format("%s%nThe first mismatching message (#%d):%n%s",
+                    report.describe(messages.size(), fieldMask),
+                    index, messages.get(index)));
+    }
+
+    /**
+     * Asserts that running the passed executable allocates no more than the given number
+     * of bytes in the current thread.
+     *
+     * <p>The executable is run 100 times for warming up and then 10 times
+     * for the measurement.
+     *
+     * @param maxBytes
+     *         the maximum number of bytes a single run may allocate on average
+     * @param executable
+     *         the code to measure
+     * @return the average number of bytes allocated by a single run
+     * @throws AssertionError
+     *         if the executable allocates more than the budget, or it fails
+     * @see #assertAllocatesAtMost(long, int, int, Executable)
+     */
+    @CanIgnoreReturnValue
+    public static long assertAllocatesAtMost(long maxBytes, Executable executable) {
+        return assertAllocatesAtMost(maxBytes,
+                                     DEFAULT_ALLOCATION_WARM_UP,
+                                     DEFAULT_ALLOCATION_REPEAT,
+                                     executable);
+    }
+
+    /**
+     * Asserts that running the passed executable allocates no more than the given number
+     * of bytes in the current thread.
+     *
+     * <p>The warm-up runs let the classes used by the executable to be loaded and initialized,
+     * and the JIT compiler to optimize the code. For the escape analysis to eliminate
+     * short-lived objects, thousands of warm-up runs may be required.
+     *
+     * <p>If the current JVM cannot measure allocated memory, the test
+     * is {@linkplain org.junit.jupiter.api.Assumptions aborted}.
+     *
+     * @param maxBytes
+     *         the maximum number of bytes a single run may allocate on average
+     * @param warmUp
+     *         the number of runs which are not measured
+     * @param repeat
+     *         the number of measured runs
+     * @param executable
+     *         the code to measure
+     * @return the average number of bytes allocated by a single run
+     * @throws AssertionError
+     *         if the executable allocates more than the budget, or it fails
+     * @see ThreadAllocation
+     */
+    @CanIgnoreReturnValue
+    public static long assertAllocatesAtMost(long maxBytes,
+                                             int warmUp,
+                                             int repeat,
+                                             Executable executable) {
+        checkNotNull(executable);
+        checkArgument(maxBytes >= 0, "The budget cannot be negative: %s.", maxBytes);
+        checkArgument(warmUp >= 0, "The number of warm-up runs cannot be negative: %s.", warmUp);
+        checkArgument(repeat > 0, "The number of runs must be positive: %s.", repeat);
+        assumeTrue(ThreadAllocation.isSupported(),
+                   "The JVM does not support measuring memory allocated by a thread.");
+        for (var i = 0; i < warmUp; i++) {
+            execute(executable);
+        }
+        long total = 0;
+        long min = Long.MAX_VALUE;
+        long max = 0;
+        for (var i = 0; i < repeat; i++) {
+            var before = ThreadAllocation.allocatedBytes();
+            execute(executable);
+            var after = ThreadAllocation.allocatedBytes();
+            var allocated = ThreadAllocation.netOf(before, after);
+            total += allocated;
+            min = Math.min(min, allocated);
+            max = Math.max(max, allocated);
+        }
+        var average = total / repeat;
+        if (average > maxBytes) {
+            fail(format("Expected to allocate at most %d bytes per run, but allocated %d bytes " +
+                                "on average (min: %d, max: %d, runs: %d).",
+                        maxBytes, average, min, max, repeat));
+        }
+        return average;
+    }
+
+    @SuppressWarnings("OverlyBroadCatchBlock") // Any failure of the executable fails the check.
+    private static void execute(Executable executable) {
+        try {
+            executable.execute();
+        } catch (Throwable t) {
+            fail("The measured executable failed.", t);
+        }
+    }
+
+    /**
+     * Asserts that the object referenced by the passed reference becomes unreachable.
+     *
+     * <p>The method requests garbage collection a limited number of times, waiting for
+     * the reference to be cleared. The caller must not hold strong references to
+     * the object, including ones in local variables.
+     *
+     * @param reference
+     *         the reference to the object which is expected to be garbage-collected
+     * @throws AssertionError
+     *         if the reference is not cleared after several garbage collections
+     * @see #assertUnreachableAfter(Supplier, Consumer)
+     */
+    public static void assertCollected(WeakReference<?> reference) {
+        checkNotNull(reference);
+        if (!Gc.collectUntil(() -> reference.refersTo(null))) {
+            fail(format("The object `%s` is still reachable after %d garbage collections.",
+                        reference.get(), Gc.MAX_ATTEMPTS));
+        }
+    }
+
+    /**
+     * Asserts that an object becomes unreachable after the passed action is performed on it.
+     *
+     * <p>The object is obtained from the passed supplier and is only referenced by this
+     * method weakly after the action completes. Typically, the action registers the object
+     * somewhere and then unregisters it, e.g.:
+     * <pre>{@code
+     * assertUnreachableAfter(Subscriber::new, subscriber -> {
+     *     registry.subscribe(subscriber);
+     *     registry.unsubscribe(subscriber);
+     * });
+     * }</pre>
+     *
+     * <p>The method requests garbage collection a limited number of times, waiting for
+     * the object to be collected.
+     *
+     * @param subject
+     *         the supplier of the object to check
+     * @param action
+     *         the action after which the object should become unreachable
+     * @param <T>
+     *         the type of the object
+     * @throws AssertionError
+     *         if the object is still reachable after several garbage collections
+     */
+    public static <T> void assertUnreachableAfter(Supplier<? extends T> subject,
+                                                  Consumer<? super T> action) {
+        checkNotNull(subject);
+        checkNotNull(action);
+        var queue = new ReferenceQueue<T>();
+        var reference = track(subject, action, queue);
+        if (!Gc.awaitCleared(reference, queue)) {
+            fail(format("The object `%s` is still reachable after %d garbage collections.",
+                        reference.get(), Gc.MAX_ATTEMPTS));
+        }
+    }
+
+    /**
+     * Obtains the object from the passed supplier and performs the action on it.
+     *
+     * <p>This method is separated so that no strong reference to the object
+     * is left in the frame of the calling method.
+     */
+    private static <T> WeakReference<T> track(Supplier<? extends T> subject,
+                                              Consumer<? super T> action,
+                                              ReferenceQueue<T> queue) {
+        T object = checkNotNull(subject.get(), "The supplier returned `null`.");
+        var reference = new WeakReference<T>(object, queue);
+        action.accept(object);
+        return reference;
+    }
+
+    /**
+     * Asserts that all the instances of the given class created when running the passed
+     * block become unreachable after the block completes.
+     *
+     * <p>This way a whole object graph can be checked for leaks by the class
+     * of its nodes, without having references to the nodes, e.g.:
+     * <pre>{@code
+     * assertInstancesReleased(CacheEntry.class, () -> {
+     *     var cache = new Cache();
+     *     cache.put(id, value);
+     *     cache.invalidateAll();
+     * });
+     * }</pre>
+     *
+     * <p>The live instances are counted before and after running the block using
+     * the {@code GC.class_histogram} diagnostic command of the JVM, which performs
+     * a full garbage collection. Therefore, the instances created by other threads
+     * in the meanwhile affect the result.
+     *
+     * <p>If the JVM does not provide the diagnostic command, the test
+     * is {@linkplain org.junit.jupiter.api.Assumptions aborted}.
+     *
+     * @param type
+     *         the class of the instances to check
+     * @param block
+     *         the code creating the instances
+     * @throws AssertionError
+     *         if there are more live instances of the class after running the block than
+     *         before, or if the block fails
+     */
+    public static void assertInstancesReleased(Class<?> type, Executable block) {
+        checkNotNull(type);
+        checkNotNull(block);
+        assumeTrue(Gc.canCountInstances(),
+                   "The JVM does not support counting live instances of a class.");
+        var before = Gc.liveInstances(type);
+        execute(block);
+        var remaining = new AtomicLong();
+        var released = Gc.collectUntil(() -> {
+            remaining.set(Gc.liveInstances(type));
+            return remaining.get() <= before;
+        });
+        if (!released) {
+            fail(format("%d instance(s) of `%s` created by the block are still reachable " +
+                                "after %d garbage collections.",
+                        remaining.get() - before, type.getName(), Gc.MAX_ATTEMPTS));
         }
     }
 
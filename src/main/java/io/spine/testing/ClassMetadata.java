@@ -0,0 +1,181 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing;
+
+import com.google.common.base.Suppliers;
+import com.google.common.collect.ImmutableList;
+import com.google.common.collect.ImmutableSet;
+import com.google.common.reflect.TypeToken;
+import com.google.common.testing.NullPointerTester.Visibility;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.annotation.Annotation;
+import java.lang.reflect.Constructor;
+import java.lang.reflect.Member;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.lang.reflect.Parameter;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Supplier;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Reflection data of a class used by the test suites, computed once per class.
+ *
+ * <p>The data is shared by all the test suites of the class, so that the class is not
+ * inspected anew by each of them.
+ *
+ * @see ClassTest
+ * @see Assertions#hasPrivateParameterlessCtor(Class)
+ */
+final class ClassMetadata {
+
+    /**
+     * The simple names of annotations which mark a parameter as accepting {@code null},
+     * the same as recognized by {@link com.google.common.testing.NullPointerTester
+     * NullPointerTester}.
+     */
+    private static final ImmutableSet<String> NULLABLE_ANNOTATIONS =
+            ImmutableSet.of("CheckForNull", "Nullable", "NullableDecl", "NullableType");
+
+    private static final ClassValue<ClassMetadata> cache = new ClassValue<>() {
+        @Override
+        protected ClassMetadata computeValue(Class<?> type) {
+            return new ClassMetadata(type);
+        }
+    };
+
+    private final Class<?> type;
+    private final Supplier<Optional<Constructor<?>>> parameterlessConstructor;
+    private final Map<Visibility, ImmutableList<Method>> staticMethods =
+            new ConcurrentHashMap<>();
+
+    private ClassMetadata(Class<?> type) {
+        this.type = type;
+        this.parameterlessConstructor = Suppliers.memoize(this::findParameterlessConstructor);
+    }
+
+    /**
+     * Obtains the metadata of the given class.
+     */
+    static ClassMetadata of(Class<?> type) {
+        checkNotNull(type);
+        return cache.get(type);
+    }
+
+    /**
+     * Obtains the constructor of the class which accepts no parameters.
+     *
+     * <p>The returned constructor is made accessible, if possible.
+     *
+     * @return the constructor or {@code null} if the class does not declare such
+     */
+    @Nullable Constructor<?> parameterlessConstructor() {
+        return parameterlessConstructor.get()
+                                       .orElse(null);
+    }
+
+    private Optional<Constructor<?>> findParameterlessConstructor() {
+        try {
+            Constructor<?> constructor = type.getDeclaredConstructor();
+            constructor.trySetAccessible();
+            return Optional.of(constructor);
+        } catch (NoSuchMethodException ignored) {
+            return Optional.empty();
+        }
+    }
+
+    /**
+     * Obtains the static methods of the class which are checked
+     * by {@link com.google.common.testing.NullPointerTester#testStaticMethods(Class, Visibility)
+     * NullPointerTester.testStaticMethods()}.
+     *
+     * <p>The methods are selected in the same way as {@code NullPointerTester} does:
+     * the methods declared by the class and its supertypes from the same package.
+     * The methods with no parameters to check, that is, having only primitive
+     * or {@code @Nullable} parameters, are omitted.
+     */
+    ImmutableList<Method> staticMethodsToTest(Visibility minimalVisibility) {
+        checkNotNull(minimalVisibility);
+        return staticMethods.computeIfAbsent(minimalVisibility, this::findStaticMethods);
+    }
+
+    private ImmutableList<Method> findStaticMethods(Visibility minimalVisibility) {
+        var packageName = type.getPackageName();
+        var result = ImmutableList.<Method>builder();
+        for (var cls : TypeToken.of(type).getTypes().rawTypes()) {
+            if (!cls.getPackageName().equals(packageName)) {
+                break;
+            }
+            for (var method : cls.getDeclaredMethods()) {
+                if (!method.isSynthetic()
+                        && Modifier.isStatic(method.getModifiers())
+                        && isVisible(method, minimalVisibility)
+                        && hasParameterToTest(method)) {
+                    result.add(method);
+                }
+            }
+        }
+        return result.build();
+    }
+
+    private static boolean isVisible(Member member, Visibility minimalVisibility) {
+        var modifiers = member.getModifiers();
+        return switch (minimalVisibility) {
+            case PACKAGE -> !Modifier.isPrivate(modifiers);
+            case PROTECTED -> Modifier.isPublic(modifiers) || Modifier.isProtected(modifiers);
+            case PUBLIC -> Modifier.isPublic(modifiers);
+        };
+    }
+
+    private static boolean hasParameterToTest(Method method) {
+        return Stream.of(method.getParameters())
+                     .anyMatch(parameter -> !parameter.getType().isPrimitive()
+                             && !isNullable(parameter));
+    }
+
+    /**
+     * Tells if the passed parameter is annotated as accepting {@code null}.
+     */
+    static boolean isNullable(Parameter parameter) {
+        return hasNullable(parameter.getAnnotations())
+                || hasNullable(parameter.getAnnotatedType().getAnnotations());
+    }
+
+    private static boolean hasNullable(Annotation[] annotations) {
+        for (var annotation : annotations) {
+            if (NULLABLE_ANNOTATIONS.contains(annotation.annotationType().getSimpleName())) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -45,6 +45,33 @@ import static io.spine.testing.Assertions.assertTrue;
  */
 public abstract class ClassTest<C> {
 
+    /**
+     * The tester used by the suites which do not {@linkplain #configure(NullPointerTester)
+     * configure} their own.
+     *
+     * <p>{@code NullPointerTester} only reads its configuration when testing, so an
+     * unconfigured instance can be shared across threads.
+     */
+    private static final NullPointerTester defaultTester = new NullPointerTester();
+
+    /**
+     * Tells if a test suite class overrides {@link #configure(NullPointerTester)}.
+     */
+    private static final ClassValue<Boolean> configuresTester = new ClassValue<>() {
+        @Override
+        protected Boolean computeValue(Class<?> suite) {
+            for (var c = suite; c != ClassTest.class && c != null; c = c.getSuperclass()) {
+                try {
+                    c.getDeclaredMethod("configure", NullPointerTester.class);
+                    return true;
+                } catch (NoSuchMethodException ignored) {
+                    // Look further up the hierarchy.
+                }
+            }
+            return false;
+        }
+    };
+
     private final Class<C> subject;
     private final Visibility minimalStaticMethodVisibility;
 
@@ -104,9 +131,23 @@ public abstract class ClassTest<C> {
     @SuppressWarnings("PMD.UnitTestShouldIncludeAssert")
         /* This test does assert via `NullPointerTester. */
     void nullCheckParamsOfStaticMethods() {
-        var tester = new NullPointerTester();
-        configure(tester);
-        tester.testStaticMethods(subject(), minimalStaticMethodVisibility);
+        if (checkNullsInParallel()) {
+            var tester = new ParallelNullPointerTester();
+            configure(tester);
+            tester.testStaticMethods(subject(), minimalStaticMethodVisibility);
+            return;
+        }
+        if (configuresTester.get(getClass())) {
+            var tester = new NullPointerTester();
+            configure(tester);
+            tester.testStaticMethods(subject(), minimalStaticMethodVisibility);
+            return;
+        }
+        var methods = ClassMetadata.of(subject())
+                                   .staticMethodsToTest(minimalStaticMethodVisibility);
+        for (var method : methods) {
+            defaultTester.testMethod(null, method);
+        }
     }
 
     /**
@@ -119,6 +160,33 @@ public abstract class ClassTest<C> {
         // Do nothing.
     }
 
+    /**
+     * Tells if null parameters of static methods are tested in parallel.
+     *
+     * <p>Returns {@code false} by default. Override to return {@code true} for classes
+     * with many static methods, which can be called concurrently. In this case,
+     * all the failures are reported together, and the tester is configured by
+     * {@link #configure(ParallelNullPointerTester)} instead of
+     * {@link #configure(NullPointerTester)}.
+     *
+     * @see ParallelNullPointerTester
+     */
+    protected boolean checkNullsInParallel() {
+        return false;
+    }
+
+    /**
+     * A callback to configure a passed {@linkplain ParallelNullPointerTester}
+     * if {@linkplain #checkNullsInParallel() null parameters are tested in parallel}.
+     *
+     * <p>Does nothing. Override to specify default values or ignored methods
+     * in a derived test.
+     */
+    @SuppressWarnings("NoopMethodInAbstractClass") // We do not force overriding without a need.
+    protected void configure(@SuppressWarnings("unused") ParallelNullPointerTester tester) {
+        // Do nothing.
+    }
+
     /**
      * Asserts that the class under tests has a {@code private} constructor
      * which accepts no parameters.
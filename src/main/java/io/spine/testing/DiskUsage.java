@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing;
+
+import com.google.errorprone.annotations.Immutable;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.nio.file.FileVisitResult;
+import java.nio.file.Files;
+import java.nio.file.NoSuchFileException;
+import java.nio.file.Path;
+import java.nio.file.SimpleFileVisitor;
+import java.nio.file.attribute.BasicFileAttributes;
+import java.util.Locale;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * The amount of disk space taken by the content of a directory.
+ *
+ * @see TempDir#release(java.io.File)
+ */
+@Immutable
+public final class DiskUsage {
+
+    private static final DiskUsage NONE = new DiskUsage(0, 0);
+
+    private final long bytes;
+    private final long files;
+
+    private DiskUsage(long bytes, long files) {
+        checkArgument(bytes >= 0, "The number of bytes cannot be negative: %s.", bytes);
+        checkArgument(files >= 0, "The number of files cannot be negative: %s.", files);
+        this.bytes = bytes;
+        this.files = files;
+    }
+
+    /**
+     * Obtains the usage of nothing.
+     */
+    public static DiskUsage none() {
+        return NONE;
+    }
+
+    /**
+     * Samples the disk usage of the passed directory, including all its subdirectories.
+     *
+     * <p>Files removed while the directory is being walked are skipped.
+     * If the directory itself does not exist, the usage is {@linkplain #none() none}.
+     *
+     * @throws IllegalStateException
+     *          if the directory cannot be walked
+     */
+    public static DiskUsage of(Path directory) {
+        checkNotNull(directory);
+        if (!Files.exists(directory)) {
+            return NONE;
+        }
+        var counter = new Counter();
+        try {
+            Files.walkFileTree(directory, counter);
+        } catch (IOException e) {
+            var msg = format(Locale.ROOT, "Unable to calculate disk usage of `%s`.", directory);
+            throw new IllegalStateException(msg, e);
+        }
+        return new DiskUsage(counter.bytes, counter.files);
+    }
+
+    /**
+     * Obtains the total size of the regular files in bytes.
+     */
+    public long bytes() {
+        return bytes;
+    }
+
+    /**
+     * Obtains the number of regular files.
+     */
+    public long files() {
+        return files;
+    }
+
+    /**
+     * Obtains the usage which sums up this and the passed one.
+     */
+    public DiskUsage plus(DiskUsage other) {
+        checkNotNull(other);
+        return new DiskUsage(bytes + other.bytes, files + other.files);
+    }
+
+    /**
+     * Tells if this usage is over the passed number of bytes.
+     */
+    public boolean exceeds(long maxBytes) {
+        return bytes > maxBytes;
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof DiskUsage)) {
+            return false;
+        }
+        var other = (DiskUsage) o;
+        return bytes == other.bytes && files == other.files;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(bytes, files);
+    }
+
+    @Override
+    public String toString() {
+        return format(Locale.ROOT, "%,d bytes in %,d files", bytes, files);
+    }
+
+    /**
+     * Sums up sizes of the visited regular files.
+     */
+    private static final class Counter extends SimpleFileVisitor<Path> {
+
+        private long bytes;
+        private long files;
+
+        @Override
+        public FileVisitResult visitFile(Path file, BasicFileAttributes attrs) {
+            if (attrs.isRegularFile()) {
+                bytes += attrs.size();
+                files++;
+            }
+            return FileVisitResult.CONTINUE;
+        }
+
+        @Override
+        public FileVisitResult visitFileFailed(Path file, IOException e) throws IOException {
+            if (e instanceof NoSuchFileException) {
+                return FileVisitResult.CONTINUE;
+            }
+            throw e;
+        }
+    }
+}
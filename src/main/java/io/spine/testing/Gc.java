@@ -0,0 +1,206 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.jspecify.annotations.Nullable;
+
+import javax.management.JMException;
+import javax.management.ObjectName;
+import java.lang.management.ManagementFactory;
+import java.lang.ref.Reference;
+import java.lang.ref.ReferenceQueue;
+import java.util.function.BooleanSupplier;
+import java.util.regex.Pattern;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Utilities for forcing garbage collection in tests.
+ *
+ * @see Assertions#assertUnreachableAfter(java.util.function.Supplier,
+ *         java.util.function.Consumer)
+ * @see Assertions#assertInstancesReleased(Class, org.junit.jupiter.api.function.Executable)
+ */
+final class Gc {
+
+    /** The number of garbage collections to request before giving up. */
+    static final int MAX_ATTEMPTS = 10;
+
+    /** How long to wait for references to be enqueued after a collection. */
+    private static final long WAIT_MILLIS = 100;
+
+    /** The size of the garbage allocated for nudging the collector. */
+    private static final int NUDGE_BYTES = 1 << 20;
+
+    private static final String DIAGNOSTIC_COMMAND = "com.sun.management:type=DiagnosticCommand";
+    private static final String CLASS_HISTOGRAM = "gcClassHistogram";
+    private static final Pattern WHITESPACE = Pattern.compile("\\s+");
+
+    /** Keeps the {@linkplain #nudge() nudging} garbage from being optimized away. */
+    @SuppressWarnings("unused")
+    private static volatile @Nullable Object sink;
+
+    /** Prevents instantiation of this utility class. */
+    private Gc() {
+    }
+
+    /**
+     * Requests garbage collections until the passed reference is cleared,
+     * or {@link #MAX_ATTEMPTS} are made.
+     *
+     * @param reference
+     *         the reference to an object expected to become unreachable
+     * @param queue
+     *         the queue with which the reference is registered
+     * @return {@code true} if the reference was cleared, {@code false} otherwise
+     */
+    static boolean awaitCleared(Reference<?> reference, ReferenceQueue<?> queue) {
+        checkNotNull(reference);
+        checkNotNull(queue);
+        return collectUntil(() -> reference.refersTo(null), () -> awaitEnqueued(queue));
+    }
+
+    /**
+     * Requests garbage collections until the passed condition is met,
+     * or {@link #MAX_ATTEMPTS} are made.
+     *
+     * @param condition
+     *         the condition to check after each collection
+     * @param pause
+     *         the action to perform after each collection before checking the condition
+     * @return {@code true} if the condition was met, {@code false} otherwise
+     */
+    static boolean collectUntil(BooleanSupplier condition, Runnable pause) {
+        for (var attempt = 0; attempt < MAX_ATTEMPTS; attempt++) {
+            if (condition.getAsBoolean()) {
+                return true;
+            }
+            nudge();
+            System.gc();
+            pause.run();
+        }
+        return condition.getAsBoolean();
+    }
+
+    /**
+     * Requests garbage collections until the passed condition is met,
+     * pausing for a short time after each collection.
+     */
+    static boolean collectUntil(BooleanSupplier condition) {
+        return collectUntil(condition, Gc::pause);
+    }
+
+    /**
+     * Allocates short-lived garbage, so that a collection is more likely to be started.
+     */
+    private static void nudge() {
+        sink = new byte[NUDGE_BYTES];
+        sink = null;
+    }
+
+    private static void awaitEnqueued(ReferenceQueue<?> queue) {
+        try {
+            queue.remove(WAIT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private static void pause() {
+        try {
+            Thread.sleep(WAIT_MILLIS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException(e);
+        }
+    }
+
+    /**
+     * Tells if the JVM can report the number of live instances of a class.
+     */
+    static boolean canCountInstances() {
+        try {
+            var server = ManagementFactory.getPlatformMBeanServer();
+            return server.isRegistered(new ObjectName(DIAGNOSTIC_COMMAND));
+        } catch (JMException ignored) {
+            return false;
+        }
+    }
+
+    /**
+     * Obtains the number of live instances of the given class.
+     *
+     * <p>The method relies on the {@code GC.class_histogram} diagnostic command,
+     * which performs a full garbage collection before counting the instances.
+     *
+     * @throws IllegalStateException
+     *          if the diagnostic command is not available
+     */
+    static long liveInstances(Class<?> type) {
+        checkNotNull(type);
+        return countIn(classHistogram(), type.getName());
+    }
+
+    private static String classHistogram() {
+        try {
+            var server = ManagementFactory.getPlatformMBeanServer();
+            var name = new ObjectName(DIAGNOSTIC_COMMAND);
+            var result = server.invoke(
+                    name, CLASS_HISTOGRAM,
+                    new Object[]{new String[0]},
+                    new String[]{String[].class.getName()}
+            );
+            return String.valueOf(result);
+        } catch (JMException e) {
+            throw new IllegalStateException("Unable to obtain the class histogram.", e);
+        }
+    }
+
+    /**
+     * Finds the number of instances of the class with the given name in the passed
+     * output of the {@code GC.class_histogram} command.
+     *
+     * <p>The lines of the histogram have the following format:
+     * <pre>
+     *    1:          5632         479032  io.spine.testing.Example
+     * </pre>
+     */
+    @VisibleForTesting
+    static long countIn(String histogram, String className) {
+        for (var line : histogram.split("\\R")) {
+            var columns = WHITESPACE.split(line.trim());
+            if (columns.length >= 4
+                    && columns[0].endsWith(":")
+                    && columns[3].equals(className)) {
+                return Long.parseLong(columns[1]);
+            }
+        }
+        return 0;
+    }
+}
@@ -0,0 +1,161 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * The limits of time and memory which the initialization of a singleton may take.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * @Override
+ * protected InitializationBudget initializationBudget() {
+ *     return InitializationBudget.newBuilder()
+ *             .setTime(Duration.ofMillis(200))
+ *             .setAllocatedBytes(8 * 1024 * 1024)
+ *             .build();
+ * }
+ * }</pre>
+ *
+ * @see SingletonTest#initializationBudget()
+ */
+public final class InitializationBudget {
+
+    /** The value meaning that the number of allocated bytes is not limited. */
+    private static final long UNLIMITED_BYTES = Long.MAX_VALUE;
+
+    /** The value meaning that the time is not limited. */
+    private static final Duration UNLIMITED_TIME = Duration.ofSeconds(Long.MAX_VALUE);
+
+    private final Duration time;
+    private final long allocatedBytes;
+
+    private InitializationBudget(Builder builder) {
+        this.time = builder.time;
+        this.allocatedBytes = builder.allocatedBytes;
+    }
+
+    /**
+     * Creates a new builder of the instances.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Obtains the maximum time of the initialization.
+     */
+    public Duration time() {
+        return time;
+    }
+
+    /**
+     * Obtains the maximum number of bytes allocated by the initialization.
+     */
+    public long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Tells if the time of the initialization is limited.
+     */
+    boolean limitsTime() {
+        return !UNLIMITED_TIME.equals(time);
+    }
+
+    /**
+     * Tells if the memory allocated by the initialization is limited.
+     */
+    boolean limitsAllocation() {
+        return allocatedBytes != UNLIMITED_BYTES;
+    }
+
+    @Override
+    public String toString() {
+        return format(Locale.ROOT, "InitializationBudget{time=%s, allocatedBytes=%s}",
+                      limitsTime() ? time : "unlimited",
+                      limitsAllocation() ? format(Locale.ROOT, "%,d", allocatedBytes)
+                                         : "unlimited");
+    }
+
+    /**
+     * A builder for {@code InitializationBudget} instances.
+     *
+     * <p>The limits which are not set are not checked.
+     */
+    public static final class Builder {
+
+        private Duration time = UNLIMITED_TIME;
+        private long allocatedBytes = UNLIMITED_BYTES;
+
+        /** Prevents direct instantiation. */
+        private Builder() {
+        }
+
+        /**
+         * Sets the maximum time of the initialization.
+         */
+        @CanIgnoreReturnValue
+        public Builder setTime(Duration time) {
+            checkNotNull(time);
+            checkArgument(!time.isNegative() && !time.isZero(),
+                          "The time must be positive: %s.", time);
+            this.time = time;
+            return this;
+        }
+
+        /**
+         * Sets the maximum number of bytes allocated by the initialization.
+         *
+         * <p>The limit is checked only if the JVM
+         * {@linkplain io.spine.testing.perf.ThreadAllocation#isSupported() can measure}
+         * the memory allocated by a thread.
+         */
+        @CanIgnoreReturnValue
+        public Builder setAllocatedBytes(long allocatedBytes) {
+            checkArgument(allocatedBytes >= 0,
+                          "The number of bytes cannot be negative: %s.", allocatedBytes);
+            this.allocatedBytes = allocatedBytes;
+            return this;
+        }
+
+        /**
+         * Creates a new instance with the configured limits.
+         */
+        public InitializationBudget build() {
+            return new InitializationBudget(this);
+        }
+    }
+}
@@ -0,0 +1,124 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A class loader which loads the classes of a package anew instead of delegating
+ * to its parent.
+ *
+ * <p>The classes of the package obtained via this loader are not yet initialized,
+ * even if the same classes of the parent loader are. This allows observing
+ * the static initialization of a class, which otherwise happens only once per JVM.
+ *
+ * <p>All the classes of the package, not only a requested one, are loaded anew,
+ * so that the package-private members stay accessible to each other.
+ * The classes of other packages are shared with the parent loader.
+ */
+final class IsolatingClassLoader extends ClassLoader {
+
+    static {
+        registerAsParallelCapable();
+    }
+
+    private final String packagePrefix;
+
+    /**
+     * Creates a new loader isolating the package of the given class.
+     */
+    IsolatingClassLoader(Class<?> type) {
+        super("isolated-" + checkNotNull(type).getPackageName(), parentOf(type));
+        this.packagePrefix = type.getPackageName() + '.';
+    }
+
+    private static ClassLoader parentOf(Class<?> type) {
+        var loader = type.getClassLoader();
+        return loader != null ? loader : getSystemClassLoader();
+    }
+
+    /**
+     * Loads the class with the given name anew from the class path.
+     *
+     * <p>The class is not initialized.
+     *
+     * @throws IllegalArgumentException
+     *          if the class does not belong to the isolated package
+     */
+    Class<?> isolate(String className) {
+        checkNotNull(className);
+        if (!isIsolated(className)) {
+            throw new IllegalArgumentException(
+                    "The class `" + className + "` is not in the package `"
+                            + packagePrefix + "`.");
+        }
+        try {
+            return loadClass(className);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    @Override
+    protected Class<?> loadClass(String name, boolean resolve) throws ClassNotFoundException {
+        if (!isIsolated(name)) {
+            return super.loadClass(name, resolve);
+        }
+        synchronized (getClassLoadingLock(name)) {
+            var loaded = findLoadedClass(name);
+            if (loaded == null) {
+                loaded = findClass(name);
+            }
+            if (resolve) {
+                resolveClass(loaded);
+            }
+            return loaded;
+        }
+    }
+
+    @Override
+    protected Class<?> findClass(String name) throws ClassNotFoundException {
+        var resource = name.replace('.', '/') + ".class";
+        try (var stream = getParent().getResourceAsStream(resource)) {
+            if (stream == null) {
+                throw new ClassNotFoundException(name);
+            }
+            var bytes = stream.readAllBytes();
+            return defineClass(name, bytes, 0, bytes.length);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private boolean isIsolated(String className) {
+        return className.startsWith(packagePrefix)
+                && className.indexOf('.', packagePrefix.length()) < 0;
+    }
+}
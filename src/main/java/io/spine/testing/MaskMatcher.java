@@ -0,0 +1,354 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing;
+
+import com.google.common.cache.CacheBuilder;
+import com.google.common.cache.CacheLoader;
+import com.google.common.cache.LoadingCache;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Immutable;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.FieldMask;
+import com.google.protobuf.Message;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.protobuf.Descriptors.FieldDescriptor.JavaType.MESSAGE;
+import static java.lang.String.format;
+
+/**
+ * Checks if messages of a type match a field mask.
+ *
+ * <p>The mask is compiled into a tree which mirrors the structure of the message type,
+ * so that a message is checked in a single pass over its fields. The paths of the mask
+ * may be nested, e.g., {@code prescription_receiver.value}.
+ *
+ * <p>A message matches the mask if:
+ * <ul>
+ *     <li>each {@code repeated} field in the mask has at least one element;
+ *     <li>each singular field in the mask is set, and other singular fields are not set;
+ *     <li>each message field with nested paths in the mask matches
+ *         the nested paths in the same way.
+ * </ul>
+ *
+ * <p>A mask with a path which does not denote a field of the type, or which continues
+ * past a {@code repeated} field, matches no message.
+ *
+ * <p>Compiled matchers are cached per message type and mask.
+ *
+ * @see Assertions#assertMatchesMask(Message, FieldMask)
+ */
+@Immutable
+@SuppressWarnings("Immutable") // Descriptors and arrays are not modified after compilation.
+final class MaskMatcher {
+
+    /** The maximum number of compiled matchers to keep. */
+    private static final int CACHE_SIZE = 1_000;
+
+    private static final LoadingCache<Key, MaskMatcher> cache =
+            CacheBuilder.newBuilder()
+                        .maximumSize(CACHE_SIZE)
+                        .build(CacheLoader.from(key -> compile(key.type, key.mask)));
+
+    private final @Nullable Node root;
+    private final ImmutableList<Mismatch> errors;
+
+    private MaskMatcher(@Nullable Node root, ImmutableList<Mismatch> errors) {
+        this.root = root;
+        this.errors = errors;
+    }
+
+    /**
+     * Obtains the matcher of the given mask for the messages of the given type.
+     */
+    static MaskMatcher of(Descriptor type, FieldMask mask) {
+        checkNotNull(type);
+        checkNotNull(mask);
+        return cache.getUnchecked(new Key(type, mask));
+    }
+
+    private static MaskMatcher compile(Descriptor type, FieldMask mask) {
+        var paths = new PathTree();
+        for (var path : mask.getPathsList()) {
+            paths.add(path);
+        }
+        var errors = new ArrayList<Mismatch>();
+        var root = paths.compile(type, "", errors);
+        return errors.isEmpty()
+               ? new MaskMatcher(root, ImmutableList.of())
+               : new MaskMatcher(null, ImmutableList.copyOf(errors));
+    }
+
+    /**
+     * Finds all the fields of the passed message which do not match the mask.
+     *
+     * @return the mismatches in the order of the fields, or an empty list
+     *         if the message matches the mask
+     */
+    ImmutableList<Mismatch> mismatches(Message message) {
+        checkNotNull(message);
+        if (root == null) {
+            return errors;
+        }
+        checkArgument(message.getDescriptorForType().equals(root.type),
+                      "Expected a message of type `%s`, but got `%s`.",
+                      root.type.getFullName(), message.getDescriptorForType().getFullName());
+        List<Mismatch> found = new ArrayList<>(0);
+        root.match(message, found);
+        return found.isEmpty()
+               ? ImmutableList.of()
+               : ImmutableList.copyOf(found);
+    }
+
+    /**
+     * Tells if the passed message matches the mask.
+     */
+    boolean matches(Message message) {
+        return mismatches(message).isEmpty();
+    }
+
+    /**
+     * A field of a message which does not match the mask.
+     */
+    @Immutable
+    static final class Mismatch {
+
+        private final String path;
+        private final Kind kind;
+
+        private Mismatch(String path, Kind kind) {
+            this.path = path;
+            this.kind = kind;
+        }
+
+        /**
+         * Obtains the path of the field, e.g., {@code prescription_receiver.value}.
+         */
+        String path() {
+            return path;
+        }
+
+        /**
+         * Obtains the kind of the mismatch.
+         */
+        Kind kind() {
+            return kind;
+        }
+
+        /**
+         * Obtains the human-readable description of the mismatch.
+         */
+        String describe() {
+            return format(kind.format, path);
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Mismatch)) {
+                return false;
+            }
+            var other = (Mismatch) o;
+            return path.equals(other.path) && kind == other.kind;
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(path, kind);
+        }
+
+        @Override
+        public String toString() {
+            return describe();
+        }
+    }
+
+    /**
+     * The kinds of mismatches between a message and a mask.
+     */
+    enum Kind {
+
+        /** The path of the mask does not denote a field of the message type. */
+        UNKNOWN_PATH("The field mask path `%s` does not denote a field of the message type."),
+
+        /** The path of the mask continues past a {@code repeated} field. */
+        REPEATED_IN_PATH("The repeated field `%s` cannot have nested field mask paths."),
+
+        /** A {@code repeated} field in the mask has no elements. */
+        EMPTY_REPEATED("Field `%s` wasn't found in the specified message."),
+
+        /** A singular field in the mask is not set. */
+        MISSING("Field `%s` is in the mask but is not set in the specified message."),
+
+        /** A singular field which is not in the mask is set. */
+        UNEXPECTED("Field `%s` is set in the specified message but is not in the mask.");
+
+        private final String format;
+
+        Kind(String format) {
+            this.format = format;
+        }
+    }
+
+    /**
+     * A compiled mask for a message type.
+     */
+    private static final class Node {
+
+        private final Descriptor type;
+        private final String prefix;
+        private final FieldDescriptor[] fields;
+        private final boolean[] inMask;
+        private final @Nullable Node[] nested;
+
+        private Node(Descriptor type, String prefix,
+                     boolean[] inMask, @Nullable Node[] nested) {
+            this.type = type;
+            this.prefix = prefix;
+            this.fields = type.getFields().toArray(new FieldDescriptor[0]);
+            this.inMask = inMask;
+            this.nested = nested;
+        }
+
+        private void match(Message message, List<Mismatch> found) {
+            for (var i = 0; i < fields.length; i++) {
+                var field = fields[i];
+                if (field.isRepeated()) {
+                    if (inMask[i] && message.getRepeatedFieldCount(field) == 0) {
+                        found.add(new Mismatch(prefix + field.getName(), Kind.EMPTY_REPEATED));
+                    }
+                    continue;
+                }
+                var isSet = message.hasField(field);
+                if (isSet != inMask[i]) {
+                    var kind = isSet ? Kind.UNEXPECTED : Kind.MISSING;
+                    found.add(new Mismatch(prefix + field.getName(), kind));
+                } else {
+                    var nestedNode = nested[i];
+                    if (isSet && nestedNode != null) {
+                        nestedNode.match((Message) message.getField(field), found);
+                    }
+                }
+            }
+        }
+    }
+
+    /**
+     * The paths of a mask organized as a tree by their segments.
+     */
+    private static final class PathTree {
+
+        /** Tells if a path ends at this node, so that the whole field is in the mask. */
+        private boolean terminal;
+        private final Map<String, PathTree> children = new LinkedHashMap<>();
+
+        private void add(String path) {
+            var node = this;
+            for (var segment : path.split("\\.", -1)) {
+                node = node.children.computeIfAbsent(segment, s -> new PathTree());
+            }
+            node.terminal = true;
+        }
+
+        /**
+         * Compiles the subtree for the given message type.
+         *
+         * <p>The problems with the paths are added to the passed list of errors.
+         */
+        private Node compile(Descriptor type, String prefix, List<Mismatch> errors) {
+            var fields = type.getFields();
+            var inMask = new boolean[fields.size()];
+            var nested = new @Nullable Node[fields.size()];
+            for (var entry : children.entrySet()) {
+                var path = prefix + entry.getKey();
+                var child = entry.getValue();
+                var field = type.findFieldByName(entry.getKey());
+                if (field == null) {
+                    errors.add(new Mismatch(path, Kind.UNKNOWN_PATH));
+                    continue;
+                }
+                var index = field.getIndex();
+                inMask[index] = true;
+                if (child.terminal) {
+                    continue;
+                }
+                if (field.isRepeated()) {
+                    errors.add(new Mismatch(path, Kind.REPEATED_IN_PATH));
+                } else if (field.getJavaType() != MESSAGE) {
+                    errors.add(new Mismatch(path + '.' + child.children.keySet()
+                                                                    .iterator()
+                                                                    .next(),
+                                            Kind.UNKNOWN_PATH));
+                } else {
+                    nested[index] = child.compile(field.getMessageType(), path + '.', errors);
+                }
+            }
+            return new Node(type, prefix, inMask, nested);
+        }
+    }
+
+    /**
+     * The key of the cache of compiled matchers.
+     */
+    private static final class Key {
+
+        private final Descriptor type;
+        private final FieldMask mask;
+
+        private Key(Descriptor type, FieldMask mask) {
+            this.type = type;
+            this.mask = mask;
+        }
+
+        @Override
+        public boolean equals(@Nullable Object o) {
+            if (this == o) {
+                return true;
+            }
+            if (!(o instanceof Key)) {
+                return false;
+            }
+            var other = (Key) o;
+            return type.equals(other.type) && mask.equals(other.mask);
+        }
+
+        @Override
+        public int hashCode() {
+            return Objects.hash(type, mask);
+        }
+    }
+}
@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing;
+
+import com.google.common.collect.ImmutableList;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.FieldMask;
+import com.google.protobuf.Message;
+import io.spine.testing.MaskMatcher.Mismatch;
+
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.IntStream;
+
+import static java.lang.String.format;
+import static java.lang.System.lineSeparator;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * The mismatches between a list of messages and a field mask aggregated by field.
+ *
+ * <p>The messages are checked in parallel. For each mismatching field, the report holds
+ * the number of messages with the mismatch and the indexes of the first few of them.
+ *
+ * @see Assertions#assertAllMatchMask(Iterable, FieldMask)
+ */
+final class MaskReport {
+
+    /** The maximum number of indexes of messages to report for a mismatch. */
+    private static final int MAX_EXAMPLES = 3;
+
+    private final Map<Mismatch, Occurrences> occurrences = new HashMap<>();
+    private int mismatchingMessages;
+    private int firstMismatching = -1;
+
+    private MaskReport() {
+    }
+
+    /**
+     * Checks the passed messages against the mask.
+     */
+    static MaskReport of(List<? extends Message> messages, FieldMask mask) {
+        var matchers = new ConcurrentHashMap<Descriptor, MaskMatcher>();
+        return IntStream.range(0, messages.size())
+                        .parallel()
+                        .collect(MaskReport::new,
+                                 (report, index) -> {
+                                     var message = messages.get(index);
+                                     var matcher = matchers.computeIfAbsent(
+                                             message.getDescriptorForType(),
+                                             type -> MaskMatcher.of(type, mask));
+                                     report.add(index, matcher.mismatches(message));
+                                 },
+                                 MaskReport::merge);
+    }
+
+    private void add(int index, ImmutableList<Mismatch> mismatches) {
+        if (mismatches.isEmpty()) {
+            return;
+        }
+        mismatchingMessages++;
+        if (firstMismatching < 0) {
+            firstMismatching = index;
+        }
+        for (var mismatch : mismatches) {
+            occurrences.computeIfAbsent(mismatch, m -> new Occurrences())
+                       .add(index);
+        }
+    }
+
+    /**
+     * Adds the occurrences from the report on the messages following
+     * the messages of this report.
+     */
+    private void merge(MaskReport following) {
+        mismatchingMessages += following.mismatchingMessages;
+        if (firstMismatching < 0) {
+            firstMismatching = following.firstMismatching;
+        }
+        following.occurrences.forEach(
+                (mismatch, other) -> occurrences.merge(mismatch, other, Occurrences::merge)
+        );
+    }
+
+    /**
+     * Tells if all the messages match the mask.
+     */
+    boolean isEmpty() {
+        return mismatchingMessages == 0;
+    }
+
+    /**
+     * Obtains the index of the first message which does not match the mask.
+     *
+     * @return the index, or {@code -1} if all the messages match
+     */
+    int firstMismatching() {
+        return firstMismatching;
+    }
+
+    /**
+     * Describes the mismatches ordered by the field path.
+     */
+    String describe(int total, FieldMask mask) {
+        var header = format("%d of %d messages do not match the mask %s.",
+                            mismatchingMessages, total, mask.getPathsList());
+        var lines = occurrences.entrySet()
+                               .stream()
+                               .sorted(Map.Entry.comparingByKey(
+                                       Comparator.comparing(Mismatch::path)
+                                                 .thenComparing(Mismatch::kind)))
+                               .map(entry -> format("  %s (%d messages, e.g., %s)",
+                                                    entry.getKey().describe(),
+                                                    entry.getValue().count,
+                                                    entry.getValue().examples()))
+                               .collect(joining(lineSeparator()));
+        return header + lineSeparator() + lines;
+    }
+
+    /**
+     * The number of messages with a mismatch and the indexes of the first of them.
+     */
+    private static final class Occurrences {
+
+        private int count;
+        private final int[] examples = new int[MAX_EXAMPLES];
+        private int exampleCount;
+
+        private void add(int index) {
+            count++;
+            if (exampleCount < MAX_EXAMPLES) {
+                examples[exampleCount++] = index;
+            }
+        }
+
+        private Occurrences merge(Occurrences following) {
+            count += following.count;
+            for (var i = 0; i < following.exampleCount && exampleCount < MAX_EXAMPLES; i++) {
+                examples[exampleCount++] = following.examples[i];
+            }
+            return this;
+        }
+
+        private String examples() {
+            return IntStream.of(examples)
+                            .limit(exampleCount)
+                            .mapToObj(index -> "#" + index)
+                            .collect(joining(", "));
+        }
+    }
+}
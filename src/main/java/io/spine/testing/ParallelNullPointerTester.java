@@ -0,0 +1,212 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.testing.NullPointerTester;
+import com.google.common.testing.NullPointerTester.Visibility;
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+
+import java.lang.reflect.Method;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static java.lang.System.lineSeparator;
+
+/**
+ * Tests that static methods of a class throw {@link NullPointerException} when
+ * {@code null} is passed to a parameter which is not {@code @Nullable}.
+ *
+ * <p>Unlike {@link NullPointerTester#testStaticMethods(Class, Visibility)}, which checks
+ * the methods one by one and stops at the first failure, this class checks every pair
+ * of a method and its parameter as a separate task of the common
+ * {@link java.util.concurrent.ForkJoinPool ForkJoinPool}. All the failures are reported
+ * together, ordered by the methods and the indexes of the parameters, regardless of
+ * the order in which the tasks complete.
+ *
+ * <p>The methods under the test must tolerate being called concurrently.
+ *
+ * <p>The tester is configured before the testing, and the configuration must not be
+ * changed while the testing is in progress.
+ *
+ * @see ClassTest#checkNullsInParallel()
+ */
+public final class ParallelNullPointerTester {
+
+    /** Orders the checked methods the same way regardless of the order of reflection. */
+    private static final Comparator<Method> METHOD_ORDER =
+            Comparator.comparing(Method::getName)
+                      .thenComparing(Method::toGenericString);
+
+    private final NullPointerTester tester = new NullPointerTester();
+    private final Set<Method> ignored = ConcurrentHashMap.newKeySet();
+
+    /**
+     * Sets the value to pass to the parameters of the given type
+     * when the other parameter is tested.
+     *
+     * @return this instance for call chaining
+     * @see NullPointerTester#setDefault(Class, Object)
+     */
+    @CanIgnoreReturnValue
+    public <T> ParallelNullPointerTester setDefault(Class<T> type, T value) {
+        tester.setDefault(type, value);
+        return this;
+    }
+
+    /**
+     * Excludes the given method from the testing.
+     *
+     * @return this instance for call chaining
+     * @see NullPointerTester#ignore(Method)
+     */
+    @CanIgnoreReturnValue
+    public ParallelNullPointerTester ignore(Method method) {
+        checkNotNull(method);
+        ignored.add(method);
+        return this;
+    }
+
+    /**
+     * Tests the static methods of the given class with at least
+     * the given visibility.
+     *
+     * <p>The methods are selected in the same way as
+     * {@link NullPointerTester#testStaticMethods(Class, Visibility)} does.
+     *
+     * @throws AssertionError
+     *          if some of the methods do not throw {@code NullPointerException} as expected;
+     *          the error describes all such cases and has their failures as suppressed
+     */
+    public void testStaticMethods(Class<?> type, Visibility minimalVisibility) {
+        checkNotNull(type);
+        checkNotNull(minimalVisibility);
+        var cases = casesOf(type, minimalVisibility);
+        var failures = cases.parallelStream()
+                            .map(Case::run)
+                            .flatMap(Optional::stream)
+                            .collect(ImmutableList.toImmutableList());
+        if (!failures.isEmpty()) {
+            throw failureOf(type, cases.size(), failures);
+        }
+    }
+
+    /**
+     * Tests the public static methods of the given class.
+     *
+     * @see #testStaticMethods(Class, Visibility)
+     */
+    public void testAllPublicStaticMethods(Class<?> type) {
+        testStaticMethods(type, Visibility.PUBLIC);
+    }
+
+    private ImmutableList<Case> casesOf(Class<?> type, Visibility minimalVisibility) {
+        var methods = ClassMetadata.of(type)
+                                   .staticMethodsToTest(minimalVisibility)
+                                   .stream()
+                                   .filter(method -> !ignored.contains(method))
+                                   .sorted(METHOD_ORDER)
+                                   .collect(ImmutableList.toImmutableList());
+        var result = ImmutableList.<Case>builder();
+        for (var method : methods) {
+            var parameters = method.getParameters();
+            for (var i = 0; i < parameters.length; i++) {
+                if (!parameters[i].getType().isPrimitive()
+                        && !ClassMetadata.isNullable(parameters[i])) {
+                    result.add(new Case(method, i));
+                }
+            }
+        }
+        return result.build();
+    }
+
+    private static AssertionError failureOf(Class<?> type, int cases,
+                                            ImmutableList<Failure> failures) {
+        var message = new StringBuilder(format(
+                Locale.ROOT,
+                "%d of %d parameters of static methods of `%s` do not reject `null`:",
+                failures.size(), cases, type.getName()
+        ));
+        for (var failure : failures) {
+            message.append(lineSeparator())
+                   .append("  ")
+                   .append(failure.describe());
+        }
+        var error = new AssertionError(message.toString());
+        failures.forEach(failure -> error.addSuppressed(failure.cause));
+        return error;
+    }
+
+    /**
+     * A parameter of a method to pass {@code null} to.
+     */
+    private final class Case {
+
+        private final Method method;
+        private final int index;
+
+        private Case(Method method, int index) {
+            this.method = method;
+            this.index = index;
+        }
+
+        @SuppressWarnings("ErrorNotRethrown") // The failure is reported with the others.
+        private Optional<Failure> run() {
+            try {
+                tester.testMethodParameter(null, method, index);
+                return Optional.empty();
+            } catch (AssertionError | RuntimeException e) {
+                return Optional.of(new Failure(this, e));
+            }
+        }
+    }
+
+    /**
+     * A failed {@link Case}.
+     */
+    private static final class Failure {
+
+        private final Case failedCase;
+        private final Throwable cause;
+
+        private Failure(Case failedCase, Throwable cause) {
+            this.failedCase = failedCase;
+            this.cause = cause;
+        }
+
+        private String describe() {
+            return format(Locale.ROOT, "`%s`, parameter #%d: %s",
+                          failedCase.method.toGenericString(), failedCase.index,
+                          cause.getMessage());
+        }
+    }
+}
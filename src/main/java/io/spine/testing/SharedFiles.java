@@ -0,0 +1,178 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing;
+
+import io.spine.logging.Logger;
+import io.spine.logging.LoggingFactory;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.channels.FileChannel;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.Locale;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.nio.file.StandardCopyOption.ATOMIC_MOVE;
+import static java.nio.file.StandardCopyOption.REPLACE_EXISTING;
+import static java.nio.file.StandardOpenOption.CREATE;
+import static java.nio.file.StandardOpenOption.WRITE;
+
+/**
+ * Utilities for the files which keep the data of tests between test runs, and which
+ * may be updated by several JVMs at the same time, e.g., by the forks of a test task.
+ *
+ * <p>The utilities serve the extensions of this library, such as the history of
+ * test durations and the baseline of benchmarks.
+ */
+public final class SharedFiles {
+
+    private static final Logger logger = LoggingFactory.forEnclosingClass();
+
+    /** Prevents instantiation of this utility class. */
+    private SharedFiles() {
+    }
+
+    /**
+     * Reads the data from the given file, falling back to the default value
+     * if the file cannot be read.
+     *
+     * @param file
+     *         the file to read
+     * @param content
+     *         the description of the content of the file for the warning, e.g.,
+     *         {@code "the durations of tests"}
+     * @param reader
+     *         reads the data from the file
+     * @param fallback
+     *         supplies the data if the file cannot be read
+     */
+    public static <T> T read(Path file,
+                             String content,
+                             Function<Path, T> reader,
+                             Supplier<T> fallback) {
+        checkNotNull(file);
+        checkNotNull(content);
+        checkNotNull(reader);
+        checkNotNull(fallback);
+        try {
+            return reader.apply(file);
+        } catch (UncheckedIOException e) {
+            logger.atWarning()
+                  .log(() -> format(Locale.ROOT, "Unable to read %s from `%s`: %s",
+                                    content, file, e.getMessage()));
+            return fallback.get();
+        }
+    }
+
+    /**
+     * Runs the given update of the file when the JVM shuts down.
+     *
+     * <p>If the update fails to write the file, a warning is logged.
+     *
+     * @param file
+     *         the file to update
+     * @param content
+     *         the description of the content of the file for the warning
+     * @param update
+     *         writes the file
+     */
+    public static void updateOnShutdown(Path file, String content, Runnable update) {
+        checkNotNull(file);
+        checkNotNull(content);
+        checkNotNull(update);
+        Runtime.getRuntime().addShutdownHook(new Thread(() -> {
+            try {
+                update.run();
+            } catch (UncheckedIOException e) {
+                logger.atWarning()
+                      .log(() -> format(Locale.ROOT, "Unable to write %s to `%s`: %s",
+                                        content, file, e.getMessage()));
+            }
+        }));
+    }
+
+    /**
+     * Runs the given read-modify-write update of the file holding an exclusive lock,
+     * so that the updates made by several JVMs do not overwrite each other.
+     *
+     * <p>The lock is taken on a sibling file with the {@code .lock} suffix, since
+     * the file itself may be {@linkplain #replace(Path, List) replaced} by the update.
+     * The JVMs updating the same file must use this method for all their updates.
+     *
+     * @throws UncheckedIOException
+     *          if the lock cannot be taken
+     */
+    public static void updateExclusively(Path file, Runnable update) {
+        checkNotNull(file);
+        checkNotNull(update);
+        var lockFile = file.toAbsolutePath()
+                           .resolveSibling(file.getFileName() + ".lock");
+        // A JVM cannot hold overlapping locks of a file, so its threads take turns.
+        synchronized (SharedFiles.class) {
+            try {
+                Files.createDirectories(lockFile.getParent());
+                try (var channel = FileChannel.open(lockFile, CREATE, WRITE);
+                     var ignored = channel.lock()) {
+                    update.run();
+                }
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+    }
+
+    /**
+     * Replaces the content of the file with the given lines.
+     *
+     * <p>The lines are written to a temporary file, which is then moved in place of
+     * the given one. Therefore, the readers of the file never see it written partially.
+     *
+     * @throws UncheckedIOException
+     *          if the file cannot be written
+     */
+    public static void replace(Path file, List<String> lines) {
+        checkNotNull(file);
+        checkNotNull(lines);
+        try {
+            var directory = file.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            var temp = Files.createTempFile(directory, file.getFileName().toString(), ".tmp");
+            Files.write(temp, lines, UTF_8);
+            Files.move(temp, file, REPLACE_EXISTING, ATOMIC_MOVE);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+}
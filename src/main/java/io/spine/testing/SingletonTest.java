@@ -29,28 +29,53 @@ package io.spine.testing;
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
 import com.google.common.testing.NullPointerTester.Visibility;
+import io.spine.testing.concurrent.Stress;
+import io.spine.testing.perf.ThreadAllocation;
+import org.jspecify.annotations.Nullable;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.platform.commons.support.ModifierSupport;
 
 import java.lang.reflect.Constructor;
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.time.Duration;
+import java.util.Collections;
+import java.util.IdentityHashMap;
+import java.util.Locale;
 import java.util.function.Predicate;
 import java.util.function.Supplier;
 
+import static com.google.common.base.Preconditions.checkArgument;
 import static com.google.common.base.Preconditions.checkNotNull;
 import static com.google.common.collect.ImmutableList.toImmutableList;
 import static com.google.common.testing.NullPointerTester.Visibility.PUBLIC;
 import static com.google.common.truth.Truth.assertThat;
+import static com.google.common.truth.Truth.assertWithMessage;
+import static java.lang.String.format;
 import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.fail;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
 
 /**
  * Abstract base for testing classes that implement a singleton pattern.
  *
+ * <p>Besides the checks made on a single thread, the suite checks that concurrent callers
+ * obtain the same instance. If the test suite specifies the {@linkplain #accessorMethod()
+ * accessor method}, it is also checked that the callers racing to initialize
+ * the singleton, which is loaded anew for this purpose, obtain the same instance.
+ * Such a suite may also limit the cost of the initialization by specifying
+ * the {@linkplain #initializationBudget() budget}.
+ *
  * @param <S> the type of the singleton
  */
 public abstract class SingletonTest<S> extends ClassTest<S> {
 
+    private static final int MIN_CONCURRENT_CALLERS = 4;
+    private static final int CALLS_PER_CALLER = 16;
+
     private final Supplier<S> accessor;
 
     /**
@@ -82,12 +107,89 @@ public abstract class SingletonTest<S> extends ClassTest<S> {
         this(subject, PUBLIC, accessor);
     }
 
+    /**
+     * Obtains the name of the {@code static} method of the class under the tests,
+     * which accepts no parameters and returns the singleton.
+     *
+     * <p>The method is needed for checking the initialization of the singleton in
+     * a class loaded anew, which cannot be done via the accessor passed to the constructor.
+     *
+     * <p>Returns {@code null} by default, so the checks are skipped.
+     * Override to return the name of the method called by the accessor.
+     */
+    protected @Nullable String accessorMethod() {
+        return null;
+    }
+
+    /**
+     * Obtains the number of threads calling the accessor simultaneously
+     * when checking {@linkplain CheckConcurrentAccess concurrent access} to the singleton.
+     *
+     * <p>Returns the number of available processors, but not less than four, by default.
+     */
+    protected int concurrentCallers() {
+        return Math.max(MIN_CONCURRENT_CALLERS, Runtime.getRuntime().availableProcessors());
+    }
+
+    /**
+     * Obtains the limits of time and memory the initialization of the singleton may take.
+     *
+     * <p>The initialization is measured on the class under the tests loaded anew, so
+     * the suite must also specify the {@linkplain #accessorMethod() accessor method}.
+     * The measured initialization includes loading and initialization of the classes
+     * of the package of the singleton, which are used by the initialization.
+     *
+     * <p>Returns {@code null} by default, so the initialization is not measured.
+     */
+    protected @Nullable InitializationBudget initializationBudget() {
+        return null;
+    }
+
     @Test
     @DisplayName("return the same instance")
     void sameInstance() {
         assertSame(accessor.get(), accessor.get());
     }
 
+    @Nested
+    @DisplayName("return the same instance to concurrent callers")
+    class CheckConcurrentAccess {
+
+        @Test
+        @DisplayName("when the singleton is initialized")
+        void initialized() {
+            assertSingleInstance(accessor::get);
+        }
+
+        @Test
+        @DisplayName("when the callers race to initialize the singleton")
+        void racingInitialization() {
+            var method = isolatedAccessor();
+            assertSingleInstance(() -> invoke(method));
+        }
+
+        /**
+         * Obtains the singleton from {@linkplain #concurrentCallers() several threads}
+         * released at once, and asserts that all of them obtain the same instance.
+         */
+        private void assertSingleInstance(Supplier<?> source) {
+            var callers = concurrentCallers();
+            var observed = Collections.synchronizedSet(
+                    Collections.newSetFromMap(new IdentityHashMap<>())
+            );
+            Stress.newBuilder()
+                  .setAction(() -> observed.add(source.get()))
+                  .setThreads(callers)
+                  .setIterations(callers * CALLS_PER_CALLER)
+                  .build()
+                  .run()
+                  .assertNoFailures();
+            assertWithMessage("Instances of `%s` obtained concurrently.", subject().getName())
+                    .that(observed)
+                    .hasSize(1);
+        }
+    }
+
     @Nested
     @DisplayName("prevent direct instantiation")
     class CheckConstructors {
@@ -119,6 +221,76 @@ public abstract class SingletonTest<S> extends ClassTest<S> {
         }
     }
 
+    @Nested
+    @DisplayName("initialize the singleton")
+    class CheckInitializationCost {
+
+        @Test
+        @DisplayName("within the budget of time and allocated memory")
+        void withinBudget() {
+            var budget = initializationBudget();
+            assumeTrue(budget != null,
+                       "The initialization budget is not specified by the test suite.");
+            var method = isolatedAccessor();
+            var measureAllocation = budget.limitsAllocation() && ThreadAllocation.isSupported();
+            var bytesBefore = measureAllocation ? ThreadAllocation.allocatedBytes() : 0L;
+            var startedAt = System.nanoTime();
+            invoke(method);
+            var time = Duration.ofNanos(System.nanoTime() - startedAt);
+            var allocated = measureAllocation
+                            ? ThreadAllocation.netOf(bytesBefore, ThreadAllocation.allocatedBytes())
+                            : 0L;
+            if (budget.limitsTime() && time.compareTo(budget.time()) > 0) {
+                fail(format(Locale.ROOT,
+                            "The initialization of `%s` took %s, exceeding the budget of %s.",
+                            subject().getName(), time, budget.time()));
+            }
+            if (measureAllocation && allocated > budget.allocatedBytes()) {
+                fail(format(Locale.ROOT,
+                            "The initialization of `%s` allocated %,d bytes,"
+                                    + " exceeding the budget of %,d bytes.",
+                            subject().getName(), allocated, budget.allocatedBytes()));
+            }
+        }
+    }
+
+    /**
+     * Loads the class under the tests anew and obtains its
+     * {@linkplain #accessorMethod() accessor method}.
+     *
+     * <p>The class is not yet initialized.
+     */
+    private Method isolatedAccessor() {
+        var methodName = accessorMethod();
+        assumeTrue(methodName != null,
+                   "The accessor method is not specified by the test suite.");
+        var isolated = new IsolatingClassLoader(subject()).isolate(subject().getName());
+        return staticMethod(isolated, methodName);
+    }
+
+    private static Method staticMethod(Class<?> cls, String name) {
+        try {
+            var method = cls.getDeclaredMethod(name);
+            checkArgument(Modifier.isStatic(method.getModifiers()),
+                          "The method `%s` must be static.", method);
+            method.setAccessible(true);
+            return method;
+        } catch (NoSuchMethodException e) {
+            throw new IllegalArgumentException(e);
+        }
+    }
+
+    private static Object invoke(Method accessor) {
+        try {
+            return checkNotNull(accessor.invoke(null),
+                                "The method `%s` returned `null`.", accessor);
+        } catch (InvocationTargetException e) {
+            throw new IllegalStateException(e.getCause());
+        } catch (IllegalAccessException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
     /**
      * Shortcut method to call method of {@link CheckConstructors} from a test suite which
      * tests this class.
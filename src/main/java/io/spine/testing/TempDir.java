@@ -27,6 +27,7 @@
 package io.spine.testing;
 
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import io.spine.testing.jfr.TempDirEvent;
 
 import java.io.File;
 import java.io.IOException;
@@ -55,9 +56,17 @@ public final class TempDir {
      */
     private static final Path baseDir;
 
+    /**
+     * Accounts disk usage of the created directories.
+     *
+     * <p>The report on the top consumers is logged when JVM exits,
+     * right before the {@linkplain #baseDir base directory} is deleted.
+     */
+    private static final TempDirUsage usage = new TempDirUsage();
+
     static {
         baseDir = createBaseDir();
-        Testing.deleteRecursivelyOnShutdownHook(baseDir);
+        Testing.deleteRecursivelyOnShutdownHook(baseDir, usage::logReport);
     }
 
     /** Prevents direct instantiation. */
@@ -95,10 +104,38 @@ public final class TempDir {
      * @see java.nio.file.Files#createTempDirectory(Path, String, FileAttribute...)
      */
     public static File withPrefix(String prefix, FileAttribute<?>... attrs) {
+        return withQuota(prefix, TempDirUsage.NO_QUOTA, attrs);
+    }
+
+    /**
+     * Creates a temporary directory which may contain no more than the given number of bytes
+     * by the time it is {@linkplain #release(File) released}.
+     *
+     * <p>Other than the quota, the method works the same way
+     * as {@link #withPrefix(String, FileAttribute...) withPrefix()}.
+     *
+     * @param prefix
+     *         this value would be used for generating the name of the created directory,
+     *         cannot be empty, or blank
+     * @param maxBytes
+     *         the maximum total size of the files in the directory
+     * @param attrs
+     *         an optional list of file attributes to set atomically when
+     *         creating the directory
+     * @throws IllegalStateException
+     *         if the directory could not be created
+     * @see #release(File)
+     */
+    public static File withQuota(String prefix, long maxBytes, FileAttribute<?>... attrs) {
         checkNotNull(prefix);
         checkNotEmptyOrBlank(prefix);
+        checkArgument(maxBytes >= 0, "The quota cannot be negative: %s.", maxBytes);
         try {
+            var event = TempDirEvent.start();
             var directory = Files.createTempDirectory(baseDir, prefix, attrs);
+            usage.register(directory, prefix, maxBytes);
+            event.describe(TempDirEvent.CREATE, directory.toString(), 0L, 0L)
+                 .commit();
             return directory.toFile();
         } catch (IOException e) {
             throw newIllegalStateException(
@@ -107,6 +144,58 @@ public final class TempDir {
         }
     }
 
+    /**
+     * Deletes the passed directory, recording its disk usage.
+     *
+     * <p>The usage is attributed to the prefix with which the directory was created.
+     * The prefixes which consumed the most disk space are reported when JVM exits.
+     * The size of the report is controlled by the {@code io.spine.testing.TempDir.topConsumers}
+     * system property. Setting the property to {@code 0} turns the report off.
+     *
+     * <p>Directories which are not released explicitly are accounted when JVM exits.
+     *
+     * @param directory
+     *         the directory previously created by this class
+     * @return the usage of the directory at the moment of the release
+     * @throws IllegalArgumentException
+     *         if the directory was not created by this class, or it is already released;
+     *         the directory is left intact
+     * @throws AssertionError
+     *         if the directory was {@linkplain #withQuota(String, long, FileAttribute...)
+     *         created with a quota}, and the quota is exceeded;
+     *         the directory is deleted anyway
+     */
+    @CanIgnoreReturnValue
+    public static DiskUsage release(File directory) {
+        checkNotNull(directory);
+        var path = directory.toPath();
+        var event = TempDirEvent.start();
+        var release = usage.release(path);
+        var released = release.usage();
+        try {
+            release.checkQuota();
+            return released;
+        } finally {
+            Testing.deleteRecursively(path);
+            event.describe(TempDirEvent.RELEASE, path.toString(),
+                           released.bytes(), released.files())
+                 .commit();
+        }
+    }
+
+    /**
+     * Obtains the current disk usage of the passed directory without releasing it.
+     *
+     * @param directory
+     *         the directory previously created by this class
+     * @throws IllegalArgumentException
+     *         if the directory was not created by this class, or it is already released
+     */
+    public static DiskUsage usageOf(File directory) {
+        checkNotNull(directory);
+        return usage.sample(directory.toPath());
+    }
+
     /**
      * Ensures that the passed string is not {@code null}, empty or blank string.
      */
@@ -0,0 +1,252 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.spine.logging.Logger;
+import io.spine.logging.LoggingFactory;
+
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static java.lang.System.lineSeparator;
+import static java.util.Map.Entry.comparingByKey;
+import static java.util.stream.Collectors.joining;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * Accounts disk usage of the directories created by {@link TempDir}.
+ *
+ * <p>The usage of a directory is sampled when the directory is
+ * {@linkplain #release(Path) released}. The samples are summed up per owner of
+ * the directories, which is the prefix passed to {@code TempDir} when creating a directory.
+ *
+ * <p>Directories which were not released before the JVM shutdown are sampled
+ * when the {@linkplain #logReport() report} is made.
+ */
+final class TempDirUsage {
+
+    /**
+     * The name of the system property with the number of top consumers
+     * to include into the report at the end of the run.
+     *
+     * <p>Set the property to {@code 0} to turn the report off.
+     */
+    @VisibleForTesting
+    static final String REPORT_SIZE_PROPERTY = "io.spine.testing.TempDir.topConsumers";
+
+    private static final int DEFAULT_REPORT_SIZE = 10;
+
+    /** The value meaning that a directory has no quota. */
+    static final long NO_QUOTA = Long.MAX_VALUE;
+
+    private static final Logger logger = LoggingFactory.forEnclosingClass();
+
+    /** Directories which are not released yet. */
+    private final Map<Path, Allocation> active = new ConcurrentHashMap<>();
+
+    /** The usage of the released directories summed up per owner. */
+    private final Map<String, DiskUsage> consumers = new ConcurrentHashMap<>();
+
+    /**
+     * Starts accounting of the passed directory.
+     *
+     * @param directory
+     *         the newly created directory
+     * @param owner
+     *         the name to which the usage of the directory is attributed
+     * @param quota
+     *         the maximum number of bytes the directory may contain upon the release,
+     *         or {@link #NO_QUOTA}
+     */
+    void register(Path directory, String owner, long quota) {
+        checkNotNull(directory);
+        checkNotNull(owner);
+        checkArgument(quota >= 0, "The quota cannot be negative: %s.", quota);
+        active.put(directory, new Allocation(owner, quota));
+    }
+
+    /**
+     * Samples the usage of the passed directory and stops its accounting.
+     *
+     * <p>The quota of the directory is not checked by this method,
+     * so that the caller may dispose the directory before
+     * {@linkplain Release#checkQuota() checking} it.
+     *
+     * @return the release of the directory
+     * @throws IllegalArgumentException
+     *          if the directory is not accounted by this instance
+     */
+    Release release(Path directory) {
+        checkNotNull(directory);
+        var allocation = active.remove(directory);
+        checkArgument(
+                allocation != null,
+                "The directory `%s` was not created by `TempDir` or is already released.",
+                directory
+        );
+        var usage = DiskUsage.of(directory);
+        consumers.merge(allocation.owner, usage, DiskUsage::plus);
+        return new Release(directory, allocation, usage);
+    }
+
+    /**
+     * Obtains the current usage of the passed directory without releasing it.
+     */
+    DiskUsage sample(Path directory) {
+        checkNotNull(directory);
+        checkArgument(active.containsKey(directory),
+                      "The directory `%s` is not accounted.", directory);
+        return DiskUsage.of(directory);
+    }
+
+    /**
+     * Samples the directories which are not released yet, attributing their usage
+     * to the owners.
+     */
+    private void sampleActive() {
+        for (var entry : Map.copyOf(active).entrySet()) {
+            var directory = entry.getKey();
+            if (active.remove(directory) != null) {
+                var usage = DiskUsage.of(directory);
+                consumers.merge(entry.getValue().owner, usage, DiskUsage::plus);
+            }
+        }
+    }
+
+    /**
+     * Composes the report on the top consumers of disk space.
+     *
+     * @param limit
+     *         the maximum number of consumers to include
+     * @return the report text, or an empty string if there were no consumers
+     */
+    @VisibleForTesting
+    String report(int limit) {
+        checkArgument(limit >= 0);
+        sampleActive();
+        var byBytes = Comparator.comparingLong(
+                (Map.Entry<String, DiskUsage> e) -> e.getValue().bytes()
+        ).reversed();
+        var top = consumers.entrySet()
+                .stream()
+                .filter(e -> e.getValue().bytes() > 0)
+                .sorted(byBytes.thenComparing(comparingByKey()))
+                .limit(limit)
+                .map(e -> format(Locale.ROOT, "  `%s`: %s", e.getKey(), e.getValue()))
+                .collect(joining(lineSeparator()));
+        if (top.isEmpty()) {
+            return "";
+        }
+        return "Top consumers of temporary directories:" + lineSeparator() + top;
+    }
+
+    /**
+     * Logs the {@linkplain #report(int) report} with the number of consumers
+     * configured via the {@linkplain #REPORT_SIZE_PROPERTY system property}.
+     */
+    void logReport() {
+        var limit = reportSize();
+        if (limit == 0) {
+            return;
+        }
+        var report = report(limit);
+        if (!report.isEmpty()) {
+            logger.atInfo().log(() -> report);
+        }
+    }
+
+    @SuppressWarnings("AccessOfSystemProperties")
+    private static int reportSize() {
+        var value = System.getProperty(REPORT_SIZE_PROPERTY);
+        if (value == null) {
+            return DEFAULT_REPORT_SIZE;
+        }
+        try {
+            return Math.max(0, Integer.parseInt(value.trim()));
+        } catch (NumberFormatException ignored) {
+            return DEFAULT_REPORT_SIZE;
+        }
+    }
+
+    /**
+     * The usage of a released directory.
+     */
+    static final class Release {
+
+        private final Path directory;
+        private final Allocation allocation;
+        private final DiskUsage usage;
+
+        private Release(Path directory, Allocation allocation, DiskUsage usage) {
+            this.directory = directory;
+            this.allocation = allocation;
+            this.usage = usage;
+        }
+
+        /**
+         * Obtains the usage of the directory at the moment of the release.
+         */
+        DiskUsage usage() {
+            return usage;
+        }
+
+        /**
+         * Ensures the directory did not exceed its quota.
+         *
+         * @throws AssertionError
+         *          if the directory contained more bytes than its quota allows
+         */
+        void checkQuota() {
+            if (usage.exceeds(allocation.quota)) {
+                fail(format(Locale.ROOT,
+                            "The directory `%s` of `%s` exceeds its quota of %,d bytes: %s.",
+                            directory, allocation.owner, allocation.quota, usage));
+            }
+        }
+    }
+
+    /**
+     * The owner and the quota of an accounted directory.
+     */
+    private static final class Allocation {
+
+        private final String owner;
+        private final long quota;
+
+        private Allocation(String owner, long quota) {
+            this.owner = owner;
+            this.quota = quota;
+        }
+    }
+}
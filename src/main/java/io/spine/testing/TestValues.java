@@ -26,15 +26,23 @@
 
 package io.spine.testing;
 
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.Message;
 import com.google.protobuf.StringValue;
+import io.spine.testing.random.MessageGenerator;
+import io.spine.testing.random.RandomStrings;
+import io.spine.testing.random.TestRandom;
 
 import java.util.UUID;
-import java.util.concurrent.ThreadLocalRandom;
 
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
  * Utility factories for test values.
+ *
+ * <p>The random values are drawn from the {@linkplain TestRandom#current() current random
+ * source}. Therefore, they are reproducible in the tests marked as
+ * {@link io.spine.testing.random.Seeded Seeded}.
  */
 public final class TestValues {
 
@@ -42,17 +50,24 @@ public final class TestValues {
     private TestValues() {
     }
 
+    /** Generates messages drawing values from the current random source. */
+    private static final MessageGenerator messages = MessageGenerator.newBuilder()
+                                                                     .build();
+
     /**
-     * Generates a string value based on {@linkplain java.util.UUID#randomUUID() generated UUID}.
+     * Generates a random string in the format of a {@linkplain UUID#randomUUID() version 4 UUID}.
+     *
+     * <p>Unlike {@link UUID#randomUUID()}, the method does not use the shared
+     * {@link java.security.SecureRandom}, and therefore does not contend when
+     * called from parallel tests. The generated values are not suitable for security purposes.
      */
     public static String randomString() {
-        return UUID.randomUUID()
-                   .toString();
+        return RandomStrings.uuid(TestRandom.current());
     }
 
     /**
-     * Creates a random string based on {@linkplain java.util.UUID#randomUUID() generated UUID}
-     * and the given prefix.
+     * Creates a random string in the format of a {@linkplain #randomString() UUID}
+     * with the given prefix.
      */
     public static String randomString(String prefix) {
         checkNotNull(prefix);
@@ -60,7 +75,50 @@ public final class TestValues {
     }
 
     /**
-     * Generates a {@code StringValue} with generated UUID.
+     * Generates a random identifier of 22 alphanumeric characters.
+     *
+     * @see RandomStrings#id(java.util.random.RandomGenerator)
+     */
+    public static String randomId() {
+        return RandomStrings.id(TestRandom.current());
+    }
+
+    /**
+     * Fills the passed array with {@linkplain #randomString() random UUID strings}.
+     *
+     * @param target
+     *         the array to fill
+     * @return the passed array
+     */
+    @CanIgnoreReturnValue
+    public static String[] fillWithRandomStrings(String[] target) {
+        checkNotNull(target);
+        var random = TestRandom.current();
+        for (var i = 0; i < target.length; i++) {
+            target[i] = RandomStrings.uuid(random);
+        }
+        return target;
+    }
+
+    /**
+     * Fills the passed array with {@linkplain #randomId() random identifiers}.
+     *
+     * @param target
+     *         the array to fill
+     * @return the passed array
+     */
+    @CanIgnoreReturnValue
+    public static String[] fillWithRandomIds(String[] target) {
+        checkNotNull(target);
+        var random = TestRandom.current();
+        for (var i = 0; i < target.length; i++) {
+            target[i] = RandomStrings.id(random);
+        }
+        return target;
+    }
+
+    /**
+     * Generates a {@code StringValue} with a {@linkplain #randomString() random UUID string}.
      */
     public static StringValue newUuidValue() {
         var id = randomString();
@@ -69,6 +127,16 @@ public final class TestValues {
                 .build();
     }
 
+    /**
+     * Generates a message of the given type with random values of all the fields.
+     *
+     * @see MessageGenerator
+     */
+    public static <M extends Message> M randomMessage(Class<M> type) {
+        checkNotNull(type);
+        return messages.next(type);
+    }
+
     /**
      * Generates a random integer in the range [0, max).
      */
@@ -80,7 +148,7 @@ public final class TestValues {
      * Generates a random integer in the range [min, max).
      */
     public static int random(int min, int max) {
-        var randomNum = ThreadLocalRandom.current().nextInt(min, max);
+        var randomNum = TestRandom.current().nextInt(min, max);
         return randomNum;
     }
 
@@ -88,7 +156,7 @@ public final class TestValues {
      * Generates a random long value in the range [min, max).
      */
     public static long longRandom(long min, long max) {
-        var randomNum = ThreadLocalRandom.current().nextLong(min, max);
+        var randomNum = TestRandom.current().nextLong(min, max);
         return randomNum;
     }
 
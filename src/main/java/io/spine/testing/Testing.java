@@ -29,6 +29,7 @@ package io.spine.testing;
 import com.google.errorprone.annotations.CanIgnoreReturnValue;
 import io.spine.logging.Logger;
 import io.spine.logging.LoggingFactory;
+import io.spine.testing.concurrent.Stress;
 import kotlin.io.FilesKt;
 
 import java.io.IOException;
@@ -61,26 +62,27 @@ public final class Testing {
      * <p>Some of the coding conventions may encourage throwing {@link AssertionError}
      * to prevent the instantiation of the target class, if it is designed as a utility class.
      * This method catches all the exceptions which may be thrown by the constructor.
+     *
+     * <p>The constructor is expected to be made accessible by the caller, e.g., as done
+     * by {@link ClassMetadata#parameterlessConstructor()}. Otherwise, an attempt to make it
+     * accessible is made. If the constructor is still inaccessible, it is not called.
      */
     @SuppressWarnings("OverlyBroadCatchBlock") // see Javadoc
     static void callConstructor(Constructor<?> constructor) {
-        var accessible = constructor.canAccess(null);
-        if (!accessible) {
-            constructor.setAccessible(true);
+        if (!constructor.canAccess(null) && !constructor.trySetAccessible()) {
+            return;
         }
         try {
             constructor.newInstance();
         } catch (Exception ignored) {
             // Do nothing.
-        } finally {
-            if (!accessible) {
-                constructor.setAccessible(false);
-            }
         }
     }
 
     /**
      * Repeats the passed action the {@code count} number of times.
+     *
+     * @see #repeatConcurrently(int, int, Runnable)
      */
     public static void repeat(int count, Runnable action) {
         checkNotNull(action);
@@ -89,6 +91,30 @@ public final class Testing {
         }
     }
 
+    /**
+     * Repeats the passed action the {@code count} number of times using the given number
+     * of threads, which start the repetitions simultaneously.
+     *
+     * <p>Use this method for revealing race conditions in the code under test.
+     * For more control over the run, and for the latency and throughput figures,
+     * please use {@link Stress}.
+     *
+     * @throws AssertionError
+     *          if any of the repetitions failed; all the failures are attached
+     *          as suppressed exceptions
+     * @see Stress
+     */
+    public static void repeatConcurrently(int count, int threads, Runnable action) {
+        checkNotNull(action);
+        Stress.newBuilder()
+              .setAction(action)
+              .setIterations(count)
+              .setThreads(threads)
+              .build()
+              .run()
+              .assertNoFailures();
+    }
+
     /**
      * Reports that a calling method should never be called by throwing {@link AssertionError}.
      *
@@ -122,9 +148,29 @@ public final class Testing {
      * @see Runtime#addShutdownHook(Thread)
      */
     static void deleteRecursivelyOnShutdownHook(Path directory) {
+        deleteRecursivelyOnShutdownHook(directory, () -> {});
+    }
+
+    /**
+     * Requests removal of the passed directory when the system shuts down, performing
+     * the given action right before the removal.
+     *
+     * <p>The action is performed by the same thread which deletes the directory.
+     * If the action fails, the directory is deleted anyway.
+     *
+     * @see #deleteRecursivelyOnShutdownHook(Path)
+     */
+    static void deleteRecursivelyOnShutdownHook(Path directory, Runnable beforeDeletion) {
         checkNotNull(directory);
+        checkNotNull(beforeDeletion);
         var runtime = Runtime.getRuntime();
-        runtime.addShutdownHook(new Thread(() -> deleteRecursively(directory)));
+        runtime.addShutdownHook(new Thread(() -> {
+            try {
+                beforeDeletion.run();
+            } finally {
+                deleteRecursively(directory);
+            }
+        }));
     }
 
     /**
@@ -166,7 +212,7 @@ public final class Testing {
      * @return {@code true} if the directory was successfully deleted, {@code false} otherwise
      */
     @CanIgnoreReturnValue
-    private static boolean deleteRecursively(Path directory) {
+    static boolean deleteRecursively(Path directory) {
         var success = FilesKt.deleteRecursively(directory.toFile());
         if (!success) {
             logger.atWarning()
@@ -0,0 +1,168 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.concurrent;
+
+import java.util.Date;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A {@link Condition} of a {@link ControlledLock}.
+ *
+ * <p>Under the controlled scheduler, waiting for the condition releases the lock and pauses
+ * the actor until another actor signals the condition. Then the actor competes for the lock
+ * again, as an actor calling {@link ControlledLock#lock()} does.
+ *
+ * <p>The timed waits do not wait under the scheduler: they release the lock, reach
+ * a scheduling point, and reacquire the lock, telling if the condition was signalled
+ * in between. The interruption of a wait is not modelled.
+ *
+ * <p>Outside an {@code Interleavings} run, the condition behaves as a condition of
+ * a {@link java.util.concurrent.locks.ReentrantLock ReentrantLock}.
+ */
+final class ControlledCondition implements Condition {
+
+    private final ControlledLock lock;
+    private final Condition delegate;
+    private final Queue<Waiter> waiters = new ConcurrentLinkedQueue<>();
+
+    ControlledCondition(ControlledLock lock, Condition delegate) {
+        this.lock = lock;
+        this.delegate = delegate;
+    }
+
+    @Override
+    public void await() throws InterruptedException {
+        if (!ControlledRun.isControlled()) {
+            delegate.await();
+            return;
+        }
+        awaitSignal();
+    }
+
+    @Override
+    public void awaitUninterruptibly() {
+        if (!ControlledRun.isControlled()) {
+            delegate.awaitUninterruptibly();
+            return;
+        }
+        awaitSignal();
+    }
+
+    @Override
+    public long awaitNanos(long nanosTimeout) throws InterruptedException {
+        if (!ControlledRun.isControlled()) {
+            return delegate.awaitNanos(nanosTimeout);
+        }
+        return awaitBriefly() ? nanosTimeout : 0L;
+    }
+
+    @Override
+    public boolean await(long time, TimeUnit unit) throws InterruptedException {
+        checkNotNull(unit);
+        if (!ControlledRun.isControlled()) {
+            return delegate.await(time, unit);
+        }
+        return awaitBriefly();
+    }
+
+    @Override
+    public boolean awaitUntil(Date deadline) throws InterruptedException {
+        checkNotNull(deadline);
+        if (!ControlledRun.isControlled()) {
+            return delegate.awaitUntil(deadline);
+        }
+        return awaitBriefly();
+    }
+
+    @Override
+    public void signal() {
+        checkHeld();
+        var waiter = waiters.poll();
+        if (waiter != null) {
+            waiter.signalled = true;
+        } else {
+            delegate.signal();
+        }
+    }
+
+    @Override
+    public void signalAll() {
+        checkHeld();
+        Waiter waiter;
+        while ((waiter = waiters.poll()) != null) {
+            waiter.signalled = true;
+        }
+        delegate.signalAll();
+    }
+
+    /**
+     * Releases the lock and pauses the current actor until the condition is signalled.
+     */
+    private void awaitSignal() {
+        checkHeld();
+        var waiter = new Waiter();
+        waiters.add(waiter);
+        var holds = lock.releaseAll();
+        ControlledRun.awaitSignal(() -> waiter.signalled);
+        lock.reacquire(holds);
+    }
+
+    /**
+     * Releases the lock for one scheduling step and tells if the condition was
+     * signalled in the meantime.
+     */
+    private boolean awaitBriefly() {
+        checkHeld();
+        var waiter = new Waiter();
+        waiters.add(waiter);
+        var holds = lock.releaseAll();
+        ControlledRun.yieldPoint();
+        waiters.remove(waiter);
+        lock.reacquire(holds);
+        return waiter.signalled;
+    }
+
+    private void checkHeld() {
+        if (!lock.isHeldByCurrentThread()) {
+            throw new IllegalMonitorStateException(
+                    "The lock of the condition is not held by the current thread.");
+        }
+    }
+
+    /**
+     * An actor waiting for the condition.
+     */
+    private static final class Waiter {
+
+        private volatile boolean signalled;
+    }
+}
@@ -0,0 +1,145 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.concurrent;
+
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.locks.Condition;
+import java.util.concurrent.locks.Lock;
+import java.util.concurrent.locks.ReentrantLock;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * A reentrant {@link Lock} whose acquisition and release are scheduling points
+ * of {@link Interleavings}.
+ *
+ * <p>Pass this lock to the code under test instead of a {@link ReentrantLock}, so that
+ * the scheduler can switch between the actors when they compete for the lock. An actor
+ * waiting for the lock is not resumed until the lock is released.
+ *
+ * <p>When used outside an {@code Interleavings} run, the lock behaves
+ * as a {@code ReentrantLock}.
+ *
+ * <p>The timeouts and interruption of the lock acquisition are not modelled by
+ * the scheduler: {@link #tryLock(long, TimeUnit)} does not wait, and
+ * {@link #lockInterruptibly()} is not interrupted.
+ *
+ * <p>Waiting for a {@linkplain #newCondition() condition} of the lock releases the lock,
+ * and the waiting actor is not resumed until another actor signals the condition.
+ */
+public final class ControlledLock implements Lock {
+
+    private final ReentrantLock delegate = new ReentrantLock();
+
+    @Override
+    public void lock() {
+        if (!ControlledRun.isControlled()) {
+            delegate.lock();
+            return;
+        }
+        ControlledRun.yieldPoint();
+        while (!delegate.tryLock()) {
+            ControlledRun.awaitRelease(this);
+        }
+    }
+
+    @Override
+    public void lockInterruptibly() throws InterruptedException {
+        if (!ControlledRun.isControlled()) {
+            delegate.lockInterruptibly();
+            return;
+        }
+        lock();
+    }
+
+    @Override
+    public boolean tryLock() {
+        ControlledRun.yieldPoint();
+        return delegate.tryLock();
+    }
+
+    @Override
+    public boolean tryLock(long time, TimeUnit unit) throws InterruptedException {
+        checkNotNull(unit);
+        if (!ControlledRun.isControlled()) {
+            return delegate.tryLock(time, unit);
+        }
+        return tryLock();
+    }
+
+    @Override
+    public void unlock() {
+        delegate.unlock();
+        ControlledRun.yieldPoint();
+    }
+
+    /**
+     * Creates a new condition of this lock, which is waited for and signalled under
+     * the controlled scheduler.
+     */
+    @Override
+    public Condition newCondition() {
+        return new ControlledCondition(this, delegate.newCondition());
+    }
+
+    /**
+     * Tells if the lock is held by the current thread.
+     */
+    public boolean isHeldByCurrentThread() {
+        return delegate.isHeldByCurrentThread();
+    }
+
+    /**
+     * Tells if the lock may be acquired by a waiting actor.
+     */
+    boolean isAvailable() {
+        return !delegate.isLocked();
+    }
+
+    /**
+     * Fully releases the lock held by the current thread.
+     *
+     * @return the number of holds of the lock released
+     */
+    int releaseAll() {
+        var holds = delegate.getHoldCount();
+        for (var i = 0; i < holds; i++) {
+            delegate.unlock();
+        }
+        return holds;
+    }
+
+    /**
+     * Acquires the lock released by {@link #releaseAll()} with the same number of holds.
+     */
+    void reacquire(int holds) {
+        lock();
+        for (var i = 1; i < holds; i++) {
+            delegate.lock();
+        }
+    }
+}
@@ -0,0 +1,398 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.concurrent;
+
+import com.google.common.collect.ImmutableList;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.function.BooleanSupplier;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * A single run of the actors of {@link Interleavings} under the controlled scheduler.
+ *
+ * <p>Each actor runs in its own thread, but only one actor runs at a time. An actor runs
+ * until it reaches a scheduling point, which is a {@linkplain Interleavings#yieldPoint()
+ * yield point}, an operation on a {@link ControlledLock} or its condition, or a task
+ * submitted to the {@linkplain Interleavings#executor() executor}. Then the actor pauses,
+ * and the controlling thread chooses the actor to resume next.
+ */
+final class ControlledRun {
+
+    /** The actor running in the current thread, if any. */
+    private static final ThreadLocal<@Nullable Actor> current = new ThreadLocal<>();
+
+    private final Duration stepTimeout;
+    private final int maxSteps;
+    private final Semaphore controller = new Semaphore(0);
+    private final List<Actor> actors = new CopyOnWriteArrayList<>();
+    private final List<Integer> steps = new ArrayList<>();
+    private volatile boolean aborted;
+    private volatile @Nullable Throwable failure;
+    private volatile @Nullable String failedActor;
+
+    ControlledRun(Duration stepTimeout, int maxSteps) {
+        this.stepTimeout = stepTimeout;
+        this.maxSteps = maxSteps;
+    }
+
+    /**
+     * Tells if the current thread runs an actor under the controlled scheduler.
+     */
+    static boolean isControlled() {
+        return current.get() != null;
+    }
+
+    /**
+     * Pauses the actor running in the current thread until the scheduler resumes it.
+     *
+     * <p>Does nothing if the current thread does not run an actor.
+     */
+    static void yieldPoint() {
+        var actor = current.get();
+        if (actor != null) {
+            actor.run.pause(actor);
+        }
+    }
+
+    /**
+     * Pauses the actor running in the current thread until the passed lock is released,
+     * and the scheduler resumes the actor.
+     */
+    static void awaitRelease(ControlledLock lock) {
+        await(lock::isAvailable, "a lock");
+    }
+
+    /**
+     * Pauses the actor running in the current thread until the passed supplier tells
+     * that the actor is signalled, and the scheduler resumes the actor.
+     */
+    static void awaitSignal(BooleanSupplier signalled) {
+        await(signalled, "a signal");
+    }
+
+    private static void await(BooleanSupplier proceedWhen, String awaited) {
+        var actor = current.get();
+        checkState(actor != null, "The current thread is not controlled by the scheduler.");
+        actor.proceedWhen = proceedWhen;
+        actor.awaited = awaited;
+        try {
+            actor.run.pause(actor);
+        } finally {
+            actor.proceedWhen = null;
+            actor.awaited = null;
+        }
+    }
+
+    /**
+     * Starts a new actor running the passed task in the run of the current actor.
+     *
+     * <p>If the current thread does not run an actor, the task is run in the current thread.
+     */
+    static void spawn(Runnable task) {
+        checkNotNull(task);
+        var actor = current.get();
+        if (actor == null) {
+            task.run();
+            return;
+        }
+        var run = actor.run;
+        run.start(format(Locale.ROOT, "%s/%d", actor.name, run.actors.size()), task);
+        run.pause(actor);
+    }
+
+    /**
+     * Runs the passed actors to completion, resuming them in the order
+     * selected by the passed chooser.
+     */
+    Outcome execute(List<String> names, List<Runnable> actions, Chooser chooser) {
+        try {
+            for (var i = 0; i < actions.size(); i++) {
+                start(names.get(i), actions.get(i));
+            }
+            while (failure == null) {
+                var enabled = enabledActors();
+                if (enabled.isEmpty()) {
+                    if (!allFinished()) {
+                        failure = new AssertionError("Deadlock: " + describeBlocked());
+                    }
+                    break;
+                }
+                if (steps.size() >= maxSteps) {
+                    failure = new AssertionError(format(
+                            Locale.ROOT,
+                            "The actors did not complete within %d steps. Livelock?", maxSteps
+                    ));
+                    break;
+                }
+                var chosen = chooser.choose(enabled);
+                steps.add(chosen);
+                resume(actors.get(chosen));
+            }
+        } finally {
+            abort();
+        }
+        var actorNames = actors.stream()
+                               .map(a -> a.name)
+                               .collect(ImmutableList.toImmutableList());
+        return new Outcome(Schedule.of(steps), actorNames, failure, failedActor);
+    }
+
+    private void start(String name, Runnable action) {
+        var actor = new Actor(this, actors.size(), name, action);
+        actors.add(actor);
+        var thread = new Thread(() -> runActor(actor), "actor-" + name);
+        thread.setDaemon(true);
+        actor.thread = thread;
+        thread.start();
+        if (!acquire(actor.ready)) {
+            throw new IllegalStateException(format(
+                    Locale.ROOT, "The actor `%s` did not start within %s.", name, stepTimeout));
+        }
+    }
+
+    @SuppressWarnings("OverlyBroadCatchBlock") // Any failure of an actor fails the run.
+    private void runActor(Actor actor) {
+        current.set(actor);
+        try {
+            pause(actor);
+            actor.action.run();
+        } catch (Abort ignored) {
+            // The run is over.
+        } catch (Throwable t) {
+            if (failure == null) {
+                failedActor = actor.name;
+                failure = t;
+            }
+        } finally {
+            current.remove();
+            actor.state = State.FINISHED;
+            if (!aborted) {
+                controller.release();
+            }
+        }
+    }
+
+    private void pause(Actor actor) {
+        var starting = actor.state == State.NEW;
+        actor.state = State.WAITING;
+        if (starting) {
+            actor.ready.release();
+        } else {
+            controller.release();
+        }
+        actor.turn.acquireUninterruptibly();
+        if (aborted) {
+            throw new Abort();
+        }
+    }
+
+    private void resume(Actor actor) {
+        actor.state = State.RUNNING;
+        actor.turn.release();
+        if (!acquire(controller)) {
+            failure = new AssertionError(format(
+                    Locale.ROOT,
+                    "The actor `%s` did not reach a scheduling point within %s." +
+                            " It may be blocked outside of the scheduler, e.g., by a lock" +
+                            " which is not a `%s`.",
+                    actor.name, stepTimeout, ControlledLock.class.getSimpleName()
+            ));
+        }
+    }
+
+    private boolean acquire(Semaphore semaphore) {
+        try {
+            return semaphore.tryAcquire(stepTimeout.toNanos(), TimeUnit.NANOSECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new IllegalStateException("Interrupted while waiting for an actor.", e);
+        }
+    }
+
+    private List<Integer> enabledActors() {
+        var result = new ArrayList<Integer>();
+        for (var actor : actors) {
+            if (actor.state == State.WAITING && actor.mayProceed()) {
+                result.add(actor.index);
+            }
+        }
+        return result;
+    }
+
+    private boolean allFinished() {
+        return actors.stream()
+                     .allMatch(actor -> actor.state == State.FINISHED);
+    }
+
+    private String describeBlocked() {
+        return actors.stream()
+                     .filter(actor -> actor.state != State.FINISHED)
+                     .map(actor -> format(
+                             Locale.ROOT, "`%s` waits for %s", actor.name, actor.awaited))
+                     .collect(joining(", ", "", "."));
+    }
+
+    /**
+     * Releases all the paused actors, making them stop, and waits for their threads
+     * to terminate.
+     */
+    private void abort() {
+        aborted = true;
+        for (var actor : actors) {
+            actor.turn.release();
+        }
+        for (var actor : actors) {
+            var thread = actor.thread;
+            if (thread == null) {
+                continue;
+            }
+            try {
+                thread.join(stepTimeout.toMillis());
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                return;
+            }
+        }
+    }
+
+    /**
+     * Selects the actor to resume.
+     */
+    @FunctionalInterface
+    interface Chooser {
+
+        /**
+         * Selects one of the actors which are able to proceed.
+         *
+         * @param enabled
+         *         the indices of the actors able to proceed, in the ascending order;
+         *         never empty
+         * @return the index of the actor to resume
+         */
+        int choose(List<Integer> enabled);
+    }
+
+    /**
+     * The schedule of a completed run, and the failure of the run, if any.
+     */
+    static final class Outcome {
+
+        private final Schedule schedule;
+        private final ImmutableList<String> actors;
+        private final @Nullable Throwable failure;
+        private final @Nullable String failedActor;
+
+        private Outcome(Schedule schedule,
+                        ImmutableList<String> actors,
+                        @Nullable Throwable failure,
+                        @Nullable String failedActor) {
+            this.schedule = schedule;
+            this.actors = actors;
+            this.failure = failure;
+            this.failedActor = failedActor;
+        }
+
+        Schedule schedule() {
+            return schedule;
+        }
+
+        ImmutableList<String> actors() {
+            return actors;
+        }
+
+        @Nullable Throwable failure() {
+            return failure;
+        }
+
+        @Nullable String failedActor() {
+            return failedActor;
+        }
+    }
+
+    /**
+     * The state of an actor.
+     */
+    private enum State {
+        NEW,
+        WAITING,
+        RUNNING,
+        FINISHED
+    }
+
+    /**
+     * A thread of the run.
+     */
+    private static final class Actor {
+
+        private final ControlledRun run;
+        private final int index;
+        private final String name;
+        private final Runnable action;
+        private final Semaphore ready = new Semaphore(0);
+        private final Semaphore turn = new Semaphore(0);
+        private volatile State state = State.NEW;
+        private volatile @Nullable BooleanSupplier proceedWhen;
+        private volatile @Nullable String awaited;
+        private volatile @Nullable Thread thread;
+
+        private Actor(ControlledRun run, int index, String name, Runnable action) {
+            this.run = run;
+            this.index = index;
+            this.name = name;
+            this.action = action;
+        }
+
+        private boolean mayProceed() {
+            var condition = proceedWhen;
+            return condition == null || condition.getAsBoolean();
+        }
+    }
+
+    /**
+     * Stops an actor when the run is aborted.
+     */
+    private static final class Abort extends Error {
+
+        private static final long serialVersionUID = 0L;
+
+        private Abort() {
+            super(null, null, false, false);
+        }
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.concurrent;
+
+import com.google.common.collect.ImmutableList;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Locale;
+
+import static java.lang.String.format;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * The outcome of exploring {@link Interleavings}.
+ */
+public final class InterleavingReport {
+
+    private final int schedules;
+    private final boolean exhausted;
+    private final long seed;
+    private final @Nullable Failure failure;
+
+    private InterleavingReport(int schedules,
+                               boolean exhausted,
+                               long seed,
+                               @Nullable Failure failure) {
+        this.schedules = schedules;
+        this.exhausted = exhausted;
+        this.seed = seed;
+        this.failure = failure;
+    }
+
+    static InterleavingReport passed(int schedules, boolean exhausted, long seed) {
+        return new InterleavingReport(schedules, exhausted, seed, null);
+    }
+
+    static InterleavingReport failed(int schedules, long seed, ControlledRun.Outcome outcome,
+                                     Throwable cause) {
+        var failure = new Failure(outcome.schedule(), outcome.actors(),
+                                  outcome.failedActor(), cause);
+        return new InterleavingReport(schedules, false, seed, failure);
+    }
+
+    /**
+     * Obtains the number of explored schedules, including the failing one.
+     */
+    public int schedules() {
+        return schedules;
+    }
+
+    /**
+     * Tells if all the possible schedules were
+     * {@linkplain Interleavings.Strategy#EXHAUSTIVE explored} without a failure.
+     */
+    public boolean isExhausted() {
+        return exhausted;
+    }
+
+    /**
+     * Obtains the seed of the {@linkplain Interleavings.Strategy#RANDOM random} exploration.
+     */
+    public long seed() {
+        return seed;
+    }
+
+    /**
+     * Obtains the schedule which failed, or {@code null} if all the schedules passed.
+     */
+    public @Nullable Schedule failingSchedule() {
+        return failure == null ? null : failure.schedule;
+    }
+
+    /**
+     * Obtains the failure of the failing schedule, or {@code null} if all
+     * the schedules passed.
+     */
+    public @Nullable Throwable failure() {
+        return failure == null ? null : failure.cause;
+    }
+
+    /**
+     * Asserts that all the explored schedules passed.
+     *
+     * @throws AssertionError
+     *          if a schedule failed; the failure of the schedule is the cause of the error
+     */
+    public void assertNoFailures() {
+        if (failure == null) {
+            return;
+        }
+        var message = format(
+                Locale.ROOT,
+                "The schedule `%s` failed after %d explored schedules (seed: %d)%s: %s%n"
+                        + "  Steps: %s.%n"
+                        + "  Replay with `setReplay(Schedule.parse(\"%s\"))`.",
+                failure.schedule, schedules, seed, failure.actorClause(),
+                failure.cause, failure.steps(), failure.schedule
+        );
+        throw new AssertionError(message, failure.cause);
+    }
+
+    @Override
+    public String toString() {
+        if (failure == null) {
+            return format(Locale.ROOT, "%d schedules passed%s",
+                          schedules, exhausted ? ", all explored" : "");
+        }
+        return format(Locale.ROOT, "The schedule `%s` failed, %d schedules explored",
+                      failure.schedule, schedules);
+    }
+
+    /**
+     * The failing schedule, its actors, and the failure.
+     */
+    private static final class Failure {
+
+        private final Schedule schedule;
+        private final ImmutableList<String> actors;
+        private final @Nullable String actor;
+        private final Throwable cause;
+
+        private Failure(Schedule schedule,
+                        ImmutableList<String> actors,
+                        @Nullable String actor,
+                        Throwable cause) {
+            this.schedule = schedule;
+            this.actors = actors;
+            this.actor = actor;
+            this.cause = cause;
+        }
+
+        private String actorClause() {
+            return actor == null ? "" : format(Locale.ROOT, " in the actor `%s`", actor);
+        }
+
+        private String steps() {
+            return schedule.steps()
+                           .stream()
+                           .map(actors::get)
+                           .collect(joining(" -> "));
+        }
+    }
+}
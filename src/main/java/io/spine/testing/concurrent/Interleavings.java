@@ -0,0 +1,500 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.concurrent;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import io.spine.testing.random.TestRandom;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.Executor;
+import java.util.random.RandomGenerator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+
+/**
+ * Runs several actors concurrently under a controlled scheduler, exploring the orders
+ * in which their steps interleave.
+ *
+ * <p>Unlike {@link Stress}, which relies on the OS scheduler to produce a rare
+ * interleaving, this class lets only one actor run at a time and switches between
+ * the actors at scheduling points:
+ * <ul>
+ *     <li>explicit {@linkplain #yieldPoint() yield points}, e.g., around accesses to
+ *         {@code volatile} fields or atomics;
+ *     <li>acquisition and release of a {@link ControlledLock}, and waiting for
+ *         its {@linkplain ControlledLock#newCondition() condition};
+ *     <li>submission of a task to the {@linkplain #executor() executor}, which runs
+ *         the task as a new actor.
+ * </ul>
+ * Each run of the actors follows a {@link Schedule}. The schedules are explored
+ * {@linkplain Strategy#RANDOM randomly} with a seed, or
+ * {@linkplain Strategy#EXHAUSTIVE systematically}. A failing schedule can be
+ * {@linkplain Builder#setReplay(Schedule) replayed} step by step.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * Interleavings.newBuilder()
+ *         .setUp(() -> counter = new Counter())
+ *         .addActor("first", () -> counter.increment())
+ *         .addActor("second", () -> counter.increment())
+ *         .setInvariant(() -> assertThat(counter.value()).isEqualTo(2))
+ *         .setStrategy(Interleavings.Strategy.EXHAUSTIVE)
+ *         .build()
+ *         .explore()
+ *         .assertNoFailures();
+ * }</pre>
+ * where {@code Counter.increment()} calls {@code Interleavings.yieldPoint()} between
+ * reading and writing its value.
+ *
+ * <p>The scheduling points are no-op outside the threads of the actors. So, they may be
+ * left in the production code, or injected via test doubles.
+ *
+ * <p>An actor may only block at scheduling points. If it blocks elsewhere, e.g., on
+ * a {@code synchronized} block held by a paused actor, the run fails after
+ * the {@linkplain Builder#setStepTimeout(Duration) step timeout}.
+ */
+public final class Interleavings {
+
+    private static final int DEFAULT_SCHEDULES = 1_000;
+    private static final int DEFAULT_MAX_STEPS = 10_000;
+    private static final Duration DEFAULT_STEP_TIMEOUT = Duration.ofSeconds(10);
+
+    private static final Executor executor = ControlledRun::spawn;
+
+    private final List<String> names;
+    private final List<Runnable> actions;
+    private final Runnable setUp;
+    private final Runnable invariant;
+    private final Strategy strategy;
+    private final int schedules;
+    private final long seed;
+    private final @Nullable Schedule replay;
+    private final int maxSteps;
+    private final Duration stepTimeout;
+
+    private Interleavings(Builder builder) {
+        checkState(!builder.actions.isEmpty(), "At least one actor must be added.");
+        this.names = List.copyOf(builder.names);
+        this.actions = List.copyOf(builder.actions);
+        this.setUp = builder.setUp;
+        this.invariant = builder.invariant;
+        this.strategy = builder.strategy;
+        this.schedules = builder.schedules;
+        this.seed = builder.seed != null
+                    ? builder.seed
+                    : TestRandom.current().nextLong();
+        this.replay = builder.replay;
+        this.maxSteps = builder.maxSteps;
+        this.stepTimeout = builder.stepTimeout;
+    }
+
+    /**
+     * Creates a new builder of the instances.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Pauses the current actor, letting the scheduler resume any actor.
+     *
+     * <p>Does nothing if the current thread is not an actor of an {@code Interleavings} run.
+     */
+    public static void yieldPoint() {
+        ControlledRun.yieldPoint();
+    }
+
+    /**
+     * Obtains the executor which runs the submitted tasks as new actors of the current run.
+     *
+     * <p>The submission is a scheduling point, so the new actor may run before the one
+     * which submitted the task. When used outside an {@code Interleavings} run,
+     * the executor runs the tasks in the calling thread.
+     */
+    public static Executor executor() {
+        return executor;
+    }
+
+    /**
+     * Runs the actors under the schedules selected by the strategy, until a schedule fails,
+     * or the number of schedules is reached.
+     *
+     * <p>Before each schedule, the {@linkplain Builder#setUp(Runnable) set-up action} is run.
+     * After all the actors complete, the {@linkplain Builder#setInvariant(Runnable)
+     * invariant} is checked.
+     *
+     * @return the report on the exploration
+     * @throws IllegalStateException
+     *          if the actors do not behave deterministically, so that a schedule
+     *          cannot be followed
+     */
+    public InterleavingReport explore() {
+        var chooser = newChooser();
+        var exhaustive = replay == null && strategy == Strategy.EXHAUSTIVE;
+        var explored = 0;
+        while (explored < schedules) {
+            explored++;
+            setUp.run();
+            var run = new ControlledRun(stepTimeout, maxSteps);
+            var outcome = run.execute(names, actions, chooser.forSchedule(explored - 1));
+            var failure = outcome.failure();
+            if (failure == null) {
+                failure = checkInvariant();
+            }
+            if (failure != null) {
+                return InterleavingReport.failed(explored, seed, outcome, failure);
+            }
+            if (!chooser.hasNext()) {
+                return InterleavingReport.passed(explored, exhaustive, seed);
+            }
+        }
+        return InterleavingReport.passed(explored, false, seed);
+    }
+
+    @SuppressWarnings("OverlyBroadCatchBlock") // Any failure breaks the invariant.
+    private @Nullable Throwable checkInvariant() {
+        try {
+            invariant.run();
+            return null;
+        } catch (Throwable t) {
+            return t;
+        }
+    }
+
+    private Exploration newChooser() {
+        if (replay != null) {
+            return new Replay(replay);
+        }
+        return strategy == Strategy.RANDOM
+               ? new RandomExploration(seed)
+               : new DepthFirstExploration();
+    }
+
+    /**
+     * The strategy of selecting the schedules to explore.
+     */
+    public enum Strategy {
+
+        /**
+         * At each scheduling point, an actor is selected at random.
+         *
+         * <p>The choices are derived from the {@linkplain Builder#setSeed(long) seed}, so
+         * the exploration is reproducible.
+         */
+        RANDOM,
+
+        /**
+         * The schedules are explored in the depth-first order, so that each possible
+         * schedule is run once.
+         *
+         * <p>The number of schedules grows exponentially with the number of scheduling
+         * points. Use this strategy for small scenarios, and limit the exploration
+         * via {@link Builder#setSchedules(int)}.
+         */
+        EXHAUSTIVE
+    }
+
+    /**
+     * Creates a chooser for each schedule of the exploration.
+     */
+    private interface Exploration {
+
+        /**
+         * Creates a chooser for the schedule with the given index.
+         */
+        ControlledRun.Chooser forSchedule(int index);
+
+        /**
+         * Tells if there are more schedules to explore after the last one.
+         */
+        boolean hasNext();
+    }
+
+    /**
+     * Selects actors at random.
+     */
+    private static final class RandomExploration implements Exploration {
+
+        private final long seed;
+
+        private RandomExploration(long seed) {
+            this.seed = seed;
+        }
+
+        @Override
+        public ControlledRun.Chooser forSchedule(int index) {
+            RandomGenerator random = TestRandom.forIndex(seed, index);
+            return enabled -> enabled.get(random.nextInt(enabled.size()));
+        }
+
+        @Override
+        public boolean hasNext() {
+            return true;
+        }
+    }
+
+    /**
+     * Explores the schedules in the depth-first order.
+     *
+     * <p>For each step of the last schedule, the exploration remembers the position of
+     * the selected actor among the enabled ones, and the number of the enabled actors.
+     * The next schedule repeats the last one up to the deepest step which has
+     * an unexplored alternative, and selects the next alternative at that step.
+     */
+    private static final class DepthFirstExploration implements Exploration {
+
+        private final List<Integer> positions = new ArrayList<>();
+        private final List<Integer> widths = new ArrayList<>();
+        private int step;
+
+        @Override
+        public ControlledRun.Chooser forSchedule(int index) {
+            step = 0;
+            return this::choose;
+        }
+
+        private int choose(List<Integer> enabled) {
+            int position;
+            if (step < positions.size()) {
+                position = positions.get(step);
+                checkState(position < enabled.size(),
+                           "The actors are not deterministic: only %s actors are enabled" +
+                                   " at the step %s, which had more of them before.",
+                           enabled.size(), step);
+                widths.set(step, enabled.size());
+            } else {
+                position = 0;
+                positions.add(position);
+                widths.add(enabled.size());
+            }
+            step++;
+            return enabled.get(position);
+        }
+
+        @Override
+        public boolean hasNext() {
+            truncate(step);
+            for (var i = positions.size() - 1; i >= 0; i--) {
+                var next = positions.get(i) + 1;
+                if (next < widths.get(i)) {
+                    positions.set(i, next);
+                    truncate(i + 1);
+                    return true;
+                }
+            }
+            return false;
+        }
+
+        private void truncate(int size) {
+            positions.subList(size, positions.size()).clear();
+            widths.subList(size, widths.size()).clear();
+        }
+    }
+
+    /**
+     * Follows the given schedule, then selects the first enabled actor
+     * if the schedule is over.
+     */
+    private static final class Replay implements Exploration {
+
+        private final Schedule schedule;
+
+        private Replay(Schedule schedule) {
+            this.schedule = schedule;
+        }
+
+        @Override
+        public ControlledRun.Chooser forSchedule(int index) {
+            var steps = schedule.steps().iterator();
+            var step = new int[1];
+            return enabled -> {
+                var current = step[0]++;
+                if (!steps.hasNext()) {
+                    return enabled.get(0);
+                }
+                var actor = steps.next();
+                checkState(enabled.contains(actor),
+                           "The schedule `%s` cannot be replayed: the actor #%s cannot run" +
+                                   " at the step %s.",
+                           schedule, actor, current);
+                return actor;
+            };
+        }
+
+        @Override
+        public boolean hasNext() {
+            return false;
+        }
+    }
+
+    /**
+     * A builder for {@code Interleavings} instances.
+     */
+    public static final class Builder {
+
+        private final List<String> names = new ArrayList<>();
+        private final List<Runnable> actions = new ArrayList<>();
+        private Runnable setUp = () -> {};
+        private Runnable invariant = () -> {};
+        private Strategy strategy = Strategy.RANDOM;
+        private int schedules = DEFAULT_SCHEDULES;
+        private @Nullable Long seed;
+        private @Nullable Schedule replay;
+        private int maxSteps = DEFAULT_MAX_STEPS;
+        private Duration stepTimeout = DEFAULT_STEP_TIMEOUT;
+
+        /** Prevents direct instantiation. */
+        private Builder() {
+        }
+
+        /**
+         * Adds an actor which runs the given action in its own thread.
+         *
+         * <p>The actors are indexed in the order of their addition.
+         */
+        @CanIgnoreReturnValue
+        public Builder addActor(String name, Runnable action) {
+            checkNotNull(name);
+            checkNotNull(action);
+            names.add(name);
+            actions.add(action);
+            return this;
+        }
+
+        /**
+         * Sets the action which prepares the state shared by the actors
+         * before each schedule.
+         */
+        @CanIgnoreReturnValue
+        public Builder setUp(Runnable setUp) {
+            this.setUp = checkNotNull(setUp);
+            return this;
+        }
+
+        /**
+         * Sets the check performed after all the actors of a schedule complete.
+         *
+         * <p>The schedule fails if the check throws.
+         */
+        @CanIgnoreReturnValue
+        public Builder setInvariant(Runnable invariant) {
+            this.invariant = checkNotNull(invariant);
+            return this;
+        }
+
+        /**
+         * Sets the strategy of selecting the schedules.
+         *
+         * <p>The default strategy is {@link Strategy#RANDOM}.
+         */
+        @CanIgnoreReturnValue
+        public Builder setStrategy(Strategy strategy) {
+            this.strategy = checkNotNull(strategy);
+            return this;
+        }
+
+        /**
+         * Sets the maximal number of schedules to explore.
+         *
+         * <p>The default value is 1000.
+         */
+        @CanIgnoreReturnValue
+        public Builder setSchedules(int schedules) {
+            checkArgument(schedules > 0,
+                          "The number of schedules must be positive: %s.", schedules);
+            this.schedules = schedules;
+            return this;
+        }
+
+        /**
+         * Sets the seed of the {@linkplain Strategy#RANDOM random} exploration.
+         *
+         * <p>If not set, the seed is drawn from the {@linkplain TestRandom#current()
+         * current random source}, so it is reproducible in
+         * {@link io.spine.testing.random.Seeded Seeded} tests.
+         */
+        @CanIgnoreReturnValue
+        public Builder setSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Makes the exploration run only the given schedule, e.g., the one reported
+         * by a failed exploration.
+         *
+         * <p>The strategy and the number of schedules are ignored when replaying.
+         */
+        @CanIgnoreReturnValue
+        public Builder setReplay(Schedule schedule) {
+            this.replay = checkNotNull(schedule);
+            return this;
+        }
+
+        /**
+         * Sets the maximal number of scheduling points in a single schedule.
+         *
+         * <p>A schedule which is longer fails, as the actors are likely to spin
+         * waiting for each other. The default value is 10,000.
+         */
+        @CanIgnoreReturnValue
+        public Builder setMaxSteps(int maxSteps) {
+            checkArgument(maxSteps > 0, "The number of steps must be positive: %s.", maxSteps);
+            this.maxSteps = maxSteps;
+            return this;
+        }
+
+        /**
+         * Sets the time within which a resumed actor must reach the next scheduling point.
+         *
+         * <p>The default value is ten seconds.
+         */
+        @CanIgnoreReturnValue
+        public Builder setStepTimeout(Duration stepTimeout) {
+            checkNotNull(stepTimeout);
+            checkArgument(!stepTimeout.isNegative() && !stepTimeout.isZero(),
+                          "The step timeout must be positive: %s.", stepTimeout);
+            this.stepTimeout = stepTimeout;
+            return this;
+        }
+
+        /**
+         * Creates a new instance with the configured parameters.
+         *
+         * @throws IllegalStateException
+         *          if no actors were added
+         */
+        public Interleavings build() {
+            return new Interleavings(this);
+        }
+    }
+}
@@ -0,0 +1,134 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.concurrent;
+
+import com.google.common.base.Splitter;
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Immutable;
+import org.jspecify.annotations.Nullable;
+
+import java.util.List;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * The order in which the actors of an {@link Interleavings} run took their steps.
+ *
+ * <p>A schedule is a sequence of actor indices. The actors added to the builder are indexed
+ * in the order of their addition, and the actors {@linkplain Interleavings#executor()
+ * spawned} during the run follow them in the order of spawning. Each element of
+ * the sequence tells which actor was resumed at the next scheduling point.
+ *
+ * <p>The {@linkplain #toString() string form} of a schedule is the dot-separated list of
+ * indices, e.g., {@code 0.1.1.0}. It is reported when a schedule fails, and can be
+ * {@linkplain #parse(String) parsed} for {@linkplain Interleavings.Builder#setReplay(Schedule)
+ * replaying} the failure.
+ */
+@Immutable
+public final class Schedule {
+
+    private static final char SEPARATOR = '.';
+    private static final Splitter splitter = Splitter.on(SEPARATOR).trimResults();
+
+    private final ImmutableList<Integer> steps;
+
+    private Schedule(ImmutableList<Integer> steps) {
+        this.steps = steps;
+    }
+
+    /**
+     * Creates a schedule with the given actor indices.
+     */
+    static Schedule of(List<Integer> steps) {
+        return new Schedule(ImmutableList.copyOf(steps));
+    }
+
+    /**
+     * Parses the {@linkplain #toString() string form} of a schedule.
+     *
+     * @throws IllegalArgumentException
+     *          if the passed value is not a dot-separated list of non-negative numbers
+     */
+    public static Schedule parse(String value) {
+        checkNotNull(value);
+        if (value.isBlank()) {
+            return new Schedule(ImmutableList.of());
+        }
+        var steps = ImmutableList.<Integer>builder();
+        for (var step : splitter.split(value)) {
+            int actor;
+            try {
+                actor = Integer.parseInt(step);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Malformed schedule: `" + value + "`.", e);
+            }
+            checkArgument(actor >= 0, "Malformed schedule: `%s`.", value);
+            steps.add(actor);
+        }
+        return new Schedule(steps.build());
+    }
+
+    /**
+     * Obtains the indices of the actors in the order in which they were resumed.
+     */
+    public ImmutableList<Integer> steps() {
+        return steps;
+    }
+
+    /**
+     * Obtains the number of steps in the schedule.
+     */
+    public int size() {
+        return steps.size();
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Schedule)) {
+            return false;
+        }
+        var other = (Schedule) o;
+        return steps.equals(other.steps);
+    }
+
+    @Override
+    public int hashCode() {
+        return steps.hashCode();
+    }
+
+    @Override
+    public String toString() {
+        return steps.stream()
+                    .map(String::valueOf)
+                    .collect(joining(String.valueOf(SEPARATOR)));
+    }
+}
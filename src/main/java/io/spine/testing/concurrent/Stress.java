@@ -0,0 +1,285 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.concurrent;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadFactory;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static java.lang.String.format;
+
+/**
+ * Runs an action the given number of times across several threads.
+ *
+ * <p>Unlike {@link io.spine.testing.Testing#repeat(int, Runnable) Testing.repeat()}, which
+ * runs the action sequentially, this class makes the repetitions compete with each other
+ * in order to reveal race conditions in the code under test:
+ * <ul>
+ *     <li>all the threads are started before the first repetition and are released
+ *         simultaneously by a start barrier;
+ *     <li>the repetitions are claimed by the threads one by one, so that faster threads
+ *         do not wait for slower ones;
+ *     <li>a failed repetition does not stop the others, so that all the failures
+ *         are {@linkplain StressReport#failures() collected}.
+ * </ul>
+ *
+ * <p>Example:
+ * <pre>{@code
+ * var report = Stress.newBuilder()
+ *         .setAction(() -> repository.store(newAggregate()))
+ *         .setIterations(10_000)
+ *         .setThreads(16)
+ *         .build()
+ *         .run();
+ * report.assertNoFailures();
+ * }</pre>
+ *
+ * <p>By default, the repetitions are performed by platform daemon threads.
+ * Other threads may be used by passing their factory
+ * via {@link Builder#setThreadFactory(ThreadFactory)}. E.g., tests running on Java 21
+ * or newer may pass {@code Thread.ofVirtual().factory()} to use virtual threads.
+ */
+public final class Stress {
+
+    private static final Duration DEFAULT_TIMEOUT = Duration.ofMinutes(1);
+
+    private final Runnable action;
+    private final int iterations;
+    private final int threads;
+    private final ThreadFactory threadFactory;
+    private final Duration timeout;
+
+    private Stress(Builder builder) {
+        this.action = checkNotNull(builder.action, "The action must be set.");
+        this.iterations = builder.iterations;
+        this.threads = Math.min(builder.threads, builder.iterations);
+        this.threadFactory = builder.threadFactory != null
+                             ? builder.threadFactory
+                             : new DaemonThreads();
+        this.timeout = builder.timeout;
+    }
+
+    /**
+     * Creates a new builder of the instances.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Runs the action, waiting until all the repetitions are completed.
+     *
+     * @return the report on the run
+     * @throws AssertionError
+     *          if the repetitions were not completed within the timeout
+     * @throws IllegalStateException
+     *          if the calling thread is interrupted while waiting for the repetitions
+     */
+    public StressReport run() {
+        var run = new Run();
+        return run.perform();
+    }
+
+    /**
+     * A single run of the stress test.
+     */
+    private final class Run {
+
+        private final CountDownLatch ready = new CountDownLatch(threads);
+        private final CountDownLatch start = new CountDownLatch(1);
+        private final CountDownLatch done = new CountDownLatch(threads);
+        private final AtomicInteger nextIteration = new AtomicInteger();
+        private final long[] latencies = new long[iterations];
+        private final Queue<Throwable> failures = new ConcurrentLinkedQueue<>();
+
+        private StressReport perform() {
+            var workers = new ArrayList<Thread>(threads);
+            for (var i = 0; i < threads; i++) {
+                var worker = threadFactory.newThread(this::work);
+                checkState(worker != null, "The thread factory did not create a thread.");
+                workers.add(worker);
+                worker.start();
+            }
+            try {
+                ready.await();
+                var startedAt = System.nanoTime();
+                start.countDown();
+                var completed = done.await(timeout.toNanos(), TimeUnit.NANOSECONDS);
+                var elapsed = Duration.ofNanos(System.nanoTime() - startedAt);
+                if (!completed) {
+                    workers.forEach(Thread::interrupt);
+                    throw new AssertionError(format(
+                            Locale.ROOT,
+                            "Only %d of %d repetitions were started within %s.",
+                            Math.min(nextIteration.get(), iterations), iterations, timeout
+                    ));
+                }
+                return new StressReport(threads, latencies, failures, elapsed);
+            } catch (InterruptedException e) {
+                workers.forEach(Thread::interrupt);
+                Thread.currentThread().interrupt();
+                throw new IllegalStateException("Interrupted while waiting for repetitions.", e);
+            }
+        }
+
+        @SuppressWarnings("OverlyBroadCatchBlock") // All failures are collected.
+        private void work() {
+            try {
+                ready.countDown();
+                start.await();
+                int i;
+                while ((i = nextIteration.getAndIncrement()) < iterations) {
+                    var before = System.nanoTime();
+                    try {
+                        action.run();
+                    } catch (Throwable t) {
+                        failures.add(t);
+                    }
+                    latencies[i] = System.nanoTime() - before;
+                }
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            } finally {
+                done.countDown();
+            }
+        }
+    }
+
+    /**
+     * Creates daemon threads named after this class.
+     */
+    private static final class DaemonThreads implements ThreadFactory {
+
+        private final AtomicInteger counter = new AtomicInteger();
+
+        @Override
+        public Thread newThread(Runnable r) {
+            var thread = new Thread(r, "stress-" + counter.incrementAndGet());
+            thread.setDaemon(true);
+            return thread;
+        }
+    }
+
+    /**
+     * A builder for {@code Stress} instances.
+     */
+    public static final class Builder {
+
+        private @Nullable Runnable action;
+        private int iterations = 1;
+        private int threads = Runtime.getRuntime().availableProcessors();
+        private @Nullable ThreadFactory threadFactory;
+        private Duration timeout = DEFAULT_TIMEOUT;
+
+        /** Prevents direct instantiation. */
+        private Builder() {
+        }
+
+        /**
+         * Sets the action to repeat.
+         */
+        @CanIgnoreReturnValue
+        public Builder setAction(Runnable action) {
+            this.action = checkNotNull(action);
+            return this;
+        }
+
+        /**
+         * Sets the total number of repetitions of the action.
+         *
+         * <p>The default value is one.
+         */
+        @CanIgnoreReturnValue
+        public Builder setIterations(int iterations) {
+            checkArgument(iterations > 0,
+                          "The number of iterations must be positive: %s.", iterations);
+            this.iterations = iterations;
+            return this;
+        }
+
+        /**
+         * Sets the number of threads performing the repetitions.
+         *
+         * <p>The default value is the number of available processors.
+         * If the number of threads is greater than the number of iterations,
+         * only one thread per iteration is started.
+         */
+        @CanIgnoreReturnValue
+        public Builder setThreads(int threads) {
+            checkArgument(threads > 0, "The number of threads must be positive: %s.", threads);
+            this.threads = threads;
+            return this;
+        }
+
+        /**
+         * Sets the factory of threads performing the repetitions.
+         *
+         * <p>If not set, platform daemon threads are used.
+         */
+        @CanIgnoreReturnValue
+        public Builder setThreadFactory(ThreadFactory threadFactory) {
+            this.threadFactory = checkNotNull(threadFactory);
+            return this;
+        }
+
+        /**
+         * Sets the time to wait for all the repetitions to complete.
+         *
+         * <p>The default value is one minute.
+         */
+        @CanIgnoreReturnValue
+        public Builder setTimeout(Duration timeout) {
+            checkNotNull(timeout);
+            checkArgument(!timeout.isNegative() && !timeout.isZero(),
+                          "The timeout must be positive: %s.", timeout);
+            this.timeout = timeout;
+            return this;
+        }
+
+        /**
+         * Creates a new instance with the configured parameters.
+         *
+         * @throws NullPointerException
+         *          if the action is not set
+         */
+        public Stress build() {
+            return new Stress(this);
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.concurrent;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.testing.perf.LatencyHistogram;
+
+import java.time.Duration;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Locale;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.String.format;
+import static java.util.concurrent.TimeUnit.SECONDS;
+
+/**
+ * The outcome of a {@link Stress} run.
+ */
+public final class StressReport {
+
+    private final int threads;
+    private final long[] latencies;
+    private final ImmutableList<Throwable> failures;
+    private final Duration elapsed;
+
+    StressReport(int threads,
+                 long[] latencies,
+                 Collection<Throwable> failures,
+                 Duration elapsed) {
+        this.threads = threads;
+        this.latencies = latencies;
+        this.failures = ImmutableList.copyOf(failures);
+        this.elapsed = elapsed;
+    }
+
+    /**
+     * Obtains the number of repetitions performed.
+     */
+    public int iterations() {
+        return latencies.length;
+    }
+
+    /**
+     * Obtains the number of threads which performed the repetitions.
+     */
+    public int threads() {
+        return threads;
+    }
+
+    /**
+     * Obtains all the failures thrown by the action, in the order of their occurrence.
+     */
+    public ImmutableList<Throwable> failures() {
+        return failures;
+    }
+
+    /**
+     * Obtains the latency of the repetition with the given index in nanoseconds.
+     *
+     * <p>Repetitions are indexed in the order in which they were claimed by the threads.
+     */
+    public long latencyNanos(int iteration) {
+        checkArgument(iteration >= 0 && iteration < latencies.length,
+                      "The iteration index must be in [0, %s): %s.",
+                      latencies.length, iteration);
+        return latencies[iteration];
+    }
+
+    /**
+     * Obtains the latencies of all the repetitions in nanoseconds.
+     *
+     * @return a copy of the latencies indexed in the order in which
+     *         the repetitions were claimed by the threads
+     */
+    public long[] latenciesNanos() {
+        return Arrays.copyOf(latencies, latencies.length);
+    }
+
+    /**
+     * Obtains the histogram of the latencies of all the repetitions.
+     */
+    public LatencyHistogram latencies() {
+        return LatencyHistogram.of(latencies);
+    }
+
+    /**
+     * Obtains the wall time passed since the threads were released by the start barrier,
+     * until all the repetitions completed.
+     */
+    public Duration elapsed() {
+        return elapsed;
+    }
+
+    /**
+     * Obtains the number of repetitions performed per second.
+     */
+    public double throughput() {
+        var nanos = Math.max(1L, elapsed.toNanos());
+        return latencies.length * (double) SECONDS.toNanos(1) / nanos;
+    }
+
+    /**
+     * Asserts that none of the repetitions failed.
+     *
+     * @throws AssertionError
+     *          if there were failures; all of them are added as suppressed exceptions,
+     *          the first one is also the cause
+     */
+    public void assertNoFailures() {
+        if (failures.isEmpty()) {
+            return;
+        }
+        var message = format(Locale.ROOT,
+                             "%d of %d repetitions failed in %d threads. The first failure: %s",
+                             failures.size(), iterations(), threads, failures.get(0));
+        var error = new AssertionError(message, failures.get(0));
+        failures.forEach(error::addSuppressed);
+        throw error;
+    }
+
+    @Override
+    public String toString() {
+        return format(Locale.ROOT,
+                      "%d repetitions in %d threads took %s (%.1f ops/s), %d failed",
+                      iterations(), threads, elapsed, throughput(), failures.size());
+    }
+}
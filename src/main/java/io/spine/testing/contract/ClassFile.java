@@ -0,0 +1,279 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.contract;
+
+import com.google.common.collect.ImmutableList;
+import org.jspecify.annotations.Nullable;
+
+import java.io.DataInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Locale;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * The declaration of a class read from a class file without loading the class.
+ *
+ * <p>Only the data needed for telling the kind of the class is read: the access flags
+ * of the class, its superclass and interfaces, and the access flags and descriptors
+ * of its fields and methods. The bodies of the methods and other attributes are skipped.
+ *
+ * @see <a href="https://docs.oracle.com/javase/specs/jvms/se17/html/jvms-4.html">
+ *         The class file format</a>
+ */
+final class ClassFile {
+
+    private static final int MAGIC = 0xCAFEBABE;
+
+    private static final int ACC_STATIC = 0x0008;
+    private static final int ACC_INTERFACE = 0x0200;
+    private static final int ACC_ABSTRACT = 0x0400;
+    private static final int ACC_SYNTHETIC = 0x1000;
+    private static final int ACC_ANNOTATION = 0x2000;
+    private static final int ACC_ENUM = 0x4000;
+    private static final int ACC_MODULE = 0x8000;
+
+    private static final String OBJECT = "java.lang.Object";
+    private static final String CONSTRUCTOR = "<init>";
+    private static final String STATIC_INITIALIZER = "<clinit>";
+    private static final String NO_ARGS_CONSTRUCTOR = "()V";
+
+    private final String name;
+    private final @Nullable String superName;
+    private final int access;
+    private final int interfaceCount;
+    private final ImmutableList<MemberInfo> fields;
+    private final ImmutableList<MemberInfo> methods;
+
+    private ClassFile(String name,
+                      @Nullable String superName,
+                      int access,
+                      int interfaceCount,
+                      ImmutableList<MemberInfo> fields,
+                      ImmutableList<MemberInfo> methods) {
+        this.name = name;
+        this.superName = superName;
+        this.access = access;
+        this.interfaceCount = interfaceCount;
+        this.fields = fields;
+        this.methods = methods;
+    }
+
+    /**
+     * Reads the declaration of a class from the passed stream of a class file.
+     *
+     * <p>The stream is not closed by this method.
+     *
+     * @throws IOException
+     *          if the stream cannot be read or does not contain a class file
+     */
+    static ClassFile read(InputStream stream) throws IOException {
+        checkNotNull(stream);
+        var in = new DataInputStream(stream);
+        if (in.readInt() != MAGIC) {
+            throw new IOException("The stream does not contain a class file.");
+        }
+        in.readUnsignedShort(); // The minor version.
+        in.readUnsignedShort(); // The major version.
+        var pool = new ConstantPool(in);
+        var access = in.readUnsignedShort();
+        var name = pool.className(in.readUnsignedShort());
+        var superIndex = in.readUnsignedShort();
+        var superName = superIndex == 0 ? null : pool.className(superIndex);
+        var interfaceCount = in.readUnsignedShort();
+        in.skipNBytes(2L * interfaceCount);
+        var fields = readMembers(in, pool);
+        var methods = readMembers(in, pool);
+        return new ClassFile(name, superName, access, interfaceCount, fields, methods);
+    }
+
+    private static ImmutableList<MemberInfo> readMembers(DataInputStream in, ConstantPool pool)
+            throws IOException {
+        var count = in.readUnsignedShort();
+        var result = ImmutableList.<MemberInfo>builderWithExpectedSize(count);
+        for (var i = 0; i < count; i++) {
+            var access = in.readUnsignedShort();
+            var name = pool.utf8(in.readUnsignedShort());
+            var descriptor = pool.utf8(in.readUnsignedShort());
+            skipAttributes(in);
+            result.add(new MemberInfo(access, name, descriptor));
+        }
+        return result.build();
+    }
+
+    private static void skipAttributes(DataInputStream in) throws IOException {
+        var count = in.readUnsignedShort();
+        for (var i = 0; i < count; i++) {
+            in.readUnsignedShort(); // The name.
+            var length = Integer.toUnsignedLong(in.readInt());
+            in.skipNBytes(length);
+        }
+    }
+
+    /**
+     * Obtains the binary name of the class, e.g., {@code io.spine.Outer$Nested}.
+     */
+    String name() {
+        return name;
+    }
+
+    /**
+     * Tells if the class declares only {@code static} members, and therefore is meant
+     * to be a utility class.
+     *
+     * <p>Such a class is a concrete class directly extending {@code Object} without
+     * interfaces, which declares no instance fields or methods, at least one
+     * {@code static} method, and constructors accepting no parameters.
+     *
+     * <p>The classes without constructors, such as Kotlin file facades, are not
+     * considered, as there is no constructor to check.
+     */
+    boolean hasOnlyStaticMembers() {
+        if (hasFlag(access, ACC_INTERFACE | ACC_ABSTRACT | ACC_SYNTHETIC
+                        | ACC_ANNOTATION | ACC_ENUM | ACC_MODULE)
+                || !OBJECT.equals(superName)
+                || interfaceCount > 0) {
+            return false;
+        }
+        for (var field : fields) {
+            if (!hasFlag(field.access, ACC_STATIC)) {
+                return false;
+            }
+        }
+        var constructors = 0;
+        var staticMethods = 0;
+        for (var method : methods) {
+            if (CONSTRUCTOR.equals(method.name)) {
+                if (!NO_ARGS_CONSTRUCTOR.equals(method.descriptor)) {
+                    return false;
+                }
+                constructors++;
+            } else if (!hasFlag(method.access, ACC_STATIC)) {
+                return false;
+            } else if (!STATIC_INITIALIZER.equals(method.name)
+                    && !hasFlag(method.access, ACC_SYNTHETIC)) {
+                staticMethods++;
+            }
+        }
+        return constructors > 0 && staticMethods > 0;
+    }
+
+    private static boolean hasFlag(int access, int flags) {
+        return (access & flags) != 0;
+    }
+
+    @Override
+    public String toString() {
+        return name;
+    }
+
+    /**
+     * The access flags, the name, and the descriptor of a field or a method.
+     */
+    private static final class MemberInfo {
+
+        private final int access;
+        private final String name;
+        private final String descriptor;
+
+        private MemberInfo(int access, String name, String descriptor) {
+            this.access = access;
+            this.name = name;
+            this.descriptor = descriptor;
+        }
+    }
+
+    /**
+     * The constant pool of a class file, from which only the strings
+     * and the names of classes are retained.
+     */
+    private static final class ConstantPool {
+
+        private static final int UTF8 = 1;
+        private static final int INTEGER = 3;
+        private static final int FLOAT = 4;
+        private static final int LONG = 5;
+        private static final int DOUBLE = 6;
+        private static final int CLASS = 7;
+        private static final int STRING = 8;
+        private static final int FIELD_REF = 9;
+        private static final int METHOD_REF = 10;
+        private static final int INTERFACE_METHOD_REF = 11;
+        private static final int NAME_AND_TYPE = 12;
+        private static final int METHOD_HANDLE = 15;
+        private static final int METHOD_TYPE = 16;
+        private static final int DYNAMIC = 17;
+        private static final int INVOKE_DYNAMIC = 18;
+        private static final int MODULE = 19;
+        private static final int PACKAGE = 20;
+
+        private final @Nullable String[] strings;
+        private final int[] classNames;
+
+        private ConstantPool(DataInputStream in) throws IOException {
+            var count = in.readUnsignedShort();
+            strings = new String[count];
+            classNames = new int[count];
+            for (var i = 1; i < count; i++) {
+                var tag = in.readUnsignedByte();
+                switch (tag) {
+                    case UTF8 -> strings[i] = in.readUTF();
+                    case CLASS -> classNames[i] = in.readUnsignedShort();
+                    case STRING, METHOD_TYPE, MODULE, PACKAGE -> in.skipNBytes(2);
+                    case METHOD_HANDLE -> in.skipNBytes(3);
+                    case INTEGER, FLOAT, FIELD_REF, METHOD_REF, INTERFACE_METHOD_REF,
+                         NAME_AND_TYPE, DYNAMIC, INVOKE_DYNAMIC -> in.skipNBytes(4);
+                    case LONG, DOUBLE -> {
+                        in.skipNBytes(8);
+                        i++; // Takes two entries.
+                    }
+                    default -> throw new IOException(format(
+                            Locale.ROOT,
+                            "Unknown constant pool tag %d at the entry %d.", tag, i
+                    ));
+                }
+            }
+        }
+
+        private String utf8(int index) throws IOException {
+            var value = index > 0 && index < strings.length ? strings[index] : null;
+            if (value == null) {
+                throw new IOException(format(
+                        Locale.ROOT, "No string at the constant pool entry %d.", index
+                ));
+            }
+            return value;
+        }
+
+        private String className(int index) throws IOException {
+            var nameIndex = index > 0 && index < classNames.length ? classNames[index] : 0;
+            return utf8(nameIndex).replace('/', '.');
+        }
+    }
+}
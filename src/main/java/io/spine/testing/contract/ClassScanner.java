@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.contract;
+
+import com.google.common.collect.ImmutableList;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.UncheckedIOException;
+import java.net.JarURLConnection;
+import java.net.URISyntaxException;
+import java.net.URL;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.function.Predicate;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+
+/**
+ * Finds the classes of a package and its subpackages by reading their class files
+ * from the class path.
+ *
+ * <p>The classes are not loaded while scanning. Only the classes which satisfy
+ * the condition on their {@linkplain ClassFile declarations} are loaded afterwards,
+ * which is much cheaper than loading each class of a package.
+ */
+final class ClassScanner {
+
+    private static final String CLASS_FILE_SUFFIX = ".class";
+
+    private final ClassLoader classLoader;
+
+    ClassScanner(ClassLoader classLoader) {
+        this.classLoader = checkNotNull(classLoader);
+    }
+
+    /**
+     * Obtains the declarations of the classes of the given package and its subpackages
+     * which satisfy the given condition.
+     *
+     * <p>The class files are parsed in parallel. The result is ordered by the class names.
+     *
+     * @throws UncheckedIOException
+     *          if the class path cannot be read
+     */
+    ImmutableList<ClassFile> scan(String packageName, Predicate<ClassFile> condition) {
+        checkNotNull(packageName);
+        checkNotNull(condition);
+        var sources = classFiles(packageName);
+        return sources.parallelStream()
+                      .map(ClassScanner::parse)
+                      .filter(condition)
+                      .sorted(Comparator.comparing(ClassFile::name))
+                      .collect(toImmutableList());
+    }
+
+    /**
+     * Loads the class with the given declaration without initializing it.
+     */
+    Class<?> load(ClassFile classFile) {
+        checkNotNull(classFile);
+        try {
+            return Class.forName(classFile.name(), false, classLoader);
+        } catch (ClassNotFoundException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+
+    private List<Source> classFiles(String packageName) {
+        var path = packageName.replace('.', '/');
+        var result = new ArrayList<Source>();
+        try {
+            var roots = classLoader.getResources(path);
+            while (roots.hasMoreElements()) {
+                var root = roots.nextElement();
+                if ("jar".equals(root.getProtocol())) {
+                    addFromJar(root, path, result);
+                } else if ("file".equals(root.getProtocol())) {
+                    addFromDirectory(Path.of(root.toURI()), result);
+                }
+            }
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        } catch (URISyntaxException e) {
+            throw new IllegalStateException(e);
+        }
+        return result;
+    }
+
+    private static void addFromDirectory(Path directory, List<Source> result) throws IOException {
+        try (var files = Files.walk(directory)) {
+            files.filter(file -> file.toString().endsWith(CLASS_FILE_SUFFIX))
+                 .forEach(file -> result.add(() -> Files.newInputStream(file)));
+        }
+    }
+
+    /**
+     * Adds the class files of the package from a JAR.
+     *
+     * <p>The class files are read into memory, so that they are parsed in parallel
+     * after the JAR is closed.
+     */
+    private static void addFromJar(URL root, String path, List<Source> result)
+            throws IOException {
+        var connection = (JarURLConnection) root.openConnection();
+        connection.setUseCaches(false);
+        var prefix = path + '/';
+        try (var jar = connection.getJarFile()) {
+            var entries = jar.stream()
+                             .filter(entry -> entry.getName().startsWith(prefix)
+                                     && entry.getName().endsWith(CLASS_FILE_SUFFIX))
+                             .collect(toImmutableList());
+            for (var entry : entries) {
+                try (var stream = jar.getInputStream(entry)) {
+                    var bytes = stream.readAllBytes();
+                    result.add(() -> new ByteArrayInputStream(bytes));
+                }
+            }
+        }
+    }
+
+    private static ClassFile parse(Source source) {
+        try (var stream = source.open()) {
+            return ClassFile.read(stream);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Opens a stream of a class file.
+     */
+    @FunctionalInterface
+    private interface Source {
+
+        InputStream open() throws IOException;
+    }
+}
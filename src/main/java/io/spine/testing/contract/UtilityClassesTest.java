@@ -0,0 +1,204 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.contract;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.testing.NullPointerTester.Visibility;
+import io.spine.testing.Assertions;
+import io.spine.testing.ParallelNullPointerTester;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.DynamicContainer;
+import org.junit.jupiter.api.DynamicTest;
+import org.junit.jupiter.api.TestFactory;
+import org.junit.jupiter.api.function.Executable;
+
+import java.lang.reflect.Modifier;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CompletionException;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static com.google.common.testing.NullPointerTester.Visibility.PUBLIC;
+import static io.spine.testing.Assertions.assertTrue;
+import static org.junit.jupiter.api.DynamicContainer.dynamicContainer;
+import static org.junit.jupiter.api.DynamicTest.dynamicTest;
+
+/**
+ * Abstract base for test suites checking all the utility classes of a package
+ * and its subpackages.
+ *
+ * <p>A class is considered a utility class if it
+ * {@linkplain ClassFile#hasOnlyStaticMembers() declares only static members}.
+ * The classes are found by reading their class files, so that only the utility
+ * classes are loaded. Each of them is checked the same way as
+ * {@link io.spine.testing.UtilityClassTest UtilityClassTest} does:
+ * <ul>
+ *     <li>the class is {@code final};
+ *     <li>the class has the only constructor, which is {@code private}
+ *         and accepts no parameters;
+ *     <li>the static methods do not accept {@code null} for parameters
+ *         which are not {@code @Nullable}.
+ * </ul>
+ *
+ * <p>The checks of all the classes are started at once and performed in parallel.
+ * Each of them is reported as a separate dynamic test.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * @DisplayName("Utility classes of `io.spine.base` should")
+ * class UtilityClassesSpec extends UtilityClassesTest {
+ *
+ *     UtilityClassesSpec() {
+ *         super("io.spine.base");
+ *     }
+ * }
+ * }</pre>
+ *
+ * <p>This replaces a {@code UtilityClassTest} per class, each of which costs discovery and
+ * instantiation of a test class.
+ */
+public abstract class UtilityClassesTest {
+
+    private final String packageName;
+    private final Visibility minimalStaticMethodVisibility;
+
+    /**
+     * Creates a new test suite for the classes of the passed package.
+     *
+     * @param packageName
+     *          the package to scan, including its subpackages
+     * @param minimalStaticMethodVisibility
+     *          the minimal level of visibility of static methods for testing
+     *          null parameters
+     */
+    protected UtilityClassesTest(String packageName,
+                                 Visibility minimalStaticMethodVisibility) {
+        this.packageName = checkNotNull(packageName);
+        this.minimalStaticMethodVisibility = checkNotNull(minimalStaticMethodVisibility);
+    }
+
+    /**
+     * Creates a new test suite for the classes of the passed package.
+     *
+     * <p>This test suite will use
+     * {@link com.google.common.testing.NullPointerTester.Visibility#PUBLIC PUBLIC}
+     * visibility of static methods for null-pointer testing.
+     *
+     * @param packageName
+     *          the package to scan, including its subpackages
+     */
+    protected UtilityClassesTest(String packageName) {
+        this(packageName, PUBLIC);
+    }
+
+    /**
+     * Tells if the given utility class should not be checked.
+     *
+     * <p>Returns {@code false} by default. Override to exclude the classes
+     * which are checked by other means.
+     */
+    protected boolean isExcluded(@SuppressWarnings("unused") Class<?> utilityClass) {
+        return false;
+    }
+
+    /**
+     * A callback to configure a passed {@linkplain ParallelNullPointerTester}
+     * shared by the checks of all the classes.
+     *
+     * <p>Does nothing. Override to specify default values or ignored methods
+     * in a derived test.
+     */
+    @SuppressWarnings("NoopMethodInAbstractClass") // We do not force overriding without a need.
+    protected void configure(@SuppressWarnings("unused") ParallelNullPointerTester tester) {
+        // Do nothing.
+    }
+
+    @TestFactory
+    @DisplayName("satisfy the contract of utility classes")
+    Stream<DynamicContainer> utilityClasses() {
+        var scanner = new ClassScanner(getClass().getClassLoader());
+        var classes = scanner.scan(packageName, ClassFile::hasOnlyStaticMembers)
+                             .stream()
+                             .map(scanner::load)
+                             .filter(cls -> !isExcluded(cls))
+                             .collect(toImmutableList());
+        var tester = new ParallelNullPointerTester();
+        configure(tester);
+        var contracts = classes.stream()
+                               .map(cls -> new Contract(cls, tester))
+                               .collect(toImmutableList());
+        return contracts.stream()
+                        .map(Contract::toContainer);
+    }
+
+    /**
+     * The checks of a utility class which are started upon the creation.
+     */
+    private final class Contract {
+
+        private final Class<?> subject;
+        private final ImmutableList<DynamicTest> tests;
+
+        private Contract(Class<?> subject, ParallelNullPointerTester tester) {
+            this.subject = subject;
+            this.tests = ImmutableList.of(
+                    start("be final",
+                          () -> assertTrue(Modifier.isFinal(subject.getModifiers()))),
+                    start("have utility constructor",
+                          () -> Assertions.assertHasPrivateParameterlessCtor(subject)),
+                    start("not accept nulls in static methods if a parameter is non-Nullable",
+                          () -> tester.testStaticMethods(subject,
+                                                         minimalStaticMethodVisibility))
+            );
+        }
+
+        private static DynamicTest start(String displayName, Executable check) {
+            var result = CompletableFuture.runAsync(() -> {
+                try {
+                    check.execute();
+                } catch (Throwable t) {
+                    throw new CompletionException(t);
+                }
+            });
+            return dynamicTest(displayName, () -> awaitAndRethrow(result));
+        }
+
+        private static void awaitAndRethrow(CompletableFuture<Void> check) throws Throwable {
+            try {
+                check.join();
+            } catch (CompletionException e) {
+                var cause = e.getCause();
+                throw cause != null ? cause : e;
+            }
+        }
+
+        private DynamicContainer toContainer() {
+            return dynamicContainer(subject.getName(), tests.stream());
+        }
+    }
+}
@@ -0,0 +1,298 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.durations;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableMap;
+import io.spine.testing.SharedFiles;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The durations of tests and test classes recorded by previous runs.
+ *
+ * <p>The history is kept in a text file with a line per test or test class:
+ * <pre>
+ * &lt;wall microseconds&gt; &lt;CPU microseconds&gt; &lt;key&gt;
+ * </pre>
+ * The key of a test is its
+ * {@linkplain org.junit.jupiter.api.extension.ExtensionContext#getUniqueId() unique ID},
+ * and the key of a test class is the fully qualified name of the class.
+ *
+ * <p>The {@linkplain #shared() shared} history is read from the file specified by
+ * the {@value #FILE_PROPERTY} system property, or from {@value #DEFAULT_FILE} relative to
+ * the working directory of the tests. If new durations were recorded, they are
+ * {@linkplain #mergeInto(Path) merged} into the file when the JVM shuts down.
+ * Therefore, several JVMs running the tests at the same time, e.g., the forks of
+ * a Gradle test task, do not overwrite the durations recorded by each other.
+ *
+ * <p>The {@linkplain #estimates() estimates} used to plan the test run are read
+ * separately and are never updated by the tests.
+ *
+ * <p>The history may be updated concurrently by the tests of the same JVM.
+ */
+public final class DurationHistory {
+
+    /**
+     * The name of the system property with the path to the history file.
+     */
+    public static final String FILE_PROPERTY = "io.spine.testing.durations.file";
+
+    /**
+     * The path to the history file used if the {@linkplain #FILE_PROPERTY property}
+     * is not set.
+     */
+    public static final String DEFAULT_FILE = "build/test-durations.txt";
+
+    /**
+     * The name of the system property with the path to the file of
+     * the {@linkplain #estimates() estimates}.
+     */
+    public static final String ESTIMATES_PROPERTY = "io.spine.testing.durations.estimates";
+
+    private static final String HEADER = "# Durations of tests: <wall us> <CPU us> <key>";
+    private static final long NANOS_PER_MICRO = 1_000L;
+
+    private final Map<String, RecordedDuration> durations;
+
+    /**
+     * The durations recorded by this instance, as opposed to the ones read from a file.
+     */
+    private final Map<String, RecordedDuration> recorded = new ConcurrentHashMap<>();
+
+    private DurationHistory(Map<String, RecordedDuration> durations) {
+        this.durations = new ConcurrentHashMap<>(durations);
+    }
+
+    /**
+     * Obtains the history shared by all the tests run by this JVM.
+     */
+    public static DurationHistory shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Obtains the durations used to plan the test run of this JVM, e.g.,
+     * to {@linkplain ShardingFilter split} the test classes into shards.
+     *
+     * <p>The estimates are read once from the file specified by
+     * the {@value #ESTIMATES_PROPERTY} system property or, if the property is not set,
+     * from the file of the {@linkplain #shared() shared} history. Unlike the shared
+     * history, the estimates are not written back.
+     *
+     * <p>The shared history file is updated by the JVMs which finish running tests.
+     * Therefore, the JVMs which need the same estimates, such as the forks running
+     * the shards of a test task, should read them from a file which is not written
+     * during the run, e.g., a copy of the shared history made before the test task.
+     */
+    public static DurationHistory estimates() {
+        return Estimates.INSTANCE;
+    }
+
+    /**
+     * Creates an empty history.
+     */
+    public static DurationHistory empty() {
+        return new DurationHistory(Map.of());
+    }
+
+    /**
+     * Reads the history from the given file.
+     *
+     * <p>If the file does not exist, an empty history is returned.
+     * Malformed lines of the file are skipped.
+     *
+     * @throws UncheckedIOException
+     *          if the file cannot be read
+     */
+    public static DurationHistory readFrom(Path file) {
+        checkNotNull(file);
+        if (!Files.exists(file)) {
+            return empty();
+        }
+        try {
+            var result = new TreeMap<String, RecordedDuration>();
+            for (var line : Files.readAllLines(file, UTF_8)) {
+                parseInto(line, result);
+            }
+            return new DurationHistory(result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void parseInto(String line, Map<String, RecordedDuration> result) {
+        if (line.isBlank() || line.startsWith("#")) {
+            return;
+        }
+        var parts = line.split(" ", 3);
+        if (parts.length < 3) {
+            return;
+        }
+        try {
+            var wall = Long.parseLong(parts[0]) * NANOS_PER_MICRO;
+            var cpu = Long.parseLong(parts[1]) * NANOS_PER_MICRO;
+            result.put(parts[2], RecordedDuration.ofNanos(wall, cpu));
+        } catch (IllegalArgumentException ignored) {
+            // Skip the malformed line.
+        }
+    }
+
+    /**
+     * Obtains the duration recorded for the given key.
+     *
+     * @return the duration or {@code null} if nothing was recorded for the key
+     */
+    public @Nullable RecordedDuration get(String key) {
+        checkNotNull(key);
+        return durations.get(key);
+    }
+
+    /**
+     * Obtains all the recorded durations by their keys.
+     */
+    public ImmutableMap<String, RecordedDuration> all() {
+        return ImmutableMap.copyOf(durations);
+    }
+
+    /**
+     * Records the duration of the run of a test or a test class with the given key.
+     *
+     * <p>If the history already contains a duration for the key, the
+     * {@linkplain RecordedDuration#smoothWith(RecordedDuration) average} of the two
+     * is stored.
+     */
+    public void record(String key, RecordedDuration duration) {
+        checkNotNull(key);
+        checkNotNull(duration);
+        durations.merge(key, duration, RecordedDuration::smoothWith);
+        recorded.merge(key, duration, RecordedDuration::smoothWith);
+    }
+
+    /**
+     * Writes the history to the given file, replacing its content.
+     *
+     * @throws UncheckedIOException
+     *          if the file cannot be written
+     */
+    public void writeTo(Path file) {
+        checkNotNull(file);
+        var lines = new ArrayList<String>(durations.size() + 1);
+        lines.add(HEADER);
+        new TreeMap<>(durations).forEach((key, duration) -> lines.add(format(
+                Locale.ROOT, "%d %d %s",
+                duration.wallNanos() / NANOS_PER_MICRO, duration.cpuNanos() / NANOS_PER_MICRO, key
+        )));
+        SharedFiles.replace(file, lines);
+    }
+
+    /**
+     * Merges the durations recorded by this history into the given file.
+     *
+     * <p>Unlike {@link #writeTo(Path)}, this method re-reads the file and records
+     * the durations of this history on top of its current content. The file is locked
+     * for the time of the update, so that the histories of several JVMs may be merged
+     * into the same file concurrently.
+     *
+     * <p>The durations which this history {@linkplain #readFrom(Path) read} from a file
+     * rather than recorded are not merged.
+     *
+     * @throws UncheckedIOException
+     *          if the file cannot be read or written
+     */
+    public void mergeInto(Path file) {
+        checkNotNull(file);
+        var updates = ImmutableMap.copyOf(recorded);
+        SharedFiles.updateExclusively(file, () -> {
+            var current = readFrom(file);
+            updates.forEach(current::record);
+            current.writeTo(file);
+        });
+    }
+
+    @VisibleForTesting
+    boolean isModified() {
+        return !recorded.isEmpty();
+    }
+
+    @SuppressWarnings("AccessOfSystemProperties")
+    static Path sharedFile() {
+        return Path.of(System.getProperty(FILE_PROPERTY, DEFAULT_FILE));
+    }
+
+    @SuppressWarnings("AccessOfSystemProperties")
+    private static Path estimatesFile() {
+        var value = System.getProperty(ESTIMATES_PROPERTY);
+        return value == null || value.isBlank()
+               ? sharedFile()
+               : Path.of(value.trim());
+    }
+
+    /**
+     * Holds the estimates, which are loaded upon the first request.
+     */
+    private static final class Estimates {
+
+        private static final DurationHistory INSTANCE =
+                SharedFiles.read(estimatesFile(), "the estimates of tests",
+                                 DurationHistory::readFrom, DurationHistory::empty);
+    }
+
+    /**
+     * Holds the shared history, which is loaded upon the first request.
+     */
+    private static final class Shared {
+
+        private static final DurationHistory INSTANCE = load();
+
+        private static DurationHistory load() {
+            var file = sharedFile();
+            var content = "the durations of tests";
+            var history = SharedFiles.read(file, content,
+                                           DurationHistory::readFrom, DurationHistory::empty);
+            SharedFiles.updateOnShutdown(file, content, () -> {
+                if (history.isModified()) {
+                    history.mergeInto(file);
+                }
+            });
+            return history;
+        }
+    }
+}
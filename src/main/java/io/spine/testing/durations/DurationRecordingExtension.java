@@ -0,0 +1,173 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.durations;
+
+import io.spine.logging.Logger;
+import io.spine.logging.LoggingFactory;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.extension.AfterAllCallback;
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeAllCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.util.Locale;
+
+import static java.lang.String.format;
+
+/**
+ * A JUnit {@link org.junit.jupiter.api.extension.Extension Extension} which records
+ * the wall-clock and CPU time of tests and test classes into
+ * the {@linkplain DurationHistory#shared() shared history}.
+ *
+ * <p>After each test, the extension warns about the tests which are not tagged as
+ * {@linkplain io.spine.testing.SlowTest slow} but took longer than the
+ * {@linkplain SlowTests#THRESHOLD_PROPERTY threshold}, and about the tagged tests
+ * which are no longer slow. The same is published as report entries of the tests.
+ *
+ * <p>Do not use this extension directly. Mark the target test class with
+ * the {@link TrackDurations} annotation.
+ *
+ * @see TrackDurations
+ */
+public final class DurationRecordingExtension
+        implements BeforeAllCallback, AfterAllCallback,
+                   BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    /** The key of the report entry published for a test which is not tagged properly. */
+    static final String REPORT_KEY = "slowTest";
+
+    private static final Namespace NAMESPACE = Namespace.create(DurationRecordingExtension.class);
+    private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private static final Logger logger = LoggingFactory.forEnclosingClass();
+
+    private final DurationHistory history;
+
+    /**
+     * Creates a new instance recording into the shared history.
+     */
+    public DurationRecordingExtension() {
+        this(DurationHistory.shared());
+    }
+
+    DurationRecordingExtension(DurationHistory history) {
+        this.history = history;
+    }
+
+    @Override
+    public void beforeAll(ExtensionContext context) {
+        start(context);
+    }
+
+    @Override
+    public void afterAll(ExtensionContext context) {
+        var duration = stop(context);
+        if (duration != null) {
+            context.getTestClass()
+                   .ifPresent(cls -> history.record(cls.getName(), duration));
+        }
+    }
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        start(context);
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        var duration = stop(context);
+        if (duration == null) {
+            return;
+        }
+        history.record(context.getUniqueId(), duration);
+        var tagged = SlowTests.isTagged(context);
+        if (!tagged && SlowTests.isSlow(duration)) {
+            report(context, format(
+                    Locale.ROOT, "The test `%s` took %s, but it is not tagged as slow.",
+                    context.getDisplayName(), duration
+            ));
+        } else if (tagged && SlowTests.isNoLongerSlow(duration)) {
+            report(context, format(
+                    Locale.ROOT, "The test `%s` is tagged as slow, but took only %s.",
+                    context.getDisplayName(), duration
+            ));
+        }
+    }
+
+    private static void report(ExtensionContext context, String message) {
+        context.publishReportEntry(REPORT_KEY, message);
+        logger.atWarning()
+              .log(() -> message);
+    }
+
+    private static void start(ExtensionContext context) {
+        context.getStore(NAMESPACE)
+               .put(context.getUniqueId(), new Start());
+    }
+
+    private static @Nullable RecordedDuration stop(ExtensionContext context) {
+        var start = context.getStore(NAMESPACE)
+                           .remove(context.getUniqueId(), Start.class);
+        if (start == null) {
+            return null;
+        }
+        return start.elapsed();
+    }
+
+    /**
+     * The moment a test or a test class started.
+     */
+    private static final class Start {
+
+        private final long wallNanos = System.nanoTime();
+        private final long cpuNanos = cpuTime();
+        private final Thread thread = Thread.currentThread();
+
+        /**
+         * Obtains the time passed since the start.
+         *
+         * <p>The CPU time is measured only if the test finished on the same thread
+         * it started on.
+         */
+        private RecordedDuration elapsed() {
+            var wall = System.nanoTime() - wallNanos;
+            var cpu = thread == Thread.currentThread()
+                      ? Math.max(0L, cpuTime() - cpuNanos)
+                      : 0L;
+            return RecordedDuration.ofNanos(wall, cpu);
+        }
+
+        private static long cpuTime() {
+            return threads.isCurrentThreadCpuTimeSupported()
+                   ? threads.getCurrentThreadCpuTime()
+                   : 0L;
+        }
+    }
+}
@@ -0,0 +1,87 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.durations;
+
+import org.jspecify.annotations.Nullable;
+
+import java.util.Locale;
+
+import static java.lang.String.format;
+
+/**
+ * The lane of the test run, which is either fast or slow.
+ *
+ * @see LaneCondition
+ * @see LaneFilter
+ */
+enum Lane {
+
+    FAST("fast"),
+    SLOW("slow");
+
+    private final String label;
+
+    Lane(String label) {
+        this.label = label;
+    }
+
+    /**
+     * Obtains the lane specified by the {@value LaneCondition#LANE_PROPERTY} system property.
+     *
+     * @return the lane or {@code null} if the lane is not specified
+     * @throws IllegalArgumentException
+     *          if the property has an unknown value
+     */
+    @SuppressWarnings("AccessOfSystemProperties")
+    static @Nullable Lane current() {
+        var value = System.getProperty(LaneCondition.LANE_PROPERTY);
+        if (value == null) {
+            return null;
+        }
+        return switch (value.trim().toLowerCase(Locale.ROOT)) {
+            case "fast" -> FAST;
+            case "slow" -> SLOW;
+            default -> throw new IllegalArgumentException(format(
+                    Locale.ROOT, "Unknown lane `%s` in the `%s` property. Use `fast` or `slow`.",
+                    value, LaneCondition.LANE_PROPERTY));
+        };
+    }
+
+    /**
+     * Tells if a test of the given speed belongs to this lane.
+     */
+    boolean admits(boolean slow) {
+        return slow == (this == SLOW);
+    }
+
+    /**
+     * Obtains the name of the lane.
+     */
+    String label() {
+        return label;
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.durations;
+
+import org.junit.jupiter.api.extension.ConditionEvaluationResult;
+import org.junit.jupiter.api.extension.ExecutionCondition;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import static org.junit.jupiter.api.extension.ConditionEvaluationResult.disabled;
+import static org.junit.jupiter.api.extension.ConditionEvaluationResult.enabled;
+
+/**
+ * A JUnit {@link ExecutionCondition} which runs only the fast or only the slow tests,
+ * depending on the {@linkplain #LANE_PROPERTY lane} of the test run.
+ *
+ * <p>A test is slow if it is tagged as {@linkplain io.spine.testing.SlowTest slow},
+ * or if its duration {@linkplain DurationHistory recorded} by previous runs exceeds
+ * the threshold. Therefore, the tests which became slow are moved out of the fast lane
+ * even before they are tagged.
+ *
+ * <p>The condition disables the tests of the other lane when they are about to run,
+ * so such tests are reported as skipped. To select the tests of the lane when they are
+ * discovered, so that the tests of the other lane are not reported at all, register
+ * {@link LaneFilter} instead. The selection is controlled by the {@value #LANE_PROPERTY}
+ * property rather than by tag expressions, such as {@code excludeTags("slow")} in Gradle,
+ * since JUnit evaluates those against the tags declared in the code.
+ *
+ * <p>If the lane is not specified, all the tests are run.
+ *
+ * <p>Do not use this condition directly. Mark the target test class with
+ * the {@link TrackDurations} annotation.
+ *
+ * @see TrackDurations
+ */
+public final class LaneCondition implements ExecutionCondition {
+
+    /**
+     * The name of the system property with the lane of the test run,
+     * either {@code fast} or {@code slow}.
+     *
+     * <p>Other values of the property fail the evaluation of the condition.
+     */
+    public static final String LANE_PROPERTY = "io.spine.testing.lane";
+
+    private static final ConditionEvaluationResult NO_LANE =
+            enabled("The lane of the test run is not specified.");
+    private static final ConditionEvaluationResult CONTAINER =
+            enabled("Containers are run in both lanes.");
+
+    private final DurationHistory history;
+
+    /**
+     * Creates a new instance using the shared history of durations.
+     */
+    public LaneCondition() {
+        this(DurationHistory.shared());
+    }
+
+    LaneCondition(DurationHistory history) {
+        this.history = history;
+    }
+
+    @Override
+    public ConditionEvaluationResult evaluateExecutionCondition(ExtensionContext context) {
+        var lane = Lane.current();
+        if (lane == null) {
+            return NO_LANE;
+        }
+        if (context.getTestMethod().isEmpty()) {
+            return CONTAINER;
+        }
+        var slow = SlowTests.isSlow(context, history);
+        if (lane.admits(slow)) {
+            return enabled("The test belongs to the " + lane.label() + " lane.");
+        }
+        return disabled("The test does not belong to the " + lane.label() + " lane.");
+    }
+}
@@ -0,0 +1,111 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.durations;
+
+import com.google.common.annotations.VisibleForTesting;
+import io.spine.testing.SlowTest;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.TestTag;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+/**
+ * A JUnit {@link PostDiscoveryFilter} which keeps only the fast or only the slow tests,
+ * depending on the {@linkplain LaneCondition#LANE_PROPERTY lane} of the test run.
+ *
+ * <p>The tests are told apart in the same way as by {@link LaneCondition}: a test is slow
+ * if it is tagged as {@linkplain SlowTest slow}, or if its duration
+ * {@linkplain DurationHistory#estimates() recorded} by previous runs exceeds the threshold.
+ * Unlike the condition, the filter applies to all the tests of the run, and the tests
+ * of the other lane are not reported as skipped, since they are not run at all.
+ *
+ * <p>If the lane is not specified, all the tests are kept.
+ *
+ * <p>To use the filter, register it for
+ * <a href="https://docs.junit.org/current/user-guide/#launcher-api-post-discovery-filters">
+ * automatic detection</a> in
+ * {@code META-INF/services/org.junit.platform.launcher.PostDiscoveryFilter}.
+ * The filter requires the JUnit Platform Launcher, which is provided by the build tools
+ * running the tests.
+ *
+ * @see LaneCondition
+ */
+public final class LaneFilter implements PostDiscoveryFilter {
+
+    private static final TestTag SLOW_TAG = TestTag.create(SlowTest.TAG);
+
+    private final DurationHistory history;
+    private final @Nullable Lane lane;
+
+    /**
+     * Creates a new instance using the estimated durations and the lane
+     * specified by the system property.
+     *
+     * @throws IllegalArgumentException
+     *          if the lane property has an unknown value
+     */
+    public LaneFilter() {
+        this(DurationHistory.estimates(), Lane.current());
+    }
+
+    @VisibleForTesting
+    LaneFilter(DurationHistory history, @Nullable Lane lane) {
+        this.history = history;
+        this.lane = lane;
+    }
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (lane == null) {
+            return FilterResult.included("The lane of the test run is not specified.");
+        }
+        if (!descriptor.isTest()) {
+            return FilterResult.included("Containers are kept in both lanes.");
+        }
+        var slow = SlowTests.isSlow(isTagged(descriptor),
+                                    descriptor.getUniqueId().toString(),
+                                    history);
+        if (lane.admits(slow)) {
+            return FilterResult.included("The test belongs to the " + lane.label() + " lane.");
+        }
+        return FilterResult.excluded(
+                "The test does not belong to the " + lane.label() + " lane.");
+    }
+
+    /**
+     * Tells if the test or any of its containers is tagged as slow.
+     */
+    private static boolean isTagged(TestDescriptor descriptor) {
+        for (TestDescriptor d = descriptor; d != null; d = d.getParent().orElse(null)) {
+            if (d.getTags().contains(SLOW_TAG)) {
+                return true;
+            }
+        }
+        return false;
+    }
+}
@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.durations;
+
+import org.junit.jupiter.api.ClassDescriptor;
+import org.junit.jupiter.api.ClassOrderer;
+import org.junit.jupiter.api.ClassOrdererContext;
+
+import java.util.Comparator;
+import java.util.IdentityHashMap;
+
+/**
+ * A JUnit {@link ClassOrderer} which runs the {@linkplain io.spine.testing.SlowTest slow}
+ * test classes first, and then the other classes from the longest to the shortest,
+ * according to the {@linkplain DurationHistory#estimates() estimated durations}.
+ *
+ * <p>Starting the longest classes first lets the shorter ones fill the gaps
+ * when the classes are run in parallel, so that the run ends sooner.
+ *
+ * <p>To use the orderer, set the {@code junit.jupiter.testclass.order.default}
+ * configuration parameter to {@code io.spine.testing.durations.LongestFirstClassOrderer}.
+ *
+ * @see ShardingFilter
+ */
+public final class LongestFirstClassOrderer implements ClassOrderer {
+
+    private final DurationHistory history;
+
+    /**
+     * Creates a new instance using the estimated durations.
+     */
+    public LongestFirstClassOrderer() {
+        this(DurationHistory.estimates());
+    }
+
+    LongestFirstClassOrderer(DurationHistory history) {
+        this.history = history;
+    }
+
+    @Override
+    public void orderClasses(ClassOrdererContext context) {
+        var descriptors = context.getClassDescriptors();
+        var defaultNanos = TestClassJob.averageNanos(history);
+        var jobs = new IdentityHashMap<ClassDescriptor, TestClassJob>(descriptors.size());
+        for (var descriptor : descriptors) {
+            jobs.put(descriptor,
+                     TestClassJob.of(descriptor.getTestClass(), history, defaultNanos));
+        }
+        descriptors.sort(Comparator.comparing(jobs::get, TestClassJob.LONGEST_FIRST));
+    }
+}
@@ -0,0 +1,126 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.durations;
+
+import com.google.errorprone.annotations.Immutable;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+import java.util.Locale;
+import java.util.Objects;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * The wall-clock and CPU time a test or a test class took to run.
+ *
+ * <p>The CPU time is the time spent by the thread which ran the test. It is zero
+ * if the JVM does not support measuring the CPU time of a thread.
+ */
+@Immutable
+public final class RecordedDuration {
+
+    private final long wallNanos;
+    private final long cpuNanos;
+
+    private RecordedDuration(long wallNanos, long cpuNanos) {
+        checkArgument(wallNanos >= 0, "The wall time cannot be negative: %s.", wallNanos);
+        checkArgument(cpuNanos >= 0, "The CPU time cannot be negative: %s.", cpuNanos);
+        this.wallNanos = wallNanos;
+        this.cpuNanos = cpuNanos;
+    }
+
+    /**
+     * Creates a new instance with the given wall-clock and CPU time.
+     */
+    public static RecordedDuration of(Duration wall, Duration cpu) {
+        checkNotNull(wall);
+        checkNotNull(cpu);
+        return ofNanos(wall.toNanos(), cpu.toNanos());
+    }
+
+    static RecordedDuration ofNanos(long wallNanos, long cpuNanos) {
+        return new RecordedDuration(wallNanos, cpuNanos);
+    }
+
+    /**
+     * Obtains the wall-clock time.
+     */
+    public Duration wall() {
+        return Duration.ofNanos(wallNanos);
+    }
+
+    /**
+     * Obtains the CPU time.
+     */
+    public Duration cpu() {
+        return Duration.ofNanos(cpuNanos);
+    }
+
+    long wallNanos() {
+        return wallNanos;
+    }
+
+    long cpuNanos() {
+        return cpuNanos;
+    }
+
+    /**
+     * Combines this duration recorded earlier with the newly recorded one.
+     *
+     * <p>The result is the average of the two, so that a single outlier run
+     * does not make a test slow or fast at once.
+     */
+    RecordedDuration smoothWith(RecordedDuration recent) {
+        return new RecordedDuration((wallNanos + recent.wallNanos) / 2,
+                                    (cpuNanos + recent.cpuNanos) / 2);
+    }
+
+    @Override
+    public boolean equals(@Nullable Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof RecordedDuration)) {
+            return false;
+        }
+        var other = (RecordedDuration) o;
+        return wallNanos == other.wallNanos && cpuNanos == other.cpuNanos;
+    }
+
+    @Override
+    public int hashCode() {
+        return Objects.hash(wallNanos, cpuNanos);
+    }
+
+    @Override
+    public String toString() {
+        return format(Locale.ROOT, "%s (CPU: %s)", wall(), cpu());
+    }
+}
@@ -0,0 +1,125 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.durations;
+
+import com.google.common.collect.ImmutableMap;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.PriorityQueue;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static java.lang.String.format;
+
+/**
+ * The assignment of test classes to shards balancing the estimated time of the shards.
+ *
+ * <p>The classes are assigned by the longest-processing-time-first rule: the classes
+ * are taken in the {@linkplain TestClassJob#LONGEST_FIRST order} of their estimates,
+ * and each class goes to the shard with the least total estimate so far. This keeps
+ * the longest shard within 4/3 of the optimum.
+ *
+ * <p>The assignment depends only on the classes and their estimates. Therefore, the forks
+ * running the shards compute the same plan independently, provided they read the same
+ * {@linkplain DurationHistory#estimates() estimates}.
+ */
+final class ShardPlan {
+
+    private final int shardCount;
+    private final ImmutableMap<String, Integer> shards;
+    private final long[] totals;
+
+    private ShardPlan(int shardCount, ImmutableMap<String, Integer> shards, long[] totals) {
+        this.shardCount = shardCount;
+        this.shards = shards;
+        this.totals = totals;
+    }
+
+    /**
+     * Assigns the given classes to the given number of shards.
+     */
+    static ShardPlan of(Collection<TestClassJob> jobs, int shardCount) {
+        checkNotNull(jobs);
+        checkArgument(shardCount > 0, "The number of shards must be positive: %s.", shardCount);
+        var ordered = jobs.stream()
+                          .sorted(TestClassJob.LONGEST_FIRST)
+                          .collect(toImmutableList());
+        var totals = new long[shardCount];
+        var lightest = new PriorityQueue<Integer>(
+                shardCount,
+                (a, b) -> totals[a] != totals[b]
+                          ? Long.compare(totals[a], totals[b])
+                          : Integer.compare(a, b)
+        );
+        for (var i = 0; i < shardCount; i++) {
+            lightest.add(i);
+        }
+        var shards = ImmutableMap.<String, Integer>builder();
+        for (var job : ordered) {
+            var shard = lightest.remove();
+            shards.put(job.className(), shard);
+            totals[shard] += Math.max(1L, job.estimateNanos());
+            lightest.add(shard);
+        }
+        return new ShardPlan(shardCount, shards.buildKeepingLast(), totals);
+    }
+
+    /**
+     * Obtains the zero-based index of the shard of the given class.
+     *
+     * <p>The classes not known to the plan are assigned by the hash of their names.
+     */
+    int shardOf(String className) {
+        checkNotNull(className);
+        var shard = shards.get(className);
+        if (shard != null) {
+            return shard;
+        }
+        return Math.floorMod(className.hashCode(), shardCount);
+    }
+
+    /**
+     * Obtains the estimated time of the shard with the given index.
+     */
+    long estimateNanos(int shard) {
+        checkArgument(shard >= 0 && shard < shardCount,
+                      "The shard index must be in [0, %s): %s.", shardCount, shard);
+        return totals[shard];
+    }
+
+    @Override
+    public String toString() {
+        var result = new StringBuilder("ShardPlan{");
+        for (var i = 0; i < shardCount; i++) {
+            result.append(i > 0 ? ", " : "")
+                  .append(format(Locale.ROOT, "#%d: ~%d ms", i + 1, totals[i] / 1_000_000));
+        }
+        return result.append('}').toString();
+    }
+}
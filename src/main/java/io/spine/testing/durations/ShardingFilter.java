@@ -0,0 +1,214 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.durations;
+
+import com.google.common.annotations.VisibleForTesting;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.engine.FilterResult;
+import org.junit.platform.engine.TestDescriptor;
+import org.junit.platform.engine.support.descriptor.ClassSource;
+import org.junit.platform.engine.support.descriptor.MethodSource;
+import org.junit.platform.launcher.PostDiscoveryFilter;
+
+import java.util.Locale;
+import java.util.regex.Pattern;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.String.format;
+
+/**
+ * A JUnit {@link PostDiscoveryFilter} which keeps only the tests of one shard
+ * of the test classes, so that the shards can be run by separate JVMs.
+ *
+ * <p>The shard is specified by the {@value #SHARD_PROPERTY} system property in the form of
+ * {@code K/N}, where {@code K} is the one-based index of the shard, and {@code N} is
+ * the number of shards, e.g., {@code -Dio.spine.testing.shard=2/4}. If the property
+ * is not set, all the tests are kept.
+ *
+ * <p>The top-level test classes {@linkplain DurationHistory#estimates() estimated} by
+ * previous runs are {@linkplain ShardPlan assigned} to the shards so that the estimated
+ * times of the shards are balanced, and the {@linkplain io.spine.testing.SlowTest slow}
+ * classes are spread first. The classes without estimates are assigned by the hash of
+ * their names. Nested classes go to the shard of their enclosing class.
+ *
+ * <p>The assignment does not depend on the tests discovered by the JVM. Therefore, a shard
+ * may be run by several JVMs, e.g., the forks of a Gradle test task, each of which is given
+ * a part of the test classes.
+ *
+ * <p>The shards cover each test class exactly once only if all the forks read the same
+ * estimates. Pass the forks the {@value DurationHistory#ESTIMATES_PROPERTY} property
+ * pointing to a file which is not written during the run.
+ *
+ * <p>To use the filter, register it for
+ * <a href="https://docs.junit.org/current/user-guide/#launcher-api-post-discovery-filters">
+ * automatic detection</a> in
+ * {@code META-INF/services/org.junit.platform.launcher.PostDiscoveryFilter}.
+ * The filter requires the JUnit Platform Launcher, which is provided by the build tools
+ * running the tests.
+ *
+ * @see LongestFirstClassOrderer
+ */
+public final class ShardingFilter implements PostDiscoveryFilter {
+
+    /**
+     * The name of the system property with the shard to run.
+     */
+    public static final String SHARD_PROPERTY = "io.spine.testing.shard";
+
+    private static final Pattern SHARD = Pattern.compile("\\s*(\\d+)\\s*/\\s*(\\d+)\\s*");
+
+    private final DurationHistory history;
+    private final @Nullable Shard shard;
+
+    /**
+     * The plan computed upon the first request.
+     */
+    private @Nullable ShardPlan plan;
+
+    /**
+     * Creates a new instance using the estimated durations and the shard
+     * specified by the system property.
+     */
+    public ShardingFilter() {
+        this(DurationHistory.estimates(), Shard.fromProperty());
+    }
+
+    @VisibleForTesting
+    ShardingFilter(DurationHistory history, @Nullable Shard shard) {
+        this.history = history;
+        this.shard = shard;
+    }
+
+    @Override
+    public FilterResult apply(TestDescriptor descriptor) {
+        if (shard == null) {
+            return FilterResult.included("Sharding is not enabled.");
+        }
+        var className = topLevelClassOf(descriptor);
+        if (className == null) {
+            return FilterResult.included("The test does not belong to a class.");
+        }
+        var index = plan().shardOf(className);
+        if (index == shard.index) {
+            return FilterResult.included(format(Locale.ROOT, "The class belongs to %s.", shard));
+        }
+        return FilterResult.excluded(format(
+                Locale.ROOT, "The class belongs to the shard %d/%d.", index + 1, shard.count
+        ));
+    }
+
+    /**
+     * Obtains the plan of the test classes recorded in the estimates, computing
+     * the plan on the first request.
+     *
+     * <p>The plan does not depend on the discovered tests, since a JVM running a shard
+     * may be given only a part of the test classes by the build tool.
+     */
+    private synchronized ShardPlan plan() {
+        if (plan == null) {
+            plan = ShardPlan.of(TestClassJob.recordedIn(history), shard().count);
+        }
+        return plan;
+    }
+
+    private Shard shard() {
+        if (shard == null) {
+            throw new IllegalStateException("Sharding is not enabled.");
+        }
+        return shard;
+    }
+
+    private static @Nullable String topLevelClassOf(TestDescriptor descriptor) {
+        for (TestDescriptor d = descriptor; d != null; d = d.getParent().orElse(null)) {
+            var source = d.getSource().orElse(null);
+            if (source instanceof MethodSource) {
+                return topLevelName(((MethodSource) source).getClassName());
+            }
+            if (source instanceof ClassSource) {
+                return topLevelName(((ClassSource) source).getClassName());
+            }
+        }
+        return null;
+    }
+
+    private static String topLevelName(String className) {
+        var nested = className.indexOf('$');
+        return nested < 0 ? className : className.substring(0, nested);
+    }
+
+    /**
+     * The shard to keep.
+     */
+    @VisibleForTesting
+    static final class Shard {
+
+        private final int index;
+        private final int count;
+
+        /**
+         * Creates a new instance.
+         *
+         * @param index
+         *         the zero-based index of the shard
+         * @param count
+         *         the number of shards
+         */
+        Shard(int index, int count) {
+            checkArgument(count > 0, "The number of shards must be positive: %s.", count);
+            checkArgument(index >= 0 && index < count,
+                          "The shard index must be in [0, %s): %s.", count, index);
+            this.index = index;
+            this.count = count;
+        }
+
+        /**
+         * Parses the shard in the form of {@code K/N} with the one-based index.
+         *
+         * @throws IllegalArgumentException
+         *          if the value is malformed
+         */
+        static Shard parse(String value) {
+            var matcher = SHARD.matcher(value);
+            checkArgument(matcher.matches(),
+                          "The shard must be specified as `K/N`, e.g., `1/4`: `%s`.", value);
+            var index = Integer.parseInt(matcher.group(1));
+            var count = Integer.parseInt(matcher.group(2));
+            return new Shard(index - 1, count);
+        }
+
+        @SuppressWarnings("AccessOfSystemProperties")
+        private static @Nullable Shard fromProperty() {
+            var value = System.getProperty(SHARD_PROPERTY);
+            return value == null || value.isBlank() ? null : parse(value);
+        }
+
+        @Override
+        public String toString() {
+            return format(Locale.ROOT, "the shard %d/%d", index + 1, count);
+        }
+    }
+}
@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.durations;
+
+import io.spine.testing.SlowTest;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.time.Duration;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Tells slow tests from fast ones by their tags and recorded durations.
+ */
+final class SlowTests {
+
+    /**
+     * The name of the system property with the number of milliseconds of
+     * the wall-clock time starting from which a test is considered slow.
+     */
+    static final String THRESHOLD_PROPERTY = "io.spine.testing.slowThreshold";
+
+    private static final Duration DEFAULT_THRESHOLD = Duration.ofSeconds(1);
+
+    /**
+     * The share of the threshold below which a test tagged as slow
+     * is reported as no longer slow.
+     *
+     * <p>The gap between the two prevents flipping the reports for tests which
+     * run for about the threshold.
+     */
+    private static final int NO_LONGER_SLOW_DIVISOR = 2;
+
+    /** Prevents instantiation of this utility class. */
+    private SlowTests() {
+    }
+
+    /**
+     * Obtains the wall-clock time starting from which a test is considered slow.
+     */
+    @SuppressWarnings("AccessOfSystemProperties")
+    static Duration threshold() {
+        var value = System.getProperty(THRESHOLD_PROPERTY);
+        if (value == null) {
+            return DEFAULT_THRESHOLD;
+        }
+        try {
+            return Duration.ofMillis(Math.max(1L, Long.parseLong(value.trim())));
+        } catch (NumberFormatException ignored) {
+            return DEFAULT_THRESHOLD;
+        }
+    }
+
+    /**
+     * Tells if the given duration of a test makes the test slow.
+     */
+    static boolean isSlow(RecordedDuration duration) {
+        checkNotNull(duration);
+        return duration.wall().compareTo(threshold()) >= 0;
+    }
+
+    /**
+     * Tells if the given duration of a test tagged as slow shows that
+     * the test is no longer slow.
+     */
+    static boolean isNoLongerSlow(RecordedDuration duration) {
+        checkNotNull(duration);
+        var limit = threshold().dividedBy(NO_LONGER_SLOW_DIVISOR);
+        return duration.wall().compareTo(limit) < 0;
+    }
+
+    /**
+     * Tells if the test or the container is tagged as {@linkplain SlowTest slow}.
+     *
+     * <p>The tags of a test include the tags of its class.
+     */
+    static boolean isTagged(ExtensionContext context) {
+        checkNotNull(context);
+        return context.getTags().contains(SlowTest.TAG);
+    }
+
+    /**
+     * Tells if the test is tagged as slow or its recorded duration makes it slow.
+     */
+    static boolean isSlow(ExtensionContext context, DurationHistory history) {
+        return isSlow(isTagged(context), context.getUniqueId(), history);
+    }
+
+    /**
+     * Tells if the test with the given unique ID is slow.
+     *
+     * @param tagged
+     *         whether the test is tagged as slow
+     * @param uniqueId
+     *         the unique ID of the test
+     * @param history
+     *         the recorded durations
+     */
+    static boolean isSlow(boolean tagged, String uniqueId, DurationHistory history) {
+        if (tagged) {
+            return true;
+        }
+        var recorded = history.get(uniqueId);
+        return recorded != null && isSlow(recorded);
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.durations;
+
+import com.google.common.collect.ImmutableList;
+import io.spine.testing.SlowTest;
+import org.junit.jupiter.api.Tag;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.util.Comparator;
+import java.util.Locale;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.collect.ImmutableList.toImmutableList;
+import static java.lang.String.format;
+
+/**
+ * A top-level test class with the estimated time to run it.
+ *
+ * <p>The estimate is the wall-clock time of the class {@linkplain DurationHistory recorded}
+ * by the previous runs.
+ */
+final class TestClassJob {
+
+    /**
+     * Orders the jobs so that the {@linkplain SlowTest slow} classes go first,
+     * then the longer classes before the shorter ones.
+     *
+     * <p>The classes with the same estimates are ordered by their names, so that
+     * the order does not depend on the order of discovery.
+     */
+    static final Comparator<TestClassJob> LONGEST_FIRST =
+            Comparator.comparing((TestClassJob job) -> !job.slow)
+                      .thenComparing(Comparator.comparingLong(
+                              (TestClassJob job) -> job.estimateNanos).reversed())
+                      .thenComparing(job -> job.className);
+
+    private final String className;
+    private final boolean slow;
+    private final long estimateNanos;
+
+    TestClassJob(String className, boolean slow, long estimateNanos) {
+        checkNotNull(className);
+        checkArgument(estimateNanos >= 0, "The estimate cannot be negative: %s.", estimateNanos);
+        this.className = className;
+        this.slow = slow;
+        this.estimateNanos = estimateNanos;
+    }
+
+    /**
+     * Creates a job for the given test class estimating it by the given history.
+     *
+     * @param testClass
+     *         the top-level test class
+     * @param history
+     *         the recorded durations
+     * @param defaultNanos
+     *         the estimate to use if the history does not have the class
+     */
+    static TestClassJob of(Class<?> testClass, DurationHistory history, long defaultNanos) {
+        checkNotNull(testClass);
+        checkNotNull(history);
+        var recorded = history.get(testClass.getName());
+        var estimate = recorded != null ? recorded.wallNanos() : defaultNanos;
+        return new TestClassJob(testClass.getName(), isTaggedSlow(testClass), estimate);
+    }
+
+    /**
+     * Creates the jobs for the top-level test classes recorded in the given history.
+     *
+     * <p>The classes are loaded without initialization to find out if they are tagged
+     * as slow. The classes which cannot be loaded are considered not tagged.
+     */
+    static ImmutableList<TestClassJob> recordedIn(DurationHistory history) {
+        checkNotNull(history);
+        return history.all()
+                      .entrySet()
+                      .stream()
+                      .filter(entry -> isTopLevelClass(entry.getKey()))
+                      .map(entry -> new TestClassJob(entry.getKey(),
+                                                     isTaggedSlow(entry.getKey()),
+                                                     entry.getValue().wallNanos()))
+                      .collect(toImmutableList());
+    }
+
+    private static boolean isTopLevelClass(String key) {
+        return !key.startsWith("[") && key.indexOf('$') < 0;
+    }
+
+    private static boolean isTaggedSlow(String className) {
+        var loader = TestClassJob.class.getClassLoader();
+        try {
+            return isTaggedSlow(Class.forName(className, false, loader));
+        } catch (ClassNotFoundException | LinkageError ignored) {
+            return false;
+        }
+    }
+
+    /**
+     * Obtains the average recorded wall-clock time of test classes, to be used
+     * as the estimate of the classes which were not run before.
+     */
+    static long averageNanos(DurationHistory history) {
+        return history.all()
+                      .entrySet()
+                      .stream()
+                      .filter(entry -> !entry.getKey().startsWith("["))
+                      .mapToLong(entry -> entry.getValue().wallNanos())
+                      .average()
+                      .stream()
+                      .mapToLong(Math::round)
+                      .findFirst()
+                      .orElse(0L);
+    }
+
+    private static boolean isTaggedSlow(Class<?> testClass) {
+        if (AnnotationSupport.isAnnotated(testClass, SlowTest.class)) {
+            return true;
+        }
+        return AnnotationSupport.findRepeatableAnnotations(testClass, Tag.class)
+                                .stream()
+                                .anyMatch(tag -> SlowTest.TAG.equals(tag.value()));
+    }
+
+    String className() {
+        return className;
+    }
+
+    boolean isSlow() {
+        return slow;
+    }
+
+    long estimateNanos() {
+        return estimateNanos;
+    }
+
+    @Override
+    public String toString() {
+        return format(Locale.ROOT, "%s%s ~%d ms",
+                      className, slow ? " (slow)" : "", estimateNanos / 1_000_000);
+    }
+}
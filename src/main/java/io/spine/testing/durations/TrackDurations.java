@@ -0,0 +1,65 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.durations;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.Inherited;
+import java.lang.annotation.Retention;
+import java.lang.annotation.Target;
+
+import static java.lang.annotation.ElementType.TYPE;
+import static java.lang.annotation.RetentionPolicy.RUNTIME;
+
+/**
+ * Records the durations of the tests of the annotated class and runs them
+ * according to the lane of the test run.
+ *
+ * <p>The durations are kept in the {@linkplain DurationHistory#shared() history file}.
+ * The tests which take longer than the threshold, but are not tagged as
+ * {@linkplain io.spine.testing.SlowTest slow}, and the tagged tests which are no longer
+ * slow, are reported after they are run. To move the tests which were slow in
+ * the previous runs out of the fast lane, run the tests with
+ * {@code -Dio.spine.testing.lane=fast}, and run the slow lane with
+ * {@code -Dio.spine.testing.lane=slow}.
+ *
+ * <p>The threshold is one second by default. It can be changed via
+ * the {@code io.spine.testing.slowThreshold} system property in milliseconds.
+ *
+ * <p>To track all the tests of a project, register {@link DurationRecordingExtension}
+ * and {@link LaneCondition} for
+ * <a href="https://docs.junit.org/current/user-guide/#extensions-registration-automatic">
+ * automatic detection</a> instead.
+ */
+@Documented
+@Inherited
+@Retention(RUNTIME)
+@Target(TYPE)
+@ExtendWith({DurationRecordingExtension.class, LaneCondition.class})
+public @interface TrackDurations {
+}
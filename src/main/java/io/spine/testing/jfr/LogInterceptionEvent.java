@@ -0,0 +1,94 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.jfr;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Installing or releasing an {@link io.spine.testing.logging.Interceptor Interceptor}
+ * of log records.
+ */
+@Name("io.spine.testing.LogInterception")
+@Label("Log Interception")
+@Category({"Spine", "TestLib", "Logging"})
+@Description("Installing or releasing an interceptor of log records of a class.")
+@StackTrace(false)
+public final class LogInterceptionEvent extends jdk.jfr.Event {
+
+    /** The operation of installing the interceptor. */
+    public static final String INTERCEPT = "intercept";
+
+    /** The operation of releasing the interceptor. */
+    public static final String RELEASE = "release";
+
+    @Label("Operation")
+    private @Nullable String operation;
+
+    @Label("Logging Class")
+    private @Nullable Class<?> loggingClass;
+
+    @Label("Level")
+    private @Nullable String level;
+
+    @Label("Records")
+    @Description("The number of intercepted records remaining at the release.")
+    private int records;
+
+    /**
+     * Creates a new event and starts its timing.
+     */
+    public static LogInterceptionEvent start() {
+        var event = new LogInterceptionEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Sets the properties of the event, if it is going to be recorded.
+     *
+     * @return this instance for call chaining
+     */
+    @CanIgnoreReturnValue
+    public LogInterceptionEvent describe(String operation,
+                                         Class<?> loggingClass,
+                                         String level,
+                                         int records) {
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.loggingClass = loggingClass;
+            this.level = level;
+            this.records = records;
+        }
+        return this;
+    }
+}
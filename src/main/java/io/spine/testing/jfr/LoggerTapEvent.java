@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.jfr;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Installing, removing, or flushing a tap muting the output of a logger.
+ *
+ * @see io.spine.testing.logging.mute.MuteLogging
+ */
+@Name("io.spine.testing.LoggerTap")
+@Label("Logger Tap")
+@Category({"Spine", "TestLib", "Logging"})
+@Description("Installing, removing, or flushing a tap muting the output of a logger.")
+@StackTrace(false)
+public final class LoggerTapEvent extends jdk.jfr.Event {
+
+    /** The operation of installing the tap. */
+    public static final String INSTALL = "install";
+
+    /** The operation of removing the tap. */
+    public static final String REMOVE = "remove";
+
+    /** The operation of flushing the muted output. */
+    public static final String FLUSH = "flush";
+
+    @Label("Operation")
+    private @Nullable String operation;
+
+    @Label("Logger Name")
+    private @Nullable String loggerName;
+
+    @Label("Bytes")
+    @Description("The size of the muted output at the moment of the operation.")
+    @DataAmount
+    private long bytes;
+
+    /**
+     * Creates a new event and starts its timing.
+     */
+    public static LoggerTapEvent start() {
+        var event = new LoggerTapEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Sets the properties of the event, if it is going to be recorded.
+     *
+     * @return this instance for call chaining
+     */
+    @CanIgnoreReturnValue
+    public LoggerTapEvent describe(String operation, String loggerName, long bytes) {
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.loggerName = loggerName;
+            this.bytes = bytes;
+        }
+        return this;
+    }
+}
@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.jfr;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Creating or releasing a temporary directory by {@link io.spine.testing.TempDir TempDir}.
+ */
+@Name("io.spine.testing.TempDir")
+@Label("Temporary Directory")
+@Category({"Spine", "TestLib", "File System"})
+@Description("Creating or releasing a temporary directory.")
+@StackTrace(false)
+public final class TempDirEvent extends jdk.jfr.Event {
+
+    /** The operation of creating a directory. */
+    public static final String CREATE = "create";
+
+    /** The operation of releasing, and therefore deleting, a directory. */
+    public static final String RELEASE = "release";
+
+    @Label("Operation")
+    private @Nullable String operation;
+
+    @Label("Path")
+    private @Nullable String path;
+
+    @Label("Size")
+    @Description("The total size of the files in the directory.")
+    @DataAmount
+    private long bytes;
+
+    @Label("Files")
+    @Description("The number of files in the directory.")
+    private long files;
+
+    /**
+     * Creates a new event and starts its timing.
+     */
+    public static TempDirEvent start() {
+        var event = new TempDirEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Sets the properties of the event, if it is going to be recorded.
+     *
+     * @return this instance for call chaining
+     */
+    @CanIgnoreReturnValue
+    public TempDirEvent describe(String operation, String path, long bytes, long files) {
+        if (shouldCommit()) {
+            this.operation = operation;
+            this.path = path;
+            this.bytes = bytes;
+            this.files = files;
+        }
+        return this;
+    }
+}
@@ -0,0 +1,89 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.jfr;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import jdk.jfr.Category;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+import org.jspecify.annotations.Nullable;
+
+/**
+ * The execution of a test, from its start to its finish.
+ *
+ * @see RecordTestEvents
+ */
+@Name("io.spine.testing.TestExecution")
+@Label("Test Execution")
+@Category({"Spine", "TestLib"})
+@Description("The execution of a test method, excluding its before and after callbacks.")
+@StackTrace(false)
+public final class TestExecutionEvent extends jdk.jfr.Event {
+
+    @Label("Test ID")
+    @Description("The unique ID of the test.")
+    private @Nullable String testId;
+
+    @Label("Display Name")
+    private @Nullable String displayName;
+
+    @Label("Test Class")
+    private @Nullable Class<?> testClass;
+
+    @Label("Failed")
+    private boolean failed;
+
+    /**
+     * Creates a new event and starts its timing.
+     */
+    static TestExecutionEvent start() {
+        var event = new TestExecutionEvent();
+        event.begin();
+        return event;
+    }
+
+    /**
+     * Sets the properties of the event, if it is going to be recorded.
+     *
+     * @return this instance for call chaining
+     */
+    @CanIgnoreReturnValue
+    TestExecutionEvent describe(String testId,
+                                String displayName,
+                                @Nullable Class<?> testClass,
+                                boolean failed) {
+        if (shouldCommit()) {
+            this.testId = testId;
+            this.displayName = displayName;
+            this.testClass = testClass;
+            this.failed = failed;
+        }
+        return this;
+    }
+}
@@ -56,6 +56,14 @@ final class AssertingHandler extends Handler implements LoggingAssertions {
         }
     }
 
+    /**
+     * Obtains the number of remembered records, or zero if the handler is closed.
+     */
+    int recordCount() {
+        var records = logRecords;
+        return records == null ? 0 : records.size();
+    }
+
     private List<LogRecord> logRecords() {
         return requireNonNull(logRecords, "The handler is already closed.");
     }
@@ -26,6 +26,7 @@
 
 package io.spine.testing.logging;
 
+import io.spine.testing.jfr.LogInterceptionEvent;
 import org.jspecify.annotations.Nullable;
 
 import java.util.logging.Level;
@@ -72,12 +73,15 @@ public final class Interceptor {
      * @see #release()
      */
     public void intercept() {
+        var event = LogInterceptionEvent.start();
         handler = new AssertingHandler();
         handler.setLevel(this.level);
         useParentHandler = julLogger.getUseParentHandlers();
         julLogger.setLevel(this.level);
         julLogger.addHandler(handler);
         julLogger.setUseParentHandlers(false);
+        event.describe(LogInterceptionEvent.INTERCEPT, loggingClass, level.getName(), 0)
+             .commit();
     }
 
     /**
@@ -87,10 +91,14 @@ public final class Interceptor {
         if (handler == null) {
             return;
         }
+        var event = LogInterceptionEvent.start();
+        var records = handler.recordCount();
         julLogger.removeHandler(handler);
         julLogger.setUseParentHandlers(useParentHandler);
         julLogger.setLevel(previousLevel);
         handler = null;
+        event.describe(LogInterceptionEvent.RELEASE, loggingClass, level.getName(), records)
+             .commit();
     }
 
     /**
@@ -28,6 +28,7 @@ package io.spine.testing.logging.mute;
 
 import com.google.common.annotations.VisibleForTesting;
 import com.google.common.collect.ImmutableList;
+import io.spine.testing.jfr.LoggerTapEvent;
 import io.spine.testing.logging.MemoizingStream;
 import org.jspecify.annotations.Nullable;
 
@@ -69,9 +70,12 @@ final class MutingLoggerTap {
      * Installs the tap on the logger.
      */
     synchronized void install() {
+        var event = LoggerTapEvent.start();
         memoizingStream = new MemoizingStream();
         createHandler();
         replaceHandlers();
+        event.describe(LoggerTapEvent.INSTALL, loggerName, 0L)
+             .commit();
     }
 
     /**
@@ -132,6 +136,8 @@ final class MutingLoggerTap {
         if (handler == null) { // not installed.
             return;
         }
+        var event = LoggerTapEvent.start();
+        var bytes = stream().size();
         var logger = logger();
         logger.removeHandler(handler());
         logger.setUseParentHandlers(usedParentHandlers);
@@ -143,6 +149,8 @@ final class MutingLoggerTap {
         memoizingStream = null;
         handler = null;
         previousHandlers = null;
+        event.describe(LoggerTapEvent.REMOVE, loggerName, bytes)
+             .commit();
     }
 
     @SuppressWarnings("UseOfSystemOutOrSystemErr")
@@ -152,7 +160,12 @@ final class MutingLoggerTap {
 
     @VisibleForTesting
     synchronized void flushTo(OutputStream outputStream) throws IOException {
-        stream().flushTo(outputStream);
+        var event = LoggerTapEvent.start();
+        var stream = stream();
+        var bytes = stream.size();
+        stream.flushTo(outputStream);
+        event.describe(LoggerTapEvent.FLUSH, loggerName, bytes)
+             .commit();
     }
 
     /**
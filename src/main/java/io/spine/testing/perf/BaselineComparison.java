@@ -0,0 +1,184 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf;
+
+import com.google.errorprone.annotations.Immutable;
+
+import java.util.List;
+import java.util.Locale;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+
+/**
+ * Compares the throughput of a benchmark with its baseline.
+ *
+ * <p>The samples are the throughputs of the measurement iterations, as reported by
+ * {@link BenchmarkResult#samples()}. The comparison computes the
+ * <a href="https://en.wikipedia.org/wiki/Welch%27s_t-test">Welch's</a> confidence interval
+ * for the difference between the mean throughputs, which does not assume that the two
+ * runs have the same variance. The interval is expressed relative to the mean throughput
+ * of the baseline, so that {@code -0.1} means 10% slower than the baseline.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * var comparison = BaselineComparison.of(baseline.samples(), result.samples(), 0.95);
+ * assertFalse(comparison.isSlowerBy(0.1), comparison::toString);
+ * }</pre>
+ *
+ * @see PerformanceBaseline
+ */
+@Immutable
+public final class BaselineComparison {
+
+    private final double change;
+    private final double lowerBound;
+    private final double upperBound;
+    private final double confidence;
+
+    private BaselineComparison(double change,
+                               double lowerBound,
+                               double upperBound,
+                               double confidence) {
+        this.change = change;
+        this.lowerBound = lowerBound;
+        this.upperBound = upperBound;
+        this.confidence = confidence;
+    }
+
+    /**
+     * Compares the current samples with the baseline ones.
+     *
+     * @param baseline
+     *         the throughputs of the baseline run, at least two
+     * @param current
+     *         the throughputs of the current run, at least two
+     * @param confidence
+     *         the confidence level of the interval in the range {@code (0, 1)}, e.g., {@code 0.95}
+     */
+    public static BaselineComparison of(List<Double> baseline,
+                                        List<Double> current,
+                                        double confidence) {
+        checkNotNull(baseline);
+        checkNotNull(current);
+        checkArgument(baseline.size() > 1 && current.size() > 1,
+                      "At least two samples of each run are required to compare them.");
+        checkArgument(confidence > 0 && confidence < 1,
+                      "The confidence must be in the range (0, 1): %s.", confidence);
+        var base = Stats.of(baseline);
+        var now = Stats.of(current);
+        checkArgument(base.mean > 0, "The baseline throughput must be positive.");
+        var difference = now.mean - base.mean;
+        var baseError = base.variance / base.count;
+        var nowError = now.variance / now.count;
+        var standardError = Math.sqrt(baseError + nowError);
+        var margin = 0.0;
+        if (standardError > 0) {
+            var degreesOfFreedom = (baseError + nowError) * (baseError + nowError)
+                    / (baseError * baseError / (base.count - 1)
+                    + nowError * nowError / (now.count - 1));
+            var t = StudentT.quantile((1 + confidence) / 2, degreesOfFreedom);
+            margin = t * standardError;
+        }
+        return new BaselineComparison(difference / base.mean,
+                                      (difference - margin) / base.mean,
+                                      (difference + margin) / base.mean,
+                                      confidence);
+    }
+
+    /**
+     * Obtains the relative change of the mean throughput.
+     *
+     * <p>A negative value means that the current run is slower than the baseline.
+     */
+    public double change() {
+        return change;
+    }
+
+    /**
+     * Obtains the lower bound of the confidence interval of the relative change.
+     */
+    public double lowerBound() {
+        return lowerBound;
+    }
+
+    /**
+     * Obtains the upper bound of the confidence interval of the relative change.
+     */
+    public double upperBound() {
+        return upperBound;
+    }
+
+    /**
+     * Tells if the current run is slower than the baseline by more than the given share
+     * with the confidence of the comparison.
+     *
+     * <p>The method returns {@code false} if the difference may be explained by noise.
+     *
+     * @param share
+     *         the acceptable slowdown, e.g., {@code 0.1} for 10%
+     */
+    public boolean isSlowerBy(double share) {
+        checkArgument(share >= 0, "The acceptable slowdown cannot be negative: %s.", share);
+        return upperBound < -share;
+    }
+
+    @Override
+    public String toString() {
+        return format(Locale.ROOT,
+                      "%+.1f%% throughput vs. the baseline (%.0f%% CI: %+.1f%%..%+.1f%%)",
+                      change * 100, confidence * 100, lowerBound * 100, upperBound * 100);
+    }
+
+    /**
+     * The mean and the sample variance of a run.
+     */
+    private static final class Stats {
+
+        private final int count;
+        private final double mean;
+        private final double variance;
+
+        private Stats(int count, double mean, double variance) {
+            this.count = count;
+            this.mean = mean;
+            this.variance = variance;
+        }
+
+        private static Stats of(List<Double> samples) {
+            var mean = samples.stream()
+                              .mapToDouble(Double::doubleValue)
+                              .average()
+                              .orElseThrow();
+            var squares = samples.stream()
+                                 .mapToDouble(s -> (s - mean) * (s - mean))
+                                 .sum();
+            return new Stats(samples.size(), mean, squares / (samples.size() - 1));
+        }
+    }
+}
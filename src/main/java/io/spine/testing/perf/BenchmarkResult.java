@@ -0,0 +1,169 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Immutable;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import static java.lang.String.format;
+
+/**
+ * The measurements of a {@linkplain MicroBenchmark micro-benchmark}.
+ *
+ * @see MicroBenchmark
+ */
+@Immutable
+public final class BenchmarkResult {
+
+    /** The value of the allocation metrics which are not supported by the JVM. */
+    static final long UNSUPPORTED = -1L;
+
+    private static final double NANOS_PER_SECOND = 1_000_000_000.0;
+
+    private final ImmutableList<Double> samples;
+    private final long operations;
+    private final long measuredNanos;
+    private final long allocatedBytes;
+    private final int warmUpIterations;
+    private final boolean warmedUp;
+
+    BenchmarkResult(ImmutableList<Double> samples,
+                    long operations,
+                    long measuredNanos,
+                    long allocatedBytes,
+                    int warmUpIterations,
+                    boolean warmedUp) {
+        this.samples = samples;
+        this.operations = operations;
+        this.measuredNanos = measuredNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.warmUpIterations = warmUpIterations;
+        this.warmedUp = warmedUp;
+    }
+
+    /**
+     * Obtains the throughput of each measurement iteration in operations per second.
+     */
+    public ImmutableList<Double> samples() {
+        return samples;
+    }
+
+    /**
+     * Obtains the mean throughput of the measurement iterations in operations per second.
+     */
+    public double opsPerSecond() {
+        return samples.stream()
+                      .mapToDouble(Double::doubleValue)
+                      .average()
+                      .orElse(0.0);
+    }
+
+    /**
+     * Obtains the sample standard deviation of the throughput in operations per second.
+     *
+     * <p>Returns zero if there was only one measurement iteration.
+     */
+    public double standardDeviation() {
+        var count = samples.size();
+        if (count < 2) {
+            return 0.0;
+        }
+        var mean = opsPerSecond();
+        var squares = samples.stream()
+                             .mapToDouble(s -> (s - mean) * (s - mean))
+                             .sum();
+        return Math.sqrt(squares / (count - 1));
+    }
+
+    /**
+     * Obtains the total number of operations performed in the measurement iterations.
+     */
+    public long operations() {
+        return operations;
+    }
+
+    /**
+     * Obtains the total time of the measurement iterations.
+     */
+    public Duration measuredTime() {
+        return Duration.ofNanos(measuredNanos);
+    }
+
+    /**
+     * Obtains the mean number of bytes allocated per operation, or {@code -1}
+     * if the JVM {@linkplain ThreadAllocation#isSupported() cannot measure} it.
+     */
+    public double bytesPerOperation() {
+        if (allocatedBytes == UNSUPPORTED) {
+            return UNSUPPORTED;
+        }
+        return (double) allocatedBytes / operations;
+    }
+
+    /**
+     * Obtains the number of bytes allocated per second, or {@code -1}
+     * if the JVM {@linkplain ThreadAllocation#isSupported() cannot measure} it.
+     */
+    public double allocationRate() {
+        if (allocatedBytes == UNSUPPORTED) {
+            return UNSUPPORTED;
+        }
+        return allocatedBytes * NANOS_PER_SECOND / measuredNanos;
+    }
+
+    /**
+     * Obtains the number of performed warm-up iterations.
+     */
+    public int warmUpIterations() {
+        return warmUpIterations;
+    }
+
+    /**
+     * Tells if the throughput stabilized during the warm-up.
+     *
+     * <p>If {@code false}, the warm-up ended because the maximal number of iterations
+     * was reached, and the measurements may include the time of the JIT compilation.
+     */
+    public boolean isWarmedUp() {
+        return warmedUp;
+    }
+
+    @Override
+    public String toString() {
+        var allocation = allocatedBytes == UNSUPPORTED
+                         ? "allocation not measured"
+                         : format(Locale.ROOT, "%,.1f B/op, %,.0f B/s",
+                                  bytesPerOperation(), allocationRate());
+        return format(Locale.ROOT,
+                      "%,.1f ± %,.1f ops/s, %s (%d iterations, %d warm-up iterations%s)",
+                      opsPerSecond(), standardDeviation(), allocation, samples.size(),
+                      warmUpIterations, warmedUp ? "" : ", not stabilized");
+    }
+}
@@ -0,0 +1,232 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf;
+
+import com.google.common.collect.ImmutableList;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.management.CompilationMXBean;
+import java.lang.management.ManagementFactory;
+import java.time.Duration;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Performs the warm-up and the measurement iterations of a {@linkplain MicroBenchmark
+ * micro-benchmark}.
+ */
+final class BenchmarkRunner {
+
+    /**
+     * The relative difference between the throughput of two consecutive warm-up iterations,
+     * within which the throughput is regarded as stable.
+     */
+    private static final double STABLE_DIFFERENCE = 0.05;
+
+    /** The compilation time reported when the JVM cannot measure it. */
+    private static final long NO_COMPILATION_TIME = -1L;
+
+    private static final @Nullable CompilationMXBean compiler = compilerBean();
+
+    private final int minWarmUpIterations;
+    private final int maxWarmUpIterations;
+    private final int iterations;
+    private final long iterationNanos;
+    private final int operationsPerInvocation;
+
+    BenchmarkRunner(int minWarmUpIterations,
+                    int maxWarmUpIterations,
+                    int iterations,
+                    Duration iterationTime,
+                    int operationsPerInvocation) {
+        checkArgument(minWarmUpIterations >= 0,
+                      "The number of warm-up iterations cannot be negative: %s.",
+                      minWarmUpIterations);
+        checkArgument(maxWarmUpIterations >= minWarmUpIterations,
+                      "The maximal number of warm-up iterations (%s) cannot be less than" +
+                              " the minimal one (%s).",
+                      maxWarmUpIterations, minWarmUpIterations);
+        checkArgument(iterations > 0,
+                      "The number of iterations must be positive: %s.", iterations);
+        checkNotNull(iterationTime);
+        checkArgument(!iterationTime.isNegative() && !iterationTime.isZero(),
+                      "The iteration time must be positive: %s.", iterationTime);
+        checkArgument(operationsPerInvocation > 0,
+                      "The number of operations per invocation must be positive: %s.",
+                      operationsPerInvocation);
+        this.minWarmUpIterations = minWarmUpIterations;
+        this.maxWarmUpIterations = maxWarmUpIterations;
+        this.iterations = iterations;
+        this.iterationNanos = iterationTime.toNanos();
+        this.operationsPerInvocation = operationsPerInvocation;
+    }
+
+    /**
+     * Creates a runner with the settings of the passed annotation.
+     */
+    static BenchmarkRunner of(MicroBenchmark settings) {
+        checkNotNull(settings);
+        return new BenchmarkRunner(settings.warmUpIterations(),
+                                   settings.maxWarmUpIterations(),
+                                   settings.iterations(),
+                                   Duration.ofMillis(settings.iterationMillis()),
+                                   settings.operationsPerInvocation());
+    }
+
+    /**
+     * Warms up the passed operation and measures it.
+     *
+     * @throws Throwable
+     *          if the operation fails
+     */
+    BenchmarkResult run(Operation operation) throws Throwable {
+        checkNotNull(operation);
+        var warmUp = warmUp(operation);
+        var measureAllocation = ThreadAllocation.isSupported();
+        var samples = ImmutableList.<Double>builderWithExpectedSize(iterations);
+        long operations = 0;
+        long nanos = 0;
+        long allocated = 0;
+        for (var i = 0; i < iterations; i++) {
+            var before = measureAllocation ? ThreadAllocation.allocatedBytes() : 0L;
+            var sample = iterate(operation);
+            if (measureAllocation) {
+                allocated += ThreadAllocation.netOf(before, ThreadAllocation.allocatedBytes());
+            }
+            samples.add(sample.opsPerSecond());
+            operations += sample.operations;
+            nanos += sample.nanos;
+        }
+        return new BenchmarkResult(samples.build(), operations, nanos,
+                                   measureAllocation ? allocated : BenchmarkResult.UNSUPPORTED,
+                                   warmUp.iterations, warmUp.stable);
+    }
+
+    /**
+     * Repeats warm-up iterations until the JIT compiler becomes idle and the throughput
+     * stabilizes, or until the maximal number of iterations is reached.
+     */
+    private WarmUp warmUp(Operation operation) throws Throwable {
+        var previous = Double.NaN;
+        var compiledBefore = compilationMillis();
+        for (var i = 1; i <= maxWarmUpIterations; i++) {
+            var current = iterate(operation).opsPerSecond();
+            var compiledAfter = compilationMillis();
+            var compiling = compiledAfter != compiledBefore;
+            if (i >= minWarmUpIterations && !compiling && isStable(previous, current)) {
+                return new WarmUp(i, true);
+            }
+            previous = current;
+            compiledBefore = compiledAfter;
+        }
+        return new WarmUp(maxWarmUpIterations, false);
+    }
+
+    private static boolean isStable(double previous, double current) {
+        return !Double.isNaN(previous)
+                && Math.abs(current - previous) <= STABLE_DIFFERENCE * previous;
+    }
+
+    /**
+     * Repeats the operation for the duration of an iteration.
+     */
+    private Sample iterate(Operation operation) throws Throwable {
+        long invocations = 0;
+        var start = System.nanoTime();
+        var deadline = start + iterationNanos;
+        long now;
+        do {
+            operation.run();
+            invocations++;
+            now = System.nanoTime();
+        } while (now - deadline < 0);
+        return new Sample(invocations * operationsPerInvocation, now - start);
+    }
+
+    /**
+     * Obtains the total time spent by the JIT compiler, or {@link #NO_COMPILATION_TIME}
+     * if the JVM cannot measure it.
+     *
+     * <p>The time includes the compilation of the code run by other threads.
+     */
+    private static long compilationMillis() {
+        if (compiler == null || !compiler.isCompilationTimeMonitoringSupported()) {
+            return NO_COMPILATION_TIME;
+        }
+        return compiler.getTotalCompilationTime();
+    }
+
+    private static @Nullable CompilationMXBean compilerBean() {
+        return ManagementFactory.getCompilationMXBean();
+    }
+
+    /**
+     * An operation to measure.
+     */
+    @FunctionalInterface
+    interface Operation {
+
+        /**
+         * Performs the operation.
+         */
+        @SuppressWarnings("ProhibitedExceptionDeclared") // Whatever the benchmark method throws.
+        void run() throws Throwable;
+    }
+
+    /**
+     * The number of operations performed within an iteration, and its duration.
+     */
+    private static final class Sample {
+
+        private final long operations;
+        private final long nanos;
+
+        private Sample(long operations, long nanos) {
+            this.operations = operations;
+            this.nanos = nanos;
+        }
+
+        private double opsPerSecond() {
+            return operations * 1_000_000_000.0 / nanos;
+        }
+    }
+
+    /**
+     * The number of performed warm-up iterations, and whether the throughput stabilized.
+     */
+    private static final class WarmUp {
+
+        private final int iterations;
+        private final boolean stable;
+
+        private WarmUp(int iterations, boolean stable) {
+            this.iterations = iterations;
+            this.stable = stable;
+        }
+    }
+}
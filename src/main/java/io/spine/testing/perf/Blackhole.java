@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf;
+
+import org.jspecify.annotations.Nullable;
+
+/**
+ * Consumes the values computed by a {@linkplain MicroBenchmark micro-benchmark}, so that
+ * the JIT compiler cannot eliminate the computation as dead code.
+ *
+ * <p>Primitive values are mixed into a field, which is published when the benchmark
+ * completes. Objects are compared with a reference unknown to the compiler.
+ * Both ways cost a few nanoseconds per call.
+ *
+ * <p>An instance is created for each benchmark and is meant to be used by
+ * the thread which runs it.
+ */
+public final class Blackhole {
+
+    /** The sink visible to other threads, which makes the consumed values observable. */
+    @SuppressWarnings("unused") // Written to keep the consumed values alive.
+    private static volatile long published;
+
+    /** The reference which is never equal to a consumed object. */
+    @SuppressWarnings("FieldMayBeFinal") // Volatile, so that the compiler cannot fold it.
+    private volatile Object trap = new Object();
+
+    private long sink;
+
+    /** Prevents instantiation outside the package. */
+    Blackhole() {
+    }
+
+    /**
+     * Consumes the passed object.
+     */
+    public void consume(@Nullable Object value) {
+        if (value == trap) {
+            sink++;
+        }
+    }
+
+    /**
+     * Consumes the passed value.
+     */
+    public void consume(long value) {
+        sink = sink * 31 + value;
+    }
+
+    /**
+     * Consumes the passed value.
+     */
+    public void consume(int value) {
+        consume((long) value);
+    }
+
+    /**
+     * Consumes the passed value.
+     */
+    public void consume(double value) {
+        consume(Double.doubleToRawLongBits(value));
+    }
+
+    /**
+     * Consumes the passed value.
+     */
+    public void consume(boolean value) {
+        consume(value ? 1L : 0L);
+    }
+
+    /**
+     * Publishes the consumed values.
+     */
+    void release() {
+        published = sink;
+    }
+}
@@ -0,0 +1,84 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Measures latency of repeated actions.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * var latencies = Latency.measure(1_000, 10_000, () -> dispatcher.dispatch(command));
+ * LatencyTruth.assertThat(latencies)
+ *             .percentile(99)
+ *             .isLessThan(Duration.ofMillis(2));
+ * }</pre>
+ *
+ * @see LatencyHistogram
+ * @see LatencyTruth
+ */
+public final class Latency {
+
+    /** Prevents instantiation of this utility class. */
+    private Latency() {
+    }
+
+    /**
+     * Repeats the passed action, recording the latency of each repetition.
+     *
+     * <p>The warm-up repetitions are performed first so that the code under test
+     * is loaded and compiled by the time of the measurement. Their latencies are discarded.
+     *
+     * @param warmUpIterations
+     *         the number of repetitions to discard, can be zero
+     * @param iterations
+     *         the number of repetitions to record
+     * @param action
+     *         the action to measure
+     * @return the histogram of the latencies of the recorded repetitions
+     */
+    public static LatencyHistogram measure(int warmUpIterations, int iterations, Runnable action) {
+        checkArgument(warmUpIterations >= 0,
+                      "The number of warm-up iterations cannot be negative: %s.",
+                      warmUpIterations);
+        checkArgument(iterations > 0,
+                      "The number of iterations must be positive: %s.", iterations);
+        checkNotNull(action);
+        for (var i = 0; i < warmUpIterations; i++) {
+            action.run();
+        }
+        var histogram = new LatencyHistogram();
+        for (var i = 0; i < iterations; i++) {
+            var before = System.nanoTime();
+            action.run();
+            histogram.record(System.nanoTime() - before);
+        }
+        return histogram;
+    }
+}
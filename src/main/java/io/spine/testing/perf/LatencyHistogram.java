@@ -0,0 +1,265 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static com.google.common.base.Preconditions.checkState;
+import static java.lang.String.format;
+
+/**
+ * A histogram of latencies measured in nanoseconds.
+ *
+ * <p>The histogram follows the layout of
+ * <a href="http://hdrhistogram.org/">HdrHistogram</a>: values are grouped into buckets
+ * each of which covers twice the range of the previous one, and every bucket is split
+ * into linear sub-buckets. This gives a fixed relative precision of the recorded values,
+ * which is better than 1%, while the memory footprint of the histogram stays
+ * constant regardless of the number of the recorded values.
+ *
+ * <p>The {@linkplain #min() minimum}, the {@linkplain #max() maximum}, and
+ * the {@linkplain #mean() mean} values are exact. Percentiles are reported as the highest
+ * value equivalent to the value at the percentile within the precision of the histogram,
+ * but no higher than the maximum.
+ *
+ * <p>The class is not thread-safe.
+ *
+ * @see Latency#measure(int, int, Runnable)
+ * @see LatencyTruth#assertThat(LatencyHistogram)
+ */
+public final class LatencyHistogram {
+
+    /** The number of bits of precision of the recorded values. */
+    private static final int SUB_BUCKET_BITS = 8;
+    private static final int SUB_BUCKET_COUNT = 1 << SUB_BUCKET_BITS;
+    private static final int SUB_BUCKET_HALF_BITS = SUB_BUCKET_BITS - 1;
+    private static final int SUB_BUCKET_HALF_COUNT = 1 << SUB_BUCKET_HALF_BITS;
+
+    /** The number of counters enough for covering all positive {@code long} values. */
+    private static final int COUNTS_LENGTH =
+            (Long.SIZE - 1 - SUB_BUCKET_HALF_BITS) * SUB_BUCKET_HALF_COUNT + SUB_BUCKET_COUNT;
+
+    private final long[] counts = new long[COUNTS_LENGTH];
+    private long count;
+    private long min = Long.MAX_VALUE;
+    private long max;
+    private double sum;
+
+    /**
+     * Creates an empty histogram.
+     */
+    public LatencyHistogram() {
+        super();
+    }
+
+    /**
+     * Creates a histogram with the passed latencies.
+     *
+     * @param nanos
+     *         the latencies in nanoseconds
+     */
+    public static LatencyHistogram of(long... nanos) {
+        checkNotNull(nanos);
+        var histogram = new LatencyHistogram();
+        for (var value : nanos) {
+            histogram.record(value);
+        }
+        return histogram;
+    }
+
+    /**
+     * Records the passed latency.
+     *
+     * @param nanos
+     *         the latency in nanoseconds
+     * @return this instance for call chaining
+     * @throws IllegalArgumentException
+     *          if the value is negative
+     */
+    @CanIgnoreReturnValue
+    public LatencyHistogram record(long nanos) {
+        checkArgument(nanos >= 0, "A latency cannot be negative: %s.", nanos);
+        counts[indexOf(nanos)]++;
+        count++;
+        sum += nanos;
+        min = Math.min(min, nanos);
+        max = Math.max(max, nanos);
+        return this;
+    }
+
+    /**
+     * Records the passed latency.
+     *
+     * @return this instance for call chaining
+     */
+    @CanIgnoreReturnValue
+    public LatencyHistogram record(Duration latency) {
+        checkNotNull(latency);
+        return record(latency.toNanos());
+    }
+
+    /**
+     * Adds all the values recorded by the passed histogram to this one.
+     *
+     * @return this instance for call chaining
+     */
+    @CanIgnoreReturnValue
+    public LatencyHistogram add(LatencyHistogram other) {
+        checkNotNull(other);
+        for (var i = 0; i < COUNTS_LENGTH; i++) {
+            counts[i] += other.counts[i];
+        }
+        count += other.count;
+        sum += other.sum;
+        min = Math.min(min, other.min);
+        max = Math.max(max, other.max);
+        return this;
+    }
+
+    /**
+     * Obtains the number of recorded values.
+     */
+    public long count() {
+        return count;
+    }
+
+    /**
+     * Tells if no values were recorded.
+     */
+    public boolean isEmpty() {
+        return count == 0;
+    }
+
+    /**
+     * Obtains the smallest recorded latency.
+     *
+     * @throws IllegalStateException
+     *          if the histogram is empty
+     */
+    public Duration min() {
+        checkNotEmpty();
+        return Duration.ofNanos(min);
+    }
+
+    /**
+     * Obtains the largest recorded latency.
+     *
+     * @throws IllegalStateException
+     *          if the histogram is empty
+     */
+    public Duration max() {
+        checkNotEmpty();
+        return Duration.ofNanos(max);
+    }
+
+    /**
+     * Obtains the arithmetic mean of the recorded latencies.
+     *
+     * @throws IllegalStateException
+     *          if the histogram is empty
+     */
+    public Duration mean() {
+        checkNotEmpty();
+        return Duration.ofNanos(Math.round(sum / count));
+    }
+
+    /**
+     * Obtains the latency at the given percentile.
+     *
+     * @param percentile
+     *         the percentile in the range {@code (0, 100]}, e.g., {@code 99.9}
+     * @throws IllegalStateException
+     *          if the histogram is empty
+     */
+    public Duration percentile(double percentile) {
+        return Duration.ofNanos(valueAtPercentile(percentile));
+    }
+
+    /**
+     * Obtains the latency at the given percentile in nanoseconds.
+     *
+     * @param percentile
+     *         the percentile in the range {@code (0, 100]}, e.g., {@code 99.9}
+     * @throws IllegalStateException
+     *          if the histogram is empty
+     * @see #percentile(double)
+     */
+    public long valueAtPercentile(double percentile) {
+        checkArgument(percentile > 0 && percentile <= 100,
+                      "The percentile must be in the range (0, 100]: %s.", percentile);
+        checkNotEmpty();
+        var rank = (long) Math.ceil(percentile / 100 * count);
+        var target = Math.max(1L, Math.min(rank, count));
+        long seen = 0;
+        for (var i = 0; i < COUNTS_LENGTH; i++) {
+            seen += counts[i];
+            if (seen >= target) {
+                return Math.min(highestEquivalentValue(i), max);
+            }
+        }
+        return max;
+    }
+
+    private void checkNotEmpty() {
+        checkState(count > 0, "The histogram has no recorded values.");
+    }
+
+    private static int indexOf(long value) {
+        if (value < SUB_BUCKET_COUNT) {
+            return (int) value;
+        }
+        var highestBit = Long.SIZE - 1 - Long.numberOfLeadingZeros(value);
+        var shift = highestBit - SUB_BUCKET_HALF_BITS;
+        var subBucket = (int) (value >>> shift);
+        return (shift << SUB_BUCKET_HALF_BITS) + subBucket;
+    }
+
+    private static long highestEquivalentValue(int index) {
+        if (index < SUB_BUCKET_COUNT) {
+            return index;
+        }
+        var shift = (index >>> SUB_BUCKET_HALF_BITS) - 1;
+        var subBucket = index - (shift << SUB_BUCKET_HALF_BITS);
+        var next = ((long) subBucket + 1) << shift;
+        return next - 1;
+    }
+
+    @Override
+    public String toString() {
+        if (isEmpty()) {
+            return "LatencyHistogram{empty}";
+        }
+        return format(Locale.ROOT,
+                      "LatencyHistogram{count=%d, min=%s, p50=%s, p90=%s, p99=%s, max=%s}",
+                      count, min(), percentile(50), percentile(90), percentile(99), max());
+    }
+}
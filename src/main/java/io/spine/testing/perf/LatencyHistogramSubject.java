@@ -0,0 +1,140 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf;
+
+import com.google.common.truth.ComparableSubject;
+import com.google.common.truth.FailureMetadata;
+import com.google.common.truth.LongSubject;
+import com.google.common.truth.Subject;
+import org.jspecify.annotations.Nullable;
+
+import java.time.Duration;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.truth.Fact.simpleFact;
+
+/**
+ * Propositions for {@link LatencyHistogram} subjects.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * assertThat(histogram).percentile(99).isLessThan(Duration.ofMillis(2));
+ * assertThat(histogram).max().isLessThan(Duration.ofMillis(20));
+ * }</pre>
+ */
+public final class LatencyHistogramSubject extends Subject {
+
+    static final String NO_HISTOGRAM = "no latency histogram";
+    static final String NO_VALUES = "expected to have recorded latencies";
+
+    private final @Nullable LatencyHistogram actual;
+
+    /** Obtains the factory for creating subjects for actual values. */
+    static Subject.Factory<LatencyHistogramSubject, LatencyHistogram> histograms() {
+        return LatencyHistogramSubject::new;
+    }
+
+    private LatencyHistogramSubject(FailureMetadata metadata,
+                                    @Nullable LatencyHistogram actual) {
+        super(metadata, actual);
+        this.actual = actual;
+    }
+
+    /** Obtains a subject for the number of recorded latencies. */
+    public LongSubject hasCountThat() {
+        if (actual == null) {
+            shouldExistButDoesNot();
+            return ignoreCheck().that(0L);
+        }
+        return check("count()").that(actual.count());
+    }
+
+    /**
+     * Obtains a subject for the latency at the given percentile.
+     *
+     * @param percentile
+     *         the percentile in the range {@code (0, 100]}, e.g., {@code 99.9}
+     */
+    public ComparableSubject<Duration> percentile(double percentile) {
+        checkArgument(percentile > 0 && percentile <= 100,
+                      "The percentile must be in the range (0, 100]: %s.", percentile);
+        if (!hasValues()) {
+            return ignoreCheck().that(Duration.ZERO);
+        }
+        return check("percentile(%s)", percentile).that(actual.percentile(percentile));
+    }
+
+    /** Obtains a subject for the median latency. */
+    public ComparableSubject<Duration> median() {
+        return percentile(50);
+    }
+
+    /** Obtains a subject for the largest recorded latency. */
+    public ComparableSubject<Duration> max() {
+        if (!hasValues()) {
+            return ignoreCheck().that(Duration.ZERO);
+        }
+        return check("max()").that(actual.max());
+    }
+
+    /** Obtains a subject for the smallest recorded latency. */
+    public ComparableSubject<Duration> min() {
+        if (!hasValues()) {
+            return ignoreCheck().that(Duration.ZERO);
+        }
+        return check("min()").that(actual.min());
+    }
+
+    /** Obtains a subject for the mean latency. */
+    public ComparableSubject<Duration> mean() {
+        if (!hasValues()) {
+            return ignoreCheck().that(Duration.ZERO);
+        }
+        return check("mean()").that(actual.mean());
+    }
+
+    /**
+     * Fails if there is no actual histogram, or the histogram is empty.
+     *
+     * @return {@code true} if the percentiles of the histogram can be checked
+     */
+    private boolean hasValues() {
+        if (actual == null) {
+            shouldExistButDoesNot();
+            return false;
+        }
+        if (actual.isEmpty()) {
+            failWithActual(simpleFact(NO_VALUES));
+            return false;
+        }
+        return true;
+    }
+
+    private void shouldExistButDoesNot() {
+        failWithoutActual(simpleFact(NO_HISTOGRAM));
+    }
+}
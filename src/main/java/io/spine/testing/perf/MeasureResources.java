@@ -0,0 +1,59 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf;
+
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Measures the resources consumed by a test case or by all the test cases
+ * of a test suite.
+ *
+ * <p>For each test, the wall-clock and CPU time, the allocated bytes, the number and time
+ * of garbage collections, the change of the number of threads, and the growth of
+ * the heap usage are measured. The growth of the heap usage is not measured for
+ * the tests run in parallel, and is reported as {@code -1}.
+ *
+ * <p>The measurements of all the tests are written as a JSON document to
+ * {@code build/test-resources-<PID>.json} when the JVM shuts down, where {@code <PID>} is
+ * the ID of the JVM process. Therefore, each fork of a test task writes its own report.
+ * The path can be changed via the {@code io.spine.testing.perf.report} system property,
+ * to which the process ID is appended in the same way.
+ *
+ * <p>To measure all the tests of a project, register {@link ResourceUsageExtension} for
+ * <a href="https://docs.junit.org/current/user-guide/#extensions-registration-automatic">
+ * automatic detection</a> instead.
+ */
+@Target({ElementType.METHOD, ElementType.TYPE})
+@Retention(RetentionPolicy.RUNTIME)
+@ExtendWith(ResourceUsageExtension.class)
+public @interface MeasureResources {
+}
@@ -0,0 +1,136 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test method as a micro-benchmark run as a part of the test suite.
+ *
+ * <p>The method is repeated for the {@linkplain #iterationMillis() given time}
+ * in warm-up and measurement iterations:
+ * <ol>
+ *     <li>The warm-up lasts for at least {@link #warmUpIterations()} and at most
+ *         {@link #maxWarmUpIterations()} iterations. It is over once the JIT compiler is
+ *         idle during an iteration, and the throughput differs by no more than 5% from
+ *         the previous iteration.
+ *     <li>The measurement lasts for exactly {@link #iterations()} iterations.
+ * </ol>
+ *
+ * <p>The throughput and the allocation rate measured in the current thread are
+ * published as a {@linkplain org.junit.jupiter.api.TestReporter report entry}.
+ * The {@code @BeforeEach} and {@code @AfterEach} methods are run once for all the iterations.
+ * The test fails if the measurements exceed the {@linkplain #minOpsPerSecond() thresholds},
+ * or if the benchmark became {@linkplain #maxSlowdown() slower} than its baseline.
+ *
+ * <p>The method may accept a {@link Blackhole} to consume the values it computes,
+ * so that the JIT compiler cannot eliminate the computation:
+ * <pre>{@code
+ * @MicroBenchmark(minOpsPerSecond = 100_000)
+ * void routeEvent(Blackhole blackhole) {
+ *     blackhole.consume(router.route(event));
+ * }
+ * }</pre>
+ *
+ * <p>Unlike JMH, the benchmark runs in the JVM of the test suite, and each call to
+ * the method goes through a {@link java.lang.invoke.MethodHandle MethodHandle}.
+ * Therefore, the measurements are the most reliable for operations taking microseconds
+ * or longer. Use {@link #operationsPerInvocation()} to measure a loop of faster operations.
+ *
+ * @see BenchmarkResult
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@TestTemplate
+@ExtendWith(MicroBenchmarkExtension.class)
+public @interface MicroBenchmark {
+
+    /**
+     * The minimal number of warm-up iterations.
+     */
+    int warmUpIterations() default 5;
+
+    /**
+     * The maximal number of warm-up iterations, which are performed if the throughput
+     * does not stabilize earlier.
+     */
+    int maxWarmUpIterations() default 20;
+
+    /**
+     * The number of measurement iterations.
+     */
+    int iterations() default 10;
+
+    /**
+     * The duration of a single iteration in milliseconds.
+     */
+    long iterationMillis() default 100;
+
+    /**
+     * The number of operations performed by a single call to the method.
+     */
+    int operationsPerInvocation() default 1;
+
+    /**
+     * The minimal acceptable mean throughput in operations per second.
+     *
+     * <p>The default value of zero turns the check off.
+     */
+    double minOpsPerSecond() default 0;
+
+    /**
+     * The maximal acceptable number of bytes allocated per operation.
+     *
+     * <p>The default value of {@code -1} turns the check off. The check is also skipped if
+     * the JVM {@linkplain ThreadAllocation#isSupported() cannot measure} allocations.
+     */
+    long maxBytesPerOperation() default -1;
+
+    /**
+     * The maximal acceptable slowdown relative to the {@linkplain PerformanceBaseline
+     * baseline} of this benchmark on the current machine, e.g., {@code 0.1} for 10%.
+     *
+     * <p>The test fails only if the slowdown exceeds the given share with 95% confidence.
+     * If there is no baseline yet, the results of the run become the baseline.
+     * To replace the baselines, run the tests with the
+     * {@value PerformanceBaseline#UPDATE_PROPERTY} system property set to {@code true}.
+     *
+     * <p>The comparison requires at least two {@linkplain #iterations() iterations}.
+     * The default value of {@code -1} turns the check off.
+     *
+     * @see BaselineComparison
+     */
+    double maxSlowdown() default -1;
+}
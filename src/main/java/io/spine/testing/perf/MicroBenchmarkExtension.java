@@ -0,0 +1,211 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf;
+
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+import org.junit.platform.commons.support.AnnotationSupport;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.lang.reflect.Modifier;
+import java.util.List;
+import java.util.Locale;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.String.format;
+import static org.junit.jupiter.api.Assertions.fail;
+
+/**
+ * A JUnit {@link Extension} which runs {@linkplain MicroBenchmark micro-benchmarks}.
+ *
+ * <p>The first call to a benchmark method is performed by JUnit, and is therefore subject to
+ * other extensions intercepting the method, e.g., timeouts. The following calls are made
+ * by the extension directly.
+ *
+ * <p>Do not use this extension directly. Mark the target test method with
+ * the {@link MicroBenchmark} annotation.
+ *
+ * @see MicroBenchmark
+ */
+public final class MicroBenchmarkExtension implements TestTemplateInvocationContextProvider {
+
+    /** The key of the published report entry with the result. */
+    private static final String REPORT_KEY = "microBenchmark";
+
+    /** The key of the published report entry with the comparison with the baseline. */
+    private static final String BASELINE_REPORT_KEY = "baseline";
+
+    /** The confidence with which a slowdown is detected. */
+    private static final double CONFIDENCE = 0.95;
+
+    @Override
+    public boolean supportsTestTemplate(ExtensionContext context) {
+        return context.getTestMethod()
+                      .map(method -> AnnotationSupport.isAnnotated(method, MicroBenchmark.class))
+                      .orElse(false);
+    }
+
+    @Override
+    public Stream<TestTemplateInvocationContext>
+    provideTestTemplateInvocationContexts(ExtensionContext context) {
+        var method = context.getRequiredTestMethod();
+        var benchmark = AnnotationSupport.findAnnotation(method, MicroBenchmark.class)
+                                         .orElseThrow();
+        var runner = BenchmarkRunner.of(benchmark);
+        checkArgument(benchmark.maxSlowdown() < 0 || benchmark.iterations() > 1,
+                      "At least two iterations are required to compare with the baseline.");
+        return Stream.of(new Measurement(benchmark, runner));
+    }
+
+    /**
+     * The single invocation of a benchmark which runs all its iterations.
+     */
+    private static final class Measurement
+            implements TestTemplateInvocationContext, ParameterResolver, InvocationInterceptor {
+
+        private final MicroBenchmark benchmark;
+        private final BenchmarkRunner runner;
+        private final Blackhole blackhole = new Blackhole();
+
+        private Measurement(MicroBenchmark benchmark, BenchmarkRunner runner) {
+            this.benchmark = benchmark;
+            this.runner = runner;
+        }
+
+        @Override
+        public String getDisplayName(int invocationIndex) {
+            return format(Locale.ROOT, "%d iterations of %d ms",
+                          benchmark.iterations(), benchmark.iterationMillis());
+        }
+
+        @Override
+        public List<Extension> getAdditionalExtensions() {
+            return List.of(this);
+        }
+
+        @Override
+        public boolean supportsParameter(ParameterContext parameterContext,
+                                         ExtensionContext extensionContext) {
+            return parameterContext.getParameter()
+                                   .getType() == Blackhole.class;
+        }
+
+        @Override
+        public Object resolveParameter(ParameterContext parameterContext,
+                                       ExtensionContext extensionContext) {
+            return blackhole;
+        }
+
+        /**
+         * Lets JUnit call the benchmark method once, and then repeats the call
+         * with the same arguments for all the iterations.
+         */
+        @Override
+        public void interceptTestTemplateMethod(
+                Invocation<@Nullable Void> invocation,
+                ReflectiveInvocationContext<Method> invocationContext,
+                ExtensionContext extensionContext) throws Throwable {
+            invocation.proceed();
+            var method = handleOf(invocationContext);
+            var result = runner.run(() -> method.invokeExact());
+            blackhole.release();
+            extensionContext.publishReportEntry(REPORT_KEY, result.toString());
+            checkThresholds(result);
+            if (benchmark.maxSlowdown() >= 0) {
+                compareWithBaseline(result, extensionContext);
+            }
+        }
+
+        private void checkThresholds(BenchmarkResult result) {
+            var minOpsPerSecond = benchmark.minOpsPerSecond();
+            if (minOpsPerSecond > 0 && result.opsPerSecond() < minOpsPerSecond) {
+                fail(format(Locale.ROOT,
+                            "The throughput is below %,.1f ops/s: %s.", minOpsPerSecond, result));
+            }
+            var maxBytes = benchmark.maxBytesPerOperation();
+            var bytes = result.bytesPerOperation();
+            if (maxBytes >= 0 && bytes != BenchmarkResult.UNSUPPORTED && bytes > maxBytes) {
+                fail(format(Locale.ROOT,
+                            "The allocation exceeds %,d bytes per operation: %s.",
+                            maxBytes, result));
+            }
+        }
+
+        /**
+         * Compares the result with the baseline of the test, or makes the result
+         * the baseline if there is none or if the update is requested.
+         */
+        private void compareWithBaseline(BenchmarkResult result, ExtensionContext context) {
+            var baseline = PerformanceBaseline.shared();
+            var testId = context.getUniqueId();
+            var previous = baseline.samples(testId);
+            if (previous == null || PerformanceBaseline.updateRequested()) {
+                baseline.record(testId, result.samples());
+                return;
+            }
+            var comparison = BaselineComparison.of(previous, result.samples(), CONFIDENCE);
+            context.publishReportEntry(BASELINE_REPORT_KEY, comparison.toString());
+            if (comparison.isSlowerBy(benchmark.maxSlowdown())) {
+                fail(format(Locale.ROOT,
+                            "The benchmark is more than %.0f%% slower than its baseline"
+                                    + " on the machine `%s`: %s.",
+                            benchmark.maxSlowdown() * 100, baseline.machine(), comparison));
+            }
+        }
+    }
+
+    /**
+     * Obtains a handle calling the benchmark method with the arguments resolved by JUnit.
+     *
+     * <p>The handle has the {@code ()void} type.
+     */
+    private static MethodHandle handleOf(ReflectiveInvocationContext<Method> context)
+            throws IllegalAccessException {
+        var method = context.getExecutable();
+        method.setAccessible(true);
+        var handle = MethodHandles.lookup()
+                                  .unreflect(method);
+        if (!Modifier.isStatic(method.getModifiers())) {
+            handle = handle.bindTo(context.getTarget()
+                                          .orElseThrow());
+        }
+        handle = MethodHandles.insertArguments(handle, 0, context.getArguments()
+                                                                 .toArray());
+        return handle.asType(MethodType.methodType(void.class));
+    }
+}
@@ -0,0 +1,334 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import com.google.common.hash.Hashing;
+import io.spine.testing.SharedFiles;
+import org.jspecify.annotations.Nullable;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+import static java.util.stream.Collectors.joining;
+
+/**
+ * The throughputs of benchmarks recorded by previous runs on this and other machines.
+ *
+ * <p>The baseline is kept in a text file with a line per benchmark and machine:
+ * <pre>
+ * &lt;machine&gt; &lt;ops/s&gt;,&lt;ops/s&gt;,... &lt;test ID&gt;
+ * </pre>
+ * The throughputs are the {@linkplain BenchmarkResult#samples() samples} of the measurement
+ * iterations. The machine is the {@linkplain #currentMachine() fingerprint} of the hardware
+ * and the JVM. Therefore, a single file may hold the baselines of several machines, e.g.,
+ * of a developer's workstation and of CI runners, and the results of a machine are only
+ * compared with the results of the same machine.
+ *
+ * <p>The {@linkplain #shared() shared} baseline is read from the file specified by
+ * the {@value #FILE_PROPERTY} system property, or from {@value #DEFAULT_FILE} relative to
+ * the working directory of the tests. If new results were recorded, they are
+ * {@linkplain #mergeInto(Path) merged} into the file when the JVM shuts down.
+ * Therefore, several JVMs running the benchmarks at the same time, e.g., the forks of
+ * a Gradle test task, do not overwrite the results recorded by each other. Unlike other
+ * reports of the tests, the file is placed outside the build directory, so that
+ * the baseline survives a clean build.
+ *
+ * <p>The baseline may be updated concurrently by the tests of the same JVM.
+ *
+ * @see BaselineComparison
+ * @see MicroBenchmark#maxSlowdown()
+ */
+public final class PerformanceBaseline {
+
+    /**
+     * The name of the system property with the path to the baseline file.
+     */
+    public static final String FILE_PROPERTY = "io.spine.testing.perf.baseline";
+
+    /**
+     * The path to the baseline file used if the {@linkplain #FILE_PROPERTY property}
+     * is not set.
+     */
+    public static final String DEFAULT_FILE = "perf-baseline.txt";
+
+    /**
+     * The name of the system property which, if set to {@code true}, makes the benchmarks
+     * replace their baselines instead of comparing with them.
+     */
+    public static final String UPDATE_PROPERTY = "io.spine.testing.perf.updateBaseline";
+
+    /**
+     * The name of the system property with the name of the current machine.
+     *
+     * <p>Set the property to share the baseline between machines of the same kind,
+     * e.g., CI runners, whose fingerprints may differ slightly.
+     */
+    public static final String MACHINE_PROPERTY = "io.spine.testing.perf.machine";
+
+    private static final String HEADER = "# Throughputs of benchmarks: <machine> <ops/s,...> <ID>";
+
+    private final String machine;
+    private final Map<String, ImmutableList<Double>> samples;
+
+    /**
+     * The throughputs recorded by this instance, as opposed to the ones read from a file.
+     */
+    private final Map<String, ImmutableList<Double>> recorded = new ConcurrentHashMap<>();
+
+    private PerformanceBaseline(String machine, Map<String, ImmutableList<Double>> samples) {
+        this.machine = machine;
+        this.samples = new ConcurrentHashMap<>(samples);
+    }
+
+    /**
+     * Obtains the baseline shared by all the tests run by this JVM.
+     */
+    public static PerformanceBaseline shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Creates an empty baseline of the current machine.
+     */
+    public static PerformanceBaseline empty() {
+        return empty(currentMachine());
+    }
+
+    @VisibleForTesting
+    static PerformanceBaseline empty(String machine) {
+        return new PerformanceBaseline(machine, Map.of());
+    }
+
+    /**
+     * Reads the baseline from the given file for the current machine.
+     *
+     * <p>If the file does not exist, an empty baseline is returned.
+     * Malformed lines of the file are skipped.
+     *
+     * @throws UncheckedIOException
+     *          if the file cannot be read
+     */
+    public static PerformanceBaseline readFrom(Path file) {
+        return readFrom(file, currentMachine());
+    }
+
+    @VisibleForTesting
+    static PerformanceBaseline readFrom(Path file, String machine) {
+        checkNotNull(file);
+        checkNotNull(machine);
+        if (!Files.exists(file)) {
+            return empty(machine);
+        }
+        try {
+            var result = new TreeMap<String, ImmutableList<Double>>();
+            for (var line : Files.readAllLines(file, UTF_8)) {
+                parseInto(line, result);
+            }
+            return new PerformanceBaseline(machine, result);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    private static void parseInto(String line, Map<String, ImmutableList<Double>> result) {
+        if (line.isBlank() || line.startsWith("#")) {
+            return;
+        }
+        var parts = line.split(" ", 3);
+        if (parts.length < 3) {
+            return;
+        }
+        try {
+            var values = ImmutableList.<Double>builder();
+            for (var value : parts[1].split(",")) {
+                values.add(Double.parseDouble(value));
+            }
+            result.put(key(parts[0], parts[2]), values.build());
+        } catch (NumberFormatException ignored) {
+            // Skip the malformed line.
+        }
+    }
+
+    /**
+     * Obtains the fingerprint of the machine running the tests.
+     *
+     * <p>The fingerprint is derived from the operating system, the processor architecture,
+     * the number of processors, the JVM, and the maximal heap size. If
+     * the {@value #MACHINE_PROPERTY} system property is set, its value is used instead.
+     */
+    @SuppressWarnings("AccessOfSystemProperties")
+    public static String currentMachine() {
+        var name = System.getProperty(MACHINE_PROPERTY);
+        if (name != null && !name.isBlank()) {
+            return name.trim().replace(' ', '_');
+        }
+        var traits = format(Locale.ROOT, "%s|%s|%d|%s|%s|%d",
+                            System.getProperty("os.name"),
+                            System.getProperty("os.arch"),
+                            Runtime.getRuntime().availableProcessors(),
+                            System.getProperty("java.vm.name"),
+                            System.getProperty("java.specification.version"),
+                            Runtime.getRuntime().maxMemory());
+        return Hashing.sha256()
+                      .hashString(traits, UTF_8)
+                      .toString()
+                      .substring(0, 12);
+    }
+
+    /**
+     * Obtains the machine whose results are compared by this baseline.
+     */
+    public String machine() {
+        return machine;
+    }
+
+    /**
+     * Obtains the throughputs recorded for the given test on the current machine.
+     *
+     * @param testId
+     *         the {@linkplain org.junit.jupiter.api.extension.ExtensionContext#getUniqueId()
+     *         unique ID} of the test
+     * @return the throughputs, or {@code null} if nothing was recorded for the test
+     */
+    public @Nullable ImmutableList<Double> samples(String testId) {
+        checkNotNull(testId);
+        return samples.get(key(machine, testId));
+    }
+
+    /**
+     * Records the throughputs of the given test on the current machine,
+     * replacing the previous ones.
+     */
+    public void record(String testId, List<Double> throughputs) {
+        checkNotNull(testId);
+        checkNotNull(throughputs);
+        checkArgument(!throughputs.isEmpty(), "No throughputs to record for `%s`.", testId);
+        var key = key(machine, testId);
+        var values = ImmutableList.copyOf(throughputs);
+        samples.put(key, values);
+        recorded.put(key, values);
+    }
+
+    /**
+     * Writes the baseline of all the machines to the given file, replacing its content.
+     *
+     * @throws UncheckedIOException
+     *          if the file cannot be written
+     */
+    public void writeTo(Path file) {
+        checkNotNull(file);
+        var lines = new ArrayList<String>(samples.size() + 1);
+        lines.add(HEADER);
+        new TreeMap<>(samples).forEach((key, values) -> {
+            var parts = key.split(" ", 2);
+            var throughputs = values.stream()
+                                    .map(value -> format(Locale.ROOT, "%.3f", value))
+                                    .collect(joining(","));
+            lines.add(parts[0] + ' ' + throughputs + ' ' + parts[1]);
+        });
+        SharedFiles.replace(file, lines);
+    }
+
+    /**
+     * Merges the throughputs recorded by this baseline into the given file.
+     *
+     * <p>Unlike {@link #writeTo(Path)}, this method re-reads the file and replaces only
+     * the throughputs of the tests recorded by this baseline. The file is locked for
+     * the time of the update, so that the baselines of several JVMs may be merged into
+     * the same file concurrently.
+     *
+     * @throws UncheckedIOException
+     *          if the file cannot be read or written
+     */
+    public void mergeInto(Path file) {
+        checkNotNull(file);
+        var updates = Map.copyOf(recorded);
+        SharedFiles.updateExclusively(file, () -> {
+            var current = readFrom(file, machine);
+            current.samples.putAll(updates);
+            current.writeTo(file);
+        });
+    }
+
+    @VisibleForTesting
+    boolean isModified() {
+        return !recorded.isEmpty();
+    }
+
+    /**
+     * Tells if the baselines should be replaced with the results of the current run.
+     */
+    @SuppressWarnings("AccessOfSystemProperties")
+    static boolean updateRequested() {
+        return Boolean.parseBoolean(System.getProperty(UPDATE_PROPERTY));
+    }
+
+    private static String key(String machine, String testId) {
+        return machine + ' ' + testId;
+    }
+
+    @SuppressWarnings("AccessOfSystemProperties")
+    private static Path sharedFile() {
+        return Path.of(System.getProperty(FILE_PROPERTY, DEFAULT_FILE));
+    }
+
+    /**
+     * Holds the shared baseline, which is loaded upon the first request.
+     */
+    private static final class Shared {
+
+        private static final PerformanceBaseline INSTANCE = load();
+
+        private static PerformanceBaseline load() {
+            var file = sharedFile();
+            var content = "the performance baseline";
+            var baseline = SharedFiles.read(file, content,
+                                            PerformanceBaseline::readFrom,
+                                            PerformanceBaseline::empty);
+            SharedFiles.updateOnShutdown(file, content, () -> {
+                if (baseline.isModified()) {
+                    baseline.mergeInto(file);
+                }
+            });
+            return baseline;
+        }
+    }
+}
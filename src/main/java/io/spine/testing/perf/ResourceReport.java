@@ -0,0 +1,219 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.collect.ImmutableList;
+import io.spine.testing.SharedFiles;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.Locale;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * Collects the {@linkplain ResourceUsage resource usage} of tests and writes it
+ * as a JSON document.
+ *
+ * <p>The document has the following structure:
+ * <pre>{@code
+ * {
+ *   "tests": [
+ *     {
+ *       "id": "[engine:junit-jupiter]/[class:...]/[method:...]",
+ *       "displayName": "...",
+ *       "wallNanos": 1200000,
+ *       "cpuNanos": 1100000,
+ *       "allocatedBytes": 524288,
+ *       "gcCount": 0,
+ *       "gcMillis": 0,
+ *       "threadDelta": 0,
+ *       "peakHeapDeltaBytes": 1048576
+ *     }
+ *   ]
+ * }
+ * }</pre>
+ * The tests are sorted by their IDs. The metrics which could not be measured are {@code -1}.
+ *
+ * <p>The {@linkplain #shared() shared} report is written when the JVM shuts down.
+ * The file is specified by the {@value #FILE_PROPERTY} system property, or is
+ * {@value #DEFAULT_FILE} relative to the working directory of the tests.
+ * The {@linkplain #perProcess(Path) ID of the process} is appended to the name of the file,
+ * so that the forks of a test task running at the same time do not overwrite
+ * the reports of each other.
+ */
+final class ResourceReport {
+
+    /**
+     * The name of the system property with the path to the report file.
+     */
+    static final String FILE_PROPERTY = "io.spine.testing.perf.report";
+
+    /**
+     * The path to the report file used if the {@linkplain #FILE_PROPERTY property} is not set.
+     */
+    static final String DEFAULT_FILE = "build/test-resources.json";
+
+    private final Queue<ResourceUsage> usages = new ConcurrentLinkedQueue<>();
+
+    /**
+     * Obtains the report shared by all the tests run by this JVM.
+     */
+    static ResourceReport shared() {
+        return Shared.INSTANCE;
+    }
+
+    /**
+     * Adds the usage of a test to the report.
+     */
+    void add(ResourceUsage usage) {
+        checkNotNull(usage);
+        usages.add(usage);
+    }
+
+    /**
+     * Obtains the added usages sorted by the IDs of the tests.
+     */
+    ImmutableList<ResourceUsage> usages() {
+        return usages.stream()
+                     .sorted(Comparator.comparing(ResourceUsage::testId))
+                     .collect(ImmutableList.toImmutableList());
+    }
+
+    /**
+     * Composes the JSON document of the report.
+     */
+    @VisibleForTesting
+    String toJson() {
+        var json = new StringBuilder("{\n  \"tests\": [");
+        var first = true;
+        for (var usage : usages()) {
+            json.append(first ? "\n" : ",\n");
+            first = false;
+            json.append("    {")
+                .append("\"id\": ").append(quote(usage.testId()))
+                .append(", \"displayName\": ").append(quote(usage.displayName()))
+                .append(format(Locale.ROOT,
+                               ", \"wallNanos\": %d, \"cpuNanos\": %d, \"allocatedBytes\": %d"
+                                       + ", \"gcCount\": %d, \"gcMillis\": %d"
+                                       + ", \"threadDelta\": %d, \"peakHeapDeltaBytes\": %d}",
+                               usage.wallNanos(), usage.cpuNanos(), usage.allocatedBytes(),
+                               usage.gcCount(), usage.gcMillis(),
+                               usage.threadDelta(), usage.peakHeapDeltaBytes()));
+        }
+        json.append(first ? "]\n}\n" : "\n  ]\n}\n");
+        return json.toString();
+    }
+
+    /**
+     * Writes the report to the given file.
+     *
+     * @throws UncheckedIOException
+     *          if the file cannot be written
+     */
+    void writeTo(Path file) {
+        checkNotNull(file);
+        try {
+            var directory = file.toAbsolutePath().getParent();
+            if (directory != null) {
+                Files.createDirectories(directory);
+            }
+            Files.writeString(file, toJson(), UTF_8);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+    }
+
+    /**
+     * Appends the ID of the current process to the name of the given file,
+     * keeping the extension of the file.
+     *
+     * <p>For example, {@code build/test-resources.json} becomes
+     * {@code build/test-resources-1234.json}.
+     */
+    @VisibleForTesting
+    static Path perProcess(Path file) {
+        checkNotNull(file);
+        var name = file.getFileName().toString();
+        var pid = ProcessHandle.current().pid();
+        var dot = name.lastIndexOf('.');
+        var perProcess = dot > 0
+                         ? name.substring(0, dot) + '-' + pid + name.substring(dot)
+                         : name + '-' + pid;
+        return file.resolveSibling(perProcess);
+    }
+
+    private static String quote(String value) {
+        var result = new StringBuilder(value.length() + 2).append('"');
+        for (var i = 0; i < value.length(); i++) {
+            var c = value.charAt(i);
+            switch (c) {
+                case '"' -> result.append("\\\"");
+                case '\\' -> result.append("\\\\");
+                case '\n' -> result.append("\\n");
+                case '\r' -> result.append("\\r");
+                case '\t' -> result.append("\\t");
+                default -> {
+                    if (c < ' ') {
+                        result.append(format(Locale.ROOT, "\\u%04x", (int) c));
+                    } else {
+                        result.append(c);
+                    }
+                }
+            }
+        }
+        return result.append('"').toString();
+    }
+
+    /**
+     * Holds the shared report, which is written upon the JVM shutdown.
+     */
+    private static final class Shared {
+
+        private static final ResourceReport INSTANCE = create();
+
+        @SuppressWarnings("AccessOfSystemProperties")
+        private static ResourceReport create() {
+            var report = new ResourceReport();
+            var file = perProcess(Path.of(System.getProperty(FILE_PROPERTY, DEFAULT_FILE)));
+            SharedFiles.updateOnShutdown(file, "the resource usage of tests", () -> {
+                if (!report.usages.isEmpty()) {
+                    report.writeTo(file);
+                }
+            });
+            return report;
+        }
+    }
+}
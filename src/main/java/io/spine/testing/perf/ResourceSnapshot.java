@@ -0,0 +1,172 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf;
+
+import java.lang.management.GarbageCollectorMXBean;
+import java.lang.management.ManagementFactory;
+import java.lang.management.MemoryPoolMXBean;
+import java.lang.management.MemoryType;
+import java.lang.management.ThreadMXBean;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+import static io.spine.testing.perf.ResourceUsage.UNSUPPORTED;
+
+/**
+ * The readings of the resource counters taken before a test.
+ *
+ * <p>The peak heap usage is measured by resetting the peaks of the heap memory pools
+ * before a test. The pools are shared by the whole JVM, so the peak cannot be attributed
+ * to a test if another test is measured at the same time. In this case, the growth of
+ * the peak heap usage is reported as {@linkplain ResourceUsage#UNSUPPORTED unsupported}.
+ */
+final class ResourceSnapshot {
+
+    private static final ThreadMXBean threads = ManagementFactory.getThreadMXBean();
+    private static final List<GarbageCollectorMXBean> collectors =
+            ManagementFactory.getGarbageCollectorMXBeans();
+    private static final List<MemoryPoolMXBean> heapPools =
+            ManagementFactory.getMemoryPoolMXBeans()
+                             .stream()
+                             .filter(pool -> pool.getType() == MemoryType.HEAP)
+                             .toList();
+
+    /** The number of the snapshots which are not yet turned into usages. */
+    private static final AtomicInteger pending = new AtomicInteger();
+
+    /** The number of the snapshots taken so far. */
+    private static final AtomicLong taken = new AtomicLong();
+
+    private final Thread thread;
+    private final long wallNanos;
+    private final long cpuNanos;
+    private final long allocatedBytes;
+    private final long gcCount;
+    private final long gcMillis;
+    private final int threadCount;
+    private final long heapBytes;
+    private final boolean overlapped;
+    private final long sequence;
+
+    private ResourceSnapshot() {
+        this.overlapped = pending.getAndIncrement() > 0;
+        this.sequence = taken.incrementAndGet();
+        this.thread = Thread.currentThread();
+        this.threadCount = threads.getThreadCount();
+        this.gcCount = totalGcCount();
+        this.gcMillis = totalGcMillis();
+        this.heapBytes = heapUsageResettingPeaks();
+        this.allocatedBytes = ThreadAllocation.isSupported()
+                              ? ThreadAllocation.allocatedBytes()
+                              : UNSUPPORTED;
+        this.cpuNanos = cpuTime();
+        this.wallNanos = System.nanoTime();
+    }
+
+    /**
+     * Takes the readings on the current thread.
+     *
+     * <p>The peak usage of the heap memory pools is reset, so that the peak
+     * during the test can be measured.
+     *
+     * <p>Each snapshot must be turned into the {@linkplain #usageSince(String, String) usage}
+     * exactly once. Otherwise, the peak heap usage of the following tests is not measured.
+     */
+    static ResourceSnapshot take() {
+        return new ResourceSnapshot();
+    }
+
+    /**
+     * Obtains the resources consumed since this snapshot was taken.
+     *
+     * <p>The per-thread metrics are reported as {@linkplain ResourceUsage#UNSUPPORTED
+     * unsupported} if the test finished on a thread other than it started on.
+     * The growth of the peak heap usage is reported as unsupported if another test
+     * was measured at the same time.
+     */
+    ResourceUsage usageSince(String testId, String displayName) {
+        var wall = System.nanoTime() - wallNanos;
+        var alone = !overlapped && taken.get() == sequence;
+        pending.decrementAndGet();
+        var peakHeapDelta = alone
+                            ? Math.max(0L, peakHeapUsage() - heapBytes)
+                            : UNSUPPORTED;
+        var sameThread = thread == Thread.currentThread();
+        var cpu = sameThread && cpuNanos != UNSUPPORTED
+                  ? Math.max(0L, cpuTime() - cpuNanos)
+                  : UNSUPPORTED;
+        var allocated = sameThread && allocatedBytes != UNSUPPORTED
+                        ? ThreadAllocation.netOf(allocatedBytes,
+                                                 ThreadAllocation.allocatedBytes())
+                        : UNSUPPORTED;
+        return new ResourceUsage(testId, displayName, wall, cpu, allocated,
+                                 totalGcCount() - gcCount,
+                                 totalGcMillis() - gcMillis,
+                                 threads.getThreadCount() - threadCount,
+                                 peakHeapDelta);
+    }
+
+    private static long cpuTime() {
+        if (!threads.isCurrentThreadCpuTimeSupported()) {
+            return UNSUPPORTED;
+        }
+        var result = threads.getCurrentThreadCpuTime();
+        return result < 0 ? UNSUPPORTED : result;
+    }
+
+    private static long totalGcCount() {
+        return collectors.stream()
+                         .mapToLong(GarbageCollectorMXBean::getCollectionCount)
+                         .filter(count -> count > 0)
+                         .sum();
+    }
+
+    private static long totalGcMillis() {
+        return collectors.stream()
+                         .mapToLong(GarbageCollectorMXBean::getCollectionTime)
+                         .filter(time -> time > 0)
+                         .sum();
+    }
+
+    private static long heapUsageResettingPeaks() {
+        var result = 0L;
+        for (var pool : heapPools) {
+            pool.resetPeakUsage();
+            result += pool.getUsage().getUsed();
+        }
+        return result;
+    }
+
+    private static long peakHeapUsage() {
+        var result = 0L;
+        for (var pool : heapPools) {
+            result += pool.getPeakUsage().getUsed();
+        }
+        return result;
+    }
+}
@@ -0,0 +1,167 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf;
+
+import com.google.errorprone.annotations.Immutable;
+
+import java.time.Duration;
+import java.util.Locale;
+
+import static java.lang.String.format;
+
+/**
+ * The resources consumed by a test.
+ *
+ * <p>The CPU time and the allocated bytes are measured for the thread which ran the test.
+ * The numbers of garbage collections and the number of threads are measured for
+ * the whole JVM. Therefore, they also include the resources consumed by the tests run
+ * in parallel with this one. The peak heap usage is not measured for the tests run
+ * in parallel with other measured tests.
+ *
+ * @see MeasureResources
+ */
+@Immutable
+final class ResourceUsage {
+
+    /** The value of the metrics which are not supported by the JVM. */
+    static final long UNSUPPORTED = -1L;
+
+    private final String testId;
+    private final String displayName;
+    private final long wallNanos;
+    private final long cpuNanos;
+    private final long allocatedBytes;
+    private final long gcCount;
+    private final long gcMillis;
+    private final int threadDelta;
+    private final long peakHeapDeltaBytes;
+
+    @SuppressWarnings("ConstructorWithTooManyParameters") // Called only by `ResourceSnapshot`.
+    ResourceUsage(String testId,
+                  String displayName,
+                  long wallNanos,
+                  long cpuNanos,
+                  long allocatedBytes,
+                  long gcCount,
+                  long gcMillis,
+                  int threadDelta,
+                  long peakHeapDeltaBytes) {
+        this.testId = testId;
+        this.displayName = displayName;
+        this.wallNanos = wallNanos;
+        this.cpuNanos = cpuNanos;
+        this.allocatedBytes = allocatedBytes;
+        this.gcCount = gcCount;
+        this.gcMillis = gcMillis;
+        this.threadDelta = threadDelta;
+        this.peakHeapDeltaBytes = peakHeapDeltaBytes;
+    }
+
+    /**
+     * Obtains the unique ID of the test.
+     */
+    String testId() {
+        return testId;
+    }
+
+    /**
+     * Obtains the display name of the test.
+     */
+    String displayName() {
+        return displayName;
+    }
+
+    /**
+     * Obtains the wall-clock time of the test.
+     */
+    Duration wallTime() {
+        return Duration.ofNanos(wallNanos);
+    }
+
+    /**
+     * Obtains the CPU time of the thread which ran the test, or {@code -1}
+     * if the JVM cannot measure it.
+     */
+    long cpuNanos() {
+        return cpuNanos;
+    }
+
+    /**
+     * Obtains the number of bytes allocated by the thread which ran the test, or {@code -1}
+     * if the JVM {@linkplain ThreadAllocation#isSupported() cannot measure} it.
+     */
+    long allocatedBytes() {
+        return allocatedBytes;
+    }
+
+    /**
+     * Obtains the number of garbage collections which happened during the test.
+     */
+    long gcCount() {
+        return gcCount;
+    }
+
+    /**
+     * Obtains the approximate time of the garbage collections which happened
+     * during the test, in milliseconds.
+     */
+    long gcMillis() {
+        return gcMillis;
+    }
+
+    /**
+     * Obtains the difference between the numbers of live threads after and before the test.
+     *
+     * <p>A positive value means that the test left threads running.
+     */
+    int threadDelta() {
+        return threadDelta;
+    }
+
+    /**
+     * Obtains how much the peak heap usage during the test exceeded the heap usage
+     * before the test, in bytes, or {@code -1} if another test was measured
+     * at the same time.
+     */
+    long peakHeapDeltaBytes() {
+        return peakHeapDeltaBytes;
+    }
+
+    long wallNanos() {
+        return wallNanos;
+    }
+
+    @Override
+    public String toString() {
+        return format(Locale.ROOT,
+                      "ResourceUsage{test=%s, wall=%s, cpuNanos=%d, allocatedBytes=%d,"
+                              + " gcCount=%d, gcMillis=%d, threadDelta=%d,"
+                              + " peakHeapDeltaBytes=%d}",
+                      displayName, wallTime(), cpuNanos, allocatedBytes,
+                      gcCount, gcMillis, threadDelta, peakHeapDeltaBytes);
+    }
+}
@@ -0,0 +1,76 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf;
+
+import org.junit.jupiter.api.extension.AfterTestExecutionCallback;
+import org.junit.jupiter.api.extension.BeforeTestExecutionCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.ExtensionContext.Namespace;
+
+/**
+ * A JUnit {@link org.junit.jupiter.api.extension.Extension Extension} which measures
+ * the resources consumed by each test and adds them to
+ * the report written at the end of the run.
+ *
+ * <p>Do not use this extension directly. Mark the target test method or class with
+ * the {@link MeasureResources} annotation.
+ *
+ * @see MeasureResources
+ */
+public final class ResourceUsageExtension
+        implements BeforeTestExecutionCallback, AfterTestExecutionCallback {
+
+    private static final Namespace NAMESPACE = Namespace.create(ResourceUsageExtension.class);
+
+    private final ResourceReport report;
+
+    /**
+     * Creates a new instance adding to the shared report.
+     */
+    public ResourceUsageExtension() {
+        this(ResourceReport.shared());
+    }
+
+    ResourceUsageExtension(ResourceReport report) {
+        this.report = report;
+    }
+
+    @Override
+    public void beforeTestExecution(ExtensionContext context) {
+        context.getStore(NAMESPACE)
+               .put(context.getUniqueId(), ResourceSnapshot.take());
+    }
+
+    @Override
+    public void afterTestExecution(ExtensionContext context) {
+        var snapshot = context.getStore(NAMESPACE)
+                              .remove(context.getUniqueId(), ResourceSnapshot.class);
+        if (snapshot != null) {
+            report.add(snapshot.usageSince(context.getUniqueId(), context.getDisplayName()));
+        }
+    }
+}
@@ -0,0 +1,152 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf;
+
+import static com.google.common.base.Preconditions.checkArgument;
+
+/**
+ * The Student's t-distribution.
+ *
+ * <p>The cumulative distribution function is computed via the regularized incomplete
+ * beta function as described in <i>Numerical Recipes</i>, section 6.4. The quantiles are found
+ * by bisection, which is precise enough for computing confidence intervals.
+ */
+final class StudentT {
+
+    private static final int MAX_ITERATIONS = 200;
+    private static final double EPSILON = 1.0e-12;
+    private static final double TINY = 1.0e-300;
+
+    private static final double[] LANCZOS = {
+            76.18009172947146, -86.50532032941677, 24.01409824083091,
+            -1.231739572450155, 0.1208650973866179e-2, -0.5395239384953e-5
+    };
+
+    /** Prevents instantiation of this utility class. */
+    private StudentT() {
+    }
+
+    /**
+     * Obtains the value of the t-distribution with the given degrees of freedom
+     * below which the given share of the distribution lies.
+     *
+     * @param probability
+     *         the probability in the range {@code (0.5, 1)}
+     * @param degreesOfFreedom
+     *         the positive number of degrees of freedom, which may be fractional
+     */
+    static double quantile(double probability, double degreesOfFreedom) {
+        checkArgument(probability > 0.5 && probability < 1,
+                      "The probability must be in the range (0.5, 1): %s.", probability);
+        checkArgument(degreesOfFreedom > 0,
+                      "The degrees of freedom must be positive: %s.", degreesOfFreedom);
+        var low = 0.0;
+        var high = 1.0;
+        while (cdf(high, degreesOfFreedom) < probability) {
+            low = high;
+            high *= 2;
+        }
+        for (var i = 0; i < MAX_ITERATIONS && high - low > EPSILON * high; i++) {
+            var middle = (low + high) / 2;
+            if (cdf(middle, degreesOfFreedom) < probability) {
+                low = middle;
+            } else {
+                high = middle;
+            }
+        }
+        return (low + high) / 2;
+    }
+
+    /**
+     * Obtains the probability of the t-distributed value being less than {@code t}.
+     */
+    static double cdf(double t, double degreesOfFreedom) {
+        var x = degreesOfFreedom / (degreesOfFreedom + t * t);
+        var tail = 0.5 * regularizedBeta(x, degreesOfFreedom / 2, 0.5);
+        return t > 0 ? 1 - tail : tail;
+    }
+
+    private static double regularizedBeta(double x, double a, double b) {
+        if (x <= 0) {
+            return 0.0;
+        }
+        if (x >= 1) {
+            return 1.0;
+        }
+        var front = Math.exp(logGamma(a + b) - logGamma(a) - logGamma(b)
+                                     + a * Math.log(x) + b * Math.log(1 - x));
+        if (x < (a + 1) / (a + b + 2)) {
+            return front * continuedFraction(x, a, b) / a;
+        }
+        return 1 - front * continuedFraction(1 - x, b, a) / b;
+    }
+
+    /**
+     * Evaluates the continued fraction for the incomplete beta function
+     * by the modified Lentz's method.
+     */
+    private static double continuedFraction(double x, double a, double b) {
+        var c = 1.0;
+        var d = nonZero(1 - (a + b) * x / (a + 1));
+        d = 1 / d;
+        var result = d;
+        for (var m = 1; m <= MAX_ITERATIONS; m++) {
+            var m2 = 2 * m;
+            var even = m * (b - m) * x / ((a + m2 - 1) * (a + m2));
+            d = 1 / nonZero(1 + even * d);
+            c = nonZero(1 + even / c);
+            result *= d * c;
+            var odd = -(a + m) * (a + b + m) * x / ((a + m2) * (a + m2 + 1));
+            d = 1 / nonZero(1 + odd * d);
+            c = nonZero(1 + odd / c);
+            var delta = d * c;
+            result *= delta;
+            if (Math.abs(delta - 1) < EPSILON) {
+                break;
+            }
+        }
+        return result;
+    }
+
+    private static double nonZero(double value) {
+        return Math.abs(value) < TINY ? TINY : value;
+    }
+
+    /**
+     * Computes the natural logarithm of the gamma function by the Lanczos approximation.
+     */
+    private static double logGamma(double x) {
+        var y = x;
+        var tmp = x + 5.5;
+        tmp -= (x + 0.5) * Math.log(tmp);
+        var series = 1.000000000190015;
+        for (var coefficient : LANCZOS) {
+            series += coefficient / ++y;
+        }
+        return -tmp + Math.log(2.5066282746310005 * series / x);
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf;
+
+import com.sun.management.ThreadMXBean;
+import org.jspecify.annotations.Nullable;
+
+import java.lang.management.ManagementFactory;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.util.Objects.requireNonNull;
+
+/**
+ * Measures the memory allocated by the current thread.
+ *
+ * <p>The measurement relies on
+ * {@link ThreadMXBean#getCurrentThreadAllocatedBytes() ThreadMXBean} of HotSpot-based JVMs.
+ * On JVMs which do not support the measurement, {@link #isSupported()} returns {@code false}.
+ *
+ * <p>The measurement is precise, but includes the allocations made by the JVM on behalf of
+ * the thread, e.g., when classes are loaded or the code is being compiled. Warming up
+ * the measured code helps to exclude such allocations.
+ */
+public final class ThreadAllocation {
+
+    private static final int CALIBRATION_ROUNDS = 16;
+
+    private static final @Nullable ThreadMXBean bean = threadBean();
+    private static final boolean supported = enable();
+    private static final long overhead = calibrate();
+
+    /** Prevents instantiation of this utility class. */
+    private ThreadAllocation() {
+    }
+
+    /**
+     * Tells if the current JVM can measure memory allocated by a thread.
+     */
+    public static boolean isSupported() {
+        return supported;
+    }
+
+    /**
+     * Obtains the total number of bytes allocated by the current thread since its start.
+     *
+     * @throws UnsupportedOperationException
+     *          if the measurement is {@linkplain #isSupported() not supported}
+     */
+    public static long allocatedBytes() {
+        if (!supported) {
+            throw new UnsupportedOperationException(
+                    "The JVM does not support measuring memory allocated by a thread."
+            );
+        }
+        return requireNonNull(bean).getCurrentThreadAllocatedBytes();
+    }
+
+    /**
+     * Obtains the number of bytes allocated by the current thread when running
+     * the passed action.
+     *
+     * <p>The bytes allocated by the measurement itself are excluded.
+     *
+     * @throws UnsupportedOperationException
+     *          if the measurement is {@linkplain #isSupported() not supported}
+     */
+    public static long allocatedBy(Runnable action) {
+        checkNotNull(action);
+        var before = allocatedBytes();
+        action.run();
+        var after = allocatedBytes();
+        return netOf(before, after);
+    }
+
+    /**
+     * Obtains the number of bytes allocated between the two passed readings
+     * of {@link #allocatedBytes()}, excluding the bytes allocated by the readings.
+     */
+    public static long netOf(long before, long after) {
+        return Math.max(0L, after - before - overhead);
+    }
+
+    private static @Nullable ThreadMXBean threadBean() {
+        var bean = ManagementFactory.getThreadMXBean();
+        if (bean instanceof ThreadMXBean) {
+            return (ThreadMXBean) bean;
+        }
+        return null;
+    }
+
+    private static boolean enable() {
+        if (bean == null || !bean.isThreadAllocatedMemorySupported()) {
+            return false;
+        }
+        if (!bean.isThreadAllocatedMemoryEnabled()) {
+            bean.setThreadAllocatedMemoryEnabled(true);
+        }
+        return bean.isThreadAllocatedMemoryEnabled();
+    }
+
+    /**
+     * Finds out how many bytes are allocated by a pair of readings.
+     */
+    private static long calibrate() {
+        if (!supported) {
+            return 0L;
+        }
+        var threads = requireNonNull(bean);
+        var result = Long.MAX_VALUE;
+        for (var i = 0; i < CALIBRATION_ROUNDS; i++) {
+            var before = threads.getCurrentThreadAllocatedBytes();
+            var after = threads.getCurrentThreadAllocatedBytes();
+            result = Math.min(result, after - before);
+        }
+        return Math.max(0L, result);
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.property;
+
+import java.util.function.Function;
+import java.util.random.RandomGenerator;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Generates random values of a property argument, and shrinks the values
+ * which make the property fail.
+ *
+ * @param <T>
+ *         the type of the generated values
+ * @see Generators
+ */
+@FunctionalInterface
+public interface Generator<T> {
+
+    /**
+     * Generates a value drawing randomness from the passed source.
+     */
+    T next(RandomGenerator random);
+
+    /**
+     * Obtains the values which are simpler than the given one.
+     *
+     * <p>The candidates are tried in the order of the stream, so the simplest ones should
+     * come first. The stream must not contain the given value itself.
+     *
+     * <p>By default, values are not shrunk.
+     */
+    default Stream<T> shrink(T value) {
+        return Stream.empty();
+    }
+
+    /**
+     * Creates a generator of the values produced by applying the passed function
+     * to the values of this generator.
+     *
+     * <p>The values of the resulting generator are not shrunk.
+     */
+    default <R> Generator<R> map(Function<? super T, ? extends R> mapper) {
+        checkNotNull(mapper);
+        return random -> mapper.apply(next(random));
+    }
+
+    /**
+     * Creates a generator from the passed functions.
+     *
+     * @param generator
+     *         the function generating a value
+     * @param shrinker
+     *         the function obtaining the values simpler than the given one
+     * @param <T>
+     *         the type of the generated values
+     */
+    static <T> Generator<T> of(Function<? super RandomGenerator, ? extends T> generator,
+                               Function<? super T, Stream<T>> shrinker) {
+        checkNotNull(generator);
+        checkNotNull(shrinker);
+        return new Generator<>() {
+            @Override
+            public T next(RandomGenerator random) {
+                return generator.apply(random);
+            }
+
+            @Override
+            public Stream<T> shrink(T value) {
+                return shrinker.apply(value);
+            }
+        };
+    }
+}
@@ -0,0 +1,322 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.property;
+
+import com.google.common.collect.ImmutableList;
+import com.google.common.primitives.Primitives;
+import com.google.protobuf.Message;
+import io.spine.testing.random.MessageGenerator;
+import io.spine.testing.random.RandomStrings;
+import org.jspecify.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Factories of commonly used {@linkplain Generator generators}.
+ *
+ * <p>The numeric values shrink towards zero, or towards the bound of their range
+ * which is the closest to zero. Strings and lists shrink by dropping their parts.
+ * Messages shrink by clearing their fields.
+ */
+public final class Generators {
+
+    private static final char[] CHARACTERS =
+            "abcdefghijklmnopqrstuvwxyzABCDEFGHIJKLMNOPQRSTUVWXYZ0123456789".toCharArray();
+
+    private static final int DEFAULT_MAX_LENGTH = 32;
+
+    /** Generates messages for {@link #messages(Class)}. */
+    private static final MessageGenerator messages = MessageGenerator.newBuilder()
+                                                                     .build();
+
+    /** Prevents instantiation of this utility class. */
+    private Generators() {
+    }
+
+    /**
+     * Creates a generator of {@code int} values in the range {@code [min, max]}.
+     */
+    public static Generator<Integer> ints(int min, int max) {
+        checkArgument(min <= max,
+                      "The minimum (%s) cannot be greater than the maximum (%s).", min, max);
+        return Generator.of(
+                random -> (int) random.nextLong(min, (long) max + 1),
+                value -> shrinkTowards(value, closestToZero(min, max)).map(Long::intValue)
+        );
+    }
+
+    /**
+     * Creates a generator of any {@code int} values.
+     */
+    public static Generator<Integer> ints() {
+        return ints(Integer.MIN_VALUE, Integer.MAX_VALUE);
+    }
+
+    /**
+     * Creates a generator of {@code long} values in the range {@code [min, max]}.
+     */
+    public static Generator<Long> longs(long min, long max) {
+        checkArgument(min <= max,
+                      "The minimum (%s) cannot be greater than the maximum (%s).", min, max);
+        return Generator.of(
+                random -> {
+                    if (max < Long.MAX_VALUE) {
+                        return random.nextLong(min, max + 1);
+                    }
+                    return min == Long.MIN_VALUE
+                           ? random.nextLong()
+                           : random.nextLong(min - 1, max) + 1;
+                },
+                value -> shrinkTowards(value, closestToZero(min, max))
+        );
+    }
+
+    /**
+     * Creates a generator of any {@code long} values.
+     */
+    public static Generator<Long> longs() {
+        return longs(Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a generator of {@code boolean} values which shrink to {@code false}.
+     */
+    public static Generator<Boolean> booleans() {
+        return Generator.of(
+                random -> random.nextBoolean(),
+                value -> value ? Stream.of(false) : Stream.empty()
+        );
+    }
+
+    /**
+     * Creates a generator of alphanumeric strings with the length in the range
+     * {@code [0, maxLength]}.
+     */
+    public static Generator<String> strings(int maxLength) {
+        checkArgument(maxLength >= 0, "The maximum length cannot be negative: %s.", maxLength);
+        return Generator.of(
+                random -> {
+                    var chars = new char[random.nextInt(maxLength + 1)];
+                    for (var i = 0; i < chars.length; i++) {
+                        chars[i] = CHARACTERS[random.nextInt(CHARACTERS.length)];
+                    }
+                    return new String(chars);
+                },
+                Generators::shrinkString
+        );
+    }
+
+    /**
+     * Creates a generator of alphanumeric strings of up to 32 characters.
+     */
+    public static Generator<String> strings() {
+        return strings(DEFAULT_MAX_LENGTH);
+    }
+
+    /**
+     * Creates a generator of {@linkplain RandomStrings#uuid random UUID strings}.
+     *
+     * <p>The strings are not shrunk.
+     */
+    public static Generator<String> uuids() {
+        return RandomStrings::uuid;
+    }
+
+    /**
+     * Creates a generator of {@linkplain RandomStrings#id random identifiers}.
+     *
+     * <p>The identifiers are not shrunk.
+     */
+    public static Generator<String> ids() {
+        return RandomStrings::id;
+    }
+
+    /**
+     * Creates a generator choosing one of the given values.
+     *
+     * <p>The values shrink towards the first value in the list.
+     */
+    public static <T> Generator<T> elementsOf(List<T> values) {
+        checkNotNull(values);
+        checkArgument(!values.isEmpty(), "At least one value is required.");
+        var copy = ImmutableList.copyOf(values);
+        return Generator.of(
+                random -> copy.get(random.nextInt(copy.size())),
+                value -> copy.subList(0, Math.max(0, copy.indexOf(value)))
+                             .stream()
+        );
+    }
+
+    /**
+     * Creates a generator of lists with the elements produced by the passed generator.
+     *
+     * @param element
+     *         the generator of the elements
+     * @param minSize
+     *         the minimum size of a list, inclusive
+     * @param maxSize
+     *         the maximum size of a list, inclusive
+     */
+    public static <T> Generator<List<T>>
+    lists(Generator<T> element, int minSize, int maxSize) {
+        checkNotNull(element);
+        checkArgument(minSize >= 0, "The minimum size cannot be negative: %s.", minSize);
+        checkArgument(maxSize >= minSize,
+                      "The maximum size (%s) cannot be less than the minimum size (%s).",
+                      maxSize, minSize);
+        return Generator.of(
+                random -> {
+                    var size = random.nextInt(minSize, maxSize + 1);
+                    var list = new ArrayList<T>(size);
+                    for (var i = 0; i < size; i++) {
+                        list.add(element.next(random));
+                    }
+                    return ImmutableList.copyOf(list);
+                },
+                list -> shrinkList(list, element, minSize)
+        );
+    }
+
+    /**
+     * Creates a generator of messages of the given type with random values of all the fields.
+     */
+    public static <M extends Message> Generator<M> messages(Class<M> type) {
+        return messages(type, messages);
+    }
+
+    /**
+     * Creates a generator of messages produced by the passed message generator.
+     *
+     * <p>The {@linkplain MessageGenerator.Builder#setSeed(long) seed} of the message
+     * generator, if set, is ignored in favor of the seed of the property.
+     */
+    public static <M extends Message> Generator<M>
+    messages(Class<M> type, MessageGenerator generator) {
+        checkNotNull(type);
+        checkNotNull(generator);
+        return Generator.of(
+                random -> generator.next(type, random),
+                MessageShrinker::shrink
+        );
+    }
+
+    /**
+     * Obtains the default generator for the arguments of the given type.
+     *
+     * @return the generator, or {@code null} if there is no default generator for the type
+     */
+    static @Nullable Generator<?> forType(Class<?> type) {
+        var wrapper = Primitives.wrap(type);
+        if (wrapper == Integer.class) {
+            return ints();
+        }
+        if (wrapper == Long.class) {
+            return longs();
+        }
+        if (wrapper == Boolean.class) {
+            return booleans();
+        }
+        if (type == String.class) {
+            return strings();
+        }
+        if (Message.class.isAssignableFrom(type)) {
+            @SuppressWarnings("unchecked") // Checked above.
+            var messageType = (Class<? extends Message>) type;
+            return messages(messageType);
+        }
+        return null;
+    }
+
+    private static long closestToZero(long min, long max) {
+        return Math.max(min, Math.min(max, 0));
+    }
+
+    /**
+     * Obtains the values between the given one and the target, starting from the target
+     * and halving the distance to the value.
+     */
+    private static Stream<Long> shrinkTowards(long value, long target) {
+        if (value == target) {
+            return Stream.empty();
+        }
+        var candidates = new ArrayList<Long>();
+        candidates.add(target);
+        for (var distance = (value - target) / 2; distance != 0; distance /= 2) {
+            candidates.add(value - distance);
+        }
+        return candidates.stream();
+    }
+
+    private static Stream<String> shrinkString(String value) {
+        var length = value.length();
+        if (length == 0) {
+            return Stream.empty();
+        }
+        return Stream.of("",
+                         value.substring(0, length / 2),
+                         value.substring(length / 2),
+                         value.substring(0, length - 1),
+                         value.substring(1))
+                     .distinct()
+                     .filter(candidate -> !candidate.equals(value));
+    }
+
+    private static <T> Stream<List<T>>
+    shrinkList(List<T> list, Generator<T> element, int minSize) {
+        var size = list.size();
+        Stream<List<T>> shorter = Stream.empty();
+        if (size > minSize) {
+            var half = list.subList(0, Math.max(minSize, size / 2));
+            var withoutOne = IntStream.range(0, size)
+                                      .mapToObj(index -> without(list, index));
+            shorter = Stream.concat(Stream.of(half), withoutOne);
+        }
+        Stream<List<T>> simpler = IntStream.range(0, size)
+                .boxed()
+                .flatMap(index -> element.shrink(list.get(index))
+                                         .map(candidate -> replaced(list, index, candidate)));
+        return Stream.concat(shorter, simpler);
+    }
+
+    private static <T> List<T> without(List<T> list, int index) {
+        var result = new ArrayList<>(list);
+        result.remove(index);
+        return ImmutableList.copyOf(result);
+    }
+
+    private static <T> List<T> replaced(List<T> list, int index, T element) {
+        var result = new ArrayList<>(list);
+        result.set(index, element);
+        return ImmutableList.copyOf(result);
+    }
+}
@@ -0,0 +1,132 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.property;
+
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Message;
+
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static com.google.protobuf.Descriptors.FieldDescriptor.JavaType.MESSAGE;
+import static com.google.protobuf.Descriptors.FieldDescriptor.JavaType.STRING;
+
+/**
+ * Obtains messages which are simpler than a given one.
+ *
+ * <p>The candidates are, in this order:
+ * <ol>
+ *     <li>the default instance of the message type;
+ *     <li>the message with one of its fields cleared;
+ *     <li>the message with half of the elements of a {@code repeated} field dropped,
+ *         or with one element dropped;
+ *     <li>the message with a nested message or a string field shrunk.
+ * </ol>
+ */
+final class MessageShrinker {
+
+    /** Prevents instantiation of this utility class. */
+    private MessageShrinker() {
+    }
+
+    /**
+     * Obtains the candidates simpler than the passed message.
+     */
+    static <M extends Message> Stream<M> shrink(M message) {
+        @SuppressWarnings("unchecked") // The type of the default instance is the same.
+        var defaultInstance = (M) message.getDefaultInstanceForType();
+        if (message.equals(defaultInstance)) {
+            return Stream.empty();
+        }
+        var fields = message.getAllFields()
+                            .keySet();
+        var cleared = fields.stream()
+                            .map(field -> cleared(message, field));
+        var shorter = fields.stream()
+                            .filter(FieldDescriptor::isRepeated)
+                            .flatMap(field -> shorter(message, field));
+        var simpler = fields.stream()
+                            .filter(field -> !field.isRepeated())
+                            .flatMap(field -> simpler(message, field));
+        return Stream.of(Stream.of(defaultInstance), cleared, shorter, simpler)
+                     .flatMap(candidates -> candidates);
+    }
+
+    private static <M extends Message> M cleared(M message, FieldDescriptor field) {
+        return build(message.toBuilder()
+                            .clearField(field));
+    }
+
+    private static <M extends Message> Stream<M> shorter(M message, FieldDescriptor field) {
+        var size = message.getRepeatedFieldCount(field);
+        var half = IntStream.range(0, size / 2);
+        var halved = size > 1
+                     ? Stream.of(withElements(message, field, half))
+                     : Stream.<M>empty();
+        var withoutOne = IntStream.range(0, size)
+                                  .mapToObj(skipped -> withElements(
+                                          message, field,
+                                          IntStream.range(0, size)
+                                                   .filter(index -> index != skipped)));
+        return Stream.concat(halved, withoutOne);
+    }
+
+    private static <M extends Message>
+    M withElements(M message, FieldDescriptor field, IntStream indexes) {
+        var builder = message.toBuilder()
+                             .clearField(field);
+        indexes.forEach(index -> builder.addRepeatedField(
+                field, message.getRepeatedField(field, index)));
+        return build(builder);
+    }
+
+    private static <M extends Message> Stream<M> simpler(M message, FieldDescriptor field) {
+        var value = message.getField(field);
+        if (field.getJavaType() == MESSAGE) {
+            return shrink((Message) value)
+                    .map(candidate -> withField(message, field, candidate));
+        }
+        if (field.getJavaType() == STRING) {
+            var string = (String) value;
+            return Stream.of(string.substring(0, string.length() / 2))
+                         .filter(candidate -> !candidate.equals(string))
+                         .map(candidate -> withField(message, field, candidate));
+        }
+        return Stream.empty();
+    }
+
+    private static <M extends Message>
+    M withField(M message, FieldDescriptor field, Object value) {
+        return build(message.toBuilder()
+                            .setField(field, value));
+    }
+
+    @SuppressWarnings("unchecked") // The builder is obtained from a message of type `M`.
+    private static <M extends Message> M build(Message.Builder builder) {
+        return (M) builder.build();
+    }
+}
@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.property;
+
+import org.junit.jupiter.api.TestTemplate;
+import org.junit.jupiter.api.extension.ExtendWith;
+
+import java.lang.annotation.Documented;
+import java.lang.annotation.ElementType;
+import java.lang.annotation.Retention;
+import java.lang.annotation.RetentionPolicy;
+import java.lang.annotation.Target;
+
+/**
+ * Marks a test method as a property which should hold for any values of its parameters.
+ *
+ * <p>The method is run the given number of {@linkplain #trials() trials} with random
+ * arguments. The arguments are produced by the default {@linkplain Generators generators}
+ * of the parameter types, which are {@code int}, {@code long}, {@code boolean},
+ * {@code String}, and messages, or by the generators specified via the {@link From}
+ * annotation. Parameters of other types are resolved by JUnit once for all the trials.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * @Property(trials = 1_000)
+ * void roundTrip(Prescription prescription) throws InvalidProtocolBufferException {
+ *     var bytes = prescription.toByteArray();
+ *     assertThat(Prescription.parseFrom(bytes)).isEqualTo(prescription);
+ * }
+ * }</pre>
+ *
+ * <p>If a trial fails, the failing arguments are shrunk to the simplest ones which still
+ * make the property fail, and the property fails with the shrunk counterexample.
+ * A trial which fails an {@linkplain org.junit.jupiter.api.Assumptions assumption}
+ * is discarded.
+ *
+ * <p>The arguments are derived from the {@linkplain io.spine.testing.random.TestRandom#seedFor
+ * seed of the test}. So, a failure can be reproduced by running the property with the base
+ * seed printed in the failure message.
+ *
+ * <p>The {@code @BeforeEach} and {@code @AfterEach} methods are run once for all the trials.
+ */
+@Documented
+@Target(ElementType.METHOD)
+@Retention(RetentionPolicy.RUNTIME)
+@TestTemplate
+@ExtendWith(PropertyExtension.class)
+public @interface Property {
+
+    /**
+     * The number of trials to run.
+     */
+    int trials() default 100;
+
+    /**
+     * Tells if the trials should be run in parallel.
+     *
+     * <p>If {@code true}, the property method must be thread-safe.
+     */
+    boolean parallel() default false;
+
+    /**
+     * The maximum number of attempts to shrink a failing input.
+     */
+    int maxShrinks() default 1_000;
+}
@@ -0,0 +1,189 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.property;
+
+import io.spine.testing.random.TestRandom;
+import org.jspecify.annotations.Nullable;
+import org.junit.jupiter.api.extension.Extension;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.junit.jupiter.api.extension.InvocationInterceptor;
+import org.junit.jupiter.api.extension.ParameterContext;
+import org.junit.jupiter.api.extension.ParameterResolutionException;
+import org.junit.jupiter.api.extension.ParameterResolver;
+import org.junit.jupiter.api.extension.ReflectiveInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContext;
+import org.junit.jupiter.api.extension.TestTemplateInvocationContextProvider;
+import org.junit.platform.commons.support.AnnotationSupport;
+import org.junit.platform.commons.support.ReflectionSupport;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.stream.Stream;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static java.lang.String.format;
+
+/**
+ * A JUnit {@link Extension} which runs {@linkplain Property properties}.
+ *
+ * <p>Do not use this extension directly. Mark the target test method with
+ * the {@link Property} annotation.
+ *
+ * @see Property
+ */
+public final class PropertyExtension implements TestTemplateInvocationContextProvider {
+
+    @Override
+    public boolean supportsTestTemplate(ExtensionContext context) {
+        return context.getTestMethod()
+                      .map(method -> AnnotationSupport.isAnnotated(method, Property.class))
+                      .orElse(false);
+    }
+
+    @Override
+    public Stream<TestTemplateInvocationContext>
+    provideTestTemplateInvocationContexts(ExtensionContext context) {
+        var method = context.getRequiredTestMethod();
+        var property = AnnotationSupport.findAnnotation(method, Property.class)
+                                        .orElseThrow();
+        checkArgument(property.trials() > 0,
+                      "The number of trials must be positive: %s.", property.trials());
+        checkArgument(property.maxShrinks() >= 0,
+                      "The number of shrinks cannot be negative: %s.", property.maxShrinks());
+        var seed = TestRandom.seedFor(context.getUniqueId());
+        return Stream.of(new Trials(property, seed));
+    }
+
+    /**
+     * The single invocation of a property which runs all its trials.
+     */
+    private static final class Trials
+            implements TestTemplateInvocationContext, ParameterResolver, InvocationInterceptor {
+
+        private final Property property;
+        private final long seed;
+        private final ConcurrentHashMap<Integer, Generator<?>> generators =
+                new ConcurrentHashMap<>();
+
+        private Trials(Property property, long seed) {
+            this.property = property;
+            this.seed = seed;
+        }
+
+        @Override
+        public String getDisplayName(int invocationIndex) {
+            return format(Locale.ROOT, "%d trials", property.trials());
+        }
+
+        @Override
+        public List<Extension> getAdditionalExtensions() {
+            return List.of(this);
+        }
+
+        /**
+         * Tells if the parameter is a parameter of the property method which
+         * can be generated.
+         *
+         * <p>The parameters of the lifecycle methods, such as {@code @BeforeEach} ones,
+         * are left to other resolvers.
+         */
+        @Override
+        public boolean supportsParameter(ParameterContext parameterContext,
+                                         ExtensionContext extensionContext) {
+            var declaring = parameterContext.getDeclaringExecutable();
+            var propertyMethod = extensionContext.getTestMethod()
+                                                 .orElse(null);
+            if (!declaring.equals(propertyMethod)) {
+                return false;
+            }
+            var generator = generatorFor(parameterContext, extensionContext);
+            if (generator == null) {
+                return false;
+            }
+            generators.put(parameterContext.getIndex(), generator);
+            return true;
+        }
+
+        /**
+         * Resolves the parameter with a random value.
+         *
+         * <p>The value is not used, since the property method is invoked
+         * for each trial with its own arguments.
+         */
+        @Override
+        public Object resolveParameter(ParameterContext parameterContext,
+                                       ExtensionContext extensionContext) {
+            var generator = generators.get(parameterContext.getIndex());
+            return generator.next(TestRandom.forIndex(seed, -1));
+        }
+
+        private static @Nullable Generator<?>
+        generatorFor(ParameterContext parameterContext, ExtensionContext extensionContext) {
+            var from = parameterContext.findAnnotation(From.class);
+            if (from.isEmpty()) {
+                return Generators.forType(parameterContext.getParameter().getType());
+            }
+            var name = from.get().value();
+            var testClass = extensionContext.getRequiredTestClass();
+            var method = ReflectionSupport.findMethod(testClass, name)
+                    .orElseThrow(() -> new ParameterResolutionException(format(
+                            Locale.ROOT, "Unable to find the method `%s()` in `%s`.",
+                            name, testClass.getName())));
+            var target = extensionContext.getTestInstance()
+                                         .orElse(null);
+            var generator = ReflectionSupport.invokeMethod(method, target);
+            if (!(generator instanceof Generator)) {
+                throw new ParameterResolutionException(format(
+                        Locale.ROOT, "The method `%s()` must return a `%s`.",
+                        name, Generator.class.getSimpleName()));
+            }
+            return (Generator<?>) generator;
+        }
+
+        @Override
+        public void interceptTestTemplateMethod(
+                Invocation<@Nullable Void> invocation,
+                ReflectiveInvocationContext<Method> invocationContext,
+                ExtensionContext extensionContext) {
+            invocation.skip();
+            var parameterCount = invocationContext.getExecutable()
+                                                  .getParameterCount();
+            var parameterGenerators = new Generator<?>[parameterCount];
+            generators.forEach((index, generator) -> parameterGenerators[index] = generator);
+            var runner = new PropertyRunner(
+                    property, seed,
+                    invocationContext.getExecutable(),
+                    invocationContext.getTarget().orElse(null),
+                    parameterGenerators,
+                    invocationContext.getArguments()
+            );
+            runner.run();
+        }
+    }
+}
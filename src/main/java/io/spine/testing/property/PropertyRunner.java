@@ -0,0 +1,225 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.property;
+
+import io.spine.testing.random.TestRandom;
+import org.jspecify.annotations.Nullable;
+import org.junit.platform.commons.support.ReflectionSupport;
+import org.opentest4j.TestAbortedException;
+
+import java.lang.reflect.Method;
+import java.util.List;
+import java.util.Locale;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentMap;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.Collectors;
+import java.util.stream.IntStream;
+
+import static java.lang.String.format;
+
+/**
+ * Runs the trials of a {@linkplain Property property}, and shrinks the arguments
+ * of the first failed trial.
+ */
+final class PropertyRunner {
+
+    private final Property property;
+    private final long seed;
+    private final Method method;
+    private final @Nullable Object target;
+    private final @Nullable Generator<?>[] generators;
+    private final List<@Nullable Object> resolved;
+    private final AtomicInteger discarded = new AtomicInteger();
+
+    PropertyRunner(Property property,
+                   long seed,
+                   Method method,
+                   @Nullable Object target,
+                   @Nullable Generator<?>[] generators,
+                   List<@Nullable Object> resolved) {
+        this.property = property;
+        this.seed = seed;
+        this.method = method;
+        this.target = target;
+        this.generators = generators.clone();
+        this.resolved = resolved;
+    }
+
+    /**
+     * Runs the trials.
+     *
+     * @throws AssertionError
+     *          if a trial fails; the message contains the shrunk arguments,
+     *          the cause is the failure with these arguments
+     * @throws TestAbortedException
+     *          if all the trials are discarded by assumptions
+     */
+    void run() {
+        var failures = property.parallel()
+                       ? runInParallel()
+                       : runSequentially();
+        if (!failures.isEmpty()) {
+            var trial = failures.keySet()
+                                .stream()
+                                .min(Integer::compare)
+                                .orElseThrow();
+            throw shrink(trial, failures.get(trial));
+        }
+        if (discarded.get() == property.trials()) {
+            throw new TestAbortedException(format(Locale.ROOT,
+                    "All %d trials were discarded by assumptions.", property.trials()));
+        }
+    }
+
+    private ConcurrentMap<Integer, Throwable> runSequentially() {
+        var failures = new ConcurrentHashMap<Integer, Throwable>();
+        for (var trial = 0; trial < property.trials() && failures.isEmpty(); trial++) {
+            var failure = attempt(argumentsOf(trial));
+            if (failure != null) {
+                failures.put(trial, failure);
+            }
+        }
+        return failures;
+    }
+
+    private ConcurrentMap<Integer, Throwable> runInParallel() {
+        var failures = new ConcurrentHashMap<Integer, Throwable>();
+        var firstFailed = new AtomicInteger(Integer.MAX_VALUE);
+        IntStream.range(0, property.trials())
+                 .parallel()
+                 .filter(trial -> trial < firstFailed.get())
+                 .forEach(trial -> {
+                     var failure = attempt(argumentsOf(trial));
+                     if (failure != null) {
+                         failures.put(trial, failure);
+                         firstFailed.accumulateAndGet(trial, Math::min);
+                     }
+                 });
+        return failures;
+    }
+
+    /**
+     * Generates the arguments for the trial with the given index.
+     */
+    private @Nullable Object[] argumentsOf(int trial) {
+        var random = TestRandom.forIndex(seed, trial);
+        var arguments = resolved.toArray();
+        for (var i = 0; i < generators.length; i++) {
+            var generator = generators[i];
+            if (generator != null) {
+                arguments[i] = generator.next(random);
+            }
+        }
+        return arguments;
+    }
+
+    /**
+     * Invokes the property method with the given arguments.
+     *
+     * @return the failure of the invocation, or {@code null} if the invocation succeeded
+     *         or was discarded
+     */
+    @SuppressWarnings("IllegalCatch") // Any failure of the property is reported.
+    private @Nullable Throwable attempt(@Nullable Object[] arguments) {
+        try {
+            ReflectionSupport.invokeMethod(method, target, arguments);
+            return null;
+        } catch (TestAbortedException e) {
+            discarded.incrementAndGet();
+            return null;
+        } catch (Throwable t) {
+            return t;
+        }
+    }
+
+    /**
+     * Shrinks the arguments of the failed trial and creates the error to report.
+     */
+    private AssertionError shrink(int trial, Throwable originalFailure) {
+        var original = argumentsOf(trial);
+        var current = original;
+        var failure = originalFailure;
+        var steps = 0;
+        var attempts = 0;
+        var improved = true;
+        while (improved && attempts < property.maxShrinks()) {
+            improved = false;
+            for (var i = 0; i < generators.length && !improved; i++) {
+                @SuppressWarnings("unchecked") // The generator produced the argument.
+                var generator = (Generator<Object>) generators[i];
+                var argument = current[i];
+                if (generator == null || argument == null) {
+                    continue;
+                }
+                var candidates = generator.shrink(argument)
+                                          .iterator();
+                while (candidates.hasNext() && attempts < property.maxShrinks()) {
+                    attempts++;
+                    var arguments = current.clone();
+                    arguments[i] = candidates.next();
+                    var candidateFailure = attemptQuietly(arguments);
+                    if (candidateFailure != null) {
+                        current = arguments;
+                        failure = candidateFailure;
+                        steps++;
+                        improved = true;
+                        break;
+                    }
+                }
+            }
+        }
+        var message = format(Locale.ROOT,
+                "Property `%s` failed at trial %d of %d.%n" +
+                        "Counterexample: %s%n" +
+                        "Original arguments: %s%n" +
+                        "Shrunk in %d steps.%n" +
+                        "To reproduce, run the property with `-D%s=%d`.",
+                method.getName(), trial + 1, property.trials(),
+                describe(current), describe(original), steps,
+                TestRandom.SEED_PROPERTY, TestRandom.baseSeed());
+        return new AssertionError(message, failure);
+    }
+
+    /**
+     * Invokes the property method without counting discarded invocations.
+     */
+    private @Nullable Throwable attemptQuietly(@Nullable Object[] arguments) {
+        var discardedBefore = discarded.get();
+        var failure = attempt(arguments);
+        discarded.set(discardedBefore);
+        return failure;
+    }
+
+    private String describe(@Nullable Object[] arguments) {
+        var parameters = method.getParameters();
+        return IntStream.range(0, arguments.length)
+                        .filter(i -> generators[i] != null)
+                        .mapToObj(i -> parameters[i].getName() + " = " + arguments[i])
+                        .collect(Collectors.joining(", ", "[", "]"));
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.random;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Immutable;
+import com.google.protobuf.Descriptors.EnumValueDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor.JavaType;
+
+import static com.google.protobuf.Descriptors.FieldDescriptor.JavaType.ENUM;
+import static com.google.protobuf.Descriptors.FieldDescriptor.JavaType.MESSAGE;
+
+/**
+ * Describes how to generate values of a message field.
+ *
+ * <p>The plan is computed once per field, so that the descriptor
+ * is not inspected every time a value is generated.
+ */
+@Immutable
+@SuppressWarnings("Immutable") // Descriptors are effectively immutable.
+final class FieldPlan {
+
+    private final FieldDescriptor descriptor;
+    private final JavaType type;
+    private final boolean repeated;
+    private final ImmutableList<EnumValueDescriptor> enumValues;
+    private final long min;
+    private final long max;
+
+    private FieldPlan(FieldDescriptor descriptor, long min, long max) {
+        this.descriptor = descriptor;
+        this.type = descriptor.getJavaType();
+        this.repeated = descriptor.isRepeated();
+        this.enumValues = type == ENUM
+                          ? ImmutableList.copyOf(descriptor.getEnumType().getValues())
+                          : ImmutableList.of();
+        this.min = min;
+        this.max = max;
+    }
+
+    /**
+     * Creates a plan for a field which can have any value of its type.
+     */
+    static FieldPlan of(FieldDescriptor field) {
+        return new FieldPlan(field, Long.MIN_VALUE, Long.MAX_VALUE);
+    }
+
+    /**
+     * Creates a plan for a numeric field with values in the range {@code [min, max)}.
+     */
+    static FieldPlan bounded(FieldDescriptor field, long min, long max) {
+        return new FieldPlan(field, min, max);
+    }
+
+    FieldDescriptor descriptor() {
+        return descriptor;
+    }
+
+    JavaType type() {
+        return type;
+    }
+
+    boolean isRepeated() {
+        return repeated;
+    }
+
+    boolean isMessage() {
+        return type == MESSAGE;
+    }
+
+    /**
+     * Tells if the values of the field are limited to a range.
+     */
+    boolean isBounded() {
+        return min != Long.MIN_VALUE || max != Long.MAX_VALUE;
+    }
+
+    /** The lower bound of the values, inclusive. */
+    long min() {
+        return min;
+    }
+
+    /** The upper bound of the values, exclusive. */
+    long max() {
+        return max;
+    }
+
+    /**
+     * Obtains the values of the enum field.
+     */
+    ImmutableList<EnumValueDescriptor> enumValues() {
+        return enumValues;
+    }
+}
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.random;
+
+import java.util.random.RandomGenerator;
+
+/**
+ * A random generator which can be repositioned to the start of the sequence
+ * for an element with a given index.
+ *
+ * <p>The sequence for each index depends only on the seed and the index.
+ * This allows generating the elements of a stream in any order, or in parallel,
+ * with the same result.
+ *
+ * <p>The generator uses the SplitMix64 algorithm, the same as {@link java.util.SplittableRandom}.
+ * It is not thread-safe.
+ */
+final class IndexedRandom implements RandomGenerator {
+
+    private static final long GOLDEN_GAMMA = 0x9e37_79b9_7f4a_7c15L;
+
+    private final long seed;
+    private long state;
+
+    IndexedRandom(long seed) {
+        this.seed = seed;
+    }
+
+    /**
+     * Moves to the start of the sequence for the element with the given index.
+     */
+    void moveTo(long index) {
+        state = mix64(seed + index * GOLDEN_GAMMA);
+    }
+
+    @Override
+    public long nextLong() {
+        state += GOLDEN_GAMMA;
+        return mix64(state);
+    }
+
+    private static long mix64(long value) {
+        var z = (value ^ (value >>> 30)) * 0xbf58_476d_1ce4_e5b9L;
+        z = (z ^ (z >>> 27)) * 0x94d0_49bb_1331_11ebL;
+        return z ^ (z >>> 31);
+    }
+}
@@ -0,0 +1,351 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.random;
+
+import com.google.errorprone.annotations.CanIgnoreReturnValue;
+import com.google.protobuf.ByteString;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.DynamicMessage;
+import com.google.protobuf.Message;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Map;
+import java.util.SplittableRandom;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.random.RandomGenerator;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Generates messages of any type with random field values.
+ *
+ * <p>All the fields of a generated message are populated, including nested messages,
+ * {@code repeated} and {@code map} fields. One field of each {@code oneof} is chosen
+ * randomly. The number of elements of collections and the length of strings are chosen
+ * uniformly from the configured ranges.
+ *
+ * <p>Nested messages are generated down to the {@linkplain Builder#setMaxDepth(int) maximum
+ * depth}, which makes generating recursive types possible. Deeper message fields are
+ * left unset, and {@code repeated} message fields are left empty.
+ *
+ * <p>Example:
+ * <pre>{@code
+ * var generator = MessageGenerator.newBuilder()
+ *         .setSeed(42)
+ *         .setRepeatedSize(1, 10)
+ *         .build();
+ * Prescription prescription = generator.next(Prescription.class);
+ * }</pre>
+ *
+ * <p>The generator computes how to populate a message type once and caches the result.
+ * Reuse the same generator for generating many messages.
+ *
+ * <p>If the {@linkplain Builder#setSeed(long) seed} is set, the generator produces the same
+ * sequence of messages every time, and is not thread-safe. Otherwise, the values are drawn
+ * from the {@linkplain TestRandom#current() current random source}, and the generator can be
+ * used from multiple threads. For generating messages concurrently with a seed, use
+ * {@link #next(Class, RandomGenerator)} passing a source created for each thread, e.g.,
+ * via {@link SplittableRandom#split()}.
+ */
+public final class MessageGenerator {
+
+    private static final char[] CHARACTERS =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz ".toCharArray();
+
+    /**
+     * The default instances of the message classes, obtained reflectively once per class.
+     */
+    private static final ClassValue<Message> defaultInstances = new ClassValue<>() {
+        @Override
+        protected Message computeValue(Class<?> type) {
+            return defaultInstance(type.asSubclass(Message.class));
+        }
+    };
+
+    private final int minRepeated;
+    private final int maxRepeated;
+    private final int minLength;
+    private final int maxLength;
+    private final int maxDepth;
+    private final @Nullable SplittableRandom seeded;
+
+    private final Map<Descriptor, MessagePlan> plans = new ConcurrentHashMap<>();
+
+    private MessageGenerator(Builder builder) {
+        this.minRepeated = builder.minRepeated;
+        this.maxRepeated = builder.maxRepeated;
+        this.minLength = builder.minLength;
+        this.maxLength = builder.maxLength;
+        this.maxDepth = builder.maxDepth;
+        this.seeded = builder.seed != null
+                      ? new SplittableRandom(builder.seed)
+                      : null;
+    }
+
+    /**
+     * Creates a new builder of a generator.
+     */
+    public static Builder newBuilder() {
+        return new Builder();
+    }
+
+    /**
+     * Generates a message of the given type.
+     */
+    public <M extends Message> M next(Class<M> type) {
+        checkNotNull(type);
+        return next(type, random());
+    }
+
+    /**
+     * Generates a message of the given type drawing values from the passed source.
+     */
+    public <M extends Message> M next(Class<M> type, RandomGenerator random) {
+        checkNotNull(type);
+        checkNotNull(random);
+        var builder = defaultInstances.get(type).newBuilderForType();
+        fill(builder, random, 0);
+        @SuppressWarnings("unchecked") // Ensured by the type of the builder.
+        var result = (M) builder.build();
+        return result;
+    }
+
+    /**
+     * Generates a message of the type with the given descriptor.
+     *
+     * <p>Use this method when the class of the message is not available.
+     */
+    public DynamicMessage next(Descriptor type) {
+        checkNotNull(type);
+        return next(type, random());
+    }
+
+    /**
+     * Generates a message of the type with the given descriptor
+     * drawing values from the passed source.
+     */
+    public DynamicMessage next(Descriptor type, RandomGenerator random) {
+        checkNotNull(type);
+        checkNotNull(random);
+        var builder = DynamicMessage.newBuilder(type);
+        fill(builder, random, 0);
+        return builder.build();
+    }
+
+    private RandomGenerator random() {
+        return seeded != null
+               ? seeded
+               : TestRandom.current();
+    }
+
+    private MessagePlan planFor(Descriptor type) {
+        return plans.computeIfAbsent(type, MessagePlan::of);
+    }
+
+    private void fill(Message.Builder builder, RandomGenerator random, int depth) {
+        var plan = planFor(builder.getDescriptorForType());
+        var nestingAllowed = depth < maxDepth;
+        for (var field : plan.fields()) {
+            if (field.isMessage() && !nestingAllowed) {
+                continue;
+            }
+            if (field.isRepeated()) {
+                var size = between(random, minRepeated, maxRepeated);
+                for (var i = 0; i < size; i++) {
+                    builder.addRepeatedField(field.descriptor(),
+                                             value(builder, field, random, depth));
+                }
+            } else {
+                builder.setField(field.descriptor(), value(builder, field, random, depth));
+            }
+        }
+        for (var oneof : plan.oneofs()) {
+            var field = oneof.get(random.nextInt(oneof.size()));
+            if (!field.isMessage() || nestingAllowed) {
+                builder.setField(field.descriptor(), value(builder, field, random, depth));
+            }
+        }
+    }
+
+    private Object value(Message.Builder builder,
+                         FieldPlan field,
+                         RandomGenerator random,
+                         int depth) {
+        return switch (field.type()) {
+            case INT -> field.isBounded()
+                        ? (int) random.nextLong(field.min(), field.max())
+                        : random.nextInt();
+            case LONG -> field.isBounded()
+                         ? random.nextLong(field.min(), field.max())
+                         : random.nextLong();
+            case FLOAT -> random.nextFloat();
+            case DOUBLE -> random.nextDouble();
+            case BOOLEAN -> random.nextBoolean();
+            case STRING -> string(random);
+            case BYTE_STRING -> bytes(random);
+            case ENUM -> {
+                var values = field.enumValues();
+                yield values.get(random.nextInt(values.size()));
+            }
+            case MESSAGE -> {
+                var nested = builder.newBuilderForField(field.descriptor());
+                fill(nested, random, depth + 1);
+                yield nested.build();
+            }
+        };
+    }
+
+    private String string(RandomGenerator random) {
+        var chars = new char[between(random, minLength, maxLength)];
+        for (var i = 0; i < chars.length; i++) {
+            chars[i] = CHARACTERS[random.nextInt(CHARACTERS.length)];
+        }
+        return new String(chars);
+    }
+
+    private ByteString bytes(RandomGenerator random) {
+        var bytes = new byte[between(random, minLength, maxLength)];
+        random.nextBytes(bytes);
+        return ByteString.copyFrom(bytes);
+    }
+
+    /**
+     * Obtains the default instance of the given message type via
+     * the {@code getDefaultInstance()} method generated for each message class.
+     */
+    private static Message defaultInstance(Class<? extends Message> type) {
+        try {
+            var method = type.getMethod("getDefaultInstance");
+            return (Message) method.invoke(null);
+        } catch (ReflectiveOperationException | ClassCastException e) {
+            throw new IllegalArgumentException(
+                    "Unable to obtain the default instance of `" + type.getName() + "`.", e
+            );
+        }
+    }
+
+    /**
+     * Obtains a random number in the range {@code [min, max]}.
+     */
+    private static int between(RandomGenerator random, int min, int max) {
+        return min == max
+               ? min
+               : random.nextInt(min, max + 1);
+    }
+
+    /**
+     * A builder for {@code MessageGenerator} instances.
+     */
+    public static final class Builder {
+
+        private int minRepeated = 0;
+        private int maxRepeated = 4;
+        private int minLength = 1;
+        private int maxLength = 16;
+        private int maxDepth = 4;
+        private @Nullable Long seed;
+
+        /** Prevents direct instantiation. */
+        private Builder() {
+        }
+
+        /**
+         * Sets the range of the number of elements in {@code repeated} and {@code map} fields.
+         *
+         * <p>The default range is from zero to four elements.
+         *
+         * @param min
+         *         the minimum number of elements, inclusive
+         * @param max
+         *         the maximum number of elements, inclusive
+         */
+        @CanIgnoreReturnValue
+        public Builder setRepeatedSize(int min, int max) {
+            checkRange(min, max);
+            this.minRepeated = min;
+            this.maxRepeated = max;
+            return this;
+        }
+
+        /**
+         * Sets the range of the length of {@code string} and {@code bytes} fields.
+         *
+         * <p>The default range is from one to sixteen characters or bytes.
+         *
+         * @param min
+         *         the minimum length, inclusive
+         * @param max
+         *         the maximum length, inclusive
+         */
+        @CanIgnoreReturnValue
+        public Builder setLength(int min, int max) {
+            checkRange(min, max);
+            this.minLength = min;
+            this.maxLength = max;
+            return this;
+        }
+
+        /**
+         * Sets the maximum depth of nested messages.
+         *
+         * <p>The fields of the generated message itself have the depth of zero.
+         * The default value is four.
+         */
+        @CanIgnoreReturnValue
+        public Builder setMaxDepth(int maxDepth) {
+            checkArgument(maxDepth >= 0, "The maximum depth cannot be negative: %s.", maxDepth);
+            this.maxDepth = maxDepth;
+            return this;
+        }
+
+        /**
+         * Sets the seed for generating the same sequence of messages each time.
+         *
+         * <p>If not set, the values are drawn from the
+         * {@linkplain TestRandom#current() current random source}.
+         */
+        @CanIgnoreReturnValue
+        public Builder setSeed(long seed) {
+            this.seed = seed;
+            return this;
+        }
+
+        /**
+         * Creates a new generator with the configured parameters.
+         */
+        public MessageGenerator build() {
+            return new MessageGenerator(this);
+        }
+
+        private static void checkRange(int min, int max) {
+            checkArgument(min >= 0, "The minimum cannot be negative: %s.", min);
+            checkArgument(max >= min,
+                          "The maximum (%s) cannot be less than the minimum (%s).", max, min);
+        }
+    }
+}
@@ -0,0 +1,117 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.random;
+
+import com.google.common.collect.ImmutableList;
+import com.google.errorprone.annotations.Immutable;
+import com.google.protobuf.Descriptors.Descriptor;
+import com.google.protobuf.Descriptors.FieldDescriptor;
+import com.google.protobuf.Duration;
+import com.google.protobuf.Timestamp;
+
+import static com.google.common.collect.ImmutableList.toImmutableList;
+
+/**
+ * Describes how to populate the fields of a message type.
+ *
+ * <p>The fields are grouped so that the generation does not need to inspect
+ * the descriptor of the type: the fields which do not belong to a {@code oneof}
+ * are populated one by one, while only one field of each {@code oneof} is chosen.
+ *
+ * <p>Fields of the well-known types for time, namely {@code Timestamp} and
+ * {@code Duration}, are limited to the ranges valid for these types.
+ */
+@Immutable
+@SuppressWarnings("Immutable") // Descriptors are effectively immutable.
+final class MessagePlan {
+
+    /** The seconds of {@code 2100-01-01T00:00:00Z}. */
+    private static final long MAX_TIMESTAMP_SECONDS = 4_102_444_800L;
+
+    /** The seconds in a year, the upper bound for generated durations. */
+    private static final long MAX_DURATION_SECONDS = 366L * 24 * 60 * 60;
+
+    private static final long NANOS_PER_SECOND = 1_000_000_000L;
+
+    private final ImmutableList<FieldPlan> fields;
+    private final ImmutableList<ImmutableList<FieldPlan>> oneofs;
+
+    private MessagePlan(ImmutableList<FieldPlan> fields,
+                        ImmutableList<ImmutableList<FieldPlan>> oneofs) {
+        this.fields = fields;
+        this.oneofs = oneofs;
+    }
+
+    /**
+     * Computes the plan for the given message type.
+     */
+    static MessagePlan of(Descriptor type) {
+        var fields = type.getFields()
+                         .stream()
+                         .filter(field -> field.getRealContainingOneof() == null)
+                         .map(field -> planFor(type, field))
+                         .collect(toImmutableList());
+        var oneofs = type.getRealOneofs()
+                         .stream()
+                         .map(oneof -> oneof.getFields()
+                                            .stream()
+                                            .map(field -> planFor(type, field))
+                                            .collect(toImmutableList()))
+                         .collect(toImmutableList());
+        return new MessagePlan(fields, oneofs);
+    }
+
+    private static FieldPlan planFor(Descriptor type, FieldDescriptor field) {
+        var typeName = type.getFullName();
+        var isTime = typeName.equals(Timestamp.getDescriptor().getFullName())
+                || typeName.equals(Duration.getDescriptor().getFullName());
+        if (!isTime) {
+            return FieldPlan.of(field);
+        }
+        if (field.getNumber() == Timestamp.NANOS_FIELD_NUMBER) {
+            return FieldPlan.bounded(field, 0, NANOS_PER_SECOND);
+        }
+        var maxSeconds = typeName.equals(Timestamp.getDescriptor().getFullName())
+                         ? MAX_TIMESTAMP_SECONDS
+                         : MAX_DURATION_SECONDS;
+        return FieldPlan.bounded(field, 0, maxSeconds);
+    }
+
+    /**
+     * Obtains the fields which do not belong to a {@code oneof}.
+     */
+    ImmutableList<FieldPlan> fields() {
+        return fields;
+    }
+
+    /**
+     * Obtains the fields of each {@code oneof} of the type.
+     */
+    ImmutableList<ImmutableList<FieldPlan>> oneofs() {
+        return oneofs;
+    }
+}
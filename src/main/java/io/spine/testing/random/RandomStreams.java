@@ -0,0 +1,287 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.random;
+
+import com.google.protobuf.Message;
+import org.jspecify.annotations.Nullable;
+
+import java.util.Spliterator;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.function.LongConsumer;
+import java.util.function.ToLongFunction;
+import java.util.random.RandomGenerator;
+import java.util.stream.IntStream;
+import java.util.stream.LongStream;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
+
+import static com.google.common.base.Preconditions.checkArgument;
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Creates streams of random test data generated lazily.
+ *
+ * <p>The streams are sized and split evenly, so they are suitable for generating large
+ * data sets in parallel, e.g.:
+ * <pre>{@code
+ * RandomStreams.messages(10_000_000, seed, Prescription.class)
+ *              .parallel()
+ *              .forEach(storage::write);
+ * }</pre>
+ *
+ * <p>The random values of each element depend only on the seed of the stream and
+ * the position of the element in the stream. Therefore, a stream produces the same
+ * elements regardless of whether it is sequential or parallel, and of how it is split.
+ *
+ * <p>The {@code RandomGenerator} passed to an element generator function is valid only
+ * during the call of the function and must not be retained.
+ */
+public final class RandomStreams {
+
+    /** Generates messages for the streams which are not given a generator. */
+    private static final MessageGenerator messages = MessageGenerator.newBuilder()
+                                                                     .build();
+
+    /** Prevents instantiation of this utility class. */
+    private RandomStreams() {
+    }
+
+    /**
+     * Creates a stream of elements produced by the given function.
+     *
+     * @param count
+     *         the number of elements in the stream
+     * @param seed
+     *         the seed of the stream
+     * @param generator
+     *         the function producing an element from the given random source
+     * @param <T>
+     *         the type of the elements
+     */
+    public static <T> Stream<T>
+    objects(long count, long seed, Function<? super RandomGenerator, ? extends T> generator) {
+        checkNotNull(generator);
+        checkCount(count);
+        return StreamSupport.stream(new ObjectSpliterator<T>(seed, 0, count, generator), false);
+    }
+
+    /**
+     * Creates a stream of {@linkplain RandomStrings#uuid(RandomGenerator) random UUID strings}.
+     */
+    public static Stream<String> strings(long count, long seed) {
+        return objects(count, seed, RandomStrings::uuid);
+    }
+
+    /**
+     * Creates a stream of {@linkplain RandomStrings#id(RandomGenerator) random identifiers}.
+     */
+    public static Stream<String> ids(long count, long seed) {
+        return objects(count, seed, RandomStrings::id);
+    }
+
+    /**
+     * Creates a stream of messages with random field values.
+     *
+     * @see MessageGenerator
+     */
+    public static <M extends Message> Stream<M> messages(long count, long seed, Class<M> type) {
+        return messages(count, seed, type, messages);
+    }
+
+    /**
+     * Creates a stream of messages produced by the given generator.
+     *
+     * <p>The {@linkplain MessageGenerator.Builder#setSeed(long) seed} of the generator,
+     * if set, is ignored in favor of the seed of the stream.
+     */
+    public static <M extends Message> Stream<M>
+    messages(long count, long seed, Class<M> type, MessageGenerator generator) {
+        checkNotNull(type);
+        checkNotNull(generator);
+        return objects(count, seed, random -> generator.next(type, random));
+    }
+
+    /**
+     * Creates a stream of {@code int} values in the range {@code [origin, bound)}.
+     */
+    public static IntStream ints(long count, long seed, int origin, int bound) {
+        checkArgument(origin < bound,
+                      "The origin (%s) must be less than the bound (%s).", origin, bound);
+        return longs(count, seed, random -> random.nextInt(origin, bound))
+                .mapToInt(value -> (int) value);
+    }
+
+    /**
+     * Creates a stream of {@code long} values in the range {@code [origin, bound)}.
+     */
+    public static LongStream longs(long count, long seed, long origin, long bound) {
+        checkArgument(origin < bound,
+                      "The origin (%s) must be less than the bound (%s).", origin, bound);
+        return longs(count, seed, random -> random.nextLong(origin, bound));
+    }
+
+    private static LongStream
+    longs(long count, long seed, ToLongFunction<RandomGenerator> generator) {
+        checkCount(count);
+        return StreamSupport.longStream(new LongSpliterator(seed, 0, count, generator), false);
+    }
+
+    private static void checkCount(long count) {
+        checkArgument(count >= 0, "The number of elements cannot be negative: %s.", count);
+    }
+
+    /**
+     * A spliterator over a range of element indexes.
+     *
+     * <p>Each instance has its own random source, so the elements are generated
+     * without contention when the spliterator is split for parallel processing.
+     */
+    private abstract static class IndexSpliterator<S extends IndexSpliterator<S>> {
+
+        private static final int CHARACTERISTICS =
+                Spliterator.ORDERED | Spliterator.SIZED | Spliterator.SUBSIZED
+                        | Spliterator.IMMUTABLE | Spliterator.NONNULL;
+
+        final long seed;
+        final IndexedRandom random;
+        long index;
+        final long fence;
+
+        IndexSpliterator(long seed, long index, long fence) {
+            this.seed = seed;
+            this.random = new IndexedRandom(seed);
+            this.index = index;
+            this.fence = fence;
+        }
+
+        /**
+         * Creates a spliterator over the given range with the same seed and generator.
+         */
+        abstract S prefix(long from, long to);
+
+        /**
+         * Positions the random source for generating the current element
+         * and moves to the next one.
+         */
+        final IndexedRandom advance() {
+            random.moveTo(index);
+            index++;
+            return random;
+        }
+
+        public final @Nullable S trySplit() {
+            var middle = (index + fence) >>> 1;
+            if (middle <= index) {
+                return null;
+            }
+            var prefix = prefix(index, middle);
+            index = middle;
+            return prefix;
+        }
+
+        public final long estimateSize() {
+            return fence - index;
+        }
+
+        public final int characteristics() {
+            return CHARACTERISTICS;
+        }
+    }
+
+    private static final class ObjectSpliterator<T>
+            extends IndexSpliterator<ObjectSpliterator<T>>
+            implements Spliterator<T> {
+
+        private final Function<? super RandomGenerator, ? extends T> generator;
+
+        private ObjectSpliterator(long seed, long index, long fence,
+                                  Function<? super RandomGenerator, ? extends T> generator) {
+            super(seed, index, fence);
+            this.generator = generator;
+        }
+
+        @Override
+        ObjectSpliterator<T> prefix(long from, long to) {
+            return new ObjectSpliterator<>(seed, from, to, generator);
+        }
+
+        @Override
+        public boolean tryAdvance(Consumer<? super T> action) {
+            checkNotNull(action);
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(generator.apply(advance()));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(Consumer<? super T> action) {
+            checkNotNull(action);
+            while (index < fence) {
+                action.accept(generator.apply(advance()));
+            }
+        }
+    }
+
+    private static final class LongSpliterator
+            extends IndexSpliterator<LongSpliterator>
+            implements Spliterator.OfLong {
+
+        private final ToLongFunction<RandomGenerator> generator;
+
+        private LongSpliterator(long seed, long index, long fence,
+                                ToLongFunction<RandomGenerator> generator) {
+            super(seed, index, fence);
+            this.generator = generator;
+        }
+
+        @Override
+        LongSpliterator prefix(long from, long to) {
+            return new LongSpliterator(seed, from, to, generator);
+        }
+
+        @Override
+        public boolean tryAdvance(LongConsumer action) {
+            checkNotNull(action);
+            if (index >= fence) {
+                return false;
+            }
+            action.accept(generator.applyAsLong(advance()));
+            return true;
+        }
+
+        @Override
+        public void forEachRemaining(LongConsumer action) {
+            checkNotNull(action);
+            while (index < fence) {
+                action.accept(generator.applyAsLong(advance()));
+            }
+        }
+    }
+}
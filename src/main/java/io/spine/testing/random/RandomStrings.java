@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.random;
+
+import java.util.UUID;
+import java.util.random.RandomGenerator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Formats random strings drawing random bits from a given source.
+ *
+ * <p>Unlike {@link UUID#randomUUID()}, the methods of this class do not use the shared
+ * {@link java.security.SecureRandom}, and therefore do not contend when called from parallel
+ * tests. The generated values are not suitable for security purposes.
+ *
+ * @see io.spine.testing.TestValues#randomString()
+ * @see io.spine.testing.TestValues#randomId()
+ */
+public final class RandomStrings {
+
+    private static final char[] HEX_DIGITS = "0123456789abcdef".toCharArray();
+    private static final char[] BASE62_DIGITS =
+            "0123456789ABCDEFGHIJKLMNOPQRSTUVWXYZabcdefghijklmnopqrstuvwxyz".toCharArray();
+
+    /** The length of a UUID string, e.g., {@code 3b1f8c6e-2d4a-4f1b-9c3e-5a6b7c8d9e0f}. */
+    private static final int UUID_LENGTH = 36;
+
+    /**
+     * The length of an {@linkplain #id(RandomGenerator) identifier} which carries
+     * more random bits than a UUID, namely {@code 22 * log2(62) ≈ 131}.
+     */
+    private static final int ID_LENGTH = 22;
+
+    /** Prevents instantiation of this utility class. */
+    private RandomStrings() {
+    }
+
+    /**
+     * Generates a random string in the format of
+     * a {@linkplain UUID#randomUUID() version 4 UUID}.
+     */
+    public static String uuid(RandomGenerator random) {
+        checkNotNull(random);
+        var msb = (random.nextLong() & 0xFFFF_FFFF_FFFF_0FFFL) | 0x4000L;
+        var lsb = (random.nextLong() & 0x3FFF_FFFF_FFFF_FFFFL) | 0x8000_0000_0000_0000L;
+        var chars = new char[UUID_LENGTH];
+        writeHex(msb >>> 32, chars, 0, 8);
+        chars[8] = '-';
+        writeHex(msb >>> 16, chars, 9, 4);
+        chars[13] = '-';
+        writeHex(msb, chars, 14, 4);
+        chars[18] = '-';
+        writeHex(lsb >>> 48, chars, 19, 4);
+        chars[23] = '-';
+        writeHex(lsb, chars, 24, 12);
+        return new String(chars);
+    }
+
+    /**
+     * Generates a random identifier of 22 alphanumeric characters.
+     *
+     * <p>The identifier is more compact than a {@linkplain #uuid(RandomGenerator) UUID string},
+     * while having a comparable number of random bits.
+     */
+    public static String id(RandomGenerator random) {
+        checkNotNull(random);
+        var chars = new char[ID_LENGTH];
+        for (var i = 0; i < ID_LENGTH; i++) {
+            chars[i] = BASE62_DIGITS[random.nextInt(BASE62_DIGITS.length)];
+        }
+        return new String(chars);
+    }
+
+    /**
+     * Writes the given number of the lowest hexadecimal digits of the value
+     * into the array starting at the given offset.
+     */
+    private static void writeHex(long value, char[] target, int offset, int digits) {
+        var remaining = value;
+        for (var i = offset + digits - 1; i >= offset; i--) {
+            target[i] = HEX_DIGITS[(int) (remaining & 0xF)];
+            remaining >>>= 4;
+        }
+    }
+}
@@ -0,0 +1,82 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.random;
+
+import io.spine.logging.Logger;
+import io.spine.logging.LoggingFactory;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+
+import java.util.Locale;
+
+import static java.lang.String.format;
+
+/**
+ * A JUnit {@link org.junit.jupiter.api.extension.Extension Extension} which makes
+ * a test case draw random values from a seeded source.
+ *
+ * <p>Do not use this extension directly. Mark the target test method or class with
+ * the {@link Seeded} annotation.
+ *
+ * @see Seeded
+ */
+public final class SeededExtension implements BeforeEachCallback, AfterEachCallback {
+
+    private static final Logger logger = LoggingFactory.forEnclosingClass();
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        TestRandom.install(TestRandom.seedFor(context.getUniqueId()));
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        try {
+            if (context.getExecutionException().isPresent()) {
+                reportSeed(context);
+            }
+        } finally {
+            TestRandom.uninstall();
+        }
+    }
+
+    private static void reportSeed(ExtensionContext context) {
+        var seed = TestRandom.currentSeed();
+        if (seed.isEmpty()) {
+            return;
+        }
+        var baseSeed = TestRandom.baseSeed();
+        context.publishReportEntry(TestRandom.SEED_PROPERTY, String.valueOf(baseSeed));
+        var testName = context.getDisplayName();
+        logger.atWarning().log(() -> format(
+                Locale.ROOT,
+                "`%s` failed with the random seed %d. To reproduce, run it with `-D%s=%d`.",
+                testName, seed.getAsLong(), TestRandom.SEED_PROPERTY, baseSeed
+        ));
+    }
+}
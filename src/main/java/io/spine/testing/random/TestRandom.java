@@ -0,0 +1,222 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.random;
+
+import com.google.common.annotations.VisibleForTesting;
+import com.google.common.hash.Hashing;
+import org.jspecify.annotations.Nullable;
+
+import java.util.OptionalLong;
+import java.util.SplittableRandom;
+import java.util.concurrent.ThreadLocalRandom;
+import java.util.random.RandomGenerator;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+import static java.lang.String.format;
+import static java.nio.charset.StandardCharsets.UTF_8;
+
+/**
+ * The source of random values for tests.
+ *
+ * <p>When a test is {@linkplain Seeded seeded}, the {@linkplain #current() current} source
+ * is a {@link SplittableRandom} created with the seed of the test, so that all the values
+ * drawn from it, e.g., via {@link io.spine.testing.TestValues TestValues}, are the same
+ * every time the test runs with the same seed.
+ *
+ * <p>The seed of a test is derived from the {@linkplain #baseSeed() base seed} and
+ * the unique ID of the test. The base seed is taken from the {@value #SEED_PROPERTY} system
+ * property, if it is set. Otherwise, it is chosen randomly once per JVM. When a seeded test
+ * fails, the base seed is logged, so the failure can be reproduced by running the test with
+ * the system property set to the logged value.
+ *
+ * <p>The property must be set for the JVM running the tests rather than for the build tool.
+ * Gradle does not pass its own {@code -D} options to the forked test JVMs, so forward
+ * the property in the test task:
+ * <pre>{@code
+ * tasks.test {
+ *     System.getProperty("io.spine.testing.seed")?.let {
+ *         systemProperty("io.spine.testing.seed", it)
+ *     }
+ * }
+ * }</pre>
+ * and then run:
+ * <pre>
+ * ./gradlew test --tests MyRandomizedTest -Dio.spine.testing.seed=-6124359817264352711
+ * </pre>
+ *
+ * <p>The seeded source is bound to the thread running the test. Other threads, e.g.,
+ * those started by the test, use {@link ThreadLocalRandom}.
+ *
+ * @see Seeded
+ */
+public final class TestRandom {
+
+    /**
+     * The name of the system property with the base seed for seeded tests.
+     */
+    public static final String SEED_PROPERTY = "io.spine.testing.seed";
+
+    private static final ThreadLocal<@Nullable Seeding> seeding = new ThreadLocal<>();
+
+    /** Prevents instantiation of this utility class. */
+    private TestRandom() {
+    }
+
+    /**
+     * Obtains the source of random values for the current thread.
+     *
+     * @return the seeded source, if the current thread runs a seeded test,
+     *         or {@link ThreadLocalRandom#current()} otherwise
+     */
+    public static RandomGenerator current() {
+        var current = seeding.get();
+        return current != null
+               ? current.random
+               : ThreadLocalRandom.current();
+    }
+
+    /**
+     * Obtains the seed of the test run by the current thread.
+     *
+     * @return the seed, or empty {@code OptionalLong} if the current thread
+     *         does not run a seeded test
+     */
+    public static OptionalLong currentSeed() {
+        var current = seeding.get();
+        return current != null
+               ? OptionalLong.of(current.seed)
+               : OptionalLong.empty();
+    }
+
+    /**
+     * Obtains the base seed from which the seeds of the tests are derived.
+     */
+    public static long baseSeed() {
+        return BaseSeed.VALUE;
+    }
+
+    /**
+     * Derives the seed of the test with the given unique ID from the base seed.
+     *
+     * @param uniqueId
+     *         the {@linkplain org.junit.jupiter.api.extension.ExtensionContext#getUniqueId()
+     *         unique ID} of the test
+     */
+    public static long seedFor(String uniqueId) {
+        checkNotNull(uniqueId);
+        return seedFor(baseSeed(), uniqueId);
+    }
+
+    @VisibleForTesting
+    static long seedFor(long baseSeed, String uniqueId) {
+        return Hashing.murmur3_128()
+                      .newHasher()
+                      .putLong(baseSeed)
+                      .putString(uniqueId, UTF_8)
+                      .hash()
+                      .asLong();
+    }
+
+    /**
+     * Creates a random source for the element with the given index
+     * in a sequence with the given seed.
+     *
+     * <p>The values drawn from the source depend only on the seed and the index.
+     * This allows generating the elements of a sequence in any order, e.g., in parallel,
+     * with the same result. The returned source is not thread-safe.
+     */
+    public static RandomGenerator forIndex(long seed, long index) {
+        var random = new IndexedRandom(seed);
+        random.moveTo(index);
+        return random;
+    }
+
+    /**
+     * Makes the current thread draw random values from a source with the given seed.
+     */
+    static void install(long seed) {
+        seeding.set(new Seeding(seed));
+    }
+
+    /**
+     * Makes the current thread draw random values from {@link ThreadLocalRandom}.
+     */
+    static void uninstall() {
+        seeding.remove();
+    }
+
+    /**
+     * Parses the value of the {@value #SEED_PROPERTY} system property.
+     *
+     * @return the parsed value, or {@code null} if the property is not set
+     * @throws IllegalStateException
+     *          if the value is not a {@code long} number
+     */
+    @VisibleForTesting
+    static @Nullable Long parseSeed(@Nullable String value) {
+        if (value == null || value.isBlank()) {
+            return null;
+        }
+        try {
+            return Long.parseLong(value.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalStateException(
+                    format("The value of `%s` must be a `long` number: `%s`.",
+                           SEED_PROPERTY, value), e);
+        }
+    }
+
+    /**
+     * A seeded random source along with its seed.
+     */
+    private static final class Seeding {
+
+        private final long seed;
+        private final SplittableRandom random;
+
+        private Seeding(long seed) {
+            this.seed = seed;
+            this.random = new SplittableRandom(seed);
+        }
+    }
+
+    /**
+     * Holds the base seed initialized on the first access.
+     */
+    private static final class BaseSeed {
+
+        private static final long VALUE = init();
+
+        @SuppressWarnings("AccessOfSystemProperties")
+        private static long init() {
+            var configured = parseSeed(System.getProperty(SEED_PROPERTY));
+            return configured != null
+                   ? configured
+                   : ThreadLocalRandom.current().nextLong();
+        }
+    }
+}
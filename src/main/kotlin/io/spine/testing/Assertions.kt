@@ -28,6 +28,7 @@
 
 package io.spine.testing
 
+import com.google.errorprone.annotations.CanIgnoreReturnValue
 import io.kotest.assertions.withClue
 import io.kotest.matchers.shouldBe
 import io.spine.testing.Assertions.hasPrivateParameterlessCtor
@@ -131,3 +132,27 @@ private class FileExist(
  */
 public inline fun <reified C: Any> hasPrivateParameterlessCtor(): Boolean =
     hasPrivateParameterlessCtor(C::class.java)
+
+/**
+ * Asserts that running the [block] allocates no more than [maxBytes] in the current thread.
+ *
+ * Usage:
+ * ```
+ * assertAllocatesAtMost(0, warmUp = 10_000) {
+ *     router.route(message)
+ * }
+ * ```
+ *
+ * @param maxBytes The maximum number of bytes a single run may allocate on average.
+ * @param warmUp The number of runs which are not measured.
+ * @param repeat The number of measured runs.
+ * @return the average number of bytes allocated by a single run.
+ * @see Assertions.assertAllocatesAtMost
+ */
+@CanIgnoreReturnValue
+public fun assertAllocatesAtMost(
+    maxBytes: Long,
+    warmUp: Int = 100,
+    repeat: Int = 10,
+    block: () -> Unit
+): Long = Assertions.assertAllocatesAtMost(maxBytes, warmUp, repeat) { block() }
@@ -27,14 +27,20 @@
 package io.spine.testing;
 
 import io.spine.testing.given.SingletonTestEnv.EveryTimeNew;
+import io.spine.testing.given.SingletonTestEnv.LazySingleton;
 import io.spine.testing.given.SingletonTestEnv.NoConstructor;
 import io.spine.testing.given.SingletonTestEnv.PackagePrivateConstructor;
 import io.spine.testing.given.SingletonTestEnv.ProtectedConstructor;
+import io.spine.testing.given.SingletonTestEnv.RacyLazySingleton;
 import io.spine.testing.given.SingletonTestEnv.SingletonClass;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.function.Executable;
+import org.opentest4j.TestAbortedException;
+
+import java.time.Duration;
+import java.util.function.Supplier;
 
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -121,6 +127,108 @@ class SingletonTestSpec {
         }
     }
 
+    @Nested
+    @DisplayName("check returning the same instance to concurrent callers")
+    class ConcurrentAccess {
+
+        @Test
+        @DisplayName("not throwing when the singleton is initialized")
+        void initialized() {
+            var suite = positiveSuite();
+
+            assertPass(() -> suite.new CheckConcurrentAccess().initialized());
+        }
+
+        @Test
+        @DisplayName("not throwing when the singleton is initialized safely on the first call")
+        void safeInitialization() {
+            var suite = suiteWithAccessorMethod(LazySingleton.class, LazySingleton::instance);
+
+            assertPass(() -> suite.new CheckConcurrentAccess().racingInitialization());
+        }
+
+        @Test
+        @DisplayName("throwing when the initialization is racy")
+        void racyInitialization() {
+            var suite = suiteWithAccessorMethod(RacyLazySingleton.class,
+                                                RacyLazySingleton::instance);
+
+            assertFails(() -> suite.new CheckConcurrentAccess().racingInitialization());
+        }
+
+        @Test
+        @DisplayName("skipping the initialization check if the accessor method is not specified")
+        void skipWithoutAccessorMethod() {
+            var suite = positiveSuite();
+
+            assertThrows(TestAbortedException.class,
+                         () -> suite.new CheckConcurrentAccess().racingInitialization());
+        }
+
+        private <S> SingletonTest<S> suiteWithAccessorMethod(Class<S> cls, Supplier<S> accessor) {
+            return new SingletonTest<>(cls, accessor) {
+                @Override
+                protected String accessorMethod() {
+                    return "instance";
+                }
+            };
+        }
+    }
+
+    @Nested
+    @DisplayName("check the cost of the initialization")
+    class InitializationCost {
+
+        @Test
+        @DisplayName("not throwing when the initialization is within the budget")
+        void withinBudget() {
+            var budget = InitializationBudget.newBuilder()
+                    .setTime(Duration.ofMinutes(1))
+                    .setAllocatedBytes(Long.MAX_VALUE - 1)
+                    .build();
+            var suite = suiteWithBudget(LazySingleton.class, LazySingleton::instance, budget);
+
+            assertPass(() -> suite.new CheckInitializationCost().withinBudget());
+        }
+
+        @Test
+        @DisplayName("throwing when the initialization takes too long")
+        void overTime() {
+            var budget = InitializationBudget.newBuilder()
+                    .setTime(Duration.ofMillis(1))
+                    .build();
+            var suite = suiteWithBudget(RacyLazySingleton.class,
+                                        RacyLazySingleton::instance, budget);
+
+            assertFails(() -> suite.new CheckInitializationCost().withinBudget());
+        }
+
+        @Test
+        @DisplayName("skipping the check if the budget is not specified")
+        void skipWithoutBudget() {
+            var suite = positiveSuite();
+
+            assertThrows(TestAbortedException.class,
+                         () -> suite.new CheckInitializationCost().withinBudget());
+        }
+
+        private <S> SingletonTest<S> suiteWithBudget(Class<S> cls,
+                                                     Supplier<S> accessor,
+                                                     InitializationBudget budget) {
+            return new SingletonTest<>(cls, accessor) {
+                @Override
+                protected String accessorMethod() {
+                    return "instance";
+                }
+
+                @Override
+                protected InitializationBudget initializationBudget() {
+                    return budget;
+                }
+            };
+        }
+    }
+
     private static void assertPass(Executable executable) {
         assertDoesNotThrow(executable);
     }
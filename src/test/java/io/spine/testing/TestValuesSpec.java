@@ -26,9 +26,14 @@
 
 package io.spine.testing;
 
+import com.google.common.collect.ImmutableSet;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 
+import java.util.UUID;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
 import static org.junit.jupiter.api.Assertions.assertNull;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
@@ -58,4 +63,33 @@ class TestValuesSpec extends UtilityClassTest<TestValues> {
         assertTrue(value >= -100);
         assertTrue(value <= 100);
     }
+
+    @Test
+    @DisplayName("generate random strings in the UUID format")
+    void uuidString() {
+        var value = TestValues.randomString();
+        var uuid = UUID.fromString(value);
+        assertEquals(value, uuid.toString());
+        assertEquals(4, uuid.version());
+        assertEquals(2, uuid.variant());
+        assertNotEquals(value, TestValues.randomString());
+    }
+
+    @Test
+    @DisplayName("generate compact alphanumeric identifiers")
+    void randomId() {
+        var id = TestValues.randomId();
+        assertEquals(22, id.length());
+        assertTrue(id.chars().allMatch(c -> Character.isLetterOrDigit(c) && c < 128));
+        assertNotEquals(id, TestValues.randomId());
+    }
+
+    @Test
+    @DisplayName("fill an array with unique random values")
+    void fillArray() {
+        var strings = TestValues.fillWithRandomStrings(new String[1_000]);
+        var ids = TestValues.fillWithRandomIds(new String[1_000]);
+        assertEquals(strings.length, ImmutableSet.copyOf(strings).size());
+        assertEquals(ids.length, ImmutableSet.copyOf(ids).size());
+    }
 }
@@ -29,6 +29,7 @@ import java.util.concurrent.atomic.AtomicInteger;
 
 import static com.google.common.truth.Truth.assertThat;
 import static io.spine.testing.Testing.repeat;
+import static io.spine.testing.Testing.repeatConcurrently;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
 @DisplayName("`Testing` utility class should")
@@ -54,6 +55,22 @@ class TestingSpec extends UtilityClassTest<Testing> {
                 .isEqualTo(expected);
     }
 
+    @Test
+    @DisplayName("repeat an action concurrently")
+    void repeatingConcurrently() {
+        var counter = new AtomicInteger(0);
+        repeatConcurrently(100, 4, counter::incrementAndGet);
+
+        assertThat(counter.get())
+                .isEqualTo(100);
+    }
+
+    @Test
+    @DisplayName("fail concurrent repetition if the action fails")
+    void failingConcurrently() {
+        assertThrows(AssertionError.class, () -> repeatConcurrently(10, 2, Testing::halt));
+    }
+
     @Test
     @DisplayName("provide method `halt()` for failing methods that should never be called")
     void haltMethod() {
@@ -52,6 +52,11 @@ public class AssertionsTestEnv {
         }
     }
 
+    public abstract static class AbstractClassWithPrivateCtor {
+        @SuppressWarnings("RedundantNoArgConstructor") // We need this constructor for our tests.
+        private AbstractClassWithPrivateCtor() {}
+    }
+
     public static class ClassWithCtorWithArgs {
         @SuppressWarnings("unused")
         private final int id;
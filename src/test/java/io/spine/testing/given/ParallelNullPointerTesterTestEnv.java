@@ -0,0 +1,90 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.given;
+
+import org.jspecify.annotations.Nullable;
+
+import static com.google.common.base.Preconditions.checkNotNull;
+
+/**
+ * Test environment for {@code ParallelNullPointerTesterSpec}.
+ */
+@SuppressWarnings("unused") // The methods are called reflectively.
+public final class ParallelNullPointerTesterTestEnv {
+
+    /** Prevents instantiation of this utility class. */
+    private ParallelNullPointerTesterTestEnv() {
+    }
+
+    /**
+     * A utility class checking all its parameters.
+     */
+    public static final class Checked {
+
+        /** Prevents instantiation of this utility class. */
+        private Checked() {
+        }
+
+        public static String concat(String first, String second) {
+            checkNotNull(first);
+            checkNotNull(second);
+            return first + second;
+        }
+
+        public static String orEmpty(@Nullable String value) {
+            return value == null ? "" : value;
+        }
+
+        public static int sum(int first, int second) {
+            return first + second;
+        }
+    }
+
+    /**
+     * A utility class some parameters of which are not checked.
+     */
+    public static final class Unchecked {
+
+        /** Prevents instantiation of this utility class. */
+        private Unchecked() {
+        }
+
+        public static String concat(String first, String second) {
+            checkNotNull(first);
+            return first + second;
+        }
+
+        public static int length(CharSequence value) {
+            return 0;
+        }
+
+        public static String first(String value) {
+            checkNotNull(value);
+            return value;
+        }
+    }
+}
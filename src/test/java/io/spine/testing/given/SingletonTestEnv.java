@@ -26,6 +26,8 @@
 
 package io.spine.testing.given;
 
+import org.jspecify.annotations.Nullable;
+
 import static com.google.common.base.Preconditions.checkNotNull;
 
 /**
@@ -117,4 +119,56 @@ public class SingletonTestEnv {
             return INSTANCE;
         }
     }
+
+    public static class LazySingleton {
+
+        /** This field makes this class non-utility. */
+        @SuppressWarnings({"FieldMayBeStatic", "unused"})
+        private final boolean haveState = true;
+
+        private LazySingleton() {
+        }
+
+        public static LazySingleton instance() {
+            return Holder.INSTANCE;
+        }
+
+        private static final class Holder {
+            private static final LazySingleton INSTANCE = new LazySingleton();
+        }
+    }
+
+    /**
+     * A singleton which is lazily initialized without synchronization.
+     *
+     * <p>The constructor is slow, so that the callers racing to initialize
+     * the singleton create several instances.
+     */
+    public static class RacyLazySingleton {
+
+        private static final long CONSTRUCTION_MILLIS = 50;
+
+        @SuppressWarnings({"StaticVariableMayNotBeInitialized", "NonThreadSafeLazyInitialization"})
+        private static @Nullable RacyLazySingleton instance;
+
+        /** This field makes this class non-utility. */
+        @SuppressWarnings({"FieldMayBeStatic", "unused"})
+        private final boolean haveState = true;
+
+        private RacyLazySingleton() {
+            try {
+                Thread.sleep(CONSTRUCTION_MILLIS);
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+            }
+        }
+
+        @SuppressWarnings("StaticVariableUsedBeforeInitialization") // The purpose of the class.
+        public static RacyLazySingleton instance() {
+            if (instance == null) {
+                instance = new RacyLazySingleton();
+            }
+            return instance;
+        }
+    }
 }
@@ -0,0 +1,106 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf;
+
+import com.google.common.truth.Subject;
+import io.spine.testing.SubjectTest;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.time.Duration;
+
+import static com.google.common.truth.ExpectFailure.assertThat;
+import static io.spine.testing.perf.LatencyHistogramSubject.NO_HISTOGRAM;
+import static io.spine.testing.perf.LatencyHistogramSubject.NO_VALUES;
+import static io.spine.testing.perf.LatencyHistogramSubject.histograms;
+
+@DisplayName("`LatencyHistogramSubject` should")
+class LatencyHistogramSubjectSpec
+        extends SubjectTest<LatencyHistogramSubject, LatencyHistogram> {
+
+    private static final LatencyHistogram histogram =
+            LatencyHistogram.of(1_000, 2_000, 3_000, 4_000, 50_000);
+
+    @Override
+    protected Subject.Factory<LatencyHistogramSubject, LatencyHistogram> subjectFactory() {
+        return histograms();
+    }
+
+    @Test
+    @DisplayName("check percentiles")
+    void percentiles() {
+        assertWithSubjectThat(histogram)
+                .percentile(80)
+                .isLessThan(Duration.ofNanos(5_000));
+        expectSomeFailure(
+                whenTesting -> whenTesting.that(histogram)
+                                          .percentile(99)
+                                          .isLessThan(Duration.ofNanos(5_000))
+        );
+    }
+
+    @Test
+    @DisplayName("check the maximum")
+    void max() {
+        assertWithSubjectThat(histogram)
+                .max()
+                .isEqualTo(Duration.ofNanos(50_000));
+        expectSomeFailure(
+                whenTesting -> whenTesting.that(histogram)
+                                          .max()
+                                          .isLessThan(Duration.ofNanos(20_000))
+        );
+    }
+
+    @Test
+    @DisplayName("check the number of recorded values")
+    void count() {
+        assertWithSubjectThat(histogram)
+                .hasCountThat()
+                .isEqualTo(5);
+    }
+
+    @Test
+    @DisplayName("fail on missing histogram")
+    void missing() {
+        var failure = expectFailure(whenTesting -> whenTesting.that(null).max());
+        assertThat(failure)
+                .factKeys()
+                .contains(NO_HISTOGRAM);
+    }
+
+    @Test
+    @DisplayName("fail on empty histogram")
+    void empty() {
+        var failure = expectFailure(
+                whenTesting -> whenTesting.that(new LatencyHistogram()).percentile(99)
+        );
+        assertThat(failure)
+                .factKeys()
+                .contains(NO_VALUES);
+    }
+}
@@ -111,4 +111,28 @@ internal class AssertionsKtSpec {
             }
         }
     }
+
+    @Nested
+    inner class `assert allocations` {
+
+        @Test
+        fun `with default warm-up and repetitions`() = assertDoesNotThrow {
+            assertAllocatesAtMost(64) { }
+        }
+
+        @Test
+        fun `throwing when the budget is exceeded`() {
+            assertThrows<AssertionError> {
+                assertAllocatesAtMost(0, warmUp = 1, repeat = 2) {
+                    allocated = LongArray(10_000)
+                }
+            }
+        }
+    }
 }
+
+/**
+ * Keeps objects allocated in the tests reachable.
+ */
+@Volatile
+private var allocated: Any? = null
@@ -41,12 +41,15 @@ import io.spine.testing.Prescription.PRESCRIBED_DRUG_FIELD_NUMBER
 import io.spine.testing.Prescription.PRESCRIBED_ON_FIELD_NUMBER
 import io.spine.testing.PrescriptionHistory.PRESCRIPTION_RECEIVER_FIELD_NUMBER
 import io.spine.testing.PrescriptionHistory.RECEIVED_PRESCRIPTION_FIELD_NUMBER
+import io.spine.testing.given.AssertionsTestEnv.AbstractClassWithPrivateCtor
 import io.spine.testing.given.AssertionsTestEnv.ClassThrowingExceptionInConstructor
 import io.spine.testing.given.AssertionsTestEnv.ClassWithCtorWithArgs
 import io.spine.testing.given.AssertionsTestEnv.ClassWithPrivateCtor
 import io.spine.testing.given.AssertionsTestEnv.ClassWithPublicCtor
+import java.lang.ref.WeakReference
 import java.time.Instant
 import java.util.*
+import org.junit.jupiter.api.AfterEach
 import org.junit.jupiter.api.BeforeEach
 import org.junit.jupiter.api.DisplayName
 import org.junit.jupiter.api.Nested
@@ -86,6 +89,11 @@ internal class AssertionsSpec private constructor() :
         fun `ignore exceptions thrown by the called constructor`() {
             hasPrivateParameterlessCtor<ClassThrowingExceptionInConstructor>() shouldBe true
         }
+
+        @Test
+        fun `ignore failures to instantiate an abstract class`() {
+            hasPrivateParameterlessCtor<AbstractClassWithPrivateCtor>() shouldBe true
+        }
     }
 
     @Nested
@@ -226,6 +234,117 @@ internal class AssertionsSpec private constructor() :
 
             private fun newPatient(): PatientId = patientId { UUID.randomUUID().toString() }
         }
+
+        @Nested
+        internal inner class `with nested paths` {
+
+            private val receiverValue = FieldMask.newBuilder()
+                .addPaths("prescription_receiver.value")
+                .build()
+
+            @Test
+            fun `match nested fields`() {
+                val history = prescriptionHistory {
+                    prescriptionReceiver = patientId { value = "patient-1" }
+                }
+                assertMatchesMask(history, receiverValue)
+            }
+
+            @Test
+            fun `not match absent nested fields`() {
+                val history = prescriptionHistory {
+                    prescriptionReceiver = PatientId.getDefaultInstance()
+                }
+                assertThrows<AssertionError> {
+                    assertMatchesMask(history, receiverValue)
+                }
+            }
+
+            @Test
+            fun `not match absent parent fields`() {
+                assertThrows<AssertionError> {
+                    assertMatchesMask(PrescriptionHistory.getDefaultInstance(), receiverValue)
+                }
+            }
+
+            @Test
+            fun `not match paths past repeated fields`() {
+                val history = prescriptionHistory {
+                    receivedPrescription.add(Prescription.getDefaultInstance())
+                }
+                val mask = FieldMask.newBuilder()
+                    .addPaths("received_prescription.prescribed_on")
+                    .build()
+                val error = assertThrows<AssertionError> {
+                    assertMatchesMask(history, mask)
+                }
+                error.message!!.contains("received_prescription") shouldBe true
+            }
+
+            @Test
+            fun `not match unknown nested paths`() {
+                val history = prescriptionHistory {
+                    prescriptionReceiver = patientId { value = "patient-2" }
+                }
+                val mask = FieldMask.newBuilder()
+                    .addPaths("prescription_receiver.value.length")
+                    .build()
+                assertThrows<AssertionError> {
+                    assertMatchesMask(history, mask)
+                }
+            }
+
+            @Test
+            fun `treat the whole field as matched if its path is in the mask`() {
+                val history = prescriptionHistory {
+                    prescriptionReceiver = PatientId.getDefaultInstance()
+                }
+                val mask = FieldMask.newBuilder()
+                    .addPaths("prescription_receiver")
+                    .addPaths("prescription_receiver.value")
+                    .build()
+                assertMatchesMask(history, mask)
+            }
+        }
+    }
+
+    @Nested
+    internal inner class `assert all messages match mask` {
+
+        private val mask = fromFieldNumbers<Prescription>(PRESCRIBED_DRUG_FIELD_NUMBER)
+
+        private fun prescriptions(count: Int, withoutDrugs: Set<Int> = setOf()) =
+            (0 until count).map {
+                if (it in withoutDrugs) {
+                    Prescription.getDefaultInstance()
+                } else {
+                    prescription { prescribedDrug.add("Drug #$it") }
+                }
+            }
+
+        @Test
+        fun `passing when all messages match`() {
+            Assertions.assertAllMatchMask(prescriptions(1_000), mask)
+            Assertions.assertAllMatchMask(prescriptions(1_000).stream(), mask)
+        }
+
+        @Test
+        fun `passing for no messages`() {
+            Assertions.assertAllMatchMask(listOf<Prescription>(), mask)
+        }
+
+        @Test
+        fun `reporting mismatches per field with examples`() {
+            val messages = prescriptions(10_000, setOf(5, 700, 701, 9_999))
+            val error = assertThrows<AssertionError> {
+                Assertions.assertAllMatchMask(messages, mask)
+            }
+            val message = error.message!!
+            message.contains("4 of 10000 messages") shouldBe true
+            message.contains("#5, #700, #701") shouldBe true
+            message.contains("#9999") shouldBe false
+            message.contains("first mismatching message (#5)") shouldBe true
+        }
     }
 
     @Nested
@@ -299,12 +418,129 @@ internal class AssertionsSpec private constructor() :
         }
     }
 
+    @Nested
+    internal inner class `assert allocations` {
+
+        @Test
+        fun `passing when the budget is met`() {
+            var counter = 0L
+            Assertions.assertAllocatesAtMost(ALLOCATION_SLACK) { counter++ }
+        }
+
+        @Test
+        fun `failing when the budget is exceeded`() {
+            val error = assertThrows<AssertionError> {
+                Assertions.assertAllocatesAtMost(1024, 1, 3) {
+                    blackhole = ByteArray(1_000_000)
+                }
+            }
+            error.message!!.contains("allocated") shouldBe true
+        }
+
+        @Test
+        fun `failing when the executable fails`() {
+            assertThrows<AssertionError> {
+                Assertions.assertAllocatesAtMost(1024) {
+                    error("Boom")
+                }
+            }
+        }
+
+        @Test
+        fun `prohibiting negative budget`() {
+            assertThrows<IllegalArgumentException> {
+                Assertions.assertAllocatesAtMost(-1) { }
+            }
+        }
+    }
+
+    @Nested
+    internal inner class `assert garbage collection` {
+
+        @AfterEach
+        fun releaseRetained() {
+            retained.clear()
+        }
+
+        @Test
+        fun `passing when the weakly referenced object is collected`() {
+            Assertions.assertCollected(WeakReference(Any()))
+        }
+
+        @Test
+        fun `failing when the weakly referenced object is retained`() {
+            val obj = Any()
+            retained.add(obj)
+            assertThrows<AssertionError> {
+                Assertions.assertCollected(WeakReference(obj))
+            }
+        }
+
+        @Test
+        fun `passing when the object is unreachable after the action`() {
+            Assertions.assertUnreachableAfter({ Tracked() }) {
+                retained.add(it)
+                retained.remove(it)
+            }
+        }
+
+        @Test
+        fun `failing when the object is retained by the action`() {
+            val error = assertThrows<AssertionError> {
+                Assertions.assertUnreachableAfter({ Tracked() }) {
+                    retained.add(it)
+                }
+            }
+            error.message!!.contains("still reachable") shouldBe true
+        }
+
+        @Test
+        fun `passing when created instances are released`() {
+            Assertions.assertInstancesReleased(Tracked::class.java) {
+                repeat(10) { blackhole = Tracked() }
+                blackhole = null
+            }
+        }
+
+        @Test
+        fun `failing when created instances are retained`() {
+            val error = assertThrows<AssertionError> {
+                Assertions.assertInstancesReleased(Tracked::class.java) {
+                    repeat(3) { retained.add(Tracked()) }
+                }
+            }
+            error.message!!.contains(Tracked::class.java.name) shouldBe true
+        }
+    }
+
     companion object {
+
+        /**
+         * The number of bytes tolerated when checking the code which should not allocate.
+         */
+        private const val ALLOCATION_SLACK: Long = 64
+
+        /**
+         * Keeps allocated objects reachable, so that the allocation is not eliminated.
+         */
+        @Volatile
+        private var blackhole: Any? = null
+
+        /**
+         * Keeps objects reachable for the tests of garbage collection assertions.
+         */
+        private val retained = mutableListOf<Any>()
+
         private const val DELTA: Long = 10
         private const val value: Long = 100
     }
 }
 
+/**
+ * A class counted by the tests of garbage collection assertions.
+ */
+private class Tracked
+
 /**
  * Constructs a [FieldMask] from the passed field numbers.
  *
@@ -0,0 +1,71 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing
+
+import com.google.common.testing.NullPointerTester.Visibility
+import io.kotest.matchers.collections.shouldContainExactlyInAnyOrder
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`ClassMetadata` should")
+internal class ClassMetadataSpec {
+
+    @Test
+    fun `be computed once per class`() {
+        ClassMetadata.of(TestValues::class.java) shouldBeSameInstanceAs
+                ClassMetadata.of(TestValues::class.java)
+    }
+
+    @Test
+    fun `obtain accessible parameterless constructor`() {
+        val constructor = ClassMetadata.of(TestValues::class.java).parameterlessConstructor()!!
+        constructor.canAccess(null) shouldBe true
+        ClassMetadata.of(TestValues::class.java)
+            .parameterlessConstructor() shouldBeSameInstanceAs constructor
+    }
+
+    @Test
+    fun `tell there is no parameterless constructor`() {
+        ClassMetadata.of(Integer::class.java).parameterlessConstructor().shouldBeNull()
+    }
+
+    @Test
+    fun `select static methods with parameters to check for nulls`() {
+        val names = ClassMetadata.of(TestValues::class.java)
+            .staticMethodsToTest(Visibility.PUBLIC)
+            .map { it.name }
+        names shouldContainExactlyInAnyOrder listOf(
+            "randomString",
+            "fillWithRandomStrings",
+            "fillWithRandomIds",
+            "randomMessage"
+        )
+    }
+}
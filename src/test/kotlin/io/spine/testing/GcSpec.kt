@@ -0,0 +1,62 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing
+
+import io.kotest.matchers.shouldBe
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`Gc` should")
+internal class GcSpec {
+
+    @Test
+    fun `count instances in class histogram`() {
+        val histogram = """
+             num     #instances         #bytes  class name (module)
+            -------------------------------------------------------
+               1:          5632         479032  [B (java.base@17.0.9)
+               2:            42           1344  io.spine.testing.Example
+               3:             7            224  io.spine.testing.ExampleBuilder
+            Total          5681         480600
+            """.trimIndent()
+        Gc.countIn(histogram, "io.spine.testing.Example") shouldBe 42
+        Gc.countIn(histogram, "[B") shouldBe 5632
+        Gc.countIn(histogram, "io.spine.testing.Missing") shouldBe 0
+    }
+
+    @Test
+    fun `collect until the condition is met`() {
+        var checks = 0
+        Gc.collectUntil({ ++checks == 3 }) { } shouldBe true
+        checks shouldBe 3
+    }
+
+    @Test
+    fun `give up collecting after the limited number of attempts`() {
+        Gc.collectUntil({ false }) { } shouldBe false
+    }
+}
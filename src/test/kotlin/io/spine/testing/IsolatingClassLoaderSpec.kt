@@ -0,0 +1,64 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing
+
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
+import io.kotest.matchers.types.shouldBeSameInstanceAs
+import io.spine.testing.given.SingletonTestEnv
+import io.spine.testing.given.SingletonTestEnv.SingletonClass
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`IsolatingClassLoader` should")
+internal class IsolatingClassLoaderSpec {
+
+    @Test
+    fun `load classes of the package anew`() {
+        val loader = IsolatingClassLoader(SingletonClass::class.java)
+        val isolated = loader.isolate(SingletonClass::class.java.name)
+
+        isolated shouldNotBe SingletonClass::class.java
+        isolated.name shouldBe SingletonClass::class.java.name
+        isolated.classLoader shouldBeSameInstanceAs loader
+        isolated.nestHost.classLoader shouldBeSameInstanceAs loader
+        loader.isolate(SingletonClass::class.java.name) shouldBeSameInstanceAs isolated
+    }
+
+    @Test
+    fun `share classes of other packages`() {
+        val loader = IsolatingClassLoader(SingletonTestEnv::class.java)
+
+        loader.loadClass(String::class.java.name) shouldBeSameInstanceAs String::class.java
+        loader.loadClass(SingletonTest::class.java.name) shouldBeSameInstanceAs
+                SingletonTest::class.java
+        assertThrows<IllegalArgumentException> {
+            loader.isolate(SingletonTest::class.java.name)
+        }
+    }
+}
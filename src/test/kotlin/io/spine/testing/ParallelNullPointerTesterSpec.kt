@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing
+
+import com.google.common.testing.NullPointerTester.Visibility
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.kotest.matchers.string.shouldNotContain
+import io.spine.testing.given.ParallelNullPointerTesterTestEnv.Checked
+import io.spine.testing.given.ParallelNullPointerTesterTestEnv.Unchecked
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`ParallelNullPointerTester` should")
+internal class ParallelNullPointerTesterSpec {
+
+    @Test
+    fun `pass if all parameters are checked`() {
+        ParallelNullPointerTester().testAllPublicStaticMethods(Checked::class.java)
+    }
+
+    @Test
+    fun `report all failures in the order of methods and parameters`() {
+        val error = assertThrows<AssertionError> {
+            ParallelNullPointerTester().testStaticMethods(Unchecked::class.java, Visibility.PUBLIC)
+        }
+        val message = error.message!!
+        message shouldContain "2 of 4 parameters"
+        message shouldContain "concat(java.lang.String,java.lang.String)`, parameter #1"
+        message shouldContain "length(java.lang.CharSequence)`, parameter #0"
+        message shouldNotContain "concat(java.lang.String,java.lang.String)`, parameter #0"
+        message shouldNotContain "first("
+        (message.indexOf("concat(") < message.indexOf("length(")) shouldBe true
+        error.suppressed.size shouldBe 2
+    }
+
+    @Test
+    fun `produce the same report on each run`() {
+        val messages = (1..5).map {
+            assertThrows<AssertionError> {
+                ParallelNullPointerTester().testAllPublicStaticMethods(Unchecked::class.java)
+            }.message
+        }
+        messages.distinct().size shouldBe 1
+    }
+
+    @Test
+    fun `skip ignored methods`() {
+        val tester = ParallelNullPointerTester()
+            .ignore(Unchecked::class.java.getMethod("length", CharSequence::class.java))
+            .ignore(Unchecked::class.java.getMethod(
+                "concat", String::class.java, String::class.java
+            ))
+        tester.testAllPublicStaticMethods(Unchecked::class.java)
+    }
+}
@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing
+
+import io.kotest.matchers.shouldBe
+import java.io.IOException
+import java.io.UncheckedIOException
+import java.nio.file.Files
+import java.nio.file.Path
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`SharedFiles` should")
+internal class SharedFilesSpec {
+
+    @TempDir
+    lateinit var dir: Path
+
+    @Test
+    fun `replace the content of a file`() {
+        val file = dir.resolve("nested/shared.txt")
+
+        SharedFiles.replace(file, listOf("first"))
+        SharedFiles.replace(file, listOf("second", "third"))
+
+        Files.readAllLines(file) shouldBe listOf("second", "third")
+        Files.list(file.parent).use { it.count() } shouldBe 1
+    }
+
+    @Test
+    fun `fall back if the file cannot be read`() {
+        val file = dir.resolve("shared.txt")
+
+        val failing = { _: Path -> throw UncheckedIOException(IOException("Broken.")) }
+
+        val result = SharedFiles.read<String>(file, "the data", failing) { "fallback" }
+
+        result shouldBe "fallback"
+    }
+
+    @Test
+    fun `run an update holding a lock file`() {
+        val file = dir.resolve("shared.txt")
+        SharedFiles.replace(file, listOf("1"))
+
+        repeat(3) {
+            SharedFiles.updateExclusively(file) {
+                val value = Files.readAllLines(file).single().toInt()
+                SharedFiles.replace(file, listOf("${value + 1}"))
+            }
+        }
+
+        Files.readAllLines(file) shouldBe listOf("4")
+        Files.exists(dir.resolve("shared.txt.lock")) shouldBe true
+    }
+}
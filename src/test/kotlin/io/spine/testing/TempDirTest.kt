@@ -27,9 +27,13 @@
 package io.spine.testing
 
 import com.google.common.truth.Truth.assertThat
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldBeEmpty
+import io.kotest.matchers.string.shouldContain
 import java.io.File
 import org.junit.jupiter.api.Nested
 import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
 
 class `'TempDir' should` {
 
@@ -61,4 +65,95 @@ class `'TempDir' should` {
         assertThat(tempDir.toString())
             .contains(thisClass.simpleName)
     }
+
+    @Nested
+    inner class `account disk usage` {
+
+        @Test
+        fun `sampling it on release`() {
+            val dir = TempDir.withPrefix("usage")
+            dir.resolve("a.txt").writeBytes(ByteArray(10))
+            dir.resolve("b.txt").writeBytes(ByteArray(5))
+
+            val usage = TempDir.release(dir)
+
+            usage.bytes() shouldBe 15
+            usage.files() shouldBe 2
+            dir.exists() shouldBe false
+        }
+
+        @Test
+        fun `sampling it without releasing`() {
+            val dir = TempDir.withPrefix("sample")
+            dir.resolve("a.txt").writeBytes(ByteArray(7))
+
+            TempDir.usageOf(dir).bytes() shouldBe 7
+            dir.exists() shouldBe true
+            TempDir.release(dir)
+        }
+
+        @Test
+        fun `failing when the quota is exceeded`() {
+            val dir = TempDir.withQuota("quota", 8)
+            dir.resolve("big.bin").writeBytes(ByteArray(9))
+
+            val error = assertThrows<AssertionError> {
+                TempDir.release(dir)
+            }
+            error.message!! shouldContain "quota"
+            dir.exists() shouldBe false
+        }
+
+        @Test
+        fun `prohibiting releasing a directory twice`() {
+            val dir = TempDir.withPrefix("twice")
+            TempDir.release(dir)
+            assertThrows<IllegalArgumentException> {
+                TempDir.release(dir)
+            }
+        }
+
+        @Test
+        fun `leaving intact a directory not created by 'TempDir'`() {
+            val foreign = kotlin.io.path.createTempDirectory("foreign").toFile()
+            val file = foreign.resolve("keep.txt")
+            file.writeText("keep")
+            try {
+                assertThrows<IllegalArgumentException> {
+                    TempDir.release(foreign)
+                }
+                file.readText() shouldBe "keep"
+            } finally {
+                foreign.deleteRecursively()
+            }
+        }
+
+        @Test
+        fun `reporting top consumers`() {
+            val usage = TempDirUsage()
+            val small = TempDir.withPrefix("small")
+            val big = TempDir.withPrefix("big")
+            small.resolve("s.bin").writeBytes(ByteArray(1))
+            big.resolve("b.bin").writeBytes(ByteArray(100))
+            usage.register(small.toPath(), "SmallSuite", TempDirUsage.NO_QUOTA)
+            usage.register(big.toPath(), "BigSuite", TempDirUsage.NO_QUOTA)
+
+            val report = usage.report(1)
+
+            report shouldContain "BigSuite"
+            report.contains("SmallSuite") shouldBe false
+            TempDir.release(small)
+            TempDir.release(big)
+        }
+
+        @Test
+        fun `omitting the report if nothing was written`() {
+            val usage = TempDirUsage()
+            val empty = TempDir.withPrefix("empty")
+            usage.register(empty.toPath(), "EmptySuite", TempDirUsage.NO_QUOTA)
+
+            usage.report(10).shouldBeEmpty()
+            TempDir.release(empty)
+        }
+    }
 }
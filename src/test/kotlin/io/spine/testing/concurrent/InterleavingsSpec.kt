@@ -0,0 +1,277 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.concurrent
+
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.nulls.shouldNotBeNull
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.kotest.matchers.types.shouldBeInstanceOf
+import java.time.Duration
+import java.util.concurrent.TimeUnit
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`Interleavings` should")
+internal class InterleavingsSpec {
+
+    private var counter = 0
+
+    /**
+     * Increments the counter non-atomically, letting another actor interfere
+     * between reading and writing the value.
+     */
+    private fun increment() {
+        val value = counter
+        Interleavings.yieldPoint()
+        counter = value + 1
+    }
+
+    private fun racingIncrements(): Interleavings.Builder =
+        Interleavings.newBuilder()
+            .setUp { counter = 0 }
+            .addActor("first") { increment() }
+            .addActor("second") { increment() }
+            .setInvariant { counter shouldBe 2 }
+
+    @Test
+    fun `find a lost update exhaustively`() {
+        val report = racingIncrements()
+            .setStrategy(Interleavings.Strategy.EXHAUSTIVE)
+            .build()
+            .explore()
+
+        report.failingSchedule() shouldBe Schedule.parse("0.1.0.1")
+        val error = assertThrows<AssertionError> { report.assertNoFailures() }
+        error.message!! shouldContain "first -> second -> first -> second"
+        error.message!! shouldContain "setReplay(Schedule.parse(\"0.1.0.1\"))"
+    }
+
+    @Test
+    fun `find a lost update randomly with a reproducible seed`() {
+        fun explore() = racingIncrements()
+            .setSeed(42)
+            .build()
+            .explore()
+
+        val report = explore()
+        report.failure().shouldNotBeNull()
+        report.seed() shouldBe 42
+        explore().failingSchedule() shouldBe report.failingSchedule()
+    }
+
+    @Test
+    fun `replay a failing schedule`() {
+        val report = racingIncrements()
+            .setReplay(Schedule.parse("0.1.0.1"))
+            .build()
+            .explore()
+
+        report.schedules() shouldBe 1
+        report.failingSchedule() shouldBe Schedule.parse("0.1.0.1")
+        counter shouldBe 1
+    }
+
+    @Test
+    fun `explore all schedules of correct code`() {
+        val lock = ControlledLock()
+        val report = Interleavings.newBuilder()
+            .setUp { counter = 0 }
+            .addActor("first") { withLock(lock) { increment() } }
+            .addActor("second") { withLock(lock) { increment() } }
+            .setInvariant { counter shouldBe 2 }
+            .setStrategy(Interleavings.Strategy.EXHAUSTIVE)
+            .build()
+            .explore()
+
+        report.failure().shouldBeNull()
+        report.isExhausted() shouldBe true
+        report.assertNoFailures()
+    }
+
+    @Test
+    fun `detect a deadlock`() {
+        val first = ControlledLock()
+        val second = ControlledLock()
+        val report = Interleavings.newBuilder()
+            .addActor("forward") { withLock(first) { withLock(second) { } } }
+            .addActor("backward") { withLock(second) { withLock(first) { } } }
+            .setStrategy(Interleavings.Strategy.EXHAUSTIVE)
+            .build()
+            .explore()
+
+        val failure = report.failure()
+        failure.shouldBeInstanceOf<AssertionError>()
+        failure.message!! shouldContain "Deadlock"
+    }
+
+    @Test
+    fun `let actors wait for a condition of the lock`() {
+        val lock = ControlledLock()
+        val updated = lock.newCondition()
+        var observed = 0
+        val report = Interleavings.newBuilder()
+            .setUp { counter = 0; observed = 0 }
+            .addActor("producer") { withLock(lock) { counter = 1; updated.signal() } }
+            .addActor("consumer") {
+                withLock(lock) {
+                    while (counter == 0) {
+                        updated.await()
+                    }
+                    observed = counter
+                }
+            }
+            .setInvariant { observed shouldBe 1 }
+            .setStrategy(Interleavings.Strategy.EXHAUSTIVE)
+            .build()
+            .explore()
+
+        report.failure().shouldBeNull()
+        report.isExhausted() shouldBe true
+    }
+
+    @Test
+    fun `detect a lost signal`() {
+        val lock = ControlledLock()
+        val updated = lock.newCondition()
+        val report = Interleavings.newBuilder()
+            .addActor("producer") { withLock(lock) { updated.signal() } }
+            .addActor("consumer") { withLock(lock) { updated.await() } }
+            .setStrategy(Interleavings.Strategy.EXHAUSTIVE)
+            .build()
+            .explore()
+
+        report.failure()!!.message!! shouldContain "`consumer` waits for a signal"
+    }
+
+    @Test
+    fun `run tasks submitted to the executor as actors`() {
+        val report = Interleavings.newBuilder()
+            .setUp { counter = 0 }
+            .addActor("parent") {
+                Interleavings.executor().execute { increment() }
+                increment()
+            }
+            .setInvariant { counter shouldBe 2 }
+            .setStrategy(Interleavings.Strategy.EXHAUSTIVE)
+            .build()
+            .explore()
+
+        report.failure().shouldNotBeNull()
+        report.assertNoFailuresMessage() shouldContain "parent/1"
+    }
+
+    @Test
+    fun `report a failure of an actor`() {
+        val report = Interleavings.newBuilder()
+            .addActor("failing") { error("Boom!") }
+            .build()
+            .explore()
+
+        report.failure().shouldBeInstanceOf<IllegalStateException>()
+        report.assertNoFailuresMessage() shouldContain "in the actor `failing`"
+    }
+
+    @Test
+    fun `report an actor blocked outside the scheduler`() {
+        val monitor = Any()
+        val report = Interleavings.newBuilder()
+            .addActor("holder") {
+                synchronized(monitor) { Interleavings.yieldPoint() }
+            }
+            .addActor("waiter") {
+                synchronized(monitor) { }
+            }
+            .setReplay(Schedule.parse("0.1"))
+            .setStepTimeout(Duration.ofMillis(200))
+            .build()
+            .explore()
+
+        report.failure()!!.message!! shouldContain "did not reach a scheduling point"
+    }
+
+    @Nested
+    internal inner class `not interfere when used outside a run` {
+
+        @Test
+        fun `with yield points`() {
+            increment()
+            counter shouldBe 1
+        }
+
+        @Test
+        fun `with the executor`() {
+            Interleavings.executor().execute { increment() }
+            counter shouldBe 1
+        }
+
+        @Test
+        fun `with the lock`() {
+            val lock = ControlledLock()
+            withLock(lock) { lock.isHeldByCurrentThread() shouldBe true }
+            lock.isHeldByCurrentThread() shouldBe false
+        }
+
+        @Test
+        fun `with a condition of the lock`() {
+            val lock = ControlledLock()
+            val condition = lock.newCondition()
+            withLock(lock) {
+                condition.signal()
+                condition.await(1, TimeUnit.MILLISECONDS) shouldBe false
+            }
+            assertThrows<IllegalMonitorStateException> { condition.signal() }
+        }
+    }
+
+    @Test
+    fun `parse and print schedules`() {
+        Schedule.parse("0.12.3").steps() shouldBe listOf(0, 12, 3)
+        Schedule.parse("0.12.3").toString() shouldBe "0.12.3"
+        Schedule.parse("").size() shouldBe 0
+        assertThrows<IllegalArgumentException> { Schedule.parse("0.x") }
+    }
+
+    @Test
+    fun `require at least one actor`() {
+        assertThrows<IllegalStateException> { Interleavings.newBuilder().build() }
+    }
+}
+
+private inline fun withLock(lock: ControlledLock, action: () -> Unit) {
+    lock.lock()
+    try {
+        action()
+    } finally {
+        lock.unlock()
+    }
+}
+
+private fun InterleavingReport.assertNoFailuresMessage(): String =
+    assertThrows<AssertionError> { assertNoFailures() }.message!!
@@ -0,0 +1,127 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.concurrent
+
+import io.kotest.matchers.collections.shouldHaveSize
+import io.kotest.matchers.ints.shouldBeLessThanOrEqual
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import java.time.Duration
+import java.util.concurrent.ConcurrentHashMap
+import java.util.concurrent.atomic.AtomicInteger
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`Stress` should")
+internal class StressSpec {
+
+    @Test
+    fun `perform the action the given number of times`() {
+        val counter = AtomicInteger()
+        val report = Stress.newBuilder()
+            .setAction { counter.incrementAndGet() }
+            .setIterations(1_000)
+            .setThreads(8)
+            .build()
+            .run()
+
+        counter.get() shouldBe 1_000
+        report.iterations() shouldBe 1_000
+        report.threads() shouldBe 8
+        report.failures() shouldHaveSize 0
+        report.latenciesNanos().all { it >= 0 } shouldBe true
+    }
+
+    @Test
+    fun `use the given number of threads`() {
+        val threadNames = ConcurrentHashMap.newKeySet<String>()
+        Stress.newBuilder()
+            .setAction { threadNames.add(Thread.currentThread().name) }
+            .setIterations(100)
+            .setThreads(4)
+            .build()
+            .run()
+
+        threadNames.size shouldBeLessThanOrEqual 4
+    }
+
+    @Test
+    fun `not start more threads than iterations`() {
+        val report = Stress.newBuilder()
+            .setAction { }
+            .setIterations(2)
+            .setThreads(16)
+            .build()
+            .run()
+
+        report.threads() shouldBe 2
+    }
+
+    @Test
+    fun `collect all the failures`() {
+        val counter = AtomicInteger()
+        val report = Stress.newBuilder()
+            .setAction {
+                if (counter.incrementAndGet() % 2 == 0) {
+                    error("Even")
+                }
+            }
+            .setIterations(10)
+            .setThreads(3)
+            .build()
+            .run()
+
+        report.failures() shouldHaveSize 5
+        val error = assertThrows<AssertionError> {
+            report.assertNoFailures()
+        }
+        error.message!! shouldContain "5 of 10"
+        error.suppressed.size shouldBe 5
+    }
+
+    @Test
+    fun `fail if the repetitions do not complete in time`() {
+        val stress = Stress.newBuilder()
+            .setAction { Thread.sleep(10_000) }
+            .setIterations(2)
+            .setThreads(1)
+            .setTimeout(Duration.ofMillis(100))
+            .build()
+
+        assertThrows<AssertionError> {
+            stress.run()
+        }
+    }
+
+    @Test
+    fun `require the action`() {
+        assertThrows<NullPointerException> {
+            Stress.newBuilder().build()
+        }
+    }
+}
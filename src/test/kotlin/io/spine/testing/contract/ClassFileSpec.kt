@@ -0,0 +1,75 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.contract
+
+import io.kotest.matchers.shouldBe
+import io.spine.testing.TestValues
+import io.spine.testing.contract.given.Counter
+import io.spine.testing.contract.given.OpenUtility
+import io.spine.testing.contract.given.ProperUtility
+import java.io.IOException
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`ClassFile` should")
+internal class ClassFileSpec {
+
+    @Test
+    fun `read the name of a class`() {
+        read(ProperUtility::class.java).name() shouldBe ProperUtility::class.java.name
+        read(Map.Entry::class.java).name() shouldBe "java.util.Map\$Entry"
+    }
+
+    @Test
+    fun `tell classes with only static members`() {
+        read(ProperUtility::class.java).hasOnlyStaticMembers() shouldBe true
+        read(OpenUtility::class.java).hasOnlyStaticMembers() shouldBe true
+        read(TestValues::class.java).hasOnlyStaticMembers() shouldBe true
+    }
+
+    @Test
+    fun `tell classes with instance members`() {
+        read(Counter::class.java).hasOnlyStaticMembers() shouldBe false
+        read(String::class.java).hasOnlyStaticMembers() shouldBe false
+        read(Runnable::class.java).hasOnlyStaticMembers() shouldBe false
+        read(Thread.State::class.java).hasOnlyStaticMembers() shouldBe false
+    }
+
+    @Test
+    fun `reject streams of other content`() {
+        assertThrows<IOException> {
+            ClassFile.read("not a class".byteInputStream())
+        }
+    }
+
+    private fun read(cls: Class<*>): ClassFile {
+        val resource = cls.name.replace('.', '/') + ".class"
+        val stream = ClassLoader.getSystemResourceAsStream(resource)!!
+        return stream.use { ClassFile.read(it) }
+    }
+}
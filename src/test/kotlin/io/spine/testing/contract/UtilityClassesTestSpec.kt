@@ -0,0 +1,99 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.contract
+
+import com.google.common.base.Preconditions
+import io.kotest.matchers.collections.shouldContain
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.collections.shouldNotContain
+import io.kotest.matchers.shouldBe
+import io.spine.testing.contract.given.OpenUtility
+import io.spine.testing.contract.given.ProperUtility
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.DynamicTest
+import org.junit.jupiter.api.Test
+
+@DisplayName("`UtilityClassesTest` should")
+internal class UtilityClassesTestSpec {
+
+    private val givenPackage = ProperUtility::class.java.packageName
+
+    @Test
+    fun `find classes with only static members in directories`() {
+        val found = ClassScanner(javaClass.classLoader)
+            .scan(givenPackage, ClassFile::hasOnlyStaticMembers)
+            .map { it.name() }
+        found shouldContainExactly listOf(OpenUtility::class.java.name,
+                                          ProperUtility::class.java.name)
+    }
+
+    @Test
+    fun `find classes with only static members in JARs`() {
+        val found = ClassScanner(javaClass.classLoader)
+            .scan(Preconditions::class.java.packageName, ClassFile::hasOnlyStaticMembers)
+            .map { it.name() }
+        found shouldContain Preconditions::class.java.name
+        found shouldNotContain "com.google.common.base.Optional"
+    }
+
+    @Test
+    fun `check the contract of each found class`() {
+        val suite = object : UtilityClassesTest(givenPackage) {}
+        val containers = suite.utilityClasses().toList()
+        containers.map { it.displayName } shouldContainExactly listOf(
+            OpenUtility::class.java.name,
+            ProperUtility::class.java.name
+        )
+        val failed = containers.associate { container ->
+            container.displayName to container.children
+                .map { it as DynamicTest }
+                .filter { !passes(it) }
+                .map { it.displayName }
+                .toList()
+        }
+        failed[ProperUtility::class.java.name] shouldBe emptyList()
+        failed[OpenUtility::class.java.name]!!.size shouldBe 3
+    }
+
+    @Test
+    fun `skip excluded classes`() {
+        val suite = object : UtilityClassesTest(givenPackage) {
+            override fun isExcluded(utilityClass: Class<*>): Boolean =
+                utilityClass == OpenUtility::class.java
+        }
+        suite.utilityClasses()
+            .map { it.displayName }
+            .toList() shouldContainExactly listOf(ProperUtility::class.java.name)
+    }
+
+    private fun passes(test: DynamicTest): Boolean = try {
+        test.executable.execute()
+        true
+    } catch (ignored: AssertionError) {
+        false
+    }
+}
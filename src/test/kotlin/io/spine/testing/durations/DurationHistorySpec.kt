@@ -0,0 +1,121 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.durations
+
+import io.kotest.matchers.maps.shouldBeEmpty
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.shouldBe
+import java.nio.file.Files
+import java.nio.file.Path
+import java.time.Duration
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`DurationHistory` should")
+internal class DurationHistorySpec {
+
+    @TempDir
+    lateinit var dir: Path
+
+    @Test
+    fun `be empty if the file does not exist`() {
+        val history = DurationHistory.readFrom(dir.resolve("missing.txt"))
+        history.all().shouldBeEmpty()
+        history.isModified shouldBe false
+    }
+
+    @Test
+    fun `write and read recorded durations`() {
+        val file = dir.resolve("nested/durations.txt")
+        val history = DurationHistory.empty()
+        val id = "[engine:junit-jupiter]/[class:io.spine.Foo]/[method:bar(java.lang.String)]"
+        history.record(id, duration(1500, 1200))
+        history.record("io.spine.Foo", duration(3000, 0))
+        history.writeTo(file)
+
+        val read = DurationHistory.readFrom(file)
+        read.get(id) shouldBe duration(1500, 1200)
+        read.get("io.spine.Foo") shouldBe duration(3000, 0)
+        read.get("io.spine.Bar").shouldBeNull()
+    }
+
+    @Test
+    fun `average a new duration with the recorded one`() {
+        val history = DurationHistory.empty()
+        history.record("test", duration(100, 40))
+        history.record("test", duration(300, 60))
+
+        history.get("test") shouldBe duration(200, 50)
+        history.isModified shouldBe true
+    }
+
+    @Test
+    fun `merge durations of histories saved to the same file`() {
+        val file = dir.resolve("durations.txt")
+        val initial = DurationHistory.empty()
+        initial.record("common", duration(100, 0))
+        initial.writeTo(file)
+
+        val first = DurationHistory.readFrom(file)
+        val second = DurationHistory.readFrom(file)
+        first.record("first", duration(10, 1))
+        first.record("common", duration(300, 0))
+        second.record("second", duration(20, 2))
+        first.mergeInto(file)
+        second.mergeInto(file)
+
+        val merged = DurationHistory.readFrom(file)
+        merged.all().keys shouldBe setOf("common", "first", "second")
+        merged.get("first") shouldBe duration(10, 1)
+        merged.get("second") shouldBe duration(20, 2)
+        merged.get("common") shouldBe duration(200, 0)
+    }
+
+    @Test
+    fun `skip malformed lines`() {
+        val file = dir.resolve("durations.txt")
+        Files.writeString(file, "# header\n12 3\nabc 1 broken\n1000 500 valid\n\n")
+
+        val history = DurationHistory.readFrom(file)
+        history.all().keys shouldBe setOf("valid")
+        history.get("valid") shouldBe RecordedDuration.of(
+            Duration.ofMillis(1), Duration.ofNanos(500_000)
+        )
+    }
+
+    @Test
+    fun `tell slow tests by the threshold`() {
+        SlowTests.isSlow(duration(2_000, 0)) shouldBe true
+        SlowTests.isSlow(duration(10, 0)) shouldBe false
+        SlowTests.isNoLongerSlow(duration(10, 0)) shouldBe true
+        SlowTests.isNoLongerSlow(duration(900, 0)) shouldBe false
+    }
+
+    private fun duration(wallMillis: Long, cpuMillis: Long) =
+        RecordedDuration.of(Duration.ofMillis(wallMillis), Duration.ofMillis(cpuMillis))
+}
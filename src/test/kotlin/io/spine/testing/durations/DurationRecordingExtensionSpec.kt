@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.durations
+
+import io.kotest.matchers.maps.shouldBeEmpty
+import io.kotest.matchers.nulls.shouldNotBeNull
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.spine.testing.SlowTest
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`DurationRecordingExtension` should")
+internal class DurationRecordingExtensionSpec {
+
+    private val history = DurationHistory.empty()
+    private val extension = DurationRecordingExtension(history)
+
+    @AfterEach
+    fun clearThreshold() {
+        System.clearProperty(SlowTests.THRESHOLD_PROPERTY)
+    }
+
+    @Test
+    fun `record the duration of a test`() {
+        val test = StubContext("test")
+
+        run(test)
+
+        history.get("test").shouldNotBeNull()
+        test.reportEntries.shouldBeEmpty()
+    }
+
+    @Test
+    fun `record the duration of a test class`() {
+        val container = StubContext("container", isTest = false)
+
+        extension.beforeAll(container.context)
+        extension.afterAll(container.context)
+
+        history.get(StubContext::class.java.name).shouldNotBeNull()
+    }
+
+    @Test
+    fun `report a slow test which is not tagged`() {
+        System.setProperty(SlowTests.THRESHOLD_PROPERTY, "1")
+        val test = StubContext("untagged")
+
+        run(test) {
+            Thread.sleep(5)
+        }
+
+        test.reportEntries[DurationRecordingExtension.REPORT_KEY]
+            .shouldNotBeNull() shouldContain "is not tagged as slow"
+    }
+
+    @Test
+    fun `report a tagged test which is no longer slow`() {
+        val test = StubContext("tagged", setOf(SlowTest.TAG))
+
+        run(test)
+
+        test.reportEntries[DurationRecordingExtension.REPORT_KEY]
+            .shouldNotBeNull() shouldContain "is tagged as slow, but took only"
+    }
+
+    @Test
+    fun `not report a tagged test which is still slow`() {
+        System.setProperty(SlowTests.THRESHOLD_PROPERTY, "1")
+        val test = StubContext("slow", setOf(SlowTest.TAG))
+
+        run(test) {
+            Thread.sleep(5)
+        }
+
+        test.reportEntries.shouldBeEmpty()
+        history.isModified shouldBe true
+    }
+
+    private fun run(test: StubContext, body: () -> Unit = {}) {
+        extension.beforeTestExecution(test.context)
+        body()
+        extension.afterTestExecution(test.context)
+    }
+}
@@ -0,0 +1,102 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.durations
+
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.spine.testing.SlowTest
+import java.time.Duration
+import org.junit.jupiter.api.AfterEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`LaneCondition` should")
+internal class LaneConditionSpec {
+
+    private val history = DurationHistory.empty()
+    private val condition = LaneCondition(history)
+
+    private val fast = StubContext("fast")
+    private val tagged = StubContext("tagged", setOf(SlowTest.TAG))
+    private val recorded = StubContext("recorded")
+
+    init {
+        history.record("recorded", RecordedDuration.of(Duration.ofMinutes(1), Duration.ZERO))
+    }
+
+    @AfterEach
+    fun clearLane() {
+        System.clearProperty(LaneCondition.LANE_PROPERTY)
+    }
+
+    @Test
+    fun `run all the tests if the lane is not specified`() {
+        enabled(fast) shouldBe true
+        enabled(tagged) shouldBe true
+        enabled(recorded) shouldBe true
+    }
+
+    @Test
+    fun `run only fast tests in the fast lane`() {
+        System.setProperty(LaneCondition.LANE_PROPERTY, "fast")
+
+        enabled(fast) shouldBe true
+        enabled(tagged) shouldBe false
+        enabled(recorded) shouldBe false
+    }
+
+    @Test
+    fun `run tagged and recorded slow tests in the slow lane`() {
+        System.setProperty(LaneCondition.LANE_PROPERTY, " SLOW ")
+
+        enabled(fast) shouldBe false
+        enabled(tagged) shouldBe true
+        enabled(recorded) shouldBe true
+    }
+
+    @Test
+    fun `run containers in both lanes`() {
+        System.setProperty(LaneCondition.LANE_PROPERTY, "slow")
+
+        enabled(StubContext("container", isTest = false)) shouldBe true
+    }
+
+    @Test
+    fun `reject an unknown lane`() {
+        System.setProperty(LaneCondition.LANE_PROPERTY, "medium")
+
+        val exception = assertThrows<IllegalArgumentException> {
+            enabled(fast)
+        }
+        exception.message shouldContain "medium"
+        exception.message shouldContain "`fast` or `slow`"
+    }
+
+    private fun enabled(stub: StubContext): Boolean =
+        !condition.evaluateExecutionCondition(stub.context).isDisabled
+}
@@ -0,0 +1,97 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.durations
+
+import io.kotest.matchers.shouldBe
+import io.spine.testing.SlowTest
+import java.time.Duration
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.platform.engine.TestDescriptor
+import org.junit.platform.engine.UniqueId
+import org.junit.platform.engine.support.descriptor.ClassSource
+import org.junit.platform.engine.support.descriptor.EngineDescriptor
+import org.junit.platform.engine.support.descriptor.MethodSource
+
+@DisplayName("`LaneFilter` should")
+internal class LaneFilterSpec {
+
+    private val engine = EngineDescriptor(UniqueId.forEngine("stub"), "stub")
+    private val plainClass = container("Plain")
+    private val slowClass = container("Slow", SlowTest.TAG)
+    private val fast = test(plainClass, "fast")
+    private val tagged = test(plainClass, "tagged", SlowTest.TAG)
+    private val recorded = test(plainClass, "recorded")
+    private val inherited = test(slowClass, "inherited")
+
+    private val history = DurationHistory.empty().apply {
+        record(recorded.uniqueId.toString(),
+               RecordedDuration.of(Duration.ofMinutes(1), Duration.ZERO))
+    }
+
+    @Test
+    fun `keep all the tests if the lane is not specified`() {
+        kept(LaneFilter(history, null)) shouldBe setOf(fast, tagged, recorded, inherited)
+    }
+
+    @Test
+    fun `keep only fast tests in the fast lane`() {
+        kept(LaneFilter(history, Lane.FAST)) shouldBe setOf(fast)
+    }
+
+    @Test
+    fun `keep tagged and recorded slow tests in the slow lane`() {
+        kept(LaneFilter(history, Lane.SLOW)) shouldBe setOf(tagged, recorded, inherited)
+    }
+
+    @Test
+    fun `keep containers in both lanes`() {
+        val filter = LaneFilter(history, Lane.FAST)
+
+        filter.apply(slowClass).included() shouldBe true
+    }
+
+    private fun kept(filter: LaneFilter): Set<TestDescriptor> =
+        engine.descendants
+            .filter { it.isTest && filter.apply(it).included() }
+            .toSet()
+
+    private fun container(name: String, vararg tags: String): TestDescriptor {
+        val id = engine.uniqueId.append("class", name)
+        val result = StubDescriptor(id, ClassSource.from(name), false, tags.toSet())
+        engine.addChild(result)
+        return result
+    }
+
+    private fun test(parent: TestDescriptor, name: String, vararg tags: String): TestDescriptor {
+        val id = parent.uniqueId.append("method", name)
+        val source = MethodSource.from(parent.uniqueId.lastSegment.value, name)
+        val result = StubDescriptor(id, source, true, tags.toSet())
+        parent.addChild(result)
+        return result
+    }
+}
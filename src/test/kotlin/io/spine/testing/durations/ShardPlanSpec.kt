@@ -0,0 +1,96 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.durations
+
+import io.kotest.matchers.shouldBe
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`ShardPlan` should")
+internal class ShardPlanSpec {
+
+    private val jobs = listOf(
+        job("A", 7), job("B", 5), job("C", 4), job("D", 3), job("E", 3), job("F", 2)
+    )
+
+    @Test
+    fun `balance the estimated time of shards`() {
+        val plan = ShardPlan.of(jobs, 2)
+
+        plan.estimateNanos(0) shouldBe 12
+        plan.estimateNanos(1) shouldBe 12
+    }
+
+    @Test
+    fun `not depend on the order of classes`() {
+        val plan = ShardPlan.of(jobs, 3)
+        val reversed = ShardPlan.of(jobs.reversed(), 3)
+
+        jobs.forEach {
+            reversed.shardOf(it.className()) shouldBe plan.shardOf(it.className())
+        }
+    }
+
+    @Test
+    fun `spread slow classes first`() {
+        val slow = listOf(
+            TestClassJob("Slow1", true, 1), TestClassJob("Slow2", true, 1), job("Long", 100)
+        )
+        val plan = ShardPlan.of(slow, 2)
+
+        plan.shardOf("Slow1") shouldBe 0
+        plan.shardOf("Slow2") shouldBe 1
+    }
+
+    @Test
+    fun `assign unknown classes consistently`() {
+        val plan = ShardPlan.of(jobs, 4)
+
+        plan.shardOf("Unknown") shouldBe plan.shardOf("Unknown")
+        (plan.shardOf("Unknown") in 0..3) shouldBe true
+    }
+
+    @Nested
+    inner class `parse the shard` {
+
+        @Test
+        fun `with the one-based index`() {
+            ShardingFilter.Shard.parse(" 2 / 4 ").toString() shouldBe "the shard 2/4"
+        }
+
+        @Test
+        fun `rejecting malformed values`() {
+            assertThrows<IllegalArgumentException> { ShardingFilter.Shard.parse("2") }
+            assertThrows<IllegalArgumentException> { ShardingFilter.Shard.parse("0/4") }
+            assertThrows<IllegalArgumentException> { ShardingFilter.Shard.parse("5/4") }
+        }
+    }
+
+    private fun job(name: String, estimate: Long) = TestClassJob(name, false, estimate)
+}
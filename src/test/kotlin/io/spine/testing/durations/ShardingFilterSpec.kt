@@ -0,0 +1,149 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.durations
+
+import io.kotest.matchers.collections.shouldContainExactlyInAnyOrder
+import io.kotest.matchers.shouldBe
+import io.spine.testing.durations.ShardingFilter.Shard
+import java.time.Duration
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.platform.engine.TestDescriptor
+import org.junit.platform.engine.UniqueId
+import org.junit.platform.engine.support.descriptor.ClassSource
+import org.junit.platform.engine.support.descriptor.EngineDescriptor
+import org.junit.platform.engine.support.descriptor.MethodSource
+
+@DisplayName("`ShardingFilter` should")
+internal class ShardingFilterSpec {
+
+    private val enclosing = ShardPlanSpec::class.java
+    private val nested = ShardPlanSpec.`parse the shard`::class.java
+
+    private val classes = listOf(
+        enclosing,
+        DurationHistorySpec::class.java,
+        LaneConditionSpec::class.java,
+        DurationRecordingExtensionSpec::class.java,
+        ShardingFilterSpec::class.java,
+        StubContext::class.java
+    )
+
+    private val history = DurationHistory.empty().apply {
+        record(ShardPlanSpec::class.java.name, duration(900))
+        record(DurationHistorySpec::class.java.name, duration(500))
+        record(LaneConditionSpec::class.java.name, duration(300))
+    }
+
+    @Test
+    fun `keep all the tests if sharding is not enabled`() {
+        val tree = tree()
+
+        included(tree, ShardingFilter(history, null)) shouldBe tests(tree)
+    }
+
+    @Test
+    fun `split the tests into disjoint shards covering all the tests`() {
+        val tree = tree()
+        val count = 3
+
+        val shards = (0 until count).map {
+            included(tree, ShardingFilter(history, Shard(it, count)))
+        }
+
+        shards.flatten() shouldContainExactlyInAnyOrder tests(tree)
+        shards.forEach {
+            it.isEmpty() shouldBe false
+        }
+    }
+
+    @Test
+    fun `keep a nested class in the shard of its enclosing class`() {
+        val tree = tree()
+        val count = 4
+
+        (0 until count).forEach { index ->
+            val classNames = included(tree, ShardingFilter(history, Shard(index, count)))
+                .map { (it.source.get() as MethodSource).className }
+                .toSet()
+            classNames.contains(nested.name) shouldBe classNames.contains(enclosing.name)
+        }
+    }
+
+    @Test
+    fun `assign classes regardless of the other discovered classes`() {
+        val count = 3
+        val forks = listOf(classes.take(2), classes.drop(2))
+
+        (0 until count).forEach { index ->
+            val filter = ShardingFilter(history, Shard(index, count))
+            val inFull = classNames(included(tree(), filter))
+            forks.forEach { fork ->
+                val inFork = classNames(included(tree(fork), filter))
+                inFork shouldBe inFull.filter { name -> fork.any { it.name == name } }.toSet()
+            }
+        }
+    }
+
+    private fun classNames(tests: List<TestDescriptor>): Set<String> =
+        tests.map { (it.source.get() as MethodSource).className.substringBefore('$') }.toSet()
+
+    /**
+     * Creates a tree of an engine with a descriptor per given test class, each having
+     * two test methods, and the descriptor of the nested class under its enclosing class.
+     */
+    private fun tree(classes: List<Class<*>> = this.classes): TestDescriptor {
+        val engine = EngineDescriptor(UniqueId.forEngine("stub"), "stub")
+        classes.forEach {
+            val descriptor = classDescriptor(engine, it)
+            if (it == enclosing) {
+                classDescriptor(descriptor, nested)
+            }
+        }
+        return engine
+    }
+
+    private fun classDescriptor(parent: TestDescriptor, cls: Class<*>): TestDescriptor {
+        val classId = parent.uniqueId.append("class", cls.name)
+        val result = StubDescriptor(classId, ClassSource.from(cls), false)
+        parent.addChild(result)
+        listOf("first", "second").forEach { method ->
+            val methodId = classId.append("method", method)
+            result.addChild(StubDescriptor(methodId, MethodSource.from(cls.name, method), true))
+        }
+        return result
+    }
+
+    private fun tests(tree: TestDescriptor): List<TestDescriptor> =
+        tree.descendants.filter { it.isTest }
+
+    private fun included(tree: TestDescriptor, filter: ShardingFilter): List<TestDescriptor> =
+        tests(tree).filter { filter.apply(it).included() }
+
+    private fun duration(millis: Long) =
+        RecordedDuration.of(Duration.ofMillis(millis), Duration.ZERO)
+}
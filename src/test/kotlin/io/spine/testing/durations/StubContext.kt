@@ -0,0 +1,101 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.durations
+
+import java.lang.reflect.Method
+import java.lang.reflect.Proxy
+import java.util.Optional
+import org.junit.jupiter.api.extension.ExtensionContext
+
+/**
+ * A stub of the `ExtensionContext` of a test or a test class.
+ *
+ * The context is backed by a dynamic proxy implementing only the methods used by
+ * the extensions of this package. Other methods throw `UnsupportedOperationException`.
+ *
+ * @param uniqueId the unique ID and the display name of the test
+ * @param tags the tags of the test
+ * @param isTest `true` for a test method, `false` for a container
+ */
+internal class StubContext(
+    private val uniqueId: String,
+    private val tags: Set<String> = emptySet(),
+    private val isTest: Boolean = true
+) {
+
+    /**
+     * The report entries published by the extensions.
+     */
+    val reportEntries: MutableMap<String, String> = mutableMapOf()
+
+    private val values = mutableMapOf<Any?, Any?>()
+
+    private val store = proxy<ExtensionContext.Store> { method, args ->
+        when (method.name) {
+            "put" -> values.put(args[0], args[1])
+            "get" -> values[args[0]]
+            "remove" -> values.remove(args[0])
+            else -> unsupported(method)
+        }
+    }
+
+    /**
+     * The context passed to the extensions.
+     */
+    val context = proxy<ExtensionContext> { method, args ->
+        when (method.name) {
+            "getUniqueId", "getDisplayName" -> uniqueId
+            "getTags" -> tags
+            "getTestClass" -> Optional.of(StubContext::class.java)
+            "getTestMethod" -> if (isTest) Optional.of(testMethod) else Optional.empty<Method>()
+            "getStore" -> store
+            "publishReportEntry" -> {
+                @Suppress("UNCHECKED_CAST")
+                val entries = if (args.size == 2) mapOf(args[0] to args[1]) else args[0]
+                reportEntries.putAll(entries as Map<String, String>)
+                null
+            }
+            else -> unsupported(method)
+        }
+    }
+}
+
+private inline fun <reified T> proxy(crossinline handler: (Method, Array<Any?>) -> Any?): T {
+    val type = T::class.java
+    val instance = Proxy.newProxyInstance(type.classLoader, arrayOf(type)) { _, method, args ->
+        handler(method, args ?: emptyArray())
+    }
+    return type.cast(instance)
+}
+
+/**
+ * A method standing for the test method of a stub context.
+ */
+private val testMethod: Method = Any::class.java.getMethod("toString")
+
+private fun unsupported(method: Method): Nothing =
+    throw UnsupportedOperationException("`${method.name}` is not supported by the stub.")
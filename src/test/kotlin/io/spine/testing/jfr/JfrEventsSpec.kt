@@ -0,0 +1,104 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.jfr
+
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.shouldBe
+import io.spine.testing.TempDir as TestTempDir
+import io.spine.testing.logging.Interceptor
+import java.nio.file.Path
+import java.util.logging.Level
+import jdk.jfr.Recording
+import jdk.jfr.consumer.RecordedEvent
+import jdk.jfr.consumer.RecordingFile
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("Flight Recorder events should")
+internal class JfrEventsSpec {
+
+    @TempDir
+    lateinit var dir: Path
+
+    @Test
+    fun `be emitted for temporary directories`() {
+        val events = record("io.spine.testing.TempDir") {
+            val directory = TestTempDir.withPrefix("jfr")
+            directory.resolve("file.txt").writeText("12345")
+            TestTempDir.release(directory)
+        }
+
+        events.map { it.getString("operation") } shouldContainExactly
+                listOf(TempDirEvent.CREATE, TempDirEvent.RELEASE)
+        events[1].getLong("bytes") shouldBe 5
+        events[1].getLong("files") shouldBe 1
+    }
+
+    @Test
+    fun `carry the measured usage of a directory exceeding its quota`() {
+        val events = record("io.spine.testing.TempDir") {
+            val directory = TestTempDir.withQuota("jfr", 1)
+            directory.resolve("file.txt").writeText("12345")
+            assertThrows<AssertionError> {
+                TestTempDir.release(directory)
+            }
+        }
+
+        events[1].getString("operation") shouldBe TempDirEvent.RELEASE
+        events[1].getLong("bytes") shouldBe 5
+        events[1].getLong("files") shouldBe 1
+    }
+
+    @Test
+    fun `be emitted for log interception`() {
+        val events = record("io.spine.testing.LogInterception") {
+            val interceptor = Interceptor(JfrEventsSpec::class.java, Level.INFO)
+            interceptor.intercept()
+            java.util.logging.Logger.getLogger(JfrEventsSpec::class.java.name).info("Hello")
+            interceptor.release()
+        }
+
+        events.map { it.getString("operation") } shouldContainExactly
+                listOf(LogInterceptionEvent.INTERCEPT, LogInterceptionEvent.RELEASE)
+        events[1].getInt("records") shouldBe 1
+        events[1].getString("level") shouldBe "INFO"
+    }
+
+    private fun record(eventName: String, action: () -> Unit): List<RecordedEvent> {
+        val file = dir.resolve("recording.jfr")
+        Recording().use { recording ->
+            recording.enable(eventName).withoutThreshold()
+            recording.start()
+            action()
+            recording.stop()
+            recording.dump(file)
+        }
+        return RecordingFile.readAllEvents(file).sortedBy { it.startTime }
+    }
+}
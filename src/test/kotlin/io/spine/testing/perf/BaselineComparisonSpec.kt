@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf
+
+import io.kotest.matchers.doubles.plusOrMinus
+import io.kotest.matchers.doubles.shouldBeLessThan
+import io.kotest.matchers.shouldBe
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`BaselineComparison` should")
+internal class BaselineComparisonSpec {
+
+    private val baseline = listOf(1000.0, 1010.0, 990.0, 1005.0, 995.0)
+
+    @Test
+    fun `not report a slowdown within the noise`() {
+        val current = listOf(980.0, 1020.0, 960.0, 1030.0, 990.0)
+        val comparison = BaselineComparison.of(baseline, current, 0.95)
+
+        comparison.change() shouldBe (-0.004 plusOrMinus 1e-9)
+        comparison.lowerBound() shouldBeLessThan comparison.change()
+        comparison.isSlowerBy(0.0) shouldBe false
+    }
+
+    @Test
+    fun `report a slowdown beyond the acceptable share`() {
+        val current = listOf(800.0, 810.0, 790.0, 805.0, 795.0)
+        val comparison = BaselineComparison.of(baseline, current, 0.95)
+
+        comparison.change() shouldBe (-0.2 plusOrMinus 1e-9)
+        comparison.isSlowerBy(0.1) shouldBe true
+        comparison.isSlowerBy(0.25) shouldBe false
+    }
+
+    @Test
+    fun `not report a slowdown which may be explained by the variance`() {
+        val noisy = listOf(500.0, 1500.0, 700.0, 1300.0)
+        val comparison = BaselineComparison.of(baseline, noisy.map { it * 0.8 }, 0.95)
+
+        comparison.change() shouldBeLessThan -0.1
+        comparison.isSlowerBy(0.1) shouldBe false
+    }
+
+    @Test
+    fun `require at least two samples of each run`() {
+        assertThrows<IllegalArgumentException> {
+            BaselineComparison.of(baseline, listOf(1000.0), 0.95)
+        }
+    }
+
+    @Nested
+    internal inner class `compute Student's t quantiles` {
+
+        @Test
+        fun `for few degrees of freedom`() {
+            StudentT.quantile(0.975, 1.0) shouldBe (12.706 plusOrMinus 1e-3)
+            StudentT.quantile(0.975, 5.0) shouldBe (2.571 plusOrMinus 1e-3)
+            StudentT.quantile(0.995, 10.0) shouldBe (3.169 plusOrMinus 1e-3)
+        }
+
+        @Test
+        fun `approaching the normal distribution`() {
+            StudentT.quantile(0.975, 1_000_000.0) shouldBe (1.960 plusOrMinus 1e-3)
+        }
+    }
+}
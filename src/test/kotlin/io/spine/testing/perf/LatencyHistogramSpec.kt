@@ -0,0 +1,110 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf
+
+import io.kotest.matchers.longs.shouldBeGreaterThanOrEqual
+import io.kotest.matchers.longs.shouldBeLessThanOrEqual
+import io.kotest.matchers.shouldBe
+import java.time.Duration
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`LatencyHistogram` should")
+internal class LatencyHistogramSpec {
+
+    @Test
+    fun `keep exact min, max and mean`() {
+        val histogram = LatencyHistogram.of(10, 20, 30, 1_000_000)
+
+        histogram.count() shouldBe 4
+        histogram.min() shouldBe Duration.ofNanos(10)
+        histogram.max() shouldBe Duration.ofNanos(1_000_000)
+        histogram.mean() shouldBe Duration.ofNanos(250_015)
+    }
+
+    @Test
+    fun `report small values exactly`() {
+        val histogram = LatencyHistogram.of(*LongArray(100) { it + 1L })
+
+        histogram.valueAtPercentile(50.0) shouldBe 50
+        histogram.valueAtPercentile(99.0) shouldBe 99
+        histogram.valueAtPercentile(100.0) shouldBe 100
+    }
+
+    @Test
+    fun `report large values within 1 percent precision`() {
+        val values = LongArray(10_000) { (it + 1) * 1_000L }
+        val histogram = LatencyHistogram.of(*values)
+
+        val p99 = histogram.valueAtPercentile(99.0)
+        p99 shouldBeGreaterThanOrEqual 9_900_000
+        p99 shouldBeLessThanOrEqual 9_900_000 + 99_000
+    }
+
+    @Test
+    fun `never report a percentile above the maximum`() {
+        val histogram = LatencyHistogram.of(1_000_001)
+
+        histogram.valueAtPercentile(100.0) shouldBe 1_000_001
+    }
+
+    @Test
+    fun `merge other histograms`() {
+        val first = LatencyHistogram.of(1, 2)
+        val second = LatencyHistogram.of(3, 400)
+
+        first.add(second)
+
+        first.count() shouldBe 4
+        first.max() shouldBe Duration.ofNanos(400)
+        first.min() shouldBe Duration.ofNanos(1)
+    }
+
+    @Test
+    fun `reject negative values`() {
+        assertThrows<IllegalArgumentException> {
+            LatencyHistogram().record(-1)
+        }
+    }
+
+    @Test
+    fun `prohibit querying an empty histogram`() {
+        assertThrows<IllegalStateException> {
+            LatencyHistogram().percentile(50.0)
+        }
+    }
+
+    @Test
+    fun `be created by measuring an action, discarding warm-up iterations`() {
+        var runs = 0
+        val histogram = Latency.measure(5, 10) { runs++ }
+
+        runs shouldBe 15
+        histogram.count() shouldBe 10
+    }
+}
@@ -0,0 +1,120 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf
+
+import io.kotest.matchers.comparables.shouldBeGreaterThanOrEqualTo
+import io.kotest.matchers.doubles.shouldBeGreaterThan
+import io.kotest.matchers.doubles.shouldBeGreaterThanOrEqual
+import io.kotest.matchers.ints.shouldBeInRange
+import io.kotest.matchers.longs.shouldBeGreaterThan
+import io.kotest.matchers.longs.shouldBeGreaterThanOrEqual
+import io.kotest.matchers.shouldBe
+import java.time.Duration
+import org.junit.jupiter.api.Assumptions.assumeTrue
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`MicroBenchmark` should")
+internal class MicroBenchmarkSpec {
+
+    private var calls = 0
+
+    @MicroBenchmark(
+        warmUpIterations = 1,
+        maxWarmUpIterations = 2,
+        iterations = 2,
+        iterationMillis = 5
+    )
+    fun `run as a test`(blackhole: Blackhole) {
+        calls++
+        blackhole.consume(calls)
+    }
+
+    @Nested
+    internal inner class `when run` {
+
+        @Test
+        fun `perform the given number of iterations`() {
+            val result = runner(warmUp = 1, maxWarmUp = 3).run { }
+
+            result.samples().size shouldBe 2
+            result.warmUpIterations() shouldBeInRange 1..3
+            result.opsPerSecond() shouldBeGreaterThan 0.0
+            result.measuredTime() shouldBeGreaterThanOrEqualTo Duration.ofMillis(10)
+        }
+
+        @Test
+        fun `not warm up if no warm-up iterations are allowed`() {
+            val result = runner(warmUp = 0, maxWarmUp = 0).run { }
+
+            result.warmUpIterations() shouldBe 0
+            result.isWarmedUp() shouldBe false
+        }
+
+        @Test
+        fun `count operations per invocation`() {
+            var invocations = 0L
+            val result = runner(operationsPerInvocation = 10).run { invocations++ }
+
+            result.operations() shouldBeGreaterThan 0
+            (result.operations() % 10) shouldBe 0
+            (invocations * 10) shouldBeGreaterThanOrEqual result.operations()
+        }
+
+        @Test
+        fun `measure allocation`() {
+            assumeTrue(ThreadAllocation.isSupported())
+            val blackhole = Blackhole()
+            val result = runner().run { blackhole.consume(ByteArray(1024)) }
+
+            result.bytesPerOperation() shouldBeGreaterThanOrEqual 1024.0
+            result.allocationRate() shouldBeGreaterThan 0.0
+        }
+
+        @Test
+        fun `propagate failures`() {
+            assertThrows<IllegalStateException> {
+                runner().run { throw IllegalStateException("Benchmark failure.") }
+            }
+        }
+    }
+
+    @Test
+    fun `reject the maximal warm-up shorter than the minimal one`() {
+        assertThrows<IllegalArgumentException> {
+            runner(warmUp = 3, maxWarmUp = 2)
+        }
+    }
+
+    private fun runner(
+        warmUp: Int = 1,
+        maxWarmUp: Int = 2,
+        operationsPerInvocation: Int = 1
+    ) = BenchmarkRunner(warmUp, maxWarmUp, 2, Duration.ofMillis(5), operationsPerInvocation)
+}
@@ -0,0 +1,122 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf
+
+import io.kotest.matchers.nulls.shouldBeNull
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldHaveLength
+import java.nio.file.Files
+import java.nio.file.Path
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.io.TempDir
+
+@DisplayName("`PerformanceBaseline` should")
+internal class PerformanceBaselineSpec {
+
+    @TempDir
+    lateinit var dir: Path
+
+    private val id = "[engine:junit-jupiter]/[class:io.spine.Foo]/[test-template:bar()]"
+
+    @Test
+    fun `be empty if the file does not exist`() {
+        val baseline = PerformanceBaseline.readFrom(dir.resolve("missing.txt"), "ci")
+        baseline.samples(id).shouldBeNull()
+        baseline.isModified shouldBe false
+    }
+
+    @Test
+    fun `write and read recorded throughputs`() {
+        val file = dir.resolve("nested/baseline.txt")
+        val baseline = PerformanceBaseline.empty("ci")
+        baseline.record(id, listOf(1000.5, 1100.25))
+        baseline.writeTo(file)
+
+        val read = PerformanceBaseline.readFrom(file, "ci")
+        read.samples(id) shouldBe listOf(1000.5, 1100.25)
+        read.samples("another").shouldBeNull()
+    }
+
+    @Test
+    fun `keep the throughputs of other machines`() {
+        val file = dir.resolve("baseline.txt")
+        PerformanceBaseline.empty("laptop").run {
+            record(id, listOf(10.0, 20.0))
+            writeTo(file)
+        }
+        PerformanceBaseline.readFrom(file, "ci").run {
+            samples(id).shouldBeNull()
+            record(id, listOf(30.0, 40.0))
+            writeTo(file)
+        }
+
+        PerformanceBaseline.readFrom(file, "laptop").samples(id) shouldBe listOf(10.0, 20.0)
+        PerformanceBaseline.readFrom(file, "ci").samples(id) shouldBe listOf(30.0, 40.0)
+    }
+
+    @Test
+    fun `merge throughputs of baselines saved to the same file`() {
+        val file = dir.resolve("baseline.txt")
+        val other = "$id/other"
+        PerformanceBaseline.empty("ci").run {
+            record(id, listOf(1.0))
+            record(other, listOf(2.0))
+            writeTo(file)
+        }
+
+        val first = PerformanceBaseline.readFrom(file, "ci")
+        val second = PerformanceBaseline.readFrom(file, "laptop")
+        first.record(id, listOf(10.0))
+        second.record(id, listOf(20.0))
+        first.mergeInto(file)
+        second.mergeInto(file)
+
+        PerformanceBaseline.readFrom(file, "ci").run {
+            samples(id) shouldBe listOf(10.0)
+            samples(other) shouldBe listOf(2.0)
+        }
+        PerformanceBaseline.readFrom(file, "laptop").samples(id) shouldBe listOf(20.0)
+    }
+
+    @Test
+    fun `skip malformed lines`() {
+        val file = dir.resolve("baseline.txt")
+        Files.writeString(file, "# header\nci 12\nci abc broken\nci 1.5,2.5 valid\n\n")
+
+        val baseline = PerformanceBaseline.readFrom(file, "ci")
+        baseline.samples("broken").shouldBeNull()
+        baseline.samples("valid") shouldBe listOf(1.5, 2.5)
+    }
+
+    @Test
+    fun `fingerprint the current machine`() {
+        val machine = PerformanceBaseline.currentMachine()
+        machine shouldHaveLength 12
+        PerformanceBaseline.currentMachine() shouldBe machine
+    }
+}
@@ -0,0 +1,100 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.perf
+
+import io.kotest.matchers.longs.shouldBeGreaterThanOrEqual
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import java.nio.file.Path
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`ResourceReport` should")
+internal class ResourceReportSpec {
+
+    @Test
+    fun `measure resources consumed since a snapshot`() {
+        val snapshot = ResourceSnapshot.take()
+        val sink = ByteArray(1 shl 20)
+        val usage = snapshot.usageSince("id", "name")
+
+        sink.size shouldBe 1 shl 20
+        usage.wallTime().toNanos() shouldBeGreaterThanOrEqual 0
+        usage.peakHeapDeltaBytes() shouldBeGreaterThanOrEqual 0
+        if (ThreadAllocation.isSupported()) {
+            usage.allocatedBytes() shouldBeGreaterThanOrEqual (1L shl 20)
+        }
+    }
+
+    @Test
+    fun `not measure the peak heap usage of overlapping tests`() {
+        val first = ResourceSnapshot.take()
+        val second = ResourceSnapshot.take()
+
+        second.usageSince("second", "second").peakHeapDeltaBytes() shouldBe -1
+        first.usageSince("first", "first").peakHeapDeltaBytes() shouldBe -1
+
+        val alone = ResourceSnapshot.take()
+        alone.usageSince("alone", "alone").peakHeapDeltaBytes() shouldBeGreaterThanOrEqual 0
+    }
+
+    @Test
+    fun `append the process ID to the name of the file`() {
+        val pid = ProcessHandle.current().pid()
+
+        ResourceReport.perProcess(Path.of("build", "report.json")) shouldBe
+                Path.of("build", "report-$pid.json")
+        ResourceReport.perProcess(Path.of("report")) shouldBe Path.of("report-$pid")
+    }
+
+    @Test
+    fun `write tests sorted by IDs`() {
+        val report = ResourceReport()
+        report.add(usage("[b]", "second"))
+        report.add(usage("[a]", "first"))
+
+        val json = report.toJson()
+        (json.indexOf("\"[a]\"") < json.indexOf("\"[b]\"")) shouldBe true
+        json shouldContain "\"wallNanos\": 1000, \"cpuNanos\": 900, \"allocatedBytes\": 64"
+    }
+
+    @Test
+    fun `escape strings`() {
+        val report = ResourceReport()
+        report.add(usage("id", "say \"hi\"\t\\ \u0001"))
+
+        report.toJson() shouldContain "\"displayName\": \"say \\\"hi\\\"\\t\\\\ \\u0001\""
+    }
+
+    @Test
+    fun `write an empty report`() {
+        ResourceReport().toJson() shouldBe "{\n  \"tests\": []\n}\n"
+    }
+
+    private fun usage(id: String, name: String) =
+        ResourceUsage(id, name, 1000, 900, 64, 0, 0, 0, 128)
+}
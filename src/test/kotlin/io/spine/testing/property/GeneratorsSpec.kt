@@ -0,0 +1,81 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.property
+
+import io.kotest.matchers.collections.shouldContainExactly
+import io.kotest.matchers.shouldBe
+import io.spine.testing.Prescription
+import io.spine.testing.random.TestRandom
+import java.util.stream.Collectors.toList
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+
+@DisplayName("`Generators` should")
+internal class GeneratorsSpec {
+
+    @Test
+    fun `generate numbers in the range`() {
+        val generator = Generators.ints(-3, 3)
+        repeat(1_000) {
+            generator.next(TestRandom.forIndex(1, it.toLong())) in -3..3 shouldBe true
+        }
+        Generators.longs(Long.MAX_VALUE - 1, Long.MAX_VALUE)
+            .next(TestRandom.forIndex(1, 0)) >= Long.MAX_VALUE - 1 shouldBe true
+    }
+
+    @Test
+    fun `shrink numbers towards zero`() {
+        Generators.ints(-100, 100).shrink(40).collect(toList())
+            .shouldContainExactly(0, 20, 30, 35, 38, 39)
+        Generators.ints(10, 100).shrink(40).collect(toList()).first() shouldBe 10
+        Generators.ints().shrink(0).count() shouldBe 0
+    }
+
+    @Test
+    fun `shrink strings by dropping characters`() {
+        Generators.strings().shrink("abcd").collect(toList())
+            .shouldContainExactly("", "ab", "cd", "abc", "bcd")
+    }
+
+    @Test
+    fun `shrink lists respecting the minimum size`() {
+        val generator = Generators.lists(Generators.booleans(), 2, 5)
+        generator.shrink(listOf(true, false, true)).allMatch { it.size >= 2 } shouldBe true
+        generator.shrink(listOf(false, false)).count() shouldBe 0
+    }
+
+    @Test
+    fun `shrink messages by clearing fields`() {
+        val prescription = Generators.messages(Prescription::class.java)
+            .next(TestRandom.forIndex(7, 0))
+        val candidates = Generators.messages(Prescription::class.java)
+            .shrink(prescription)
+            .collect(toList())
+        candidates.first() shouldBe Prescription.getDefaultInstance()
+        candidates.contains(prescription) shouldBe false
+    }
+}
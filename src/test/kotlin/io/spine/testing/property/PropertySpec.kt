@@ -0,0 +1,212 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.property
+
+import com.google.protobuf.Timestamp
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.string.shouldContain
+import io.spine.testing.Prescription
+import java.util.concurrent.atomic.AtomicInteger
+import org.junit.jupiter.api.Assumptions.assumeTrue
+import org.junit.jupiter.api.BeforeEach
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+import org.junit.jupiter.api.extension.ExtendWith
+import org.junit.jupiter.api.extension.ExtensionContext
+import org.junit.jupiter.api.extension.ParameterContext
+import org.junit.jupiter.api.extension.ParameterResolver
+import org.opentest4j.TestAbortedException
+
+@DisplayName("`Property` should")
+internal class PropertySpec {
+
+    @Property(trials = 200)
+    fun `run with generated arguments`(prescription: Prescription, count: Int) {
+        Prescription.parseFrom(prescription.toByteArray()) shouldBe prescription
+        (count.toLong() + 1 > count) shouldBe true
+    }
+
+    @Property(trials = 500, parallel = true)
+    fun `run trials in parallel`(@From("smallLists") list: List<Int>) {
+        list.reversed().reversed() shouldBe list
+    }
+
+    @Nested
+    @ExtendWith(NameResolver::class)
+    internal inner class `leave parameters of lifecycle methods to other resolvers` {
+
+        private var names = listOf<String>()
+
+        @BeforeEach
+        fun setUp(first: String, second: String) {
+            names = listOf(first, second)
+        }
+
+        @Property(trials = 10)
+        fun `with generated arguments`(count: Int) {
+            names shouldBe listOf(NameResolver.NAME, NameResolver.NAME)
+            (count.toLong() + 1 > count) shouldBe true
+        }
+    }
+
+    @Nested
+    internal inner class `when a trial fails` {
+
+        @Test
+        fun `shrink numbers`() {
+            val error = assertThrows<AssertionError> {
+                runner("lessThanHundred", Generators.ints(0, 1_000_000)).run()
+            }
+            error.message!! shouldContain " = 100]"
+        }
+
+        @Test
+        fun `shrink lists`() {
+            val generator = Generators.lists(Generators.ints(0, 100), 0, 20)
+            val error = assertThrows<AssertionError> {
+                runner("noFifties", generator).run()
+            }
+            error.message!! shouldContain " = [50]]"
+        }
+
+        @Test
+        fun `shrink messages`() {
+            val error = assertThrows<AssertionError> {
+                runner("noDrugs", Generators.messages(Prescription::class.java)).run()
+            }
+            val counterexample = error.message!!
+                .substringAfter("Counterexample:")
+                .substringBefore("Original arguments:")
+            counterexample.split("prescribed_drug").size shouldBe 2
+            counterexample.contains("prescribed_on") shouldBe false
+        }
+
+        @Test
+        fun `report the failure as the cause`() {
+            val error = assertThrows<AssertionError> {
+                runner("lessThanHundred", Generators.ints(0, 1_000_000)).run()
+            }
+            error.cause!!.javaClass shouldBe IllegalStateException::class.java
+        }
+    }
+
+    @Test
+    fun `abort if all trials are discarded`() {
+        assertThrows<TestAbortedException> {
+            runner("alwaysDiscarded", Generators.ints()).run()
+        }
+    }
+
+    @Test
+    fun `run the same trials with the same seed`() {
+        val counter = Counter()
+        val method = Counter::class.java.getDeclaredMethod("count", Timestamp::class.java)
+        fun run() = PropertyRunner(
+            property(), 42, method, counter,
+            arrayOf(Generators.messages(Timestamp::class.java)), listOf(null)
+        ).run()
+        run()
+        val first = counter.sum.get()
+        run()
+        counter.sum.get() shouldBe first * 2
+    }
+
+    companion object {
+
+        @JvmStatic
+        fun smallLists(): Generator<List<Int>> =
+            Generators.lists(Generators.ints(-10, 10), 0, 5)
+
+        private fun property(): Property =
+            Properties::class.java.getDeclaredMethod("lessThanHundred", Int::class.java)
+                .getAnnotation(Property::class.java)
+
+        private fun runner(name: String, generator: Generator<*>): PropertyRunner {
+            val method = Properties::class.java.declaredMethods.first { it.name == name }
+            return PropertyRunner(
+                property(), 1, method, Properties(), arrayOf(generator), listOf(null)
+            )
+        }
+    }
+}
+
+/**
+ * Properties which fail for some arguments.
+ */
+@Suppress("unused") // Invoked reflectively.
+/**
+ * Resolves the string parameters of lifecycle methods with a fixed name.
+ *
+ * If the property extension also claimed the parameters, JUnit would fail
+ * the test because of the competing resolvers.
+ */
+internal class NameResolver : ParameterResolver {
+
+    override fun supportsParameter(parameter: ParameterContext, context: ExtensionContext) =
+        parameter.parameter.type == String::class.java
+
+    override fun resolveParameter(parameter: ParameterContext, context: ExtensionContext) = NAME
+
+    companion object {
+        const val NAME = "fixture"
+    }
+}
+
+private class Properties {
+
+    @Property(trials = 1_000)
+    fun lessThanHundred(value: Int) {
+        check(value < 100)
+    }
+
+    fun noFifties(list: List<Int>) {
+        check(50 !in list)
+    }
+
+    fun noDrugs(prescription: Prescription) {
+        check(prescription.prescribedDrugCount == 0)
+    }
+
+    fun alwaysDiscarded(@Suppress("UNUSED_PARAMETER") value: Int) {
+        assumeTrue(false)
+    }
+}
+
+/**
+ * Accumulates the seconds of the passed timestamps.
+ */
+private class Counter {
+
+    val sum = AtomicInteger()
+
+    @Suppress("unused") // Invoked reflectively.
+    fun count(timestamp: Timestamp) {
+        sum.addAndGet(timestamp.nanos % 1_000)
+    }
+}
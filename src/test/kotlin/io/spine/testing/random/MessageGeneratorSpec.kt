@@ -0,0 +1,130 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.random
+
+import com.google.protobuf.util.Durations
+import com.google.protobuf.util.Timestamps
+import io.kotest.matchers.ints.shouldBeInRange
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
+import io.spine.testing.Prescription
+import io.spine.testing.TaskTree
+import io.spine.testing.TaskTree.SubjectCase
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`MessageGenerator` should")
+internal class MessageGeneratorSpec {
+
+    @Test
+    fun `populate all the fields`() {
+        val generator = MessageGenerator.newBuilder()
+            .setRepeatedSize(2, 2)
+            .setMaxDepth(1)
+            .build()
+        val tree = generator.next(TaskTree::class.java)
+        tree.title.isEmpty() shouldBe false
+        tree.subtaskCount shouldBe 2
+        tree.attributeCount shouldBeInRange 1..2
+        tree.subjectCase shouldNotBe SubjectCase.SUBJECT_NOT_SET
+        tree.hasUrgent() shouldBe true
+        tree.attachment.isEmpty shouldBe false
+        tree.hasEstimate() shouldBe true
+    }
+
+    @Test
+    fun `limit the depth of nested messages`() {
+        val generator = MessageGenerator.newBuilder()
+            .setRepeatedSize(1, 1)
+            .setMaxDepth(2)
+            .build()
+        val tree = generator.next(TaskTree::class.java)
+        val leaf = tree.getSubtask(0).getSubtask(0)
+        leaf.subtaskCount shouldBe 0
+        leaf.hasEstimate() shouldBe false
+    }
+
+    @Test
+    fun `respect the configured sizes`() {
+        val generator = MessageGenerator.newBuilder()
+            .setRepeatedSize(3, 5)
+            .setLength(4, 6)
+            .build()
+        repeat(100) {
+            val prescription = generator.next(Prescription::class.java)
+            prescription.prescribedDrugCount shouldBeInRange 3..5
+            prescription.prescribedDrugList.forEach { it.length shouldBeInRange 4..6 }
+        }
+    }
+
+    @Test
+    fun `generate valid time values`() {
+        val generator = MessageGenerator.newBuilder().build()
+        repeat(100) {
+            val tree = generator.next(TaskTree::class.java)
+            Durations.isValid(tree.estimate) shouldBe true
+            val prescription = generator.next(Prescription::class.java)
+            Timestamps.isValid(prescription.prescribedOn) shouldBe true
+        }
+    }
+
+    @Test
+    fun `generate the same messages with the same seed`() {
+        fun generator() = MessageGenerator.newBuilder()
+            .setSeed(42)
+            .build()
+        val first = generator()
+        val second = generator()
+        repeat(10) {
+            second.next(TaskTree::class.java) shouldBe first.next(TaskTree::class.java)
+        }
+    }
+
+    @Test
+    fun `generate dynamic messages by descriptor`() {
+        val descriptor = TaskTree.getDescriptor()
+        val generator = MessageGenerator.newBuilder().setSeed(7).build()
+        val dynamic = generator.next(descriptor)
+        dynamic.descriptorForType shouldBe descriptor
+        val typed = MessageGenerator.newBuilder().setSeed(7).build().next(TaskTree::class.java)
+        TaskTree.parseFrom(dynamic.toByteString()) shouldBe typed
+    }
+
+    @Test
+    fun `prohibit invalid ranges`() {
+        assertThrows<IllegalArgumentException> {
+            MessageGenerator.newBuilder().setRepeatedSize(3, 2)
+        }
+        assertThrows<IllegalArgumentException> {
+            MessageGenerator.newBuilder().setLength(-1, 2)
+        }
+        assertThrows<IllegalArgumentException> {
+            MessageGenerator.newBuilder().setMaxDepth(-1)
+        }
+    }
+}
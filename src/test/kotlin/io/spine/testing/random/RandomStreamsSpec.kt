@@ -0,0 +1,93 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.random
+
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
+import io.spine.testing.Prescription
+import java.util.UUID
+import java.util.stream.Collectors.toList
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`RandomStreams` should")
+internal class RandomStreamsSpec {
+
+    @Test
+    fun `produce the requested number of elements`() {
+        RandomStreams.strings(1_000, 1).count() shouldBe 1_000
+        RandomStreams.longs(0, 1, 0, 10).count() shouldBe 0
+        RandomStreams.ints(10_000, 1, 0, 10).parallel().count() shouldBe 10_000
+    }
+
+    @Test
+    fun `produce the same elements in parallel and sequential streams`() {
+        val sequential = RandomStreams.ids(10_000, 42).collect(toList())
+        val parallel = RandomStreams.ids(10_000, 42).parallel().collect(toList())
+        parallel shouldBe sequential
+        RandomStreams.longs(10_000, 42, 0, Long.MAX_VALUE).parallel().sum() shouldBe
+                RandomStreams.longs(10_000, 42, 0, Long.MAX_VALUE).sum()
+    }
+
+    @Test
+    fun `produce different elements with different seeds`() {
+        val first = RandomStreams.strings(100, 1).collect(toList())
+        val second = RandomStreams.strings(100, 2).collect(toList())
+        second shouldNotBe first
+        first.toSet().size shouldBe first.size
+    }
+
+    @Test
+    fun `produce values in the requested range`() {
+        RandomStreams.ints(10_000, 7, -5, 5).allMatch { it in -5..4 } shouldBe true
+        RandomStreams.longs(10_000, 7, 100, 200).allMatch { it in 100L..199L } shouldBe true
+    }
+
+    @Test
+    fun `produce UUID strings`() {
+        RandomStreams.strings(100, 3).forEach {
+            UUID.fromString(it).toString() shouldBe it
+        }
+    }
+
+    @Test
+    fun `produce reproducible messages`() {
+        val messages = RandomStreams.messages(100, 5, Prescription::class.java)
+            .parallel()
+            .collect(toList())
+        RandomStreams.messages(100, 5, Prescription::class.java).collect(toList()) shouldBe
+                messages
+    }
+
+    @Test
+    fun `prohibit negative count`() {
+        assertThrows<IllegalArgumentException> {
+            RandomStreams.strings(-1, 0)
+        }
+    }
+}
@@ -0,0 +1,85 @@
+/*
+ * Copyright 2025, TeamDev. All rights reserved.
+ *
+ * Licensed under the Apache License, Version 2.0 (the "License");
+ * you may not use this file except in compliance with the License.
+ * You may obtain a copy of the License at
+ *
+ * https://www.apache.org/licenses/LICENSE-2.0
+ *
+ * Redistribution and use in source and/or binary forms, with or without
+ * modification, must retain the above copyright notice and the following
+ * disclaimer.
+ *
+ * THIS SOFTWARE IS PROVIDED BY THE COPYRIGHT HOLDERS AND CONTRIBUTORS
+ * "AS IS" AND ANY EXPRESS OR IMPLIED WARRANTIES, INCLUDING, BUT NOT
+ * LIMITED TO, THE IMPLIED WARRANTIES OF MERCHANTABILITY AND FITNESS FOR
+ * A PARTICULAR PURPOSE ARE DISCLAIMED. IN NO EVENT SHALL THE COPYRIGHT
+ * OWNER OR CONTRIBUTORS BE LIABLE FOR ANY DIRECT, INDIRECT, INCIDENTAL,
+ * SPECIAL, EXEMPLARY, OR CONSEQUENTIAL DAMAGES (INCLUDING, BUT NOT
+ * LIMITED TO, PROCUREMENT OF SUBSTITUTE GOODS OR SERVICES; LOSS OF USE,
+ * DATA, OR PROFITS; OR BUSINESS INTERRUPTION) HOWEVER CAUSED AND ON ANY
+ * THEORY OF LIABILITY, WHETHER IN CONTRACT, STRICT LIABILITY, OR TORT
+ * (INCLUDING NEGLIGENCE OR OTHERWISE) ARISING IN ANY WAY OUT OF THE USE
+ * OF THIS SOFTWARE, EVEN IF ADVISED OF THE POSSIBILITY OF SUCH DAMAGE.
+ */
+
+package io.spine.testing.random
+
+import io.kotest.matchers.shouldBe
+import io.kotest.matchers.shouldNotBe
+import io.spine.testing.TestValues
+import java.util.concurrent.ThreadLocalRandom
+import org.junit.jupiter.api.DisplayName
+import org.junit.jupiter.api.Nested
+import org.junit.jupiter.api.Test
+import org.junit.jupiter.api.assertThrows
+
+@DisplayName("`TestRandom` should")
+internal class TestRandomSpec {
+
+    @Test
+    fun `use 'ThreadLocalRandom' outside of seeded tests`() {
+        TestRandom.current() shouldBe ThreadLocalRandom.current()
+        TestRandom.currentSeed().isPresent shouldBe false
+    }
+
+    @Test
+    fun `derive seeds from the base seed and the test ID`() {
+        val id = "[engine:junit-jupiter]/[class:Example]/[method:test()]"
+        TestRandom.seedFor(42, id) shouldBe TestRandom.seedFor(42, id)
+        TestRandom.seedFor(42, id) shouldNotBe TestRandom.seedFor(43, id)
+        TestRandom.seedFor(42, id) shouldNotBe TestRandom.seedFor(42, "$id/other")
+    }
+
+    @Test
+    fun `parse the seed property`() {
+        TestRandom.parseSeed(null) shouldBe null
+        TestRandom.parseSeed(" ") shouldBe null
+        TestRandom.parseSeed(" -17 ") shouldBe -17L
+        assertThrows<IllegalStateException> {
+            TestRandom.parseSeed("not a number")
+        }
+    }
+
+    @Nested
+    @Seeded
+    internal inner class `when seeded` {
+
+        @Test
+        fun `provide the seed of the test`() {
+            TestRandom.currentSeed().isPresent shouldBe true
+        }
+
+        @Test
+        fun `reproduce the values of 'TestValues'`() {
+            val seed = TestRandom.currentSeed().asLong
+            val first = listOf(TestValues.randomString(), TestValues.randomId(),
+                TestValues.random(1000), TestValues.longRandom(0, Long.MAX_VALUE))
+            TestRandom.install(seed)
+            val second = listOf(TestValues.randomString(), TestValues.randomId(),
+                TestValues.random(1000), TestValues.longRandom(0, Long.MAX_VALUE))
+            second shouldBe first
+        }
+    }
+}